@@ -0,0 +1,176 @@
+package com.arjunakankipati.racingstatanalysis.analysis;
+
+/**
+ * Lap time statistics over arrays of milliseconds, matching what the SQL analysis queries compute:
+ * the average of the fastest share of laps, the fastest lap and the median lap.
+ * The selection methods reorder the array they are given (quickselect partitions it in place) but never
+ * fully sort it, so each statistic is linear in the number of laps on average. When several top
+ * percentages are needed, sorting once and taking prefix sums answers each of them in constant time.
+ */
+public final class LapStatistics {
+
+    private LapStatistics() {
+    }
+
+    /**
+     * Number of laps that make up the top percentage of a set of laps (at least one, at most all of them).
+     *
+     * @param lapCount   the number of laps, at least one
+     * @param percentage the percentage of laps to include
+     * @return the number of fastest laps to average
+     */
+    public static int topCount(int lapCount, int percentage) {
+        return Math.min(lapCount, Math.max(1, (int) Math.ceil(lapCount * percentage / 100.0)));
+    }
+
+    /**
+     * Computes the exact sum of the k smallest values.
+     *
+     * @param values the values; the first n are reordered
+     * @param n      the number of values to consider
+     * @param k      the number of smallest values to sum, between 1 and n
+     * @return the sum of the k smallest values
+     */
+    public static long sumOfSmallest(int[] values, int n, int k) {
+        if (k < n) {
+            select(values, n, k - 1);
+        }
+        long sum = 0;
+        for (int i = 0; i < k; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Computes the average of the k smallest values, rounded half up to a whole millisecond.
+     *
+     * @param values the values; the first n are reordered
+     * @param n      the number of values to consider
+     * @param k      the number of smallest values to average, between 1 and n
+     * @return the rounded average
+     */
+    public static long averageOfSmallest(int[] values, int n, int k) {
+        return average(sumOfSmallest(values, n, k), k);
+    }
+
+    /**
+     * Computes the prefix sums of sorted values, so the sum of the k smallest is {@code sums[k]}.
+     *
+     * @param sorted the values in ascending order
+     * @param n      the number of values to consider
+     * @return an array of n + 1 sums, starting with 0
+     */
+    public static long[] prefixSums(int[] sorted, int n) {
+        long[] sums = new long[n + 1];
+        for (int i = 0; i < n; i++) {
+            sums[i + 1] = sums[i] + sorted[i];
+        }
+        return sums;
+    }
+
+    /**
+     * Divides a sum of milliseconds by a count, rounding half up to a whole millisecond.
+     *
+     * @param sum   the sum, not negative
+     * @param count the number of values summed, at least one
+     * @return the rounded average
+     */
+    public static long average(long sum, long count) {
+        return (2 * sum + count) / (2 * count);
+    }
+
+    /**
+     * Finds the smallest value.
+     *
+     * @param values the values
+     * @param n      the number of values to consider, at least one
+     * @return the smallest value
+     */
+    public static int min(int[] values, int n) {
+        int min = values[0];
+        for (int i = 1; i < n; i++) {
+            min = Math.min(min, values[i]);
+        }
+        return min;
+    }
+
+    /**
+     * Computes the median, interpolating between the two middle values for an even count
+     * and rounding half up to a whole millisecond.
+     *
+     * @param values the values; the first n are reordered
+     * @param n      the number of values to consider, at least one
+     * @return the median
+     */
+    public static long median(int[] values, int n) {
+        int upper = select(values, n, n / 2);
+        if (n % 2 == 1) {
+            return upper;
+        }
+        // After selecting n / 2, every value before it is no larger, so the lower middle is their maximum
+        int lower = values[0];
+        for (int i = 1; i < n / 2; i++) {
+            lower = Math.max(lower, values[i]);
+        }
+        return average((long) lower + upper, 2);
+    }
+
+    /**
+     * Computes the median of sorted values, interpolating between the two middle values for an even
+     * count and rounding half up to a whole millisecond.
+     *
+     * @param sorted the values in ascending order
+     * @param n      the number of values to consider, at least one
+     * @return the median
+     */
+    public static long medianOfSorted(int[] sorted, int n) {
+        return n % 2 == 1 ? sorted[n / 2] : average((long) sorted[n / 2 - 1] + sorted[n / 2], 2);
+    }
+
+    /**
+     * Partially orders the first n values so the value at index k is the one that would be there
+     * if they were sorted, with no larger value before it and no smaller value after it.
+     *
+     * @param values the values; the first n are reordered
+     * @param n      the number of values to consider
+     * @param k      the index to select, between 0 and n - 1
+     * @return the k-th smallest value
+     */
+    public static int select(int[] values, int n, int k) {
+        int left = 0;
+        int right = n - 1;
+        while (left < right) {
+            // Median of three keeps already sorted input (laps are loaded in lap order) out of the worst case
+            int middle = (left + right) >>> 1;
+            if (values[middle] < values[left]) swap(values, left, middle);
+            if (values[right] < values[left]) swap(values, left, right);
+            if (values[right] < values[middle]) swap(values, middle, right);
+            int pivot = values[middle];
+
+            int i = left;
+            int j = right;
+            while (i <= j) {
+                while (values[i] < pivot) i++;
+                while (values[j] > pivot) j--;
+                if (i <= j) {
+                    swap(values, i++, j--);
+                }
+            }
+            if (k <= j) {
+                right = j;
+            } else if (k >= i) {
+                left = i;
+            } else {
+                break;
+            }
+        }
+        return values[k];
+    }
+
+    private static void swap(int[] values, int i, int j) {
+        int value = values[i];
+        values[i] = values[j];
+        values[j] = value;
+    }
+}
@@ -0,0 +1,270 @@
+package com.arjunakankipati.racingstatanalysis.analysis;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Every timed lap of one session held column by column in primitive arrays, so analyses can scan
+ * laps without touching the database or allocating per lap. Cars and drivers are stored once in
+ * small tables and each lap refers to them by index.
+ */
+public final class SessionLaps {
+
+    /**
+     * Sector time stored for a sector that was not timed.
+     */
+    public static final int NO_TIME = -1;
+
+    /**
+     * Driver index stored for a lap without a known driver.
+     */
+    public static final int NO_DRIVER = -1;
+
+    // Rough per-object overheads used to weigh a session in the cache
+    private static final int OBJECT_BYTES = 16;
+    private static final int ARRAY_BYTES = 16;
+    private static final int REFERENCE_BYTES = 8;
+    private static final int STRING_BYTES = 48;
+
+    private final long sessionId;
+    private final long eventId;
+    private final Car[] cars;
+    private final Driver[] drivers;
+    private final int lapCount;
+    private final int[] carIndexes;
+    private final int[] driverIndexes;
+    private final int[] lapNumbers;
+    private final int[] lapTimeMillis;
+    private final long[] elapsedMillis;
+    private final int[][] sectorMillis;
+
+    private SessionLaps(Builder builder) {
+        this.sessionId = builder.sessionId;
+        this.eventId = builder.eventId;
+        this.cars = builder.cars.toArray(Car[]::new);
+        this.drivers = builder.drivers.toArray(Driver[]::new);
+        this.lapCount = builder.lapCount;
+        this.carIndexes = Arrays.copyOf(builder.carIndexes, lapCount);
+        this.driverIndexes = Arrays.copyOf(builder.driverIndexes, lapCount);
+        this.lapNumbers = Arrays.copyOf(builder.lapNumbers, lapCount);
+        this.lapTimeMillis = Arrays.copyOf(builder.lapTimeMillis, lapCount);
+        this.elapsedMillis = Arrays.copyOf(builder.elapsedMillis, lapCount);
+        this.sectorMillis = new int[builder.sectorMillis.length][];
+        for (int s = 0; s < sectorMillis.length; s++) {
+            sectorMillis[s] = Arrays.copyOf(builder.sectorMillis[s], lapCount);
+        }
+    }
+
+    /**
+     * Starts building the laps of a session.
+     *
+     * @param sessionId the ID of the session
+     * @param eventId   the ID of the event the session belongs to
+     * @return a builder
+     */
+    public static Builder builder(long sessionId, long eventId) {
+        return new Builder(sessionId, eventId);
+    }
+
+    public long getSessionId() {
+        return sessionId;
+    }
+
+    public long getEventId() {
+        return eventId;
+    }
+
+    public int getLapCount() {
+        return lapCount;
+    }
+
+    public Car car(int lap) {
+        return cars[carIndexes[lap]];
+    }
+
+    /**
+     * Gets the driver of a lap.
+     *
+     * @param lap the lap index
+     * @return the driver, or null if the lap has no known driver
+     */
+    public Driver driver(int lap) {
+        int index = driverIndexes[lap];
+        return index == NO_DRIVER ? null : drivers[index];
+    }
+
+    public int lapNumber(int lap) {
+        return lapNumbers[lap];
+    }
+
+    public int lapTimeMillis(int lap) {
+        return lapTimeMillis[lap];
+    }
+
+    public long elapsedMillis(int lap) {
+        return elapsedMillis[lap];
+    }
+
+    public int getSectorCount() {
+        return sectorMillis.length;
+    }
+
+    /**
+     * Gets a sector time of a lap.
+     *
+     * @param lap          the lap index
+     * @param sectorNumber the sector number, starting at 1
+     * @return the sector time in milliseconds, or {@link #NO_TIME}
+     */
+    public int sectorMillis(int lap, int sectorNumber) {
+        return sectorNumber > sectorMillis.length ? NO_TIME : sectorMillis[sectorNumber - 1][lap];
+    }
+
+    /**
+     * Estimates the heap used by this session, for weighing it in a cache.
+     *
+     * @return the estimated size in bytes
+     */
+    public long estimatedBytes() {
+        long bytes = OBJECT_BYTES + 6L * ARRAY_BYTES;
+        bytes += (long) lapCount * (4 * Integer.BYTES + Long.BYTES + sectorMillis.length * Integer.BYTES);
+        bytes += (long) cars.length * (REFERENCE_BYTES + OBJECT_BYTES + 4 * STRING_BYTES + 4 * Long.BYTES);
+        bytes += (long) drivers.length * (REFERENCE_BYTES + OBJECT_BYTES + 3 * STRING_BYTES + Long.BYTES);
+        return bytes;
+    }
+
+    /**
+     * A car entry of the session with the names an analysis reports.
+     * Any of the nullable IDs is null when the car entry does not reference one.
+     */
+    public record Car(long id, String number, Long classId, String className, Long carModelId, String carModelName,
+                      Long teamId, String teamName) {
+    }
+
+    /**
+     * A driver who set at least one lap in the session.
+     */
+    public record Driver(long id, String firstName, String lastName, String nationality) {
+    }
+
+    /**
+     * Collects a session's cars, drivers, laps and sectors. Cars and drivers must be added before the
+     * laps that refer to them, and laps must be added in increasing lap ID order before their sectors.
+     */
+    public static final class Builder {
+        private static final int INITIAL_CAPACITY = 1024;
+
+        private final long sessionId;
+        private final long eventId;
+        private final List<Car> cars = new ArrayList<>();
+        private final List<Driver> drivers = new ArrayList<>();
+        private final Map<Long, Integer> carIndexById = new HashMap<>();
+        private final Map<Long, Integer> driverIndexById = new HashMap<>();
+        private int lapCount;
+        private long[] lapIds = new long[INITIAL_CAPACITY];
+        private int[] carIndexes = new int[INITIAL_CAPACITY];
+        private int[] driverIndexes = new int[INITIAL_CAPACITY];
+        private int[] lapNumbers = new int[INITIAL_CAPACITY];
+        private int[] lapTimeMillis = new int[INITIAL_CAPACITY];
+        private long[] elapsedMillis = new long[INITIAL_CAPACITY];
+        private int[][] sectorMillis = new int[0][];
+
+        private Builder(long sessionId, long eventId) {
+            this.sessionId = sessionId;
+            this.eventId = eventId;
+        }
+
+        public Builder addCar(Car car) {
+            carIndexById.put(car.id(), cars.size());
+            cars.add(car);
+            return this;
+        }
+
+        public Builder addDriver(Driver driver) {
+            driverIndexById.put(driver.id(), drivers.size());
+            drivers.add(driver);
+            return this;
+        }
+
+        /**
+         * Adds a lap.
+         *
+         * @param lapId         the ID of the lap, greater than that of the previous lap
+         * @param carId         the ID of a car added earlier
+         * @param driverId      the ID of a driver added earlier, or null
+         * @param lapNumber     the lap number
+         * @param lapTimeMillis the lap time in milliseconds
+         * @param elapsedMillis the session time elapsed at the end of the lap in milliseconds
+         * @return this builder
+         * @throws IllegalArgumentException if the car was not added, or the lap ID is out of order
+         */
+        public Builder addLap(long lapId, long carId, Long driverId, int lapNumber, int lapTimeMillis, long elapsedMillis) {
+            Integer carIndex = carIndexById.get(carId);
+            if (carIndex == null) {
+                throw new IllegalArgumentException("Lap " + lapId + " refers to unknown car " + carId);
+            }
+            if (lapCount > 0 && lapId <= lapIds[lapCount - 1]) {
+                throw new IllegalArgumentException("Laps must be added in increasing ID order: " + lapId);
+            }
+            if (lapCount == lapIds.length) {
+                grow();
+            }
+            Integer driverIndex = driverId == null ? null : driverIndexById.get(driverId);
+            lapIds[lapCount] = lapId;
+            carIndexes[lapCount] = carIndex;
+            driverIndexes[lapCount] = driverIndex == null ? NO_DRIVER : driverIndex;
+            lapNumbers[lapCount] = lapNumber;
+            this.lapTimeMillis[lapCount] = lapTimeMillis;
+            this.elapsedMillis[lapCount] = elapsedMillis;
+            lapCount++;
+            return this;
+        }
+
+        /**
+         * Adds a sector time to a lap added earlier. Sectors of unknown laps are ignored.
+         *
+         * @param lapId        the ID of the lap
+         * @param sectorNumber the sector number, starting at 1
+         * @param millis       the sector time in milliseconds
+         * @return this builder
+         */
+        public Builder addSector(long lapId, int sectorNumber, int millis) {
+            int lap = Arrays.binarySearch(lapIds, 0, lapCount, lapId);
+            if (lap < 0 || sectorNumber < 1) {
+                return this;
+            }
+            if (sectorNumber > sectorMillis.length) {
+                int[][] grown = Arrays.copyOf(sectorMillis, sectorNumber);
+                for (int s = sectorMillis.length; s < sectorNumber; s++) {
+                    grown[s] = new int[lapIds.length];
+                    Arrays.fill(grown[s], NO_TIME);
+                }
+                sectorMillis = grown;
+            }
+            sectorMillis[sectorNumber - 1][lap] = millis;
+            return this;
+        }
+
+        public SessionLaps build() {
+            return new SessionLaps(this);
+        }
+
+        private void grow() {
+            int capacity = lapIds.length * 2;
+            lapIds = Arrays.copyOf(lapIds, capacity);
+            carIndexes = Arrays.copyOf(carIndexes, capacity);
+            driverIndexes = Arrays.copyOf(driverIndexes, capacity);
+            lapNumbers = Arrays.copyOf(lapNumbers, capacity);
+            lapTimeMillis = Arrays.copyOf(lapTimeMillis, capacity);
+            elapsedMillis = Arrays.copyOf(elapsedMillis, capacity);
+            for (int s = 0; s < sectorMillis.length; s++) {
+                int previous = sectorMillis[s].length;
+                sectorMillis[s] = Arrays.copyOf(sectorMillis[s], capacity);
+                Arrays.fill(sectorMillis[s], previous, capacity, NO_TIME);
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.arjunakankipati.racingstatanalysis.config;
+
+import java.util.function.Supplier;
+
+/**
+ * The connection pools statements can run on. Statements use {@link #READ} unless the current thread is
+ * running work on another pool; {@link DataSourceConfig} routes each new connection (and so each transaction)
+ * to the pool selected when it is opened, so the pool must be chosen before a transaction starts.
+ */
+public enum ConnectionPool {
+
+    /**
+     * Pool on the primary serving API requests and other short statements.
+     */
+    READ,
+
+    /**
+     * Pool reserved for imports, so long bulk writes never hold connections user-facing requests wait for.
+     */
+    IMPORT,
+
+    /**
+     * Pool on the streaming read replica, for reads that tolerate replication lag. Falls back to
+     * {@link #READ} when no replica is configured.
+     */
+    REPLICA;
+
+    private static final ThreadLocal<ConnectionPool> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Gets the pool selected on the current thread.
+     *
+     * @return the pool, {@link #READ} when none was selected
+     */
+    public static ConnectionPool current() {
+        ConnectionPool pool = CURRENT.get();
+        return pool == null ? READ : pool;
+    }
+
+    /**
+     * Runs work with this pool selected on the current thread, restoring the previous selection afterwards.
+     *
+     * @param work the work
+     * @param <T>  the type of the result
+     * @return the result of the work
+     */
+    public <T> T call(Supplier<T> work) {
+        try (Selection ignored = select()) {
+            return work.get();
+        }
+    }
+
+    /**
+     * Selects this pool on the current thread until the returned selection is closed.
+     *
+     * @return the selection, which restores the previous selection when closed on the same thread
+     */
+    public Selection select() {
+        Selection selection = new Selection(CURRENT.get());
+        CURRENT.set(this);
+        return selection;
+    }
+
+    /**
+     * Wraps work handed to another thread so it runs on the pool selected on the current thread.
+     *
+     * @param work the work
+     * @return the wrapped work
+     */
+    public static Runnable propagate(Runnable work) {
+        ConnectionPool pool = current();
+        return () -> pool.call(() -> {
+            work.run();
+            return null;
+        });
+    }
+
+    /**
+     * A pool selected on the current thread by {@link #select()}.
+     */
+    public static final class Selection implements AutoCloseable {
+        private final ConnectionPool previous;
+
+        private Selection(ConnectionPool previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.arjunakankipati.racingstatanalysis.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Configuration class for the database connection pools.
+ * Reads and imports get separate Hikari pools (bulkheads) against the same database, so a large import
+ * holding connections for long multi-row inserts cannot make API requests wait for a connection.
+ * The primary {@link DataSource}, which jOOQ and the transaction manager use, picks the pool selected by
+ * {@link ConnectionPool} on the calling thread. The read pool is configured under
+ * {@code spring.datasource.hikari} and the import pool under {@code import.datasource.hikari}.
+ * When {@code replica.datasource.url} is set, a third pool on a streaming replica serves
+ * {@link ReadFromReplica} reads; otherwise those reads use the read pool.
+ */
+@Configuration
+public class DataSourceConfig {
+
+    /**
+     * Creates the pool for API reads.
+     *
+     * @param properties the connection settings
+     * @return the read pool
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource readDataSource(DataSourceProperties properties) {
+        return pool(properties, "read");
+    }
+
+    /**
+     * Creates the pool for imports. Migrations also run on it, as its statement timeout allows long DDL.
+     *
+     * @param properties the connection settings
+     * @return the import pool
+     */
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties("import.datasource.hikari")
+    public HikariDataSource importDataSource(DataSourceProperties properties) {
+        return pool(properties, "import");
+    }
+
+    /**
+     * Creates the pool on the read replica, if one is configured.
+     *
+     * @param url      the JDBC URL of the replica
+     * @param username the user to connect as
+     * @param password the password to connect with
+     * @return the replica pool
+     */
+    @Bean
+    @ConditionalOnExpression("!'${replica.datasource.url:}'.isBlank()")
+    @ConfigurationProperties("replica.datasource.hikari")
+    public HikariDataSource replicaDataSource(@Value("${replica.datasource.url}") String url,
+                                              @Value("${replica.datasource.username}") String username,
+                                              @Value("${replica.datasource.password}") String password) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        dataSource.setPoolName("replica");
+        // Statements on a hot standby are read-only, so say so up front
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    /**
+     * Creates the data source that routes each connection to the pool selected on the calling thread.
+     *
+     * @param readDataSource    the read pool
+     * @param importDataSource  the import pool
+     * @param replicaDataSource the replica pool, if one is configured
+     * @return the routing data source
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("readDataSource") DataSource readDataSource,
+                                 @Qualifier("importDataSource") DataSource importDataSource,
+                                 @Qualifier("replicaDataSource") ObjectProvider<DataSource> replicaDataSource) {
+        AbstractRoutingDataSource routing = new AbstractRoutingDataSource() {
+            @Override
+            protected Object determineCurrentLookupKey() {
+                return ConnectionPool.current();
+            }
+        };
+        routing.setTargetDataSources(Map.of(
+                ConnectionPool.READ, readDataSource,
+                ConnectionPool.IMPORT, importDataSource,
+                ConnectionPool.REPLICA, replicaDataSource.getIfAvailable(() -> readDataSource)));
+        routing.setDefaultTargetDataSource(readDataSource);
+        return routing;
+    }
+
+    private static HikariDataSource pool(DataSourceProperties properties, String name) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        // Overridden by a configured pool-name
+        dataSource.setPoolName(name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,64 @@
+package com.arjunakankipati.racingstatanalysis.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Configuration class for the executor that runs asynchronous imports.
+ * Imports are mostly spent waiting on downloads and the database, so they run on virtual threads;
+ * the number of concurrent imports and the number of queued imports are both bounded, and a
+ * submission beyond the queue capacity is rejected instead of piling up.
+ */
+@Configuration
+public class ImportExecutorConfig {
+
+    /**
+     * Name of the import executor bean, for use with {@code @Async}.
+     */
+    public static final String IMPORT_EXECUTOR = "importExecutor";
+
+    /**
+     * Creates the import executor.
+     *
+     * @param concurrency   the maximum number of imports running at once
+     * @param queueCapacity the maximum number of imports waiting to run
+     * @return the import executor
+     */
+    @Bean(name = IMPORT_EXECUTOR)
+    public ThreadPoolTaskExecutor importExecutor(@Value("${import.executor.concurrency:2}") int concurrency,
+                                                 @Value("${import.executor.queue-capacity:20}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setVirtualThreads(true);
+        executor.setThreadNamePrefix("import-");
+        // Let running imports finish on shutdown so jobs are not left IN_PROGRESS
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        return executor;
+    }
+
+    /**
+     * Registers gauges for the import queue depth and the number of imports running.
+     *
+     * @param importExecutor the import executor
+     * @return the meter binder
+     */
+    @Bean
+    public MeterBinder importExecutorMetrics(@Qualifier(IMPORT_EXECUTOR) ThreadPoolTaskExecutor importExecutor) {
+        return registry -> {
+            Gauge.builder("imports.executor.queued", importExecutor, ThreadPoolTaskExecutor::getQueueSize)
+                    .description("Imports waiting for a free worker")
+                    .register(registry);
+            Gauge.builder("imports.executor.active", importExecutor, ThreadPoolTaskExecutor::getActiveCount)
+                    .description("Imports currently running")
+                    .register(registry);
+        };
+    }
+}
@@ -0,0 +1,37 @@
+package com.arjunakankipati.racingstatanalysis.config;
+
+import com.arjunakankipati.racingstatanalysis.metrics.QueryCountListener;
+import com.arjunakankipati.racingstatanalysis.metrics.QueryMetricsListener;
+import org.jooq.ExecuteListenerProvider;
+import org.jooq.impl.DefaultExecuteListenerProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class that registers the query metrics and query count listeners with jOOQ.
+ * Spring Boot adds every {@link ExecuteListenerProvider} bean to the jOOQ configuration it builds.
+ */
+@Configuration
+public class QueryMetricsConfig {
+
+    /**
+     * Provides the query metrics listener to every statement.
+     *
+     * @param listener the query metrics listener
+     * @return the listener provider
+     */
+    @Bean
+    public ExecuteListenerProvider queryMetricsListenerProvider(QueryMetricsListener listener) {
+        return new DefaultExecuteListenerProvider(listener);
+    }
+
+    /**
+     * Provides the listener that counts statements towards open query count scopes.
+     *
+     * @return the listener provider
+     */
+    @Bean
+    public ExecuteListenerProvider queryCountListenerProvider() {
+        return new DefaultExecuteListenerProvider(new QueryCountListener());
+    }
+}
@@ -0,0 +1,20 @@
+package com.arjunakankipati.racingstatanalysis.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Runs a bean method's statements on the read replica, unless its data may not have replicated yet.
+ * A parameter annotated with {@link ReplicaLagKey} names the session or event the method reads; when the
+ * replica's data version for it is older than the primary's, the method reads from the primary instead, so
+ * its result is never older than a data version read from the primary before the call. Methods called
+ * while the import pool is selected keep using it.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface ReadFromReplica {
+}
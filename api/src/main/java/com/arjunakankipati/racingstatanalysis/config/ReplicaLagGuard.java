@@ -0,0 +1,68 @@
+package com.arjunakankipati.racingstatanalysis.config;
+
+import com.arjunakankipati.racingstatanalysis.model.DataVersion;
+import com.arjunakankipati.racingstatanalysis.repository.SessionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Decides whether the replica has caught up with the primary for a session or event, by comparing the data
+ * version each of them has for it. Data versions are bumped after the data they cover is written, so a replica
+ * that has replayed a version holds that data too. This holds for imports run by any instance, however long
+ * the replica lags. A replica that cannot be read counts as behind, so reads fall back to the primary.
+ */
+@Component
+public class ReplicaLagGuard {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReplicaLagGuard.class);
+
+    private final SessionRepository sessionRepository;
+    private final boolean replicaConfigured;
+
+    /**
+     * Creates the guard.
+     *
+     * @param sessionRepository the session repository, for reading data versions
+     * @param replicaUrl        the JDBC URL of the replica, blank when reads of the replica use the primary
+     */
+    public ReplicaLagGuard(SessionRepository sessionRepository,
+                           @Value("${replica.datasource.url:}") String replicaUrl) {
+        this.sessionRepository = sessionRepository;
+        this.replicaConfigured = !replicaUrl.isBlank();
+    }
+
+    /**
+     * Tells whether the replica may not have replayed the latest data of a session or event yet.
+     *
+     * @param scope what the ID identifies
+     * @param id    the ID of the session or event
+     * @return true if the replica's data version for it is older than the primary's, or cannot be read
+     */
+    public boolean isBehind(ReplicaLagKey.Scope scope, Long id) {
+        if (!replicaConfigured) {
+            return false;
+        }
+        // Read from the primary first, so a version replayed in between still counts as caught up
+        long primary = ConnectionPool.READ.call(() -> version(scope, id));
+        long replica;
+        try {
+            replica = ConnectionPool.REPLICA.call(() -> version(scope, id));
+        } catch (DataAccessException e) {
+            LOGGER.warn("Could not read the data version of {} {} from the replica; reading from the primary",
+                    scope, id, e);
+            return true;
+        }
+        return replica < primary;
+    }
+
+    private long version(ReplicaLagKey.Scope scope, Long id) {
+        if (scope == ReplicaLagKey.Scope.SESSION) {
+            // A session the replica has not seen yet is behind one the primary has
+            return sessionRepository.findDataVersion(id).map(DataVersion::version).orElse(-1L);
+        }
+        return sessionRepository.findEventDataVersion(id).version();
+    }
+}
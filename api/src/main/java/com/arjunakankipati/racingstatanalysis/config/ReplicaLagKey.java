@@ -0,0 +1,27 @@
+package com.arjunakankipati.racingstatanalysis.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks the parameter of a {@link ReadFromReplica} method holding the ID of the session or event it reads,
+ * so the read goes to the primary while the replica has not yet replayed its latest data version.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.PARAMETER)
+public @interface ReplicaLagKey {
+
+    /**
+     * What the parameter identifies.
+     */
+    Scope value();
+
+    enum Scope {
+        SESSION,
+        EVENT
+    }
+}
@@ -0,0 +1,61 @@
+package com.arjunakankipati.racingstatanalysis.config;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+
+/**
+ * Configuration class that routes {@link ReadFromReplica} methods to the replica pool.
+ */
+@Configuration
+public class ReplicaRoutingConfig {
+
+    /**
+     * Creates the advisor that selects the replica pool around {@link ReadFromReplica} methods.
+     * Static and lazy about its dependency, as advisors are created before ordinary beans.
+     *
+     * @param lagGuard the guard deciding when a read must stay on the primary
+     * @return the advisor
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor replicaReadAdvisor(ObjectProvider<ReplicaLagGuard> lagGuard) {
+        MethodInterceptor interceptor = invocation -> {
+            if (ConnectionPool.current() == ConnectionPool.IMPORT) {
+                return invocation.proceed();
+            }
+            // The implementation's method carries the parameter annotations, not an interface's
+            Method method = invocation.getThis() == null ? invocation.getMethod()
+                    : AopUtils.getMostSpecificMethod(invocation.getMethod(), invocation.getThis().getClass());
+            boolean behind = isReplicaBehind(lagGuard.getObject(), method, invocation.getArguments());
+            ConnectionPool pool = behind ? ConnectionPool.READ : ConnectionPool.REPLICA;
+            try (ConnectionPool.Selection ignored = pool.select()) {
+                return invocation.proceed();
+            }
+        };
+        return new DefaultPointcutAdvisor(AnnotationMatchingPointcut.forMethodAnnotation(ReadFromReplica.class), interceptor);
+    }
+
+    static boolean isReplicaBehind(ReplicaLagGuard lagGuard, Method method, Object[] arguments) {
+        Annotation[][] parameterAnnotations = method.getParameterAnnotations();
+        for (int i = 0; i < parameterAnnotations.length; i++) {
+            for (Annotation annotation : parameterAnnotations[i]) {
+                if (annotation instanceof ReplicaLagKey key && arguments[i] instanceof Long id
+                        && lagGuard.isBehind(key.value(), id)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
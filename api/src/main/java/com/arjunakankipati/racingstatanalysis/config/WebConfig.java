@@ -1,15 +1,23 @@
 package com.arjunakankipati.racingstatanalysis.config;
 
+import com.arjunakankipati.racingstatanalysis.metrics.EndpointMetricsInterceptor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 /**
- * Configuration class for enabling CORS (Cross-Origin Resource Sharing).
+ * Configuration class for enabling CORS (Cross-Origin Resource Sharing) and timing API requests.
  */
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
+    private final EndpointMetricsInterceptor endpointMetricsInterceptor;
+
+    public WebConfig(EndpointMetricsInterceptor endpointMetricsInterceptor) {
+        this.endpointMetricsInterceptor = endpointMetricsInterceptor;
+    }
+
     /**
      * Configure CORS for the application.
      * This allows cross-origin requests from any origin to all endpoints.
@@ -24,4 +32,14 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowedHeaders("*")
                 .maxAge(3600); // 1 hour
     }
-}
\ No newline at end of file
+
+    /**
+     * Time every API request by controller method.
+     *
+     * @param registry the interceptor registry
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(endpointMetricsInterceptor).addPathPatterns("/api/**");
+    }
+}
@@ -1,13 +1,19 @@
 package com.arjunakankipati.racingstatanalysis.controller;
 
 import com.arjunakankipati.racingstatanalysis.dto.*;
+import com.arjunakankipati.racingstatanalysis.metrics.LatencyObjective;
+import com.arjunakankipati.racingstatanalysis.metrics.SloTracker;
+import com.arjunakankipati.racingstatanalysis.model.DataVersion;
 import com.arjunakankipati.racingstatanalysis.repository.LapRepository;
+import com.arjunakankipati.racingstatanalysis.repository.SessionRepository;
 import com.arjunakankipati.racingstatanalysis.service.EventService;
+import com.arjunakankipati.racingstatanalysis.service.LapTimeAnalysisService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -23,6 +29,10 @@ public class EventsController {
     private EventService eventService;
     @Autowired
     private LapRepository lapRepository;
+    @Autowired
+    private LapTimeAnalysisService lapTimeAnalysisService;
+    @Autowired
+    private SessionRepository sessionRepository;
 
     @PostMapping
     public ResponseEntity<EventDTO> createEvent(
@@ -45,11 +55,17 @@ public class EventsController {
     /**
      * Gets all teams that participated in a specific event.
      *
-     * @param eventId the ID of the event
-     * @return a response entity containing the teams that participated in the event
+     * @param eventId    the ID of the event
+     * @param webRequest the request, checked for a matching ETag or Last-Modified date
+     * @return a response entity containing the teams that participated in the event, or 304 if unchanged
      */
     @GetMapping("/{eventId}/teams")
-    public ResponseEntity<TeamsResponseDTO> getTeamsByEventId(@PathVariable Long eventId) {
+    @LatencyObjective(SloTracker.TEAMS)
+    public ResponseEntity<TeamsResponseDTO> getTeamsByEventId(@PathVariable Long eventId, WebRequest webRequest) {
+        DataVersion version = sessionRepository.findEventDataVersion(eventId);
+        if (webRequest.checkNotModified(version.eTag("event-" + eventId + "-teams"), version.lastModifiedMillis())) {
+            return null;
+        }
         TeamsResponseDTO teams = eventService.findTeamsByEventId(eventId);
         return ResponseEntity.ok(teams);
     }
@@ -103,45 +119,40 @@ public class EventsController {
      *
      * @param eventId    the ID of the event
      * @param percentage the percentage of top lap times to include in the average calculation (default: 20)
+     * @param percentages optional comma-separated further percentages (1-100) to report averages for
      * @param classId    optional filter by class ID
      * @param carId      optional filter by car model ID
      * @param sessionId  optional filter by session ID
      * @param offset     optional pagination offset
      * @param limit      optional pagination limit
-     * @return a response entity containing the lap time analysis for the event
+     * @param webRequest the request, checked for a matching ETag or Last-Modified date
+     * @return a response entity containing the lap time analysis for the event, or 304 if unchanged
      */
     @GetMapping("/{eventId}/laptimeanalysis")
+    @LatencyObjective(SloTracker.LAP_TIME_ANALYSIS)
     public ResponseEntity<LapTimeAnalysisResponseDTO> getLapTimeAnalysisForEvent(
             @PathVariable Long eventId,
             @RequestParam(defaultValue = "20") int percentage,
+            @RequestParam(required = false) List<Integer> percentages,
             @RequestParam(required = false) Long classId,
             @RequestParam(required = false) Long carId,
             @RequestParam(required = false) Long sessionId,
             @RequestParam(required = false) Integer offset,
-            @RequestParam(required = false) Integer limit) {
-
-        // Calculate overall lap time analysis
-        LapTimeAnalysisDTO overallAnalysis = lapRepository.calculateLapTimeAnalysisForEvent(
-                eventId,
-                percentage,
-                Optional.ofNullable(classId),
-                Optional.ofNullable(carId),
-                Optional.ofNullable(sessionId),
-                Optional.ofNullable(offset),
-                Optional.ofNullable(limit));
-
-        // Calculate driver-specific lap time analyses
-        List<DriverLapTimeAnalysisDTO> driverAnalyses = lapRepository.calculateLapTimeAnalysisPerDriverForEvent(
-                eventId,
-                percentage,
-                Optional.ofNullable(classId),
-                Optional.ofNullable(carId),
-                Optional.ofNullable(sessionId),
-                Optional.ofNullable(offset),
-                Optional.ofNullable(limit));
-
-        // Create the response DTO with both overall and driver-specific analyses
-        LapTimeAnalysisResponseDTO response = new LapTimeAnalysisResponseDTO(eventId, driverAnalyses, overallAnalysis);
+            @RequestParam(required = false) Integer limit,
+            WebRequest webRequest) {
+
+        List<Integer> extraPercentages = percentages == null ? List.of() : percentages;
+        if (extraPercentages.stream().anyMatch(p -> p == null || p < 1 || p > 100)) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        DataVersion version = sessionRepository.findEventDataVersion(eventId);
+        if (webRequest.checkNotModified(version.eTag("event-" + eventId + "-laptimeanalysis"), version.lastModifiedMillis())) {
+            return null;
+        }
+
+        LapTimeAnalysisResponseDTO response = lapTimeAnalysisService.getLapTimeAnalysisForEvent(
+                eventId, percentage, extraPercentages, classId, carId, sessionId, offset, limit);
 
         return ResponseEntity.ok(response);
     }
@@ -151,14 +162,17 @@ public class EventsController {
      *
      * @param eventId   the ID of the event
      * @param sessionId the ID of the session
-     * @param driverIds comma-separated list of driver IDs
-     * @return a response entity containing the lap times for the specified drivers
+     * @param driverIds  comma-separated list of driver IDs
+     * @param webRequest the request, checked for a matching ETag or Last-Modified date
+     * @return a response entity containing the lap times for the specified drivers, or 304 if unchanged
      */
     @GetMapping("/{eventId}/session/{sessionId}/laptimes")
+    @LatencyObjective(SloTracker.LAP_TIMES)
     public ResponseEntity<LapTimesResponseDTO> getLapTimesForDriversInSession(
             @PathVariable Long eventId,
             @PathVariable Long sessionId,
-            @RequestParam String driverIds) {
+            @RequestParam String driverIds,
+            WebRequest webRequest) {
 
         // Parse comma-separated driver IDs
         List<Long> driverIdList = new ArrayList<>();
@@ -177,6 +191,12 @@ public class EventsController {
             return ResponseEntity.badRequest().build();
         }
 
+        Optional<DataVersion> version = sessionRepository.findDataVersion(sessionId);
+        if (version.isPresent() && webRequest.checkNotModified(
+                version.get().eTag("session-" + sessionId + "-laptimes"), version.get().lastModifiedMillis())) {
+            return null;
+        }
+
         // Get lap times for the specified drivers
         List<DriverLapTimesDTO> driverLapTimes = lapRepository.findLapTimesForDriversInSession(sessionId, driverIdList);
 
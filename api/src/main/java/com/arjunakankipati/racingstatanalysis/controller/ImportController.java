@@ -8,10 +8,16 @@ import com.arjunakankipati.racingstatanalysis.service.ImportJobService;
 import com.arjunakankipati.racingstatanalysis.service.ImportService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,6 +34,9 @@ public class ImportController {
     @Value("${api.key}")
     private String expectedApiKey;
 
+    @Value("${import.executor.retry-after-seconds:30}")
+    private long retryAfterSeconds;
+
     /**
      * Constructor with ImportService and ImportJobService dependency injection.
      */
@@ -38,7 +47,8 @@ public class ImportController {
     }
 
     /**
-     * Starts an async import and returns the job ID.
+     * Starts an async import from a URL or a local file and returns the job ID.
+     * Returns 429 with a Retry-After header when the import queue is full.
      */
     @PostMapping
     public ResponseEntity<ImportResponseDTO> importData(
@@ -47,8 +57,48 @@ public class ImportController {
         if (apiKey == null || !apiKey.equals(expectedApiKey)) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
+        return submitImport(request);
+    }
+
+    /**
+     * Starts an async import of an uploaded CSV and returns the job ID.
+     * The upload is streamed to a spool file, which is deleted once the import finishes.
+     */
+    @PostMapping(value = "/upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ImportResponseDTO> importUpload(
+            @RequestPart("file") MultipartFile file,
+            @RequestParam Long sessionId,
+            @RequestParam ProcessRequestDTO.ImportType importType,
+            @RequestParam ProcessRequestDTO.ProcessType processType,
+            @RequestHeader(value = "X-API-Key", required = false) String apiKey) throws IOException {
+        if (apiKey == null || !apiKey.equals(expectedApiKey)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        ProcessRequestDTO request = new ProcessRequestDTO(null, sessionId, importType, processType);
+        try (InputStream content = file.getInputStream()) {
+            request.setFilePath(importService.spoolUpload(content));
+            request.setSpooledUpload(true);
+        }
+        ResponseEntity<ImportResponseDTO> response = submitImport(request);
+        if (response.getStatusCode() != HttpStatus.ACCEPTED) {
+            importService.discardUpload(request.getFilePath());
+        }
+        return response;
+    }
+
+    /**
+     * Creates an import job and queues it, or rejects it with 429 and a Retry-After header when the queue is full.
+     */
+    private ResponseEntity<ImportResponseDTO> submitImport(ProcessRequestDTO request) {
         Integer jobId = importJobService.createJob(request).getId();
-        importService.processImport(jobId, request); // This runs asynchronously!
+        try {
+            importService.processImport(jobId, request); // This runs asynchronously!
+        } catch (TaskRejectedException e) {
+            importJobService.markFailed(jobId, "Import queue is full");
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds))
+                    .body(new ImportResponseDTO(jobId.toString(), "REJECTED", null, "Import queue is full"));
+        }
         ImportResponseDTO response = new ImportResponseDTO(
                 jobId.toString(),
                 "PENDING",
@@ -35,6 +35,18 @@ public class SeriesController {
         return ResponseEntity.ok(series);
     }
 
+    /**
+     * Gets the years a series has events in.
+     *
+     * @param seriesId the ID of the series
+     * @return a response entity containing the years, most recent first
+     */
+    @GetMapping("/{seriesId}/years")
+    public ResponseEntity<List<Integer>> getYearsForSeries(@PathVariable Long seriesId) {
+        List<Integer> years = seriesService.findYearsBySeriesId(seriesId);
+        return ResponseEntity.ok(years);
+    }
+
     @PostMapping
     public ResponseEntity<SeriesResponseDTO> createSeries(
             @RequestBody SeriesDTO seriesDTO,
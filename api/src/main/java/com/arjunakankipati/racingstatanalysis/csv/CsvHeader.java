@@ -0,0 +1,81 @@
+package com.arjunakankipati.racingstatanalysis.csv;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Header row of a CSV file, resolving column names to indexes.
+ * Names are matched case-insensitively and ignoring surrounding whitespace, and a leading
+ * byte order mark on the first column is dropped. Resolve each column once per file and use
+ * the index with {@link CsvReader} for every row.
+ */
+public final class CsvHeader {
+
+    /**
+     * Index returned for a column that is not present in the header.
+     */
+    public static final int MISSING = -1;
+
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private final Map<String, Integer> indexes;
+    private final int size;
+
+    /**
+     * Creates a header from the column names in file order.
+     *
+     * @param names the column names
+     */
+    public CsvHeader(List<String> names) {
+        this.size = names.size();
+        this.indexes = new HashMap<>(names.size() * 2);
+        for (int i = 0; i < names.size(); i++) {
+            String name = names.get(i);
+            if (i == 0 && !name.isEmpty() && name.charAt(0) == BYTE_ORDER_MARK) {
+                name = name.substring(1);
+            }
+            // Keep the first occurrence of a duplicated column, as the old linear scan did
+            indexes.putIfAbsent(normalize(name), i);
+        }
+    }
+
+    /**
+     * Gets the index of a column.
+     *
+     * @param name the column name
+     * @return the column index, or {@link #MISSING} if the column is not present
+     */
+    public int indexOf(String name) {
+        return indexes.getOrDefault(normalize(name), MISSING);
+    }
+
+    /**
+     * Gets the index of a column that must be present.
+     *
+     * @param name the column name
+     * @return the column index
+     * @throws IllegalArgumentException if the column is not present
+     */
+    public int require(String name) {
+        int index = indexOf(name);
+        if (index == MISSING) {
+            throw new IllegalArgumentException("CSV is missing required column " + name);
+        }
+        return index;
+    }
+
+    /**
+     * Gets the number of columns in the header.
+     *
+     * @return the number of columns
+     */
+    public int size() {
+        return size;
+    }
+
+    private static String normalize(String name) {
+        return name.trim().toUpperCase(Locale.ROOT);
+    }
+}
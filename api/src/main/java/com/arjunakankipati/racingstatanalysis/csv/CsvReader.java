@@ -0,0 +1,322 @@
+package com.arjunakankipati.racingstatanalysis.csv;
+
+import com.arjunakankipati.racingstatanalysis.model.LapTime;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Forward-only reader for delimited timing files (IMSA and WEC results and timecards).
+ * Each line is tokenized in place into field offsets over a reused char buffer, so reading a row
+ * allocates nothing; values are only materialized by the typed accessors that need them.
+ * Values are trimmed. Quoting is not supported, matching the files the importers consume.
+ */
+public final class CsvReader implements Closeable {
+
+    /**
+     * Delimiter used by IMSA and WEC timing files.
+     */
+    public static final char SEMICOLON = ';';
+
+    private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+    private static final int INITIAL_FIELD_CAPACITY = 64;
+
+    private final Reader reader;
+    private final char delimiter;
+
+    private char[] buffer = new char[INITIAL_BUFFER_SIZE];
+    private int position;
+    private int limit;
+    private boolean endOfInput;
+
+    private int[] fieldStarts = new int[INITIAL_FIELD_CAPACITY];
+    private int[] fieldEnds = new int[INITIAL_FIELD_CAPACITY];
+    private int fieldCount;
+    private long lineNumber;
+
+    /**
+     * Creates a reader over a character stream.
+     *
+     * @param reader    the character stream, closed when this reader is closed
+     * @param delimiter the field delimiter
+     */
+    public CsvReader(Reader reader, char delimiter) {
+        this.reader = reader;
+        this.delimiter = delimiter;
+    }
+
+    /**
+     * Reads the first line of the file as the header.
+     *
+     * @return the header, or null if the file is empty
+     * @throws IOException if the stream cannot be read
+     */
+    public CsvHeader readHeader() throws IOException {
+        if (!next()) {
+            return null;
+        }
+        List<String> names = new ArrayList<>(fieldCount);
+        for (int i = 0; i < fieldCount; i++) {
+            names.add(getString(i));
+        }
+        return new CsvHeader(names);
+    }
+
+    /**
+     * Advances to the next non-blank line.
+     *
+     * @return true if a line was read, false at the end of the input
+     * @throws IOException if the stream cannot be read
+     */
+    public boolean next() throws IOException {
+        while (true) {
+            int lineStart = position;
+            int newline = indexOfNewline(lineStart);
+            int lineEnd;
+            if (newline >= 0) {
+                lineEnd = newline;
+                position = newline + 1;
+            } else if (endOfInput) {
+                if (lineStart >= limit) {
+                    fieldCount = 0;
+                    return false;
+                }
+                // Last line without a trailing newline
+                lineEnd = limit;
+                position = limit;
+            } else {
+                fill();
+                continue;
+            }
+
+            lineNumber++;
+            if (lineEnd > lineStart && buffer[lineEnd - 1] == '\r') {
+                lineEnd--;
+            }
+            if (!isBlank(lineStart, lineEnd)) {
+                tokenize(lineStart, lineEnd);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Gets the number of fields in the current line.
+     *
+     * @return the field count
+     */
+    public int fieldCount() {
+        return fieldCount;
+    }
+
+    /**
+     * Gets the 1-based number of the current line in the file, counting blank lines.
+     *
+     * @return the line number
+     */
+    public long lineNumber() {
+        return lineNumber;
+    }
+
+    /**
+     * Checks whether a field is missing or empty after trimming.
+     *
+     * @param column the column index, possibly {@link CsvHeader#MISSING}
+     * @return true if the field has no value
+     */
+    public boolean isBlank(int column) {
+        if (column < 0 || column >= fieldCount) {
+            return true;
+        }
+        int start = trimmedStart(column);
+        return start == trimmedEnd(column, start);
+    }
+
+    /**
+     * Gets a field as a trimmed string.
+     *
+     * @param column the column index, possibly {@link CsvHeader#MISSING}
+     * @return the value, or null if the column is missing from the line
+     */
+    public String getString(int column) {
+        if (column < 0 || column >= fieldCount) {
+            return null;
+        }
+        int start = trimmedStart(column);
+        return new String(buffer, start, trimmedEnd(column, start) - start);
+    }
+
+    /**
+     * Gets a field as an integer.
+     *
+     * @param column the column index, possibly {@link CsvHeader#MISSING}
+     * @return the value, or null if the field is blank or not a valid integer
+     */
+    public Integer getInteger(int column) {
+        if (isBlank(column)) {
+            return null;
+        }
+        int start = trimmedStart(column);
+        int end = trimmedEnd(column, start);
+        boolean negative = buffer[start] == '-';
+        if (negative || buffer[start] == '+') {
+            start++;
+        }
+        if (start == end) {
+            return null;
+        }
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            int digit = buffer[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return null;
+            }
+            value = value * 10 + digit;
+            if (value > (long) Integer.MAX_VALUE + 1) {
+                return null;
+            }
+        }
+        value = negative ? -value : value;
+        if (value > Integer.MAX_VALUE) {
+            return null;
+        }
+        return (int) value;
+    }
+
+    /**
+     * Gets a field as a decimal number.
+     *
+     * @param column the column index, possibly {@link CsvHeader#MISSING}
+     * @return the value, or null if the field is blank or not a valid number
+     */
+    public BigDecimal getDecimal(int column) {
+        if (isBlank(column)) {
+            return null;
+        }
+        int start = trimmedStart(column);
+        try {
+            return new BigDecimal(buffer, start, trimmedEnd(column, start) - start);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Gets a duration or time of day field as fixed-point milliseconds.
+     * Accepts {@code ss.SSS}, {@code m:ss.SSS} and {@code h:mm:ss.SSS}; fractions with fewer than three
+     * digits are scaled (so {@code .5} is 500 ms) and digits beyond milliseconds are truncated.
+     *
+     * @param column the column index
+     * @return the value in milliseconds
+     * @throws IllegalArgumentException if the field is blank or malformed
+     */
+    public long getMillis(int column) {
+        if (isBlank(column)) {
+            throw new IllegalArgumentException("Missing time value in column " + column + " on line " + lineNumber);
+        }
+        int start = trimmedStart(column);
+        try {
+            return LapTime.parseMillis(buffer, start, trimmedEnd(column, start));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(e.getMessage() + " on line " + lineNumber, e);
+        }
+    }
+
+    /**
+     * Gets a lap, sector or elapsed time field.
+     *
+     * @param column the column index, possibly {@link CsvHeader#MISSING}
+     * @return the time, or null if the field is blank
+     * @throws IllegalArgumentException if the field is malformed
+     * @see #getMillis(int)
+     */
+    public LapTime getLapTime(int column) {
+        return isBlank(column) ? null : LapTime.ofMillis(getMillis(column));
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private int trimmedStart(int column) {
+        int start = fieldStarts[column];
+        int end = fieldEnds[column];
+        while (start < end && buffer[start] <= ' ') {
+            start++;
+        }
+        return start;
+    }
+
+    private int trimmedEnd(int column, int trimmedStart) {
+        int start = trimmedStart;
+        int end = fieldEnds[column];
+        while (end > start && buffer[end - 1] <= ' ') {
+            end--;
+        }
+        return end;
+    }
+
+    private boolean isBlank(int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (buffer[i] > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int indexOfNewline(int from) {
+        for (int i = from; i < limit; i++) {
+            if (buffer[i] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void tokenize(int lineStart, int lineEnd) {
+        fieldCount = 0;
+        int fieldStart = lineStart;
+        for (int i = lineStart; i < lineEnd; i++) {
+            if (buffer[i] == delimiter) {
+                addField(fieldStart, i);
+                fieldStart = i + 1;
+            }
+        }
+        addField(fieldStart, lineEnd);
+    }
+
+    private void addField(int start, int end) {
+        if (fieldCount == fieldStarts.length) {
+            fieldStarts = Arrays.copyOf(fieldStarts, fieldCount * 2);
+            fieldEnds = Arrays.copyOf(fieldEnds, fieldCount * 2);
+        }
+        fieldStarts[fieldCount] = start;
+        fieldEnds[fieldCount] = end;
+        fieldCount++;
+    }
+
+    private void fill() throws IOException {
+        // Move the partial line to the front, growing the buffer only for lines longer than it
+        if (position > 0) {
+            System.arraycopy(buffer, position, buffer, 0, limit - position);
+            limit -= position;
+            position = 0;
+        }
+        if (limit == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+        int read = reader.read(buffer, limit, buffer.length - limit);
+        if (read < 0) {
+            endOfInput = true;
+        } else {
+            limit += read;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.arjunakankipati.racingstatanalysis.csv;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Byte range of a file that starts and ends on line boundaries, so it can be parsed on its own
+ * with a {@link CsvReader} over {@link MappedFileReader#range}. A newline byte never occurs inside a
+ * multi-byte UTF-8 character, so splitting just after one is always safe.
+ *
+ * @param start the first byte of the range
+ * @param end   the byte after the last byte of the range
+ */
+public record FileChunk(long start, long end) {
+
+    private static final int SCAN_BUFFER_SIZE = 8 * 1024;
+
+    /**
+     * Splits the rest of a file into ranges of roughly equal size, each ending just after a newline
+     * (or at the end of the file). Lines longer than a range produce fewer ranges.
+     *
+     * @param channel the file
+     * @param start   the first byte to include, normally just after the header line
+     * @param count   the number of ranges wanted
+     * @return the ranges in file order, covering every byte from start to the end of the file
+     * @throws IOException if the file cannot be read
+     */
+    public static List<FileChunk> split(FileChannel channel, long start, int count) throws IOException {
+        long size = channel.size();
+        List<FileChunk> chunks = new ArrayList<>(count);
+        long chunkStart = start;
+        for (int i = 1; i <= count && chunkStart < size; i++) {
+            long target = start + (size - start) * i / count;
+            // Searching from the byte before the target keeps a target that is already a line start
+            long chunkEnd = i == count ? size : lineEnd(channel, Math.max(chunkStart, target - 1));
+            if (chunkEnd > chunkStart) {
+                chunks.add(new FileChunk(chunkStart, chunkEnd));
+                chunkStart = chunkEnd;
+            }
+        }
+        return chunks;
+    }
+
+    /**
+     * Finds the end of the line containing a position.
+     *
+     * @param channel  the file
+     * @param position the position to search from
+     * @return the position just after the next newline at or after the given position, or the file size if there is none
+     * @throws IOException if the file cannot be read
+     */
+    public static long lineEnd(FileChannel channel, long position) throws IOException {
+        long size = channel.size();
+        ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+        while (position < size) {
+            buffer.clear();
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return size;
+    }
+}
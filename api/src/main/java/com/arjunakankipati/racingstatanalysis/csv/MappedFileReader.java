@@ -0,0 +1,116 @@
+package com.arjunakankipati.racingstatanalysis.csv;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reader that decodes a UTF-8 file, or a byte range of one, straight from memory-mapped pages.
+ * Bytes are decoded into the caller's buffer without an intermediate stream or copy, so a
+ * {@link CsvReader} over this reader parses a local file at page cache speed. The range is mapped
+ * in windows, so files larger than a single mapping are supported.
+ */
+public final class MappedFileReader extends Reader {
+
+    private static final long WINDOW_SIZE = 64L * 1024 * 1024;
+
+    private final FileChannel channel;
+    private final boolean ownsChannel;
+    private final long end;
+    private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+    private MappedByteBuffer window;
+    private long windowStart;
+    private boolean flushed;
+
+    private MappedFileReader(FileChannel channel, boolean ownsChannel, long start, long end) throws IOException {
+        this.channel = channel;
+        this.ownsChannel = ownsChannel;
+        this.end = end;
+        map(start);
+    }
+
+    /**
+     * Opens a reader over a whole file.
+     *
+     * @param path the file
+     * @return the reader, which closes the file when closed
+     * @throws IOException if the file cannot be opened or mapped
+     */
+    public static MappedFileReader open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            return new MappedFileReader(channel, true, 0, channel.size());
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Opens a reader over a byte range of an open file. The range must start and end on
+     * character boundaries, such as just after a newline.
+     *
+     * @param channel the file, which is left open when the reader is closed
+     * @param start   the first byte of the range
+     * @param end     the byte after the last byte of the range
+     * @return the reader
+     * @throws IOException if the range cannot be mapped
+     */
+    public static MappedFileReader range(FileChannel channel, long start, long end) throws IOException {
+        return new MappedFileReader(channel, false, start, end);
+    }
+
+    @Override
+    public int read(char[] cbuf, int off, int len) throws IOException {
+        if (flushed) {
+            return -1;
+        }
+        if (len == 0) {
+            return 0;
+        }
+        CharBuffer out = CharBuffer.wrap(cbuf, off, len);
+        while (out.hasRemaining()) {
+            boolean lastWindow = windowStart + window.limit() >= end;
+            CoderResult result = decoder.decode(window, out, lastWindow);
+            if (result.isOverflow()) {
+                break;
+            }
+            if (result.isError()) {
+                result.throwException();
+            }
+            // Underflow: the window is drained, apart from a partial character at its end
+            if (lastWindow) {
+                decoder.flush(out);
+                flushed = true;
+                break;
+            }
+            map(windowStart + window.position());
+        }
+        int read = out.position() - off;
+        return read == 0 && flushed ? -1 : read;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (ownsChannel) {
+            channel.close();
+        }
+    }
+
+    private void map(long position) throws IOException {
+        long size = Math.min(WINDOW_SIZE, end - position);
+        window = channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+        windowStart = position;
+    }
+}
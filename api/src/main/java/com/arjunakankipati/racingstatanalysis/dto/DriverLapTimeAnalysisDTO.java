@@ -1,5 +1,9 @@
 package com.arjunakankipati.racingstatanalysis.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.Map;
+
 /**
  * Data Transfer Object for driver-specific lap time analysis data.
  * Contains driver information, car/team/class details, and lap time analysis in a flat structure.
@@ -28,6 +32,9 @@ public class DriverLapTimeAnalysisDTO {
     private String fastestLapTime;
     private String medianLapTime;
     private Integer totalLapCount;
+    // Average of each requested top percentage of laps, keyed by percentage
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Map<Integer, String> averageLapTimes;
 
     /**
      * Default constructor.
@@ -188,4 +195,12 @@ public class DriverLapTimeAnalysisDTO {
     public void setTotalLapCount(Integer totalLapCount) {
         this.totalLapCount = totalLapCount;
     }
+
+    public Map<Integer, String> getAverageLapTimes() {
+        return averageLapTimes;
+    }
+
+    public void setAverageLapTimes(Map<Integer, String> averageLapTimes) {
+        this.averageLapTimes = averageLapTimes;
+    }
 }
\ No newline at end of file
@@ -1,6 +1,8 @@
 package com.arjunakankipati.racingstatanalysis.dto;
 
-import java.math.BigDecimal;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.Map;
 
 /**
  * Data Transfer Object for lap time analysis data.
@@ -12,6 +14,8 @@ public class LapTimeAnalysisDTO {
     private String medianLapTime;
     private Integer totalLapCount;
     private Long eventId;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Map<Integer, String> averageLapTimes;
 
     /**
      * Default constructor.
@@ -126,4 +130,22 @@ public class LapTimeAnalysisDTO {
     public void setEventId(Long eventId) {
         this.eventId = eventId;
     }
+
+    /**
+     * Gets the average lap time of each requested top percentage of laps.
+     *
+     * @return the average lap times in format "m:ss.SSS" keyed by percentage, or null if none were requested
+     */
+    public Map<Integer, String> getAverageLapTimes() {
+        return averageLapTimes;
+    }
+
+    /**
+     * Sets the average lap time of each requested top percentage of laps.
+     *
+     * @param averageLapTimes the average lap times keyed by percentage
+     */
+    public void setAverageLapTimes(Map<Integer, String> averageLapTimes) {
+        this.averageLapTimes = averageLapTimes;
+    }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.arjunakankipati.racingstatanalysis.dto;
 
+import com.arjunakankipati.racingstatanalysis.model.LapTime;
+
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
@@ -11,8 +13,8 @@ public class LapTimeDetailDTO {
     private Long lapId;
     private Integer lapNumber;
     private String lapTime;
-    private BigDecimal lapTimeSeconds;
-    private BigDecimal sessionElapsedSeconds;
+    private LapTime lapTimeSeconds;
+    private LapTime sessionElapsedSeconds;
     private LocalDateTime timestamp;
     private BigDecimal averageSpeedKph;
 
@@ -33,8 +35,8 @@ public class LapTimeDetailDTO {
      * @param timestamp             the timestamp when the lap was completed
      * @param averageSpeedKph       the average speed in kilometers per hour
      */
-    public LapTimeDetailDTO(Long lapId, Integer lapNumber, String lapTime, BigDecimal lapTimeSeconds,
-                            BigDecimal sessionElapsedSeconds, LocalDateTime timestamp, BigDecimal averageSpeedKph) {
+    public LapTimeDetailDTO(Long lapId, Integer lapNumber, String lapTime, LapTime lapTimeSeconds,
+                            LapTime sessionElapsedSeconds, LocalDateTime timestamp, BigDecimal averageSpeedKph) {
         this.lapId = lapId;
         this.lapNumber = lapNumber;
         this.lapTime = lapTime;
@@ -103,7 +105,7 @@ public class LapTimeDetailDTO {
      *
      * @return the lap time in seconds
      */
-    public BigDecimal getLapTimeSeconds() {
+    public LapTime getLapTimeSeconds() {
         return lapTimeSeconds;
     }
 
@@ -112,7 +114,7 @@ public class LapTimeDetailDTO {
      *
      * @param lapTimeSeconds the lap time in seconds to set
      */
-    public void setLapTimeSeconds(BigDecimal lapTimeSeconds) {
+    public void setLapTimeSeconds(LapTime lapTimeSeconds) {
         this.lapTimeSeconds = lapTimeSeconds;
     }
 
@@ -121,7 +123,7 @@ public class LapTimeDetailDTO {
      *
      * @return the session elapsed time in seconds
      */
-    public BigDecimal getSessionElapsedSeconds() {
+    public LapTime getSessionElapsedSeconds() {
         return sessionElapsedSeconds;
     }
 
@@ -130,7 +132,7 @@ public class LapTimeDetailDTO {
      *
      * @param sessionElapsedSeconds the session elapsed time in seconds to set
      */
-    public void setSessionElapsedSeconds(BigDecimal sessionElapsedSeconds) {
+    public void setSessionElapsedSeconds(LapTime sessionElapsedSeconds) {
         this.sessionElapsedSeconds = sessionElapsedSeconds;
     }
 
@@ -1,7 +1,13 @@
 package com.arjunakankipati.racingstatanalysis.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 public class ProcessRequestDTO {
     private String url;
+    private String filePath;
+    // Set only for multipart uploads, never from a JSON request body, so a request cannot claim another job's spool file
+    @JsonIgnore
+    private boolean spooledUpload;
     private Long sessionId;
     private ImportType importType;
     private ProcessType processType;
@@ -32,6 +38,36 @@ public class ProcessRequestDTO {
         this.url = url;
     }
 
+    public String getFilePath() {
+        return filePath;
+    }
+
+    public void setFilePath(String filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Describes where the CSV is read from: the URL, or the local file path if no URL is set.
+     *
+     * @return the URL or file path
+     */
+    public String describeSource() {
+        return url != null ? url : filePath;
+    }
+
+    /**
+     * Whether the file path names a spool file created for this request's upload, deleted once the import finishes.
+     *
+     * @return true if this request owns its spool file
+     */
+    public boolean isSpooledUpload() {
+        return spooledUpload;
+    }
+
+    public void setSpooledUpload(boolean spooledUpload) {
+        this.spooledUpload = spooledUpload;
+    }
+
     public Long getSessionId() {
         return sessionId;
     }
@@ -0,0 +1,88 @@
+package com.arjunakankipati.racingstatanalysis.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times each API controller method into the {@code api.requests} timer, publishing p50, p95 and p99 and a
+ * percentile histogram per method. Timings are tagged with the size of the response, bucketed by order of
+ * magnitude (see {@link ResponseSizeAdvice}), so latency can be compared at equal data sizes as seasons
+ * add laps. Methods annotated with {@link LatencyObjective} are also counted towards their objective.
+ */
+@Component
+public class EndpointMetricsInterceptor implements HandlerInterceptor {
+
+    private static final String START_NANOS_ATTRIBUTE = EndpointMetricsInterceptor.class.getName() + ".startNanos";
+    private static final String NO_SIZE = "none";
+
+    private final MeterRegistry registry;
+    private final SloTracker sloTracker;
+
+    public EndpointMetricsInterceptor(MeterRegistry registry, SloTracker sloTracker) {
+        this.registry = registry;
+        this.sloTracker = sloTracker;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        request.setAttribute(START_NANOS_ATTRIBUTE, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object started = request.getAttribute(START_NANOS_ATTRIBUTE);
+        if (!(handler instanceof HandlerMethod method) || started == null) {
+            return;
+        }
+        long elapsedNanos = System.nanoTime() - (Long) started;
+        // An exception escaping the handler is turned into a 500 after this point
+        int status = ex != null ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus();
+
+        Timer.builder("api.requests")
+                .description("Latency of API controller methods by the size of the response")
+                .tag("handler", method.getBeanType().getSimpleName() + "." + method.getMethod().getName())
+                .tag("status", String.valueOf(status))
+                .tag("rows", sizeBucket(request.getAttribute(ResponseSizeAdvice.ROWS_ATTRIBUTE)))
+                .tag("laps", sizeBucket(request.getAttribute(ResponseSizeAdvice.LAPS_ATTRIBUTE)))
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        LatencyObjective objective = method.getMethodAnnotation(LatencyObjective.class);
+        if (objective != null) {
+            sloTracker.record(objective.value(), elapsedNanos, status >= HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * Buckets a count by order of magnitude, keeping the number of tag values small.
+     *
+     * @param count the count, or null if the response has no such size
+     * @return the bucket, such as {@code 101-1000}
+     */
+    static String sizeBucket(Object count) {
+        if (!(count instanceof Integer value)) {
+            return NO_SIZE;
+        }
+        if (value == 0) {
+            return "0";
+        }
+        long upper = 10;
+        while (value > upper && upper < 100_000) {
+            upper *= 10;
+        }
+        if (value > upper) {
+            return ">" + upper;
+        }
+        return (upper == 10 ? 1 : upper / 10 + 1) + "-" + upper;
+    }
+}
@@ -0,0 +1,21 @@
+package com.arjunakankipati.racingstatanalysis.metrics;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Counts each request to a controller method towards a latency objective tracked by {@link SloTracker}.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface LatencyObjective {
+
+    /**
+     * The name of the objective, one of the names defined by {@link SloTracker}.
+     */
+    String value();
+}
@@ -0,0 +1,54 @@
+package com.arjunakankipati.racingstatanalysis.metrics;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Actuator endpoint at {@code /actuator/queries} listing the slowest and most frequent SQL statements
+ * since startup, as recorded by {@link QueryMetricsListener}.
+ */
+@Component
+@Endpoint(id = "queries")
+public class QueriesEndpoint {
+
+    private final QueryStatistics statistics;
+    private final int defaultLimit;
+
+    /**
+     * Creates the endpoint.
+     *
+     * @param statistics   the per-statement totals
+     * @param defaultLimit the number of statements listed when no limit is given
+     */
+    public QueriesEndpoint(QueryStatistics statistics, @Value("${db.query.top-statements:10}") int defaultLimit) {
+        this.statistics = statistics;
+        this.defaultLimit = defaultLimit;
+    }
+
+    /**
+     * Lists the top statements.
+     *
+     * @param limit the number of statements in each list, or null for the default
+     * @return the slowest and the most frequent statements
+     */
+    @ReadOperation
+    public QueriesReport queries(@Nullable Integer limit) {
+        int top = limit == null || limit <= 0 ? defaultLimit : limit;
+        return new QueriesReport(statistics.slowest(top), statistics.mostFrequent(top));
+    }
+
+    /**
+     * The statements with the longest single execution and the most executed statements.
+     *
+     * @param slowest      statements ordered by their longest execution, slowest first
+     * @param mostFrequent statements ordered by execution count, most executed first
+     */
+    public record QueriesReport(List<QueryStatistics.StatementStatistics> slowest,
+                                List<QueryStatistics.StatementStatistics> mostFrequent) {
+    }
+}
@@ -0,0 +1,16 @@
+package com.arjunakankipati.racingstatanalysis.metrics;
+
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteListener;
+
+/**
+ * jOOQ listener that counts each executed statement towards the open {@link QueryCounter} scopes.
+ * A JDBC batch is one statement.
+ */
+public class QueryCountListener implements ExecuteListener {
+
+    @Override
+    public void executeStart(ExecuteContext ctx) {
+        QueryCounter.increment();
+    }
+}
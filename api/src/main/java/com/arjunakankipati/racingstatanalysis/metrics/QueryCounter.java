@@ -0,0 +1,63 @@
+package com.arjunakankipati.racingstatanalysis.metrics;
+
+/**
+ * Counts the SQL statements executed on the current thread while a scope is open, for spotting code
+ * whose query count grows with the data it handles (N+1 loops). Statements are counted by
+ * {@link QueryCountListener}; scopes nest, and a statement counts towards every open scope.
+ * A scope is not carried to other threads, so statements the counted code hands off (to an executor,
+ * a fork-join pool or another caller's cache load) are not counted.
+ */
+public final class QueryCounter {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private QueryCounter() {
+    }
+
+    /**
+     * Starts counting statements executed on the current thread.
+     *
+     * @return the scope, which must be closed on the same thread
+     */
+    public static Scope start() {
+        Scope scope = new Scope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    static void increment() {
+        for (Scope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.count++;
+        }
+    }
+
+    /**
+     * Statements counted since a call to {@link #start()}.
+     */
+    public static final class Scope implements AutoCloseable {
+        private final Scope parent;
+        private int count;
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+        }
+
+        /**
+         * Gets the number of statements executed in this scope so far.
+         *
+         * @return the statement count
+         */
+        public int count() {
+            return count;
+        }
+
+        @Override
+        public void close() {
+            if (parent == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(parent);
+            }
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.arjunakankipati.racingstatanalysis.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteListener;
+import org.jooq.ExecuteType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * jOOQ listener that times every statement and attributes it to the repository method that ran it.
+ * Each execution is recorded as a {@code db.query} timer and a {@code db.query.rows} summary tagged with
+ * the calling method, added to the {@link QueryStatistics} and, when it exceeds the slow query threshold,
+ * logged. Only SQL with bind placeholders is logged or kept, never the bind values.
+ * For lazily fetched results the time includes consuming the cursor, as the statement ends when it is closed.
+ * Statements jOOQ does not execute, such as a {@code COPY} streamed over the connection, are recorded the same
+ * way through {@link #recordStatement}.
+ */
+@Component
+public class QueryMetricsListener implements ExecuteListener {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(QueryMetricsListener.class);
+
+    private static final String APPLICATION_PACKAGE = "com.arjunakankipati.racingstatanalysis.";
+    private static final String REPOSITORY_PACKAGE = APPLICATION_PACKAGE + "repository.";
+    private static final String GENERATED_PACKAGE = APPLICATION_PACKAGE + "jooq.";
+    private static final String METRICS_PACKAGE = APPLICATION_PACKAGE + "metrics.";
+    private static final String UNKNOWN_CALLER = "unknown";
+
+    private static final String START_NANOS = "queryMetrics.startNanos";
+    private static final String CALLER = "queryMetrics.caller";
+    private static final String ROWS_FETCHED = "queryMetrics.rowsFetched";
+
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+    private final MeterRegistry registry;
+    private final QueryStatistics statistics;
+    private final long slowThresholdNanos;
+
+    /**
+     * Creates the listener.
+     *
+     * @param registry        the registry timers are recorded in
+     * @param statistics      the per-statement totals
+     * @param slowThresholdMs statements running at least this long are logged; negative disables the log
+     */
+    public QueryMetricsListener(MeterRegistry registry,
+                                QueryStatistics statistics,
+                                @Value("${db.query.slow-threshold-ms:500}") long slowThresholdMs) {
+        this.registry = registry;
+        this.statistics = statistics;
+        this.slowThresholdNanos = slowThresholdMs < 0 ? Long.MAX_VALUE : TimeUnit.MILLISECONDS.toNanos(slowThresholdMs);
+    }
+
+    @Override
+    public void start(ExecuteContext ctx) {
+        ctx.data(START_NANOS, System.nanoTime());
+        ctx.data(CALLER, caller());
+    }
+
+    @Override
+    public void recordEnd(ExecuteContext ctx) {
+        Object fetched = ctx.data(ROWS_FETCHED);
+        ctx.data(ROWS_FETCHED, fetched == null ? 1L : (Long) fetched + 1);
+    }
+
+    @Override
+    public void end(ExecuteContext ctx) {
+        Object started = ctx.data(START_NANOS);
+        String sql = sql(ctx);
+        if (started == null || sql == null) {
+            return;
+        }
+        record((String) ctx.data(CALLER), ctx.type(), ctx.exception() != null,
+                sql, System.nanoTime() - (Long) started, rows(ctx));
+    }
+
+    /**
+     * Records a statement that ran on a connection outside jOOQ's execution, attributing it to the calling
+     * repository method like the statements jOOQ runs.
+     *
+     * @param type         the kind of statement
+     * @param sql          the SQL of the statement, without bind values
+     * @param elapsedNanos the execution time in nanoseconds
+     * @param rows         the number of rows fetched or affected
+     * @param failed       whether the statement failed
+     */
+    public void recordStatement(ExecuteType type, String sql, long elapsedNanos, long rows, boolean failed) {
+        record(caller(), type, failed, sql, elapsedNanos, rows);
+    }
+
+    private void record(String caller, ExecuteType type, boolean failed, String sql, long elapsedNanos, long rows) {
+        Timer.builder("db.query")
+                .description("Time spent executing SQL statements, by calling method")
+                .tag("method", caller)
+                .tag("type", type.name().toLowerCase(Locale.ROOT))
+                .tag("outcome", failed ? "error" : "success")
+                .register(registry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("db.query.rows")
+                .description("Rows fetched or affected by SQL statements, by calling method")
+                .tag("method", caller)
+                .register(registry)
+                .record(rows);
+        statistics.record(sql, elapsedNanos, rows);
+
+        if (elapsedNanos >= slowThresholdNanos) {
+            LOGGER.warn("Slow query from {} took {} ms and returned {} rows: {}",
+                    caller, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), rows, sql);
+        }
+    }
+
+    /**
+     * Gets the SQL of the statement with bind placeholders, or null if it was never rendered.
+     */
+    private static String sql(ExecuteContext ctx) {
+        String[] batchSql = ctx.batchSQL();
+        if (batchSql.length > 1) {
+            return String.join(";\n", batchSql);
+        }
+        return ctx.sql();
+    }
+
+    private static long rows(ExecuteContext ctx) {
+        Object fetched = ctx.data(ROWS_FETCHED);
+        if (fetched != null) {
+            return (Long) fetched;
+        }
+        int[] batchRows = ctx.batchRows();
+        if (batchRows.length > 0) {
+            return Arrays.stream(batchRows).filter(r -> r > 0).asLongStream().sum();
+        }
+        return Math.max(ctx.rows(), 0);
+    }
+
+    /**
+     * Names the method a statement is attributed to: the outermost repository method on the stack,
+     * so helpers called by a repository method are counted against it, or otherwise the innermost
+     * application method.
+     */
+    private static String caller() {
+        return STACK_WALKER.walk(frames -> {
+            StackWalker.StackFrame repositoryFrame = null;
+            StackWalker.StackFrame applicationFrame = null;
+            for (StackWalker.StackFrame frame : (Iterable<StackWalker.StackFrame>) frames::iterator) {
+                String className = frame.getClassName();
+                if (!className.startsWith(APPLICATION_PACKAGE)
+                        || className.startsWith(GENERATED_PACKAGE)
+                        || className.startsWith(METRICS_PACKAGE)) {
+                    continue;
+                }
+                if (className.startsWith(REPOSITORY_PACKAGE)) {
+                    repositoryFrame = frame;
+                } else if (applicationFrame == null) {
+                    applicationFrame = frame;
+                }
+            }
+            StackWalker.StackFrame frame = repositoryFrame != null ? repositoryFrame : applicationFrame;
+            return frame == null ? UNKNOWN_CALLER : simpleClassName(frame.getClassName()) + "." + frame.getMethodName();
+        });
+    }
+
+    private static String simpleClassName(String className) {
+        String simpleName = className.substring(className.lastIndexOf('.') + 1);
+        // Spring proxies are named after the class they wrap
+        int proxySuffix = simpleName.indexOf("$$");
+        return proxySuffix < 0 ? simpleName : simpleName.substring(0, proxySuffix);
+    }
+}
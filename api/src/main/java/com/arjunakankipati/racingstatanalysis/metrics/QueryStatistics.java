@@ -0,0 +1,140 @@
+package com.arjunakankipati.racingstatanalysis.metrics;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Running totals per SQL statement since startup, for finding the slowest and most frequent queries.
+ * Statements are keyed by their SQL with bind placeholders, so bind values are never held. Lists of
+ * placeholders and repeated VALUES rows are collapsed, so an IN list or a multi-row insert is one
+ * statement whatever its size. The number of distinct statements is bounded; once full, further
+ * statements are counted together under {@link #OTHER_STATEMENTS}.
+ */
+@Component
+public class QueryStatistics {
+
+    /**
+     * Key under which statements beyond the tracked maximum are counted.
+     */
+    public static final String OTHER_STATEMENTS = "(other statements)";
+
+    private static final Pattern PLACEHOLDER_LIST = Pattern.compile("\\?(?:, \\?)+");
+    private static final Pattern REPEATED_ROWS = Pattern.compile("(\\([^()]*\\))(?:, \\1)+");
+
+    private final int maxStatements;
+    private final Map<String, Totals> statements = new ConcurrentHashMap<>();
+
+    /**
+     * Creates the statistics.
+     *
+     * @param maxStatements the maximum number of distinct statements tracked individually
+     */
+    public QueryStatistics(@Value("${db.query.max-tracked-statements:500}") int maxStatements) {
+        this.maxStatements = maxStatements;
+    }
+
+    /**
+     * Records one execution of a statement.
+     *
+     * @param sql          the SQL with bind placeholders
+     * @param elapsedNanos the execution time in nanoseconds
+     * @param rows         the number of rows fetched or affected
+     */
+    public void record(String sql, long elapsedNanos, long rows) {
+        String key = normalize(sql);
+        Totals totals = statements.get(key);
+        if (totals == null) {
+            // The bound is approximate under contention, which is fine for diagnostics
+            key = statements.size() < maxStatements ? key : OTHER_STATEMENTS;
+            totals = statements.computeIfAbsent(key, k -> new Totals());
+        }
+        totals.add(elapsedNanos, rows);
+    }
+
+    /**
+     * Gets the statements with the longest single execution.
+     *
+     * @param limit the maximum number of statements
+     * @return the statements, slowest first
+     */
+    public List<StatementStatistics> slowest(int limit) {
+        return top(Comparator.comparingDouble(StatementStatistics::maxMillis), limit);
+    }
+
+    /**
+     * Gets the most frequently executed statements.
+     *
+     * @param limit the maximum number of statements
+     * @return the statements, most executed first
+     */
+    public List<StatementStatistics> mostFrequent(int limit) {
+        return top(Comparator.comparingLong(StatementStatistics::count), limit);
+    }
+
+    /**
+     * Collapses placeholder lists and repeated VALUES rows in a statement.
+     *
+     * @param sql the SQL with bind placeholders
+     * @return the normalized SQL
+     */
+    static String normalize(String sql) {
+        String collapsed = PLACEHOLDER_LIST.matcher(sql).replaceAll("?, ...");
+        return REPEATED_ROWS.matcher(collapsed).replaceAll("$1, ...");
+    }
+
+    private List<StatementStatistics> top(Comparator<StatementStatistics> order, int limit) {
+        return statements.entrySet().stream()
+                .map(entry -> entry.getValue().snapshot(entry.getKey()))
+                .sorted(order.reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * Totals for one statement.
+     *
+     * @param sql         the normalized SQL
+     * @param count       the number of executions
+     * @param totalMillis the total execution time in milliseconds
+     * @param meanMillis  the mean execution time in milliseconds
+     * @param maxMillis   the longest execution time in milliseconds
+     * @param rows        the total number of rows fetched or affected
+     */
+    public record StatementStatistics(String sql, long count, double totalMillis, double meanMillis,
+                                      double maxMillis, long rows) {
+    }
+
+    private static final class Totals {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAdder rows = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        void add(long elapsedNanos, long rowCount) {
+            count.increment();
+            totalNanos.add(elapsedNanos);
+            rows.add(rowCount);
+            maxNanos.accumulateAndGet(elapsedNanos, Math::max);
+        }
+
+        StatementStatistics snapshot(String sql) {
+            long executions = count.sum();
+            double totalMillis = toMillis(totalNanos.sum());
+            return new StatementStatistics(sql, executions, totalMillis,
+                    executions == 0 ? 0 : totalMillis / executions, toMillis(maxNanos.get()), rows.sum());
+        }
+
+        private static double toMillis(long nanos) {
+            return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        }
+    }
+}
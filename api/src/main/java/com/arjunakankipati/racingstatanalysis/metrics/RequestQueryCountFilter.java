@@ -0,0 +1,73 @@
+package com.arjunakankipati.racingstatanalysis.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Counts the SQL statements each HTTP request runs, records them in the {@code http.server.requests.queries}
+ * histogram by route, and warns when a request runs more than the threshold, which usually means a query
+ * is being issued per row. Only statements run on the request thread are counted.
+ */
+@Component
+public class RequestQueryCountFilter extends OncePerRequestFilter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RequestQueryCountFilter.class);
+
+    private static final String UNKNOWN_ROUTE = "UNKNOWN";
+
+    private final MeterRegistry registry;
+    private final int warnThreshold;
+
+    /**
+     * Creates the filter.
+     *
+     * @param registry      the registry the histogram is recorded in
+     * @param warnThreshold requests running more statements than this are logged
+     */
+    public RequestQueryCountFilter(MeterRegistry registry,
+                                   @Value("${db.query.request-warn-threshold:20}") int warnThreshold) {
+        this.registry = registry;
+        this.warnThreshold = warnThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        try (QueryCounter.Scope scope = QueryCounter.start()) {
+            try {
+                chain.doFilter(request, response);
+            } finally {
+                record(request, scope.count());
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, int queries) {
+        // The matched pattern keeps one series per route rather than per ID
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String route = pattern == null ? UNKNOWN_ROUTE : pattern.toString();
+        DistributionSummary.builder("http.server.requests.queries")
+                .description("SQL statements run per HTTP request")
+                .tag("method", request.getMethod())
+                .tag("uri", route)
+                .serviceLevelObjectives(1, 2, 5, 10, 20, 50, 100)
+                .register(registry)
+                .record(queries);
+        if (queries > warnThreshold) {
+            LOGGER.warn("{} {} ran {} queries, above the threshold of {}; check for a query per row",
+                    request.getMethod(), route, queries, warnThreshold);
+        }
+    }
+}
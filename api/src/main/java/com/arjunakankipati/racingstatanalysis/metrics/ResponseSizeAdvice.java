@@ -0,0 +1,81 @@
+package com.arjunakankipati.racingstatanalysis.metrics;
+
+import com.arjunakankipati.racingstatanalysis.dto.DriverLapTimesDTO;
+import com.arjunakankipati.racingstatanalysis.dto.LapTimeAnalysisResponseDTO;
+import com.arjunakankipati.racingstatanalysis.dto.LapTimesResponseDTO;
+import com.arjunakankipati.racingstatanalysis.dto.ResultsResponseDTO;
+import com.arjunakankipati.racingstatanalysis.dto.TeamsResponseDTO;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.Collection;
+
+/**
+ * Notes how much data an API response carries, for {@link EndpointMetricsInterceptor} to tag its latency with:
+ * the rows at the top of the response (drivers, results or teams) and the laps they cover.
+ */
+@ControllerAdvice(basePackages = "com.arjunakankipati.racingstatanalysis.controller")
+public class ResponseSizeAdvice implements ResponseBodyAdvice<Object> {
+
+    static final String ROWS_ATTRIBUTE = ResponseSizeAdvice.class.getName() + ".rows";
+    static final String LAPS_ATTRIBUTE = ResponseSizeAdvice.class.getName() + ".laps";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest servletRequest) {
+            Integer rows = rows(body);
+            Integer laps = laps(body);
+            if (rows != null) {
+                servletRequest.getServletRequest().setAttribute(ROWS_ATTRIBUTE, rows);
+            }
+            if (laps != null) {
+                servletRequest.getServletRequest().setAttribute(LAPS_ATTRIBUTE, laps);
+            }
+        }
+        return body;
+    }
+
+    private static Integer rows(Object body) {
+        if (body instanceof LapTimeAnalysisResponseDTO analysis) {
+            return size(analysis.getDriverAnalyses());
+        } else if (body instanceof LapTimesResponseDTO lapTimes) {
+            return size(lapTimes.getDriverLapTimes());
+        } else if (body instanceof ResultsResponseDTO results) {
+            return size(results.getResults());
+        } else if (body instanceof TeamsResponseDTO teams) {
+            return size(teams.getTeams());
+        } else if (body instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        return null;
+    }
+
+    private static Integer laps(Object body) {
+        if (body instanceof LapTimeAnalysisResponseDTO analysis && analysis.getOverallAnalysis() != null) {
+            return analysis.getOverallAnalysis().getTotalLapCount();
+        } else if (body instanceof LapTimesResponseDTO lapTimes && lapTimes.getDriverLapTimes() != null) {
+            return lapTimes.getDriverLapTimes().stream()
+                    .map(DriverLapTimesDTO::getLapTimes)
+                    .mapToInt(ResponseSizeAdvice::size)
+                    .sum();
+        }
+        return null;
+    }
+
+    private static int size(Collection<?> collection) {
+        return collection == null ? 0 : collection.size();
+    }
+}
@@ -0,0 +1,31 @@
+package com.arjunakankipati.racingstatanalysis.metrics;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Actuator endpoint at {@code /actuator/slo} summarizing the error budget burn of each latency objective.
+ */
+@Component
+@Endpoint(id = "slo")
+public class SloEndpoint {
+
+    private final SloTracker tracker;
+
+    public SloEndpoint(SloTracker tracker) {
+        this.tracker = tracker;
+    }
+
+    /**
+     * Lists the objectives with their burn rates over the last five minutes and the last hour.
+     *
+     * @return the status of each objective
+     */
+    @ReadOperation
+    public List<SloTracker.ObjectiveStatus> slo() {
+        return tracker.status();
+    }
+}
@@ -0,0 +1,174 @@
+package com.arjunakankipati.racingstatanalysis.metrics;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Tracks the latency objectives of the heavy read endpoints and how fast each is burning its error budget.
+ * A request breaches its objective when it is slower than the objective's threshold or fails. Requests are
+ * counted in one-minute slots covering the last hour, and the burn rate over a window is the share of
+ * breaching requests divided by the share the target allows: 1 spends the budget exactly at the rate the
+ * target permits, and anything above it exhausts the budget early.
+ */
+@Component
+public class SloTracker {
+
+    public static final String LAP_TIME_ANALYSIS = "laptimeanalysis";
+    public static final String LAP_TIMES = "laptimes";
+    public static final String RESULTS = "results";
+    public static final String TEAMS = "teams";
+
+    private static final int SLOTS = 60;
+    private static final long SLOT_MILLIS = TimeUnit.MINUTES.toMillis(1);
+    private static final int SHORT_WINDOW_SLOTS = 5;
+
+    private final double target;
+    private final Map<String, Objective> objectives;
+    private final LongSupplier currentMillis;
+
+    /**
+     * Creates the tracker with the thresholds of the heavy endpoints.
+     *
+     * @param target            the share of requests that must meet their threshold, such as 0.99
+     * @param lapTimeAnalysisMs the latency threshold of the lap time analysis endpoint
+     * @param lapTimesMs        the latency threshold of the session lap times endpoint
+     * @param resultsMs         the latency threshold of the session results endpoint
+     * @param teamsMs           the latency threshold of the event teams endpoint
+     */
+    @Autowired
+    public SloTracker(@Value("${slo.target:0.99}") double target,
+                      @Value("${slo.laptimeanalysis.threshold-ms:2000}") long lapTimeAnalysisMs,
+                      @Value("${slo.laptimes.threshold-ms:1000}") long lapTimesMs,
+                      @Value("${slo.results.threshold-ms:500}") long resultsMs,
+                      @Value("${slo.teams.threshold-ms:500}") long teamsMs) {
+        this(target, orderedThresholds(lapTimeAnalysisMs, lapTimesMs, resultsMs, teamsMs), System::currentTimeMillis);
+    }
+
+    SloTracker(double target, Map<String, Long> thresholdsMs, LongSupplier currentMillis) {
+        if (target <= 0 || target >= 1) {
+            throw new IllegalArgumentException("slo.target must be between 0 and 1 exclusive");
+        }
+        this.target = target;
+        this.currentMillis = currentMillis;
+        this.objectives = new LinkedHashMap<>();
+        thresholdsMs.forEach((name, thresholdMs) -> objectives.put(name, new Objective(thresholdMs)));
+    }
+
+    /**
+     * Records a request against an objective. Requests for unknown objectives are ignored.
+     *
+     * @param objective    the name of the objective
+     * @param elapsedNanos how long the request took
+     * @param failed       whether the request failed
+     */
+    public void record(String objective, long elapsedNanos, boolean failed) {
+        Objective tracked = objectives.get(objective);
+        if (tracked != null) {
+            boolean breached = failed || elapsedNanos > TimeUnit.MILLISECONDS.toNanos(tracked.thresholdMs);
+            tracked.record(currentSlot(), breached);
+        }
+    }
+
+    /**
+     * Summarizes every objective over the last five minutes and the last hour.
+     *
+     * @return the status of each objective
+     */
+    public List<ObjectiveStatus> status() {
+        long slot = currentSlot();
+        return objectives.entrySet().stream()
+                .map(entry -> new ObjectiveStatus(entry.getKey(), entry.getValue().thresholdMs, target,
+                        window(entry.getValue(), slot, SHORT_WINDOW_SLOTS),
+                        window(entry.getValue(), slot, SLOTS)))
+                .toList();
+    }
+
+    private Window window(Objective objective, long slot, int slots) {
+        long[] counts = objective.counts(slot, slots);
+        long requests = counts[0];
+        long breaches = counts[1];
+        double burnRate = requests == 0 ? 0 : (breaches / (double) requests) / (1 - target);
+        return new Window(requests, breaches, burnRate);
+    }
+
+    private long currentSlot() {
+        return currentMillis.getAsLong() / SLOT_MILLIS;
+    }
+
+    private static Map<String, Long> orderedThresholds(long lapTimeAnalysisMs, long lapTimesMs, long resultsMs, long teamsMs) {
+        Map<String, Long> thresholds = new LinkedHashMap<>();
+        thresholds.put(LAP_TIME_ANALYSIS, lapTimeAnalysisMs);
+        thresholds.put(LAP_TIMES, lapTimesMs);
+        thresholds.put(RESULTS, resultsMs);
+        thresholds.put(TEAMS, teamsMs);
+        return thresholds;
+    }
+
+    /**
+     * The state of one objective.
+     *
+     * @param name        the name of the objective
+     * @param thresholdMs the latency threshold in milliseconds
+     * @param target      the share of requests that must meet the threshold
+     * @param last5m      the requests of the last five minutes
+     * @param last1h      the requests of the last hour
+     */
+    public record ObjectiveStatus(String name, long thresholdMs, double target, Window last5m, Window last1h) {
+    }
+
+    /**
+     * Requests counted over a window.
+     *
+     * @param requests the number of requests
+     * @param breaches the number of requests that were too slow or failed
+     * @param burnRate the rate the error budget is being spent, relative to the rate the target allows
+     */
+    public record Window(long requests, long breaches, double burnRate) {
+    }
+
+    /**
+     * Request counts of one objective in a ring of one-minute slots.
+     */
+    private static final class Objective {
+        private final long thresholdMs;
+        private final long[] slotIds = new long[SLOTS];
+        private final long[] requests = new long[SLOTS];
+        private final long[] breaches = new long[SLOTS];
+
+        Objective(long thresholdMs) {
+            this.thresholdMs = thresholdMs;
+        }
+
+        synchronized void record(long slot, boolean breached) {
+            int index = (int) (slot % SLOTS);
+            if (slotIds[index] != slot) {
+                // The slot last held a minute that has left the window
+                slotIds[index] = slot;
+                requests[index] = 0;
+                breaches[index] = 0;
+            }
+            requests[index]++;
+            if (breached) {
+                breaches[index]++;
+            }
+        }
+
+        synchronized long[] counts(long slot, int slots) {
+            long[] counts = new long[2];
+            for (int i = 0; i < SLOTS; i++) {
+                if (slotIds[i] > slot - slots && slotIds[i] <= slot) {
+                    counts[0] += requests[i];
+                    counts[1] += breaches[i];
+                }
+            }
+            return counts;
+        }
+    }
+}
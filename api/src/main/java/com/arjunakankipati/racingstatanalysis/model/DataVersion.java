@@ -0,0 +1,34 @@
+package com.arjunakankipati.racingstatanalysis.model;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Version of the imported data behind a session or an event, used to answer conditional requests.
+ * The version changes whenever an import into the session (or one of the event's sessions) finishes.
+ *
+ * @param version   a number that changes whenever the data changes
+ * @param updatedAt when the data last changed, or null if unknown
+ */
+public record DataVersion(long version, LocalDateTime updatedAt) {
+
+    /**
+     * Builds a strong entity tag for a resource at this version.
+     *
+     * @param resource a name for the resource, unique among resources sharing the version
+     * @return the quoted entity tag
+     */
+    public String eTag(String resource) {
+        return "\"" + resource + "-v" + version + "\"";
+    }
+
+    /**
+     * Gets the last modification time for a Last-Modified header.
+     *
+     * @return the epoch milliseconds, or -1 if unknown
+     */
+    public long lastModifiedMillis() {
+        // Timestamps are written by the database in the connection's time zone, which is the JVM default
+        return updatedAt == null ? -1 : updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
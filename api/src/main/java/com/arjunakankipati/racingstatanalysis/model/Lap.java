@@ -13,8 +13,8 @@ public class Lap implements BaseEntity<Long> {
     private Long carEntryId;
     private Long driverId;
     private Integer lapNumber;
-    private BigDecimal lapTimeSeconds;
-    private BigDecimal sessionElapsedSeconds;
+    private LapTime lapTime;
+    private LapTime sessionElapsed;
     private LocalDateTime timestamp;
     private BigDecimal averageSpeedKph;
 
@@ -31,19 +31,19 @@ public class Lap implements BaseEntity<Long> {
      * @param carEntryId the ID of the car that completed the lap
      * @param driverId the ID of the driver who drove the lap
      * @param lapNumber the number of the lap
-     * @param lapTimeSeconds the time taken to complete the lap in seconds
-     * @param sessionElapsedSeconds the elapsed time of the session when the lap was completed in seconds
+     * @param lapTime the time taken to complete the lap
+     * @param sessionElapsed the elapsed time of the session when the lap was completed
      * @param timestamp the timestamp when the lap was completed
      * @param averageSpeedKph the average speed of the lap in kilometers per hour
      */
-    public Lap(Long id, Long carEntryId, Long driverId, Integer lapNumber, BigDecimal lapTimeSeconds,
-               BigDecimal sessionElapsedSeconds, LocalDateTime timestamp, BigDecimal averageSpeedKph) {
+    public Lap(Long id, Long carEntryId, Long driverId, Integer lapNumber, LapTime lapTime,
+               LapTime sessionElapsed, LocalDateTime timestamp, BigDecimal averageSpeedKph) {
         this.id = id;
         this.carEntryId = carEntryId;
         this.driverId = driverId;
         this.lapNumber = lapNumber;
-        this.lapTimeSeconds = lapTimeSeconds;
-        this.sessionElapsedSeconds = sessionElapsedSeconds;
+        this.lapTime = lapTime;
+        this.sessionElapsed = sessionElapsed;
         this.timestamp = timestamp;
         this.averageSpeedKph = averageSpeedKph;
     }
@@ -123,39 +123,39 @@ public class Lap implements BaseEntity<Long> {
     }
 
     /**
-     * Gets the time taken to complete the lap in seconds.
+     * Gets the time taken to complete the lap.
      *
-     * @return the lap time in seconds
+     * @return the lap time
      */
-    public BigDecimal getLapTimeSeconds() {
-        return lapTimeSeconds;
+    public LapTime getLapTime() {
+        return lapTime;
     }
 
     /**
-     * Sets the time taken to complete the lap in seconds.
+     * Sets the time taken to complete the lap.
      *
-     * @param lapTimeSeconds the lap time in seconds to set
+     * @param lapTime the lap time to set
      */
-    public void setLapTimeSeconds(BigDecimal lapTimeSeconds) {
-        this.lapTimeSeconds = lapTimeSeconds;
+    public void setLapTime(LapTime lapTime) {
+        this.lapTime = lapTime;
     }
 
     /**
-     * Gets the elapsed time of the session when the lap was completed in seconds.
+     * Gets the elapsed time of the session when the lap was completed.
      *
-     * @return the session elapsed time in seconds
+     * @return the session elapsed time
      */
-    public BigDecimal getSessionElapsedSeconds() {
-        return sessionElapsedSeconds;
+    public LapTime getSessionElapsed() {
+        return sessionElapsed;
     }
 
     /**
-     * Sets the elapsed time of the session when the lap was completed in seconds.
+     * Sets the elapsed time of the session when the lap was completed.
      *
-     * @param sessionElapsedSeconds the session elapsed time in seconds to set
+     * @param sessionElapsed the session elapsed time to set
      */
-    public void setSessionElapsedSeconds(BigDecimal sessionElapsedSeconds) {
-        this.sessionElapsedSeconds = sessionElapsedSeconds;
+    public void setSessionElapsed(LapTime sessionElapsed) {
+        this.sessionElapsed = sessionElapsed;
     }
 
     /**
@@ -203,15 +203,15 @@ public class Lap implements BaseEntity<Long> {
                 Objects.equals(carEntryId, lap.carEntryId) &&
                 Objects.equals(driverId, lap.driverId) &&
                 Objects.equals(lapNumber, lap.lapNumber) &&
-                Objects.equals(lapTimeSeconds, lap.lapTimeSeconds) &&
-                Objects.equals(sessionElapsedSeconds, lap.sessionElapsedSeconds) &&
+                Objects.equals(lapTime, lap.lapTime) &&
+                Objects.equals(sessionElapsed, lap.sessionElapsed) &&
                 Objects.equals(timestamp, lap.timestamp) &&
                 Objects.equals(averageSpeedKph, lap.averageSpeedKph);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, carEntryId, driverId, lapNumber, lapTimeSeconds, sessionElapsedSeconds,
+        return Objects.hash(id, carEntryId, driverId, lapNumber, lapTime, sessionElapsed,
                 timestamp, averageSpeedKph);
     }
 
@@ -222,8 +222,8 @@ public class Lap implements BaseEntity<Long> {
                 ", carId=" + carEntryId +
                 ", driverId=" + driverId +
                 ", lapNumber=" + lapNumber +
-                ", lapTimeSeconds=" + lapTimeSeconds +
-                ", sessionElapsedSeconds=" + sessionElapsedSeconds +
+                ", lapTime=" + lapTime +
+                ", sessionElapsed=" + sessionElapsed +
                 ", timestamp=" + timestamp +
                 ", averageSpeedKph=" + averageSpeedKph + '\'' +
                 '}';
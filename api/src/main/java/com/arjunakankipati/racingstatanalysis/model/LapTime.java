@@ -0,0 +1,192 @@
+package com.arjunakankipati.racingstatanalysis.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * A lap, sector or elapsed time held as whole milliseconds.
+ * Timing data is published to the millisecond, so a long is exact; parsing, comparing and formatting
+ * work on the long directly instead of going through doubles or BigDecimal arithmetic.
+ * In JSON a lap time is written as seconds with millisecond scale, matching the database columns.
+ *
+ * @param millis the time in milliseconds
+ */
+public record LapTime(long millis) implements Comparable<LapTime> {
+
+    /**
+     * A time of zero.
+     */
+    public static final LapTime ZERO = new LapTime(0);
+
+    private static final int MILLIS_SCALE = 3;
+
+    /**
+     * Creates a time from milliseconds.
+     *
+     * @param millis the time in milliseconds
+     * @throws IllegalArgumentException if the time is negative
+     */
+    public LapTime {
+        if (millis < 0) {
+            throw new IllegalArgumentException("Lap time cannot be negative: " + millis);
+        }
+    }
+
+    /**
+     * Creates a time from milliseconds.
+     *
+     * @param millis the time in milliseconds
+     * @return the time
+     */
+    public static LapTime ofMillis(long millis) {
+        return millis == 0 ? ZERO : new LapTime(millis);
+    }
+
+    /**
+     * Creates a time from seconds, rounding to the nearest millisecond.
+     *
+     * @param seconds the time in seconds, or null
+     * @return the time, or null if seconds is null
+     */
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    public static LapTime ofSeconds(BigDecimal seconds) {
+        if (seconds == null) {
+            return null;
+        }
+        return ofMillis(seconds.setScale(MILLIS_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact());
+    }
+
+    /**
+     * Parses a time written as {@code ss.SSS}, {@code m:ss.SSS} or {@code h:mm:ss.SSS}.
+     *
+     * @param text the time
+     * @return the time
+     * @throws IllegalArgumentException if the text is not a valid time
+     */
+    public static LapTime parse(String text) {
+        String trimmed = text.trim();
+        return ofMillis(parseMillis(trimmed.toCharArray(), 0, trimmed.length()));
+    }
+
+    /**
+     * Parses a time written as {@code ss.SSS}, {@code m:ss.SSS} or {@code h:mm:ss.SSS} from a range of a char buffer,
+     * without allocating. Fractions with fewer than three digits are scaled (so {@code .5} is 500 ms) and digits
+     * beyond milliseconds are truncated.
+     *
+     * @param chars the buffer
+     * @param start the first char of the time
+     * @param end   the char after the last char of the time
+     * @return the time in milliseconds
+     * @throws IllegalArgumentException if the range is not a valid time
+     */
+    public static long parseMillis(char[] chars, int start, int end) {
+        long wholeSeconds = 0;
+        long segment = 0;
+        int separators = 0;
+        boolean digitsInSegment = false;
+        int i = start;
+        for (; i < end; i++) {
+            char c = chars[i];
+            if (c >= '0' && c <= '9') {
+                segment = segment * 10 + (c - '0');
+                digitsInSegment = true;
+            } else if (c == ':' && digitsInSegment && separators < 2) {
+                wholeSeconds = (wholeSeconds + segment) * 60;
+                segment = 0;
+                separators++;
+                digitsInSegment = false;
+            } else if (c == '.') {
+                break;
+            } else {
+                throw invalid(chars, start, end);
+            }
+        }
+        if (!digitsInSegment) {
+            throw invalid(chars, start, end);
+        }
+        long millis = (wholeSeconds + segment) * 1000;
+
+        if (i < end) {
+            // Fractional seconds: scale to milliseconds
+            int scale = 100;
+            for (i++; i < end; i++) {
+                int digit = chars[i] - '0';
+                if (digit < 0 || digit > 9) {
+                    throw invalid(chars, start, end);
+                }
+                millis += (long) digit * scale;
+                scale /= 10;
+            }
+        }
+        return millis;
+    }
+
+    /**
+     * Gets the time in seconds with millisecond scale, as stored in the database.
+     *
+     * @return the time in seconds
+     */
+    @JsonValue
+    public BigDecimal toSeconds() {
+        return BigDecimal.valueOf(millis, MILLIS_SCALE);
+    }
+
+    /**
+     * Gets the whole seconds of the time, dropping the milliseconds.
+     *
+     * @return the whole seconds
+     */
+    public long wholeSeconds() {
+        return millis / 1000;
+    }
+
+    /**
+     * Formats the time as {@code m:ss.SSS}; minutes are not wrapped into hours.
+     *
+     * @return the formatted time
+     */
+    public String format() {
+        return formatTo(new StringBuilder(12)).toString();
+    }
+
+    /**
+     * Appends the time formatted as {@code m:ss.SSS} to a builder.
+     *
+     * @param builder the builder
+     * @return the builder
+     */
+    public StringBuilder formatTo(StringBuilder builder) {
+        long minutes = millis / 60_000;
+        int seconds = (int) (millis / 1000 % 60);
+        int fraction = (int) (millis % 1000);
+        builder.append(minutes).append(':');
+        if (seconds < 10) {
+            builder.append('0');
+        }
+        builder.append(seconds).append('.');
+        if (fraction < 100) {
+            builder.append('0');
+        }
+        if (fraction < 10) {
+            builder.append('0');
+        }
+        return builder.append(fraction);
+    }
+
+    @Override
+    public int compareTo(LapTime other) {
+        return Long.compare(millis, other.millis);
+    }
+
+    @Override
+    public String toString() {
+        return format();
+    }
+
+    private static IllegalArgumentException invalid(char[] chars, int start, int end) {
+        return new IllegalArgumentException("Invalid time format: " + new String(chars, start, end - start));
+    }
+}
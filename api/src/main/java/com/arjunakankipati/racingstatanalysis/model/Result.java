@@ -17,14 +17,14 @@ public class Result implements BaseEntity<Long> {
     private String gapFirst;
     private String gapPrevious;
     private Integer flLapnum;
-    private String flTime;
+    private LapTime flTime;
     private BigDecimal flKph;
     private Integer position;
 
     public Result() {
     }
 
-    public Result(Long id, Long sessionId, Long carEntryId, String carNumber, String tires, String status, Integer laps, String totalTime, String gapFirst, String gapPrevious, Integer flLapnum, String flTime, BigDecimal flKph, Integer position) {
+    public Result(Long id, Long sessionId, Long carEntryId, String carNumber, String tires, String status, Integer laps, String totalTime, String gapFirst, String gapPrevious, Integer flLapnum, LapTime flTime, BigDecimal flKph, Integer position) {
         this.id = id;
         this.sessionId = sessionId;
         this.carEntryId = carEntryId;
@@ -131,11 +131,11 @@ public class Result implements BaseEntity<Long> {
         this.flLapnum = flLapnum;
     }
 
-    public String getFlTime() {
+    public LapTime getFlTime() {
         return flTime;
     }
 
-    public void setFlTime(String flTime) {
+    public void setFlTime(LapTime flTime) {
         this.flTime = flTime;
     }
 
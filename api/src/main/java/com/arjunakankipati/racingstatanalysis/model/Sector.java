@@ -1,6 +1,5 @@
 package com.arjunakankipati.racingstatanalysis.model;
 
-import java.math.BigDecimal;
 import java.util.Objects;
 
 /**
@@ -11,7 +10,7 @@ public class Sector implements BaseEntity<Long> {
     private Long id;
     private Long lapId;
     private Integer sectorNumber;
-    private BigDecimal sectorTimeSeconds;
+    private LapTime sectorTime;
     private Boolean isPersonalBest;
     private Boolean isSessionBest;
 
@@ -27,16 +26,16 @@ public class Sector implements BaseEntity<Long> {
      * @param id the ID of the sector
      * @param lapId the ID of the lap this sector belongs to
      * @param sectorNumber the number of the sector
-     * @param sectorTimeSeconds the time taken to complete the sector in seconds
+     * @param sectorTime the time taken to complete the sector
      * @param isPersonalBest whether the sector time is the personal best for the driver
      * @param isSessionBest whether the sector time is the best in the session
      */
-    public Sector(Long id, Long lapId, Integer sectorNumber, BigDecimal sectorTimeSeconds,
+    public Sector(Long id, Long lapId, Integer sectorNumber, LapTime sectorTime,
                   Boolean isPersonalBest, Boolean isSessionBest) {
         this.id = id;
         this.lapId = lapId;
         this.sectorNumber = sectorNumber;
-        this.sectorTimeSeconds = sectorTimeSeconds;
+        this.sectorTime = sectorTime;
         this.isPersonalBest = isPersonalBest;
         this.isSessionBest = isSessionBest;
     }
@@ -98,21 +97,21 @@ public class Sector implements BaseEntity<Long> {
     }
 
     /**
-     * Gets the time taken to complete the sector in seconds.
+     * Gets the time taken to complete the sector.
      *
-     * @return the sector time in seconds
+     * @return the sector time
      */
-    public BigDecimal getSectorTimeSeconds() {
-        return sectorTimeSeconds;
+    public LapTime getSectorTime() {
+        return sectorTime;
     }
 
     /**
-     * Sets the time taken to complete the sector in seconds.
+     * Sets the time taken to complete the sector.
      *
-     * @param sectorTimeSeconds the sector time in seconds to set
+     * @param sectorTime the sector time to set
      */
-    public void setSectorTimeSeconds(BigDecimal sectorTimeSeconds) {
-        this.sectorTimeSeconds = sectorTimeSeconds;
+    public void setSectorTime(LapTime sectorTime) {
+        this.sectorTime = sectorTime;
     }
 
     /**
@@ -159,14 +158,14 @@ public class Sector implements BaseEntity<Long> {
         return Objects.equals(id, sector.id) &&
                 Objects.equals(lapId, sector.lapId) &&
                 Objects.equals(sectorNumber, sector.sectorNumber) &&
-                Objects.equals(sectorTimeSeconds, sector.sectorTimeSeconds) &&
+                Objects.equals(sectorTime, sector.sectorTime) &&
                 Objects.equals(isPersonalBest, sector.isPersonalBest) &&
                 Objects.equals(isSessionBest, sector.isSessionBest);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, lapId, sectorNumber, sectorTimeSeconds, isPersonalBest, isSessionBest);
+        return Objects.hash(id, lapId, sectorNumber, sectorTime, isPersonalBest, isSessionBest);
     }
 
     @Override
@@ -175,7 +174,7 @@ public class Sector implements BaseEntity<Long> {
                 "id=" + id +
                 ", lapId=" + lapId +
                 ", sectorNumber=" + sectorNumber +
-                ", sectorTimeSeconds=" + sectorTimeSeconds +
+                ", sectorTime=" + sectorTime +
                 ", isPersonalBest=" + isPersonalBest +
                 ", isSessionBest=" + isSessionBest + '\'' +
                 '}';
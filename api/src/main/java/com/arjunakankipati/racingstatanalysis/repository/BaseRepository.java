@@ -2,8 +2,10 @@ package com.arjunakankipati.racingstatanalysis.repository;
 
 import com.arjunakankipati.racingstatanalysis.model.BaseEntity;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Base repository interface for CRUD operations on entities.
@@ -20,6 +22,15 @@ public interface BaseRepository<T extends BaseEntity<ID>, ID> {
      */
     List<T> findAll();
 
+    /**
+     * Stream all entities over a database cursor, so large tables are never held in memory at once.
+     * PostgreSQL only reads through a cursor inside a transaction; outside one the whole table is fetched.
+     * The stream holds a connection and must be closed, e.g. with try-with-resources.
+     *
+     * @return a stream of all entities
+     */
+    Stream<T> streamAll();
+
     /**
      * Find an entity by its ID.
      *
@@ -28,6 +39,14 @@ public interface BaseRepository<T extends BaseEntity<ID>, ID> {
      */
     Optional<T> findById(ID id);
 
+    /**
+     * Find all entities with the given IDs, using a single query.
+     *
+     * @param ids the IDs of the entities to find
+     * @return the found entities in no particular order; IDs that do not exist are skipped
+     */
+    List<T> findAllById(Collection<ID> ids);
+
     /**
      * Save an entity.
      * If the entity has an ID, it will be updated; otherwise, it will be inserted.
@@ -37,6 +56,15 @@ public interface BaseRepository<T extends BaseEntity<ID>, ID> {
      */
     T save(T entity);
 
+    /**
+     * Save several entities in bulk.
+     * New entities are inserted with multi-row inserts; existing ones are updated in one JDBC batch.
+     *
+     * @param entities the entities to save
+     * @return the saved entities in the same order, with IDs populated for inserted ones
+     */
+    List<T> saveAll(List<T> entities);
+
     /**
      * Delete an entity by its ID.
      *
@@ -45,6 +73,14 @@ public interface BaseRepository<T extends BaseEntity<ID>, ID> {
      */
     boolean deleteById(ID id);
 
+    /**
+     * Delete all entities with the given IDs, using a single statement.
+     *
+     * @param ids the IDs of the entities to delete
+     * @return the number of entities deleted
+     */
+    int deleteAllById(Collection<ID> ids);
+
     /**
      * Count the number of entities.
      *
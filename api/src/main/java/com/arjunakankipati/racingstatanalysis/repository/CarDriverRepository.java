@@ -2,6 +2,7 @@ package com.arjunakankipati.racingstatanalysis.repository;
 
 import com.arjunakankipati.racingstatanalysis.model.CarDriver;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -36,4 +37,20 @@ public interface CarDriverRepository extends BaseRepository<CarDriver, Long> {
      * @return an Optional containing the found car driver, or empty if not found
      */
     Optional<CarDriver> findByCarIdAndDriverNumber(Long carId, Integer driverNumber);
-}
\ No newline at end of file
+
+    /**
+     * Find all car drivers of the car entries in a session.
+     *
+     * @param sessionId the ID of the session
+     * @return a list of car drivers for the session
+     */
+    List<CarDriver> findBySessionId(Long sessionId);
+
+    /**
+     * Create car-driver associations, skipping any car and driver pair that already exists.
+     *
+     * @param carDrivers the associations to create
+     * @return the number of associations created
+     */
+    int createAllIfAbsent(Collection<CarDriver> carDrivers);
+}
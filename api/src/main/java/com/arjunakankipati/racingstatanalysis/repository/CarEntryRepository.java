@@ -1,7 +1,9 @@
 package com.arjunakankipati.racingstatanalysis.repository;
 
+import com.arjunakankipati.racingstatanalysis.dto.CarEntryDTO;
 import com.arjunakankipati.racingstatanalysis.model.CarEntry;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,6 +32,15 @@ public interface CarEntryRepository extends BaseRepository<CarEntry, Long> {
      */
     List<CarEntry> findByEventIdAndClassId(Long eventId, Long classId);
 
+    /**
+     * Find the car entries of a class in an event together with their car models, using a single query.
+     *
+     * @param eventId the ID of the event
+     * @param classId the ID of the class
+     * @return the car entries, ordered by ID, each with its car model if it has one
+     */
+    List<CarEntryDTO> findCarsWithModelsByEventIdAndClassId(Long eventId, Long classId);
+
     /**
      * Find a car entry by session ID and car number.
      *
@@ -38,4 +49,14 @@ public interface CarEntryRepository extends BaseRepository<CarEntry, Long> {
      * @return an Optional containing the found car entry, or empty if not found
      */
     Optional<CarEntry> findBySessionIdAndNumber(Long sessionId, String number);
-}
\ No newline at end of file
+
+    /**
+     * Find the car entries of a session by number, creating any that do not exist yet.
+     * Existing entries are returned unchanged. Uses one insert that skips existing numbers and one select.
+     *
+     * @param sessionId  the ID of the session
+     * @param carEntries the car entries to find or create, one per number
+     * @return the persisted car entries for the given numbers
+     */
+    List<CarEntry> findOrCreateAll(Long sessionId, Collection<CarEntry> carEntries);
+}
@@ -2,6 +2,9 @@ package com.arjunakankipati.racingstatanalysis.repository;
 
 import com.arjunakankipati.racingstatanalysis.model.CarModel;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -16,4 +19,21 @@ public interface CarModelRepository extends BaseRepository<CarModel, Long> {
      * @return an Optional containing the found car model, or empty if not found
      */
     Optional<CarModel> findByName(String name);
-}
\ No newline at end of file
+
+    /**
+     * Find car models by name, creating any that do not exist yet with the name as their full name.
+     *
+     * @param names the car model names
+     * @return every requested car model with its ID, keyed by its exact name
+     */
+    Map<String, CarModel> findOrCreateByNames(Collection<String> names);
+
+    /**
+     * Find the distinct car models entered in a class at an event, using a single query.
+     *
+     * @param eventId the ID of the event
+     * @param classId the ID of the class
+     * @return the car models, ordered by ID
+     */
+    List<CarModel> findByEventIdAndClassId(Long eventId, Long classId);
+}
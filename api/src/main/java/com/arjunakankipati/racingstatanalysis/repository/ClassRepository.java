@@ -2,7 +2,9 @@ package com.arjunakankipati.racingstatanalysis.repository;
 
 import com.arjunakankipati.racingstatanalysis.model.Class;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -45,4 +47,14 @@ public interface ClassRepository extends BaseRepository<Class, Long> {
      * @return a list of classes that competed in the event
      */
     List<Class> findByEventId(Long eventId);
-}
\ No newline at end of file
+
+    /**
+     * Find classes of a series by name, creating any that do not exist yet in that series.
+     * A class of the same name in another series is never returned.
+     *
+     * @param seriesId the ID of the series
+     * @param names    the class names
+     * @return every requested class of the series with its ID, keyed by its exact name
+     */
+    Map<String, Class> findOrCreateByNames(Long seriesId, Collection<String> names);
+}
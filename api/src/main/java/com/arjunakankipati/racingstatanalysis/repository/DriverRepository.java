@@ -1,7 +1,10 @@
 package com.arjunakankipati.racingstatanalysis.repository;
 
+import com.arjunakankipati.racingstatanalysis.dto.DriverWithTeamDTO;
 import com.arjunakankipati.racingstatanalysis.model.Driver;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -26,4 +29,31 @@ public interface DriverRepository extends BaseRepository<Driver, Long> {
      * @return an Optional containing the found driver, or empty if not found
      */
     Optional<Driver> findByName(String name);
-}
\ No newline at end of file
+
+    /**
+     * Find all drivers assigned to a car entry in a session.
+     *
+     * @param sessionId the ID of the session
+     * @return a list of distinct drivers for the session
+     */
+    List<Driver> findBySessionId(Long sessionId);
+
+    /**
+     * Find the drivers of an event with the team, car number and car model they drove for, using a single query.
+     * A driver who shared the same car across several sessions is listed once.
+     *
+     * @param eventId    the ID of the event
+     * @param carModelId optional filter by car model ID
+     * @param classId    optional filter by class ID
+     * @return the drivers, ordered by name
+     */
+    List<DriverWithTeamDTO> findDriversWithTeamsByEventId(Long eventId, Optional<Long> carModelId, Optional<Long> classId);
+
+    /**
+     * Find drivers by first and last name, creating any that do not exist yet.
+     *
+     * @param drivers the drivers to find or create; only first and last names are used
+     * @return one persisted driver with its ID per distinct first and last name, in no particular order
+     */
+    List<Driver> findOrCreateAll(Collection<Driver> drivers);
+}
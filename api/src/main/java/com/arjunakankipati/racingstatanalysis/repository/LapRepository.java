@@ -1,5 +1,6 @@
 package com.arjunakankipati.racingstatanalysis.repository;
 
+import com.arjunakankipati.racingstatanalysis.analysis.SessionLaps;
 import com.arjunakankipati.racingstatanalysis.dto.DriverLapTimeAnalysisDTO;
 import com.arjunakankipati.racingstatanalysis.dto.DriverLapTimesDTO;
 import com.arjunakankipati.racingstatanalysis.dto.LapTimeAnalysisDTO;
@@ -38,19 +39,22 @@ public interface LapRepository extends BaseRepository<Lap, Long> {
      * Calculate lap time analysis for an event with optional filters.
      * This method uses SQL to calculate the average of the top percentage of valid lap times,
      * the fastest lap time, the median lap time, and the total lap count.
+     * Every lap is ranked once, so each extra percentage only adds a filtered average to the same pass.
      *
-     * @param eventId    the ID of the event
-     * @param percentage the percentage of top laps to include in the average calculation (default: 20)
-     * @param classId    optional filter by class ID
-     * @param carId      optional filter by car model ID
-     * @param sessionId  optional filter by session ID
-     * @param offset     optional pagination offset
-     * @param limit      optional pagination limit
+     * @param eventId     the ID of the event
+     * @param percentage  the percentage of top laps to include in the average calculation (default: 20)
+     * @param percentages further top percentages to report averages for, possibly empty
+     * @param classId     optional filter by class ID
+     * @param carId       optional filter by car model ID
+     * @param sessionId   optional filter by session ID
+     * @param offset      optional pagination offset
+     * @param limit       optional pagination limit
      * @return a DTO containing the lap time analysis
      */
     LapTimeAnalysisDTO calculateLapTimeAnalysisForEvent(
             Long eventId,
             int percentage,
+            List<Integer> percentages,
             Optional<Long> classId,
             Optional<Long> carId,
             Optional<Long> sessionId,
@@ -63,18 +67,20 @@ public interface LapRepository extends BaseRepository<Lap, Long> {
      * the fastest lap time, the median lap time, and the total lap count for each driver.
      * Results are ordered by the average lap time for paging purposes.
      *
-     * @param eventId    the ID of the event
-     * @param percentage the percentage of top laps to include in the average calculation (default: 20)
-     * @param classId    optional filter by class ID
-     * @param carId      optional filter by car model ID
-     * @param sessionId  optional filter by session ID
-     * @param offset     optional pagination offset
-     * @param limit      optional pagination limit
+     * @param eventId     the ID of the event
+     * @param percentage  the percentage of top laps to include in the average calculation (default: 20)
+     * @param percentages further top percentages to report averages for, possibly empty
+     * @param classId     optional filter by class ID
+     * @param carId       optional filter by car model ID
+     * @param sessionId   optional filter by session ID
+     * @param offset      optional pagination offset
+     * @param limit       optional pagination limit
      * @return a list of DTOs containing driver-specific lap time analysis
      */
     List<DriverLapTimeAnalysisDTO> calculateLapTimeAnalysisPerDriverForEvent(
             Long eventId,
             int percentage,
+            List<Integer> percentages,
             Optional<Long> classId,
             Optional<Long> carId,
             Optional<Long> sessionId,
@@ -97,4 +103,48 @@ public interface LapRepository extends BaseRepository<Lap, Long> {
      * @return the list of inserted laps (with IDs populated)
      */
     List<Lap> saveAll(List<Lap> laps);
+
+    /**
+     * Reserve a block of lap IDs from the laps identity sequence.
+     * The reserved IDs can be assigned to laps (and their sectors) before the laps are written,
+     * so bulk loads do not depend on the order of returned rows.
+     *
+     * @param count the number of IDs to reserve
+     * @return the reserved IDs
+     */
+    List<Long> reserveIds(int count);
+
+    /**
+     * Bulk load laps with PostgreSQL COPY.
+     * Every lap must already have an ID, typically from {@link #reserveIds(int)}.
+     *
+     * @param laps the laps to load
+     * @return the number of laps loaded
+     */
+    long copyAll(List<Lap> laps);
+
+    /**
+     * Delete every lap of a session, with its sectors.
+     *
+     * @param sessionId the ID of the session
+     * @return the number of laps deleted
+     */
+    int deleteBySessionId(Long sessionId);
+
+    /**
+     * Delete the laps with the same car entry, driver and lap number as any of the given laps, with their sectors.
+     *
+     * @param laps the laps whose stored counterparts to delete
+     * @return the number of laps deleted
+     */
+    int deleteByCarDriverAndLapNumber(List<Lap> laps);
+
+    /**
+     * Load every timed lap of a session, with its sectors, cars and drivers, into a columnar store.
+     * Laps without a lap time are left out.
+     *
+     * @param sessionId the ID of the session
+     * @return the session's laps, or empty if the session does not exist
+     */
+    Optional<SessionLaps> findSessionLaps(Long sessionId);
 }
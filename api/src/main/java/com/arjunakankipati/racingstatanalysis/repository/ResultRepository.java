@@ -1,5 +1,6 @@
 package com.arjunakankipati.racingstatanalysis.repository;
 
+import com.arjunakankipati.racingstatanalysis.dto.ResultsResponseDTO;
 import com.arjunakankipati.racingstatanalysis.model.Result;
 
 import java.util.List;
@@ -10,6 +11,13 @@ public interface ResultRepository extends BaseRepository<Result, Long> {
 
     List<Result> findBySessionId(Long sessionId);
 
-    List<Result> batchSave(List<Result> results);
+    /**
+     * Finds all results for a session together with each result's car entry, car model, team and drivers,
+     * using a single query.
+     *
+     * @param sessionId the ID of the session
+     * @return the session's results, ordered by result ID, with drivers ordered by driver number
+     */
+    ResultsResponseDTO findResultsWithCarsAndDriversBySessionId(Long sessionId);
     // Add more custom queries as needed
 } 
\ No newline at end of file
@@ -59,4 +59,13 @@ public interface SectorRepository extends BaseRepository<Sector, Long> {
      * @return the list of inserted sectors (with IDs populated)
      */
     List<Sector> saveAll(List<Sector> sectors);
+
+    /**
+     * Bulk load sectors with PostgreSQL COPY.
+     * Sector IDs are generated by the database and are not returned.
+     *
+     * @param sectors the sectors to load
+     * @return the number of sectors loaded
+     */
+    long copyAll(List<Sector> sectors);
 }
\ No newline at end of file
@@ -1,7 +1,9 @@
 package com.arjunakankipati.racingstatanalysis.repository;
 
+import com.arjunakankipati.racingstatanalysis.dto.SeriesResponseDTO;
 import com.arjunakankipati.racingstatanalysis.model.Series;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -17,4 +19,12 @@ public interface SeriesRepository extends BaseRepository<Series, Long> {
      * @return an Optional containing the found series, or empty if not found
      */
     Optional<Series> findByName(String name);
+
+    /**
+     * Find all series with their event count and the distinct years they have events in, using a single
+     * grouped query.
+     *
+     * @return every series ordered by ID, with years most recent first
+     */
+    List<SeriesResponseDTO> findAllWithEventCountsAndYears();
 }
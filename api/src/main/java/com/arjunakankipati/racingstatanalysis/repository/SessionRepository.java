@@ -1,8 +1,11 @@
 package com.arjunakankipati.racingstatanalysis.repository;
 
+import com.arjunakankipati.racingstatanalysis.model.DataVersion;
 import com.arjunakankipati.racingstatanalysis.model.Session;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 /**
  * Repository interface for Session entity operations.
@@ -17,4 +20,36 @@ public interface SessionRepository extends BaseRepository<Session, Long> {
      * @return a list of sessions for the given event
      */
     List<Session> findByEventId(Long eventId);
+
+    /**
+     * Find the data version of a session.
+     *
+     * @param sessionId the ID of the session
+     * @return the data version, or empty if the session does not exist
+     */
+    Optional<DataVersion> findDataVersion(Long sessionId);
+
+    /**
+     * Find the data version of each session of an event.
+     *
+     * @param eventId the ID of the event
+     * @return the data version of each of the event's sessions, keyed by session ID
+     */
+    Map<Long, Long> findDataVersionsByEventId(Long eventId);
+
+    /**
+     * Find the data version of an event. The version only ever increases: it is bumped whenever one of the
+     * event's sessions has its data version bumped, or a session is added to or removed from the event.
+     *
+     * @param eventId the ID of the event
+     * @return the data version; an event that does not exist has version 0
+     */
+    DataVersion findEventDataVersion(Long eventId);
+
+    /**
+     * Increment the data version of a session and set its data update time to now.
+     *
+     * @param sessionId the ID of the session whose data changed
+     */
+    void incrementDataVersion(Long sessionId);
 }
\ No newline at end of file
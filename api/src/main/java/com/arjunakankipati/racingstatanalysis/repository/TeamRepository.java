@@ -3,6 +3,7 @@ package com.arjunakankipati.racingstatanalysis.repository;
 import com.arjunakankipati.racingstatanalysis.dto.TeamDTO;
 import com.arjunakankipati.racingstatanalysis.model.Team;
 
+import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
 
@@ -28,4 +29,12 @@ public interface TeamRepository extends BaseRepository<Team, Long> {
      * @return a map of team IDs to TeamDTOs containing all team, car, and driver data
      */
     Map<Long, TeamDTO> findTeamsWithCarsAndDriversByEventId(Long eventId);
+
+    /**
+     * Find teams by name, creating any that do not exist yet. Existing teams are returned as stored.
+     *
+     * @param names the team names
+     * @return every requested team with its ID, keyed by its exact name
+     */
+    Map<String, Team> findOrCreateByNames(Collection<String> names);
 }
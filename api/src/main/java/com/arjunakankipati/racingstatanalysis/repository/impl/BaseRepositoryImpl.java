@@ -4,9 +4,16 @@ import com.arjunakankipati.racingstatanalysis.model.BaseEntity;
 import com.arjunakankipati.racingstatanalysis.repository.BaseRepository;
 import org.jooq.*;
 import org.jooq.Record;
+import org.jooq.impl.DSL;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Base implementation of the BaseRepository interface using JOOQ.
@@ -17,6 +24,10 @@ import java.util.Optional;
  */
 public abstract class BaseRepositoryImpl<T extends BaseEntity<ID>, ID> implements BaseRepository<T, ID> {
 
+    // Keeps each multi-row insert well under PostgreSQL's limit of 65535 bind values
+    private static final int INSERT_BATCH_ROWS = 1_000;
+    private static final int STREAM_FETCH_SIZE = 1_000;
+
     protected final DSLContext dsl;
     protected final Table<?> table;
     protected final Field<ID> idField;
@@ -36,6 +47,14 @@ public abstract class BaseRepositoryImpl<T extends BaseEntity<ID>, ID> implement
         return result.map(this::mapToEntity);
     }
 
+    @Override
+    public Stream<T> streamAll() {
+        return dsl.selectFrom(table)
+                .fetchSize(STREAM_FETCH_SIZE)
+                .fetchStream()
+                .map(this::mapToEntity);
+    }
+
     @Override
     public Optional<T> findById(ID id) {
         Record record = dsl.select()
@@ -47,6 +66,17 @@ public abstract class BaseRepositoryImpl<T extends BaseEntity<ID>, ID> implement
                 .map(this::mapToEntity);
     }
 
+    @Override
+    public List<T> findAllById(Collection<ID> ids) {
+        if (ids == null || ids.isEmpty()) return List.of();
+
+        return dsl.select()
+                .from(table)
+                .where(idField.in(ids))
+                .fetch()
+                .map(this::mapToEntity);
+    }
+
     @Override
     public T save(T entity) {
         if (entity.getId() == null) {
@@ -59,6 +89,34 @@ public abstract class BaseRepositoryImpl<T extends BaseEntity<ID>, ID> implement
         }
     }
 
+    @Override
+    public List<T> saveAll(List<T> entities) {
+        if (entities == null || entities.isEmpty()) return List.of();
+
+        List<T> saved = new ArrayList<>(entities);
+        List<Integer> insertPositions = new ArrayList<>();
+        List<T> updates = new ArrayList<>();
+        for (int i = 0; i < entities.size(); i++) {
+            if (entities.get(i).getId() == null) {
+                insertPositions.add(i);
+            } else {
+                updates.add(entities.get(i));
+            }
+        }
+
+        for (int from = 0; from < insertPositions.size(); from += INSERT_BATCH_ROWS) {
+            List<Integer> positions = insertPositions.subList(from, Math.min(insertPositions.size(), from + INSERT_BATCH_ROWS));
+            List<T> inserted = insertAll(positions.stream().map(entities::get).toList());
+            for (int i = 0; i < positions.size(); i++) {
+                saved.set(positions.get(i), inserted.get(i));
+            }
+        }
+        if (!updates.isEmpty()) {
+            updateAll(updates);
+        }
+        return saved;
+    }
+
     @Override
     public boolean deleteById(ID id) {
         int count = dsl.deleteFrom(table)
@@ -68,6 +126,15 @@ public abstract class BaseRepositoryImpl<T extends BaseEntity<ID>, ID> implement
         return count > 0;
     }
 
+    @Override
+    public int deleteAllById(Collection<ID> ids) {
+        if (ids == null || ids.isEmpty()) return 0;
+
+        return dsl.deleteFrom(table)
+                .where(idField.in(ids))
+                .execute();
+    }
+
     @Override
     public long count() {
         return dsl.selectCount()
@@ -97,4 +164,61 @@ public abstract class BaseRepositoryImpl<T extends BaseEntity<ID>, ID> implement
      * @param entity the entity to update
      */
     protected abstract void update(T entity);
+
+    /**
+     * Gets the column values written when an entity is inserted or updated in bulk, excluding the ID
+     * and any column left to its database default. Every entity must produce the same columns in the same order.
+     *
+     * @param entity the entity
+     * @return the values keyed by column, in a stable order
+     */
+    protected abstract Map<Field<?>, Object> columnValues(T entity);
+
+    /**
+     * Orders the keys of an insert that may conflict with a concurrent insert on a unique index.
+     * Two transactions inserting overlapping keys in different orders each lock a key the other one
+     * is waiting for and deadlock; inserting every batch in one order makes the later one wait instead.
+     *
+     * @param keys  the keys to insert
+     * @param order the order to insert them in
+     * @return the distinct keys, sorted with any null first
+     */
+    protected static <K> List<K> inLockOrder(Collection<K> keys, Comparator<? super K> order) {
+        return keys.stream()
+                .distinct()
+                .sorted(Comparator.nullsFirst(order))
+                .toList();
+    }
+
+    /**
+     * Inserts entities with one multi-row insert, returning them in the same order with their IDs.
+     */
+    private List<T> insertAll(List<T> entities) {
+        InsertSetStep<?> insert = dsl.insertInto(table);
+        InsertSetMoreStep<?> values = null;
+        for (T entity : entities) {
+            values = (values == null ? insert : values.newRecord()).set(columnValues(entity));
+        }
+        // PostgreSQL returns the rows of a multi-row VALUES insert in the order they were given
+        return values.returning()
+                .fetch()
+                .map(this::mapToEntity);
+    }
+
+    /**
+     * Updates entities with one prepared statement executed as a JDBC batch.
+     */
+    private void updateAll(List<T> entities) {
+        Map<Field<?>, Object> template = new LinkedHashMap<>();
+        columnValues(entities.get(0)).keySet().forEach(field -> template.put(field, null));
+        BatchBindStep batch = dsl.batch(dsl.update(table)
+                .set(template)
+                .where(idField.eq(DSL.val(null, idField))));
+        for (T entity : entities) {
+            List<Object> binds = new ArrayList<>(columnValues(entity).values());
+            binds.add(entity.getId());
+            batch = batch.bind(binds.toArray());
+        }
+        batch.execute();
+    }
 }
@@ -0,0 +1,168 @@
+package com.arjunakankipati.racingstatanalysis.repository.impl;
+
+import com.arjunakankipati.racingstatanalysis.model.BaseEntity;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Table;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Base implementation for small reference tables that are read by ID far more often than they change.
+ * Lookups by ID read through an in-memory cache, and saves and deletes through this repository evict
+ * the entity. The cache holds the rows rather than entities, so every caller gets its own entity to modify.
+ * Rows read inside a transaction are only cached once it commits, so a rollback cannot leave behind a row
+ * that never existed.
+ *
+ * @param <T> the entity type
+ * @param <ID> the type of the entity's ID
+ */
+public abstract class CachingRepositoryImpl<T extends BaseEntity<ID>, ID> extends BaseRepositoryImpl<T, ID>
+        implements MeterBinder {
+
+    private static final long MAX_CACHED_ENTITIES = 10_000;
+    // Bounds how long a row changed by another instance stays stale here
+    private static final long EXPIRE_AFTER_WRITE_MINUTES = 15;
+
+    private final Cache<ID, Record> cache = CacheBuilder.newBuilder()
+            .maximumSize(MAX_CACHED_ENTITIES)
+            .expireAfterWrite(EXPIRE_AFTER_WRITE_MINUTES, TimeUnit.MINUTES)
+            .recordStats()
+            .build();
+
+    protected CachingRepositoryImpl(DSLContext dsl, Table<?> table, Field<ID> idField) {
+        super(dsl, table, idField);
+    }
+
+    @Override
+    public Optional<T> findById(ID id) {
+        Record cached = cache.getIfPresent(id);
+        if (cached != null) {
+            return Optional.of(mapToEntity(cached));
+        }
+        // Missing IDs are not cached, so a row inserted later is found straight away
+        Record record = dsl.select()
+                .from(table)
+                .where(idField.eq(id))
+                .fetchOne();
+        cache(record);
+        return Optional.ofNullable(record)
+                .map(this::mapToEntity);
+    }
+
+    @Override
+    public List<T> findAllById(Collection<ID> ids) {
+        if (ids == null || ids.isEmpty()) return List.of();
+
+        Map<ID, Record> cached = cache.getAllPresent(ids);
+        List<T> entities = new ArrayList<>(cached.size());
+        cached.values().forEach(record -> entities.add(mapToEntity(record)));
+        Set<ID> missing = new HashSet<>(ids);
+        missing.removeAll(cached.keySet());
+        if (!missing.isEmpty()) {
+            // One query for everything not in memory
+            for (Record record : dsl.select().from(table).where(idField.in(missing)).fetch()) {
+                cache(record);
+                entities.add(mapToEntity(record));
+            }
+        }
+        return entities;
+    }
+
+    @Override
+    public T save(T entity) {
+        if (entity.getId() != null) {
+            cache.invalidate(entity.getId());
+        }
+        T saved = super.save(entity);
+        // Evicted again so a concurrent read of the old row cannot outlive the update
+        evict(List.of(saved.getId()));
+        return saved;
+    }
+
+    @Override
+    public List<T> saveAll(List<T> entities) {
+        if (entities == null || entities.isEmpty()) return List.of();
+
+        List<ID> updatedIds = entities.stream().map(BaseEntity::getId).filter(Objects::nonNull).toList();
+        cache.invalidateAll(updatedIds);
+        List<T> saved = super.saveAll(entities);
+        evict(updatedIds);
+        return saved;
+    }
+
+    @Override
+    public boolean deleteById(ID id) {
+        boolean deleted = super.deleteById(id);
+        evict(List.of(id));
+        return deleted;
+    }
+
+    @Override
+    public int deleteAllById(Collection<ID> ids) {
+        int deleted = super.deleteAllById(ids);
+        evict(ids);
+        return deleted;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        GuavaCacheMetrics.monitor(registry, cache, table.getName());
+    }
+
+    /**
+     * Adds a row loaded by another query of this repository to the cache, once the current transaction
+     * commits if one is active.
+     *
+     * @param record the row with every column of the table, or null
+     */
+    protected void cache(Record record) {
+        if (record == null || record.get(idField) == null) {
+            return;
+        }
+        ID id = record.get(idField);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.put(id, record);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.put(id, record);
+            }
+        });
+    }
+
+    /**
+     * Evicts rows now and, if a transaction is active, again once it completes, so a row read by another
+     * thread before the change commits is not kept.
+     */
+    private void evict(Collection<ID> ids) {
+        cache.invalidateAll(ids);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            List<ID> evicted = List.copyOf(ids);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidateAll(evicted);
+                }
+            });
+        }
+    }
+}
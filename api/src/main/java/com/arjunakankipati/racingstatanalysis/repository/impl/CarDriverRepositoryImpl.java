@@ -4,11 +4,15 @@ import com.arjunakankipati.racingstatanalysis.jooq.Tables;
 import com.arjunakankipati.racingstatanalysis.model.CarDriver;
 import com.arjunakankipati.racingstatanalysis.repository.CarDriverRepository;
 import org.jooq.DSLContext;
+import org.jooq.Field;
 import org.jooq.Record;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -72,6 +76,15 @@ public class CarDriverRepositoryImpl extends BaseRepositoryImpl<CarDriver, Long>
                 .execute();
     }
 
+    @Override
+    protected Map<Field<?>, Object> columnValues(CarDriver carDriver) {
+        Map<Field<?>, Object> values = new LinkedHashMap<>();
+        values.put(Tables.CAR_DRIVERS.CAR_ID, carDriver.getCarId());
+        values.put(Tables.CAR_DRIVERS.DRIVER_ID, carDriver.getDriverId());
+        values.put(Tables.CAR_DRIVERS.DRIVER_NUMBER, carDriver.getDriverNumber());
+        return values;
+    }
+
     @Override
     public List<CarDriver> findByCarId(Long carId) {
         return dsl.select()
@@ -103,4 +116,34 @@ public class CarDriverRepositoryImpl extends BaseRepositoryImpl<CarDriver, Long>
         return Optional.ofNullable(record)
                 .map(this::mapToEntity);
     }
+
+    @Override
+    public List<CarDriver> findBySessionId(Long sessionId) {
+        return dsl.select(Tables.CAR_DRIVERS.asterisk())
+                .from(table)
+                .join(Tables.CAR_ENTRIES).on(Tables.CAR_ENTRIES.ID.eq(Tables.CAR_DRIVERS.CAR_ID))
+                .where(Tables.CAR_ENTRIES.SESSION_ID.eq(sessionId))
+                .fetch()
+                .map(this::mapToEntity);
+    }
+
+    @Override
+    public int createAllIfAbsent(Collection<CarDriver> carDrivers) {
+        if (carDrivers == null || carDrivers.isEmpty()) return 0;
+
+        var insertStep = dsl.insertInto(table)
+                .columns(
+                        Tables.CAR_DRIVERS.CAR_ID,
+                        Tables.CAR_DRIVERS.DRIVER_ID,
+                        Tables.CAR_DRIVERS.DRIVER_NUMBER
+                );
+        for (CarDriver carDriver : carDrivers) {
+            insertStep = insertStep.values(
+                    carDriver.getCarId(),
+                    carDriver.getDriverId(),
+                    carDriver.getDriverNumber()
+            );
+        }
+        return insertStep.onConflict(Tables.CAR_DRIVERS.CAR_ID, Tables.CAR_DRIVERS.DRIVER_ID).doNothing().execute();
+    }
 }
@@ -1,14 +1,21 @@
 package com.arjunakankipati.racingstatanalysis.repository.impl;
 
+import com.arjunakankipati.racingstatanalysis.dto.CarEntryDTO;
+import com.arjunakankipati.racingstatanalysis.dto.CarModelDTO;
 import com.arjunakankipati.racingstatanalysis.jooq.Tables;
 import com.arjunakankipati.racingstatanalysis.model.CarEntry;
 import com.arjunakankipati.racingstatanalysis.repository.CarEntryRepository;
 import org.jooq.DSLContext;
+import org.jooq.Field;
 import org.jooq.Record;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -78,6 +85,18 @@ public class CarEntryRepositoryImpl extends BaseRepositoryImpl<CarEntry, Long> i
                 .execute();
     }
 
+    @Override
+    protected Map<Field<?>, Object> columnValues(CarEntry carEntry) {
+        Map<Field<?>, Object> values = new LinkedHashMap<>();
+        values.put(Tables.CAR_ENTRIES.SESSION_ID, carEntry.getSessionId());
+        values.put(Tables.CAR_ENTRIES.TEAM_ID, carEntry.getTeamId());
+        values.put(Tables.CAR_ENTRIES.CLASS_ID, carEntry.getClassId());
+        values.put(Tables.CAR_ENTRIES.CAR_MODEL_ID, carEntry.getCarModelId());
+        values.put(Tables.CAR_ENTRIES.NUMBER, carEntry.getNumber());
+        values.put(Tables.CAR_ENTRIES.TIRE_SUPPLIER, carEntry.getTireSupplier());
+        return values;
+    }
+
     @Override
     public List<CarEntry> findBySessionId(Long sessionId) {
         return dsl.select()
@@ -99,6 +118,48 @@ public class CarEntryRepositoryImpl extends BaseRepositoryImpl<CarEntry, Long> i
                 .map(this::mapToEntity);
     }
 
+    @Override
+    public List<CarEntryDTO> findCarsWithModelsByEventIdAndClassId(Long eventId, Long classId) {
+        return dsl.select(Tables.CAR_ENTRIES.ID,
+                        Tables.CAR_ENTRIES.NUMBER,
+                        Tables.CAR_ENTRIES.TIRE_SUPPLIER,
+                        Tables.CAR_ENTRIES.CLASS_ID,
+                        Tables.CAR_ENTRIES.TEAM_ID,
+                        Tables.CAR_MODELS.ID,
+                        Tables.CAR_MODELS.NAME,
+                        Tables.CAR_MODELS.FULL_NAME,
+                        Tables.CAR_MODELS.YEAR_MODEL,
+                        Tables.CAR_MODELS.DESCRIPTION)
+                .from(Tables.CAR_ENTRIES)
+                .join(Tables.SESSIONS).on(Tables.SESSIONS.ID.eq(Tables.CAR_ENTRIES.SESSION_ID))
+                .leftJoin(Tables.CAR_MODELS).on(Tables.CAR_MODELS.ID.eq(Tables.CAR_ENTRIES.CAR_MODEL_ID))
+                .where(Tables.SESSIONS.EVENT_ID.eq(eventId))
+                .and(Tables.CAR_ENTRIES.CLASS_ID.eq(classId))
+                .orderBy(Tables.CAR_ENTRIES.ID)
+                .fetch()
+                .map(record -> {
+                    CarModelDTO carModelDTO = null;
+                    if (record.get(Tables.CAR_MODELS.ID) != null) {
+                        carModelDTO = new CarModelDTO(
+                                record.get(Tables.CAR_MODELS.ID),
+                                record.get(Tables.CAR_MODELS.NAME),
+                                record.get(Tables.CAR_MODELS.FULL_NAME),
+                                record.get(Tables.CAR_MODELS.YEAR_MODEL),
+                                record.get(Tables.CAR_MODELS.DESCRIPTION)
+                        );
+                    }
+                    return new CarEntryDTO(
+                            record.get(Tables.CAR_ENTRIES.ID),
+                            record.get(Tables.CAR_ENTRIES.NUMBER),
+                            carModelDTO,
+                            record.get(Tables.CAR_ENTRIES.TIRE_SUPPLIER),
+                            record.get(Tables.CAR_ENTRIES.CLASS_ID),
+                            record.get(Tables.CAR_ENTRIES.TEAM_ID),
+                            null
+                    );
+                });
+    }
+
     @Override
     public Optional<CarEntry> findBySessionIdAndNumber(Long sessionId, String number) {
         Record record = dsl.select()
@@ -110,4 +171,41 @@ public class CarEntryRepositoryImpl extends BaseRepositoryImpl<CarEntry, Long> i
         return Optional.ofNullable(record)
                 .map(this::mapToEntity);
     }
-} 
\ No newline at end of file
+
+    @Override
+    public List<CarEntry> findOrCreateAll(Long sessionId, Collection<CarEntry> carEntries) {
+        if (carEntries == null || carEntries.isEmpty()) return new ArrayList<>();
+
+        // Insert the numbers that are missing for the session; existing entries are left untouched
+        var insertStep = dsl.insertInto(table)
+                .columns(
+                        Tables.CAR_ENTRIES.SESSION_ID,
+                        Tables.CAR_ENTRIES.TEAM_ID,
+                        Tables.CAR_ENTRIES.CLASS_ID,
+                        Tables.CAR_ENTRIES.CAR_MODEL_ID,
+                        Tables.CAR_ENTRIES.NUMBER,
+                        Tables.CAR_ENTRIES.TIRE_SUPPLIER
+                );
+        List<String> numbers = new ArrayList<>(carEntries.size());
+        for (CarEntry carEntry : carEntries) {
+            insertStep = insertStep.values(
+                    sessionId,
+                    carEntry.getTeamId(),
+                    carEntry.getClassId(),
+                    carEntry.getCarModelId(),
+                    carEntry.getNumber(),
+                    carEntry.getTireSupplier()
+            );
+            numbers.add(carEntry.getNumber());
+        }
+        insertStep.onConflict(Tables.CAR_ENTRIES.SESSION_ID, Tables.CAR_ENTRIES.NUMBER).doNothing().execute();
+
+        // Fetch every requested entry, whether it was just created or already existed
+        return dsl.select()
+                .from(table)
+                .where(Tables.CAR_ENTRIES.SESSION_ID.eq(sessionId))
+                .and(Tables.CAR_ENTRIES.NUMBER.in(numbers))
+                .fetch()
+                .map(this::mapToEntity);
+    }
+}
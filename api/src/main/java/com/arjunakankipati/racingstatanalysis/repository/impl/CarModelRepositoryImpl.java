@@ -4,17 +4,24 @@ import com.arjunakankipati.racingstatanalysis.jooq.Tables;
 import com.arjunakankipati.racingstatanalysis.model.CarModel;
 import com.arjunakankipati.racingstatanalysis.repository.CarModelRepository;
 import org.jooq.DSLContext;
+import org.jooq.Field;
 import org.jooq.Record;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
  * Implementation of CarModelRepository using JOOQ.
  */
 @Repository
-public class CarModelRepositoryImpl extends BaseRepositoryImpl<CarModel, Long> implements CarModelRepository {
+public class CarModelRepositoryImpl extends CachingRepositoryImpl<CarModel, Long> implements CarModelRepository {
 
     @Autowired
     public CarModelRepositoryImpl(DSLContext dsl) {
@@ -69,6 +76,16 @@ public class CarModelRepositoryImpl extends BaseRepositoryImpl<CarModel, Long> i
                 .execute();
     }
 
+    @Override
+    protected Map<Field<?>, Object> columnValues(CarModel carModel) {
+        Map<Field<?>, Object> values = new LinkedHashMap<>();
+        values.put(Tables.CAR_MODELS.NAME, carModel.getName());
+        values.put(Tables.CAR_MODELS.FULL_NAME, carModel.getFullName());
+        values.put(Tables.CAR_MODELS.YEAR_MODEL, carModel.getYearModel());
+        values.put(Tables.CAR_MODELS.DESCRIPTION, carModel.getDescription());
+        return values;
+    }
+
     @Override
     public Optional<CarModel> findByName(String name) {
         Record record = dsl.select()
@@ -79,4 +96,45 @@ public class CarModelRepositoryImpl extends BaseRepositoryImpl<CarModel, Long> i
         return Optional.ofNullable(record)
                 .map(this::mapToEntity);
     }
-} 
\ No newline at end of file
+
+    @Override
+    public Map<String, CarModel> findOrCreateByNames(Collection<String> names) {
+        Map<String, CarModel> carModels = new HashMap<>();
+        if (names == null || names.isEmpty()) return carModels;
+
+        // Insert the names that are missing; existing car models are left untouched
+        var insertStep = dsl.insertInto(table)
+                .columns(Tables.CAR_MODELS.NAME, Tables.CAR_MODELS.FULL_NAME);
+        for (String name : inLockOrder(names, Comparator.naturalOrder())) {
+            insertStep = insertStep.values(name, name);
+        }
+        insertStep.onConflict(Tables.CAR_MODELS.NAME).doNothing().execute();
+
+        // Fetch every requested car model, whether it was just created or already existed
+        dsl.select()
+                .from(table)
+                .where(Tables.CAR_MODELS.NAME.in(names))
+                .fetch()
+                .forEach(record -> {
+                    cache(record);
+                    CarModel carModel = mapToEntity(record);
+                    carModels.put(carModel.getName(), carModel);
+                });
+        return carModels;
+    }
+
+    @Override
+    public List<CarModel> findByEventIdAndClassId(Long eventId, Long classId) {
+        return dsl.select()
+                .from(table)
+                .where(Tables.CAR_MODELS.ID.in(
+                        dsl.select(Tables.CAR_ENTRIES.CAR_MODEL_ID)
+                                .from(Tables.CAR_ENTRIES)
+                                .join(Tables.SESSIONS).on(Tables.SESSIONS.ID.eq(Tables.CAR_ENTRIES.SESSION_ID))
+                                .where(Tables.SESSIONS.EVENT_ID.eq(eventId))
+                                .and(Tables.CAR_ENTRIES.CLASS_ID.eq(classId))))
+                .orderBy(Tables.CAR_MODELS.ID)
+                .fetch()
+                .map(this::mapToEntity);
+    }
+}
@@ -4,11 +4,14 @@ import com.arjunakankipati.racingstatanalysis.jooq.Tables;
 import com.arjunakankipati.racingstatanalysis.model.Circuit;
 import com.arjunakankipati.racingstatanalysis.repository.CircuitRepository;
 import org.jooq.DSLContext;
+import org.jooq.Field;
 import org.jooq.Record;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -16,7 +19,7 @@ import java.util.Optional;
  * Extends BaseRepositoryImpl to inherit common CRUD operations.
  */
 @Repository
-public class CircuitRepositoryImpl extends BaseRepositoryImpl<Circuit, Long> implements CircuitRepository {
+public class CircuitRepositoryImpl extends CachingRepositoryImpl<Circuit, Long> implements CircuitRepository {
 
     /**
      * Constructor with DSLContext dependency injection.
@@ -80,6 +83,17 @@ public class CircuitRepositoryImpl extends BaseRepositoryImpl<Circuit, Long> imp
                 .execute();
     }
 
+    @Override
+    protected Map<Field<?>, Object> columnValues(Circuit circuit) {
+        Map<Field<?>, Object> values = new LinkedHashMap<>();
+        values.put(Tables.CIRCUITS.NAME, circuit.getName());
+        values.put(Tables.CIRCUITS.LENGTH_METERS, circuit.getLengthMeters());
+        values.put(Tables.CIRCUITS.COUNTRY, circuit.getCountry());
+        values.put(Tables.CIRCUITS.LOCATION, circuit.getLocation());
+        values.put(Tables.CIRCUITS.DESCRIPTION, circuit.getDescription());
+        return values;
+    }
+
     @Override
     public Optional<Circuit> findByName(String name) {
         Record record = dsl.select()
@@ -4,11 +4,17 @@ import com.arjunakankipati.racingstatanalysis.jooq.Tables;
 import com.arjunakankipati.racingstatanalysis.model.Class;
 import com.arjunakankipati.racingstatanalysis.repository.ClassRepository;
 import org.jooq.DSLContext;
+import org.jooq.Field;
 import org.jooq.Record;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -16,7 +22,7 @@ import java.util.Optional;
  * Extends BaseRepositoryImpl to inherit common CRUD operations.
  */
 @Repository
-public class ClassRepositoryImpl extends BaseRepositoryImpl<Class, Long> implements ClassRepository {
+public class ClassRepositoryImpl extends CachingRepositoryImpl<Class, Long> implements ClassRepository {
 
     /**
      * Constructor with DSLContext dependency injection.
@@ -72,6 +78,15 @@ public class ClassRepositoryImpl extends BaseRepositoryImpl<Class, Long> impleme
                 .execute();
     }
 
+    @Override
+    protected Map<Field<?>, Object> columnValues(Class clazz) {
+        Map<Field<?>, Object> values = new LinkedHashMap<>();
+        values.put(Tables.CLASSES.SERIES_ID, clazz.getSeriesId());
+        values.put(Tables.CLASSES.NAME, clazz.getName());
+        values.put(Tables.CLASSES.DESCRIPTION, clazz.getDescription());
+        return values;
+    }
+
     @Override
     public Optional<Class> findByName(String name) {
         Record record = dsl.select()
@@ -114,4 +129,31 @@ public class ClassRepositoryImpl extends BaseRepositoryImpl<Class, Long> impleme
                 .fetch()
                 .map(this::mapToEntity);
     }
+
+    @Override
+    public Map<String, Class> findOrCreateByNames(Long seriesId, Collection<String> names) {
+        Map<String, Class> classes = new HashMap<>();
+        if (names == null || names.isEmpty()) return classes;
+
+        // Insert the names that are missing for the series; existing classes are left untouched
+        var insertStep = dsl.insertInto(table)
+                .columns(Tables.CLASSES.SERIES_ID, Tables.CLASSES.NAME);
+        for (String name : inLockOrder(names, Comparator.naturalOrder())) {
+            insertStep = insertStep.values(seriesId, name);
+        }
+        insertStep.onConflict(Tables.CLASSES.SERIES_ID, Tables.CLASSES.NAME).doNothing().execute();
+
+        // Fetch every requested class, whether it was just created or already existed
+        dsl.select()
+                .from(table)
+                .where(Tables.CLASSES.SERIES_ID.eq(seriesId))
+                .and(Tables.CLASSES.NAME.in(names))
+                .fetch()
+                .forEach(record -> {
+                    cache(record);
+                    Class carClass = mapToEntity(record);
+                    classes.put(carClass.getName(), carClass);
+                });
+        return classes;
+    }
 }
@@ -1,13 +1,25 @@
 package com.arjunakankipati.racingstatanalysis.repository.impl;
 
+import com.arjunakankipati.racingstatanalysis.dto.CarModelDTO;
+import com.arjunakankipati.racingstatanalysis.dto.DriverWithTeamDTO;
 import com.arjunakankipati.racingstatanalysis.jooq.Tables;
 import com.arjunakankipati.racingstatanalysis.model.Driver;
 import com.arjunakankipati.racingstatanalysis.repository.DriverRepository;
 import org.jooq.DSLContext;
+import org.jooq.Field;
 import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.Row2;
+import org.jooq.impl.DSL;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.jooq.impl.DSL.val;
@@ -17,7 +29,11 @@ import static org.jooq.impl.DSL.val;
  * Extends BaseRepositoryImpl to inherit common CRUD operations.
  */
 @Repository
-public class DriverRepositoryImpl extends BaseRepositoryImpl<Driver, Long> implements DriverRepository {
+public class DriverRepositoryImpl extends CachingRepositoryImpl<Driver, Long> implements DriverRepository {
+
+    private static final Comparator<Driver> BY_NAME = Comparator
+            .comparing(Driver::getFirstName, Comparator.nullsFirst(Comparator.<String>naturalOrder()))
+            .thenComparing(Driver::getLastName, Comparator.nullsFirst(Comparator.<String>naturalOrder()));
 
     /**
      * Constructor with DSLContext dependency injection.
@@ -85,6 +101,18 @@ public class DriverRepositoryImpl extends BaseRepositoryImpl<Driver, Long> imple
                 .execute();
     }
 
+    @Override
+    protected Map<Field<?>, Object> columnValues(Driver driver) {
+        Map<Field<?>, Object> values = new LinkedHashMap<>();
+        values.put(Tables.DRIVERS.FIRST_NAME, driver.getFirstName());
+        values.put(Tables.DRIVERS.LAST_NAME, driver.getLastName());
+        values.put(Tables.DRIVERS.NATIONALITY, driver.getNationality());
+        values.put(Tables.DRIVERS.HOMETOWN, driver.getHometown());
+        values.put(Tables.DRIVERS.LICENSE_TYPE, driver.getLicenseType());
+        values.put(Tables.DRIVERS.EXTERNAL_ID, driver.getExternalId());
+        return values;
+    }
+
     @Override
     public Optional<Driver> findByFirstNameAndLastName(String firstName, String lastName) {
         Record record = dsl.select()
@@ -107,4 +135,101 @@ public class DriverRepositoryImpl extends BaseRepositoryImpl<Driver, Long> imple
         return Optional.ofNullable(record)
                 .map(this::mapToEntity);
     }
+
+    @Override
+    public List<Driver> findBySessionId(Long sessionId) {
+        return dsl.selectDistinct(Tables.DRIVERS.asterisk())
+                .from(table)
+                .join(Tables.CAR_DRIVERS).on(Tables.CAR_DRIVERS.DRIVER_ID.eq(Tables.DRIVERS.ID))
+                .join(Tables.CAR_ENTRIES).on(Tables.CAR_ENTRIES.ID.eq(Tables.CAR_DRIVERS.CAR_ID))
+                .where(Tables.CAR_ENTRIES.SESSION_ID.eq(sessionId))
+                .fetch()
+                .map(this::mapToEntity);
+    }
+
+    @Override
+    public List<DriverWithTeamDTO> findDriversWithTeamsByEventId(Long eventId, Optional<Long> carModelId,
+                                                                 Optional<Long> classId) {
+        var whereCondition = Tables.SESSIONS.EVENT_ID.eq(eventId);
+        if (carModelId.isPresent()) {
+            whereCondition = whereCondition.and(Tables.CAR_ENTRIES.CAR_MODEL_ID.eq(carModelId.get()));
+        }
+        if (classId.isPresent()) {
+            whereCondition = whereCondition.and(Tables.CAR_ENTRIES.CLASS_ID.eq(classId.get()));
+        }
+
+        // Car entries are per session, so the same driver, car and team repeat once per session
+        return dsl.selectDistinct(Tables.DRIVERS.ID,
+                        Tables.DRIVERS.FIRST_NAME,
+                        Tables.DRIVERS.LAST_NAME,
+                        Tables.DRIVERS.NATIONALITY,
+                        Tables.DRIVERS.HOMETOWN,
+                        Tables.DRIVERS.LICENSE_TYPE,
+                        Tables.CAR_DRIVERS.DRIVER_NUMBER,
+                        Tables.CAR_ENTRIES.TEAM_ID,
+                        Tables.TEAMS.NAME,
+                        Tables.CAR_ENTRIES.NUMBER,
+                        Tables.CAR_MODELS.ID,
+                        Tables.CAR_MODELS.NAME,
+                        Tables.CAR_MODELS.FULL_NAME,
+                        Tables.CAR_MODELS.YEAR_MODEL,
+                        Tables.CAR_MODELS.DESCRIPTION)
+                .from(table)
+                .join(Tables.CAR_DRIVERS).on(Tables.CAR_DRIVERS.DRIVER_ID.eq(Tables.DRIVERS.ID))
+                .join(Tables.CAR_ENTRIES).on(Tables.CAR_ENTRIES.ID.eq(Tables.CAR_DRIVERS.CAR_ID))
+                .join(Tables.SESSIONS).on(Tables.SESSIONS.ID.eq(Tables.CAR_ENTRIES.SESSION_ID))
+                .leftJoin(Tables.TEAMS).on(Tables.TEAMS.ID.eq(Tables.CAR_ENTRIES.TEAM_ID))
+                .leftJoin(Tables.CAR_MODELS).on(Tables.CAR_MODELS.ID.eq(Tables.CAR_ENTRIES.CAR_MODEL_ID))
+                .where(whereCondition)
+                .orderBy(Tables.DRIVERS.LAST_NAME, Tables.DRIVERS.FIRST_NAME, Tables.DRIVERS.ID)
+                .fetch()
+                .map(record -> {
+                    CarModelDTO carModelDTO = null;
+                    if (record.get(Tables.CAR_MODELS.ID) != null) {
+                        carModelDTO = new CarModelDTO(
+                                record.get(Tables.CAR_MODELS.ID),
+                                record.get(Tables.CAR_MODELS.NAME),
+                                record.get(Tables.CAR_MODELS.FULL_NAME),
+                                record.get(Tables.CAR_MODELS.YEAR_MODEL),
+                                record.get(Tables.CAR_MODELS.DESCRIPTION)
+                        );
+                    }
+                    return new DriverWithTeamDTO(
+                            record.get(Tables.DRIVERS.ID),
+                            record.get(Tables.DRIVERS.FIRST_NAME),
+                            record.get(Tables.DRIVERS.LAST_NAME),
+                            record.get(Tables.DRIVERS.NATIONALITY),
+                            record.get(Tables.DRIVERS.HOMETOWN),
+                            record.get(Tables.DRIVERS.LICENSE_TYPE),
+                            record.get(Tables.CAR_DRIVERS.DRIVER_NUMBER),
+                            record.get(Tables.CAR_ENTRIES.TEAM_ID),
+                            record.get(Tables.TEAMS.NAME),
+                            record.get(Tables.CAR_ENTRIES.NUMBER),
+                            carModelDTO
+                    );
+                });
+    }
+
+    @Override
+    public List<Driver> findOrCreateAll(Collection<Driver> drivers) {
+        if (drivers == null || drivers.isEmpty()) return new ArrayList<>();
+
+        // Insert the names that are missing; existing drivers are left untouched
+        var insertStep = dsl.insertInto(table)
+                .columns(Tables.DRIVERS.FIRST_NAME, Tables.DRIVERS.LAST_NAME);
+        List<Row2<String, String>> names = new ArrayList<>(drivers.size());
+        for (Driver driver : inLockOrder(drivers, BY_NAME)) {
+            insertStep = insertStep.values(driver.getFirstName(), driver.getLastName());
+            names.add(DSL.row(driver.getFirstName(), driver.getLastName()));
+        }
+        insertStep.onConflict(Tables.DRIVERS.FIRST_NAME, Tables.DRIVERS.LAST_NAME).doNothing().execute();
+
+        // Fetch every requested driver, whether they were just created or already existed
+        Result<Record> found = dsl.select()
+                .from(table)
+                .where(DSL.row(Tables.DRIVERS.FIRST_NAME, Tables.DRIVERS.LAST_NAME).in(names))
+                .fetch();
+        found.forEach(this::cache);
+        return found.map(this::mapToEntity);
+    }
 }
@@ -4,11 +4,14 @@ import com.arjunakankipati.racingstatanalysis.jooq.Tables;
 import com.arjunakankipati.racingstatanalysis.model.Event;
 import com.arjunakankipati.racingstatanalysis.repository.EventRepository;
 import org.jooq.DSLContext;
+import org.jooq.Field;
 import org.jooq.Record;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 
@@ -88,6 +91,19 @@ public class EventRepositoryImpl extends BaseRepositoryImpl<Event, Long> impleme
                 .execute();
     }
 
+    @Override
+    protected Map<Field<?>, Object> columnValues(Event event) {
+        Map<Field<?>, Object> values = new LinkedHashMap<>();
+        values.put(Tables.EVENTS.SERIES_ID, event.getSeriesId());
+        values.put(Tables.EVENTS.CIRCUIT_ID, event.getCircuitId());
+        values.put(Tables.EVENTS.NAME, event.getName());
+        values.put(Tables.EVENTS.YEAR, event.getYear());
+        values.put(Tables.EVENTS.START_DATE, event.getStartDate());
+        values.put(Tables.EVENTS.END_DATE, event.getEndDate());
+        values.put(Tables.EVENTS.DESCRIPTION, event.getDescription());
+        return values;
+    }
+
     @Override
     public List<Event> findBySeriesId(Long seriesId) {
         return dsl.select()
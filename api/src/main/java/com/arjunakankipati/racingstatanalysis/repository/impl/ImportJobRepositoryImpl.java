@@ -5,23 +5,25 @@ import com.arjunakankipati.racingstatanalysis.jooq.tables.records.ImportJobsReco
 import com.arjunakankipati.racingstatanalysis.model.ImportJob;
 import com.arjunakankipati.racingstatanalysis.repository.ImportJobRepository;
 import org.jooq.DSLContext;
+import org.jooq.Field;
 import org.jooq.Record;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
-import java.util.Optional;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 @Repository
-public class ImportJobRepositoryImpl implements ImportJobRepository {
-    private final DSLContext dsl;
+public class ImportJobRepositoryImpl extends BaseRepositoryImpl<ImportJob, Integer> implements ImportJobRepository {
 
     @Autowired
     public ImportJobRepositoryImpl(DSLContext dsl) {
-        this.dsl = dsl;
+        super(dsl, Tables.IMPORT_JOBS, Tables.IMPORT_JOBS.ID);
     }
 
-    private ImportJob mapToEntity(Record record) {
+    @Override
+    protected ImportJob mapToEntity(Record record) {
         if (record == null) return null;
         ImportJobsRecord r = record.into(Tables.IMPORT_JOBS);
         return new ImportJob(
@@ -40,48 +42,60 @@ public class ImportJobRepositoryImpl implements ImportJobRepository {
     }
 
     @Override
-    public Optional<ImportJob> findById(Integer id) {
-        Record record = dsl.select()
-                .from(Tables.IMPORT_JOBS)
-                .where(Tables.IMPORT_JOBS.ID.eq(id))
+    public ImportJob save(ImportJob job) {
+        ImportJob saved = super.save(job);
+        // Updates stamp updated_at in the database, so return the stored row
+        return job.getId() == null ? saved : findById(job.getId()).orElse(null);
+    }
+
+    @Override
+    protected ImportJob insert(ImportJob job) {
+        ImportJobsRecord record = dsl.insertInto(Tables.IMPORT_JOBS)
+                .set(Tables.IMPORT_JOBS.STATUS, job.getStatus())
+                .set(Tables.IMPORT_JOBS.CREATED_AT, job.getCreatedAt() != null ? job.getCreatedAt() : LocalDateTime.now())
+                .set(Tables.IMPORT_JOBS.UPDATED_AT, job.getUpdatedAt() != null ? job.getUpdatedAt() : LocalDateTime.now())
+                .set(Tables.IMPORT_JOBS.STARTED_AT, job.getStartedAt())
+                .set(Tables.IMPORT_JOBS.ENDED_AT, job.getEndedAt())
+                .set(Tables.IMPORT_JOBS.ERROR, job.getError())
+                .set(Tables.IMPORT_JOBS.URL, job.getUrl())
+                .set(Tables.IMPORT_JOBS.PROCESS_TYPE, job.getProcessType())
+                .set(Tables.IMPORT_JOBS.IMPORT_TYPE, job.getImportType())
+                .set(Tables.IMPORT_JOBS.SESSION_ID, job.getSessionId())
+                .returning()
                 .fetchOne();
-        return Optional.ofNullable(mapToEntity(record));
+        return mapToEntity(record);
     }
 
     @Override
-    public ImportJob save(ImportJob job) {
-        if (job.getId() == null) {
-            // Insert
-            ImportJobsRecord record = dsl.insertInto(Tables.IMPORT_JOBS)
-                    .set(Tables.IMPORT_JOBS.STATUS, job.getStatus())
-                    .set(Tables.IMPORT_JOBS.CREATED_AT, job.getCreatedAt() != null ? job.getCreatedAt() : LocalDateTime.now())
-                    .set(Tables.IMPORT_JOBS.UPDATED_AT, job.getUpdatedAt() != null ? job.getUpdatedAt() : LocalDateTime.now())
-                    .set(Tables.IMPORT_JOBS.STARTED_AT, job.getStartedAt())
-                    .set(Tables.IMPORT_JOBS.ENDED_AT, job.getEndedAt())
-                    .set(Tables.IMPORT_JOBS.ERROR, job.getError())
-                    .set(Tables.IMPORT_JOBS.URL, job.getUrl())
-                    .set(Tables.IMPORT_JOBS.PROCESS_TYPE, job.getProcessType())
-                    .set(Tables.IMPORT_JOBS.IMPORT_TYPE, job.getImportType())
-                    .set(Tables.IMPORT_JOBS.SESSION_ID, job.getSessionId())
-                    .returning()
-                    .fetchOne();
-            return mapToEntity(record);
-        } else {
-            // Update
-            dsl.update(Tables.IMPORT_JOBS)
-                    .set(Tables.IMPORT_JOBS.STATUS, job.getStatus())
-                    .set(Tables.IMPORT_JOBS.UPDATED_AT, LocalDateTime.now())
-                    .set(Tables.IMPORT_JOBS.STARTED_AT, job.getStartedAt())
-                    .set(Tables.IMPORT_JOBS.ENDED_AT, job.getEndedAt())
-                    .set(Tables.IMPORT_JOBS.ERROR, job.getError())
-                    .set(Tables.IMPORT_JOBS.URL, job.getUrl())
-                    .set(Tables.IMPORT_JOBS.PROCESS_TYPE, job.getProcessType())
-                    .set(Tables.IMPORT_JOBS.IMPORT_TYPE, job.getImportType())
-                    .set(Tables.IMPORT_JOBS.SESSION_ID, job.getSessionId())
-                    .where(Tables.IMPORT_JOBS.ID.eq(job.getId()))
-                    .execute();
-            return findById(job.getId()).orElse(null);
-        }
+    protected void update(ImportJob job) {
+        dsl.update(Tables.IMPORT_JOBS)
+                .set(Tables.IMPORT_JOBS.STATUS, job.getStatus())
+                .set(Tables.IMPORT_JOBS.UPDATED_AT, LocalDateTime.now())
+                .set(Tables.IMPORT_JOBS.STARTED_AT, job.getStartedAt())
+                .set(Tables.IMPORT_JOBS.ENDED_AT, job.getEndedAt())
+                .set(Tables.IMPORT_JOBS.ERROR, job.getError())
+                .set(Tables.IMPORT_JOBS.URL, job.getUrl())
+                .set(Tables.IMPORT_JOBS.PROCESS_TYPE, job.getProcessType())
+                .set(Tables.IMPORT_JOBS.IMPORT_TYPE, job.getImportType())
+                .set(Tables.IMPORT_JOBS.SESSION_ID, job.getSessionId())
+                .where(Tables.IMPORT_JOBS.ID.eq(job.getId()))
+                .execute();
+    }
+
+    @Override
+    protected Map<Field<?>, Object> columnValues(ImportJob job) {
+        // created_at is left to its default on insert and never rewritten
+        Map<Field<?>, Object> values = new LinkedHashMap<>();
+        values.put(Tables.IMPORT_JOBS.STATUS, job.getStatus());
+        values.put(Tables.IMPORT_JOBS.UPDATED_AT, LocalDateTime.now());
+        values.put(Tables.IMPORT_JOBS.STARTED_AT, job.getStartedAt());
+        values.put(Tables.IMPORT_JOBS.ENDED_AT, job.getEndedAt());
+        values.put(Tables.IMPORT_JOBS.ERROR, job.getError());
+        values.put(Tables.IMPORT_JOBS.URL, job.getUrl());
+        values.put(Tables.IMPORT_JOBS.PROCESS_TYPE, job.getProcessType());
+        values.put(Tables.IMPORT_JOBS.IMPORT_TYPE, job.getImportType());
+        values.put(Tables.IMPORT_JOBS.SESSION_ID, job.getSessionId());
+        return values;
     }
 
     @Override
@@ -112,24 +126,4 @@ public class ImportJobRepositoryImpl implements ImportJobRepository {
                 .where(Tables.IMPORT_JOBS.ID.eq(id))
                 .execute();
     }
-
-    @Override
-    public java.util.List<ImportJob> findAll() {
-        return dsl.selectFrom(Tables.IMPORT_JOBS)
-                .fetch()
-                .map(this::mapToEntity);
-    }
-
-    @Override
-    public boolean deleteById(Integer id) {
-        int rows = dsl.deleteFrom(Tables.IMPORT_JOBS)
-                .where(Tables.IMPORT_JOBS.ID.eq(id))
-                .execute();
-        return rows > 0;
-    }
-
-    @Override
-    public long count() {
-        return dsl.fetchCount(Tables.IMPORT_JOBS);
-    }
 }
\ No newline at end of file
@@ -1,11 +1,16 @@
 package com.arjunakankipati.racingstatanalysis.repository.impl;
 
+import com.arjunakankipati.racingstatanalysis.analysis.LapStatistics;
+import com.arjunakankipati.racingstatanalysis.analysis.SessionLaps;
+import com.arjunakankipati.racingstatanalysis.config.ReadFromReplica;
+import com.arjunakankipati.racingstatanalysis.config.ReplicaLagKey;
 import com.arjunakankipati.racingstatanalysis.dto.DriverLapTimeAnalysisDTO;
 import com.arjunakankipati.racingstatanalysis.dto.DriverLapTimesDTO;
 import com.arjunakankipati.racingstatanalysis.dto.LapTimeAnalysisDTO;
 import com.arjunakankipati.racingstatanalysis.dto.LapTimeDetailDTO;
 import com.arjunakankipati.racingstatanalysis.jooq.Tables;
 import com.arjunakankipati.racingstatanalysis.model.Lap;
+import com.arjunakankipati.racingstatanalysis.model.LapTime;
 import com.arjunakankipati.racingstatanalysis.repository.LapRepository;
 import org.jooq.*;
 import org.jooq.Record;
@@ -45,8 +50,8 @@ public class LapRepositoryImpl extends BaseRepositoryImpl<Lap, Long> implements
                 lapRec.getCarId(),
                 lapRec.getDriverId(),
                 lapRec.getLapNumber(),
-                lapRec.getLapTimeSeconds(),
-                lapRec.getSessionElapsedSeconds(),
+                LapTimeConverter.INSTANCE.from(lapRec.getLapTimeSeconds()),
+                LapTimeConverter.INSTANCE.from(lapRec.getSessionElapsedSeconds()),
                 lapRec.getTimestamp(),
                 lapRec.getAverageSpeedKph());
     }
@@ -67,8 +72,8 @@ public class LapRepositoryImpl extends BaseRepositoryImpl<Lap, Long> implements
                         lap.getCarEntryId(),
                         lap.getDriverId(),
                         lap.getLapNumber(),
-                        lap.getLapTimeSeconds(),
-                        lap.getSessionElapsedSeconds(),
+                        LapTimeConverter.INSTANCE.to(lap.getLapTime()),
+                        LapTimeConverter.INSTANCE.to(lap.getSessionElapsed()),
                         lap.getTimestamp(),
                         lap.getAverageSpeedKph()
                 )
@@ -84,14 +89,27 @@ public class LapRepositoryImpl extends BaseRepositoryImpl<Lap, Long> implements
                 .set(Tables.LAPS.CAR_ID, lap.getCarEntryId())
                 .set(Tables.LAPS.DRIVER_ID, lap.getDriverId())
                 .set(Tables.LAPS.LAP_NUMBER, lap.getLapNumber())
-                .set(Tables.LAPS.LAP_TIME_SECONDS, lap.getLapTimeSeconds())
-                .set(Tables.LAPS.SESSION_ELAPSED_SECONDS, lap.getSessionElapsedSeconds())
+                .set(Tables.LAPS.LAP_TIME_SECONDS, LapTimeConverter.INSTANCE.to(lap.getLapTime()))
+                .set(Tables.LAPS.SESSION_ELAPSED_SECONDS, LapTimeConverter.INSTANCE.to(lap.getSessionElapsed()))
                 .set(Tables.LAPS.TIMESTAMP, lap.getTimestamp())
                 .set(Tables.LAPS.AVERAGE_SPEED_KPH, lap.getAverageSpeedKph())
                 .where(idField.eq(lap.getId()))
                 .execute();
     }
 
+    @Override
+    protected Map<Field<?>, Object> columnValues(Lap lap) {
+        Map<Field<?>, Object> values = new LinkedHashMap<>();
+        values.put(Tables.LAPS.CAR_ID, lap.getCarEntryId());
+        values.put(Tables.LAPS.DRIVER_ID, lap.getDriverId());
+        values.put(Tables.LAPS.LAP_NUMBER, lap.getLapNumber());
+        values.put(Tables.LAPS.LAP_TIME_SECONDS, LapTimeConverter.INSTANCE.to(lap.getLapTime()));
+        values.put(Tables.LAPS.SESSION_ELAPSED_SECONDS, LapTimeConverter.INSTANCE.to(lap.getSessionElapsed()));
+        values.put(Tables.LAPS.TIMESTAMP, lap.getTimestamp());
+        values.put(Tables.LAPS.AVERAGE_SPEED_KPH, lap.getAverageSpeedKph());
+        return values;
+    }
+
     @Override
     public List<Lap> findTopPercentageLapsByDriverId(Long driverId, boolean isValid, int percentage,
                                                      Optional<Long> sessionId,
@@ -149,6 +167,7 @@ public class LapRepositoryImpl extends BaseRepositoryImpl<Lap, Long> implements
     public LapTimeAnalysisDTO calculateLapTimeAnalysisForEvent(
             Long eventId,
             int percentage,
+            List<Integer> percentages,
             Optional<Long> classId,
             Optional<Long> carId,
             Optional<Long> sessionId,
@@ -181,11 +200,11 @@ public class LapRepositoryImpl extends BaseRepositoryImpl<Lap, Long> implements
 
         if (totalLapCount == null || totalLapCount == 0) {
             // Return empty analysis if no laps found
-            return new LapTimeAnalysisDTO("0:00.000", "0:00.000", "0:00.000", 0, eventId);
+            return emptyLapTimeAnalysis(eventId, percentages);
         }
 
         // Calculate how many laps to include in the average based on percentage
-        int topCount = Math.max(1, (int) Math.ceil(totalLapCount * percentage / 100.0));
+        int topCount = LapStatistics.topCount(totalLapCount, percentage);
 
         // Apply pagination if specified
         Integer finalOffset = offset.orElse(0);
@@ -193,73 +212,82 @@ public class LapRepositoryImpl extends BaseRepositoryImpl<Lap, Long> implements
 
         // Calculate statistics using SQL
         // We need to calculate:
-        // 1. Average of top percentage of lap times
+        // 1. Average of top percentage of lap times (and of each extra percentage)
         // 2. Fastest lap time (minimum)
         // 3. Median lap time
 
+        // Rank every matching lap once, fastest first, so each top percentage is a filter on the same rows
+        Field<Integer> lapRank = DSL.rowNumber()
+                .over(DSL.orderBy(Tables.LAPS.LAP_TIME_SECONDS.asc()))
+                .as("lap_rank");
+        var rankedLaps = DSL.name("ranked_laps").as(
+                dsl.select(Tables.LAPS.LAP_TIME_SECONDS, lapRank)
+                        .from(table)
+                        .join(Tables.CAR_ENTRIES).on(Tables.CAR_ENTRIES.ID.eq(Tables.LAPS.CAR_ID))
+                        .join(Tables.SESSIONS).on(Tables.SESSIONS.ID.eq(Tables.CAR_ENTRIES.SESSION_ID))
+                        .where(whereCondition));
+        Field<BigDecimal> rankedLapTime = rankedLaps.field(Tables.LAPS.LAP_TIME_SECONDS);
+        Field<Integer> rankedLapRank = rankedLaps.field(lapRank);
+
+        // Calculate average of top percentage of lap times
+        Field<BigDecimal> avgField = DSL.avg(rankedLapTime).filterWhere(rankedLapRank.le(topCount)).as("avg_lap_time");
+
         // Calculate fastest lap time (minimum)
-        Field<BigDecimal> minField = DSL.min(Tables.LAPS.LAP_TIME_SECONDS).as("fastest_lap_time");
+        Field<BigDecimal> minField = DSL.min(rankedLapTime).as("fastest_lap_time");
 
         // Calculate median lap time
         // Note: JOOQ doesn't have a direct median function, so we'll use percentile_cont(0.5)
         Field<BigDecimal> medianField = DSL.field(
                 "percentile_cont(0.5) within group (order by {0})",
                 BigDecimal.class,
-                Tables.LAPS.LAP_TIME_SECONDS
+                rankedLapTime
         ).as("median_lap_time");
 
-        // Calculate average of top percentage of lap times using a proper jOOQ subquery
-        var topLapsSubquery = dsl.select(Tables.LAPS.LAP_TIME_SECONDS.as("lap_time"))
-                .from(table)
-                .join(Tables.CAR_ENTRIES).on(Tables.CAR_ENTRIES.ID.eq(Tables.LAPS.CAR_ID))
-                .join(Tables.SESSIONS).on(Tables.SESSIONS.ID.eq(Tables.CAR_ENTRIES.SESSION_ID))
-                .where(whereCondition)
-                .orderBy(Tables.LAPS.LAP_TIME_SECONDS.asc())
-                .limit(topCount);
-
-        Field<BigDecimal> avgField = dsl.select(DSL.avg(DSL.field("lap_time", BigDecimal.class)))
-                .from(topLapsSubquery)
-                .asField("avg_lap_time");
+        List<SelectField<?>> selectFields = new ArrayList<>(List.of(avgField, minField, medianField));
+        Map<Integer, Field<BigDecimal>> percentageAvgFields = new LinkedHashMap<>();
+        for (Integer extraPercentage : percentages) {
+            Field<BigDecimal> field = DSL.avg(rankedLapTime)
+                    .filterWhere(rankedLapRank.le(LapStatistics.topCount(totalLapCount, extraPercentage)))
+                    .as("avg_lap_time_" + extraPercentage);
+            percentageAvgFields.put(extraPercentage, field);
+            selectFields.add(field);
+        }
 
         // Execute the query to get the statistics
-        Record4<BigDecimal, BigDecimal, BigDecimal, Integer> result = dsl.select(
-                        avgField,
-                        minField,
-                        medianField,
-                        DSL.val(totalLapCount).as("total_lap_count")
-                )
-                .from(table)
-                .join(Tables.CAR_ENTRIES).on(Tables.CAR_ENTRIES.ID.eq(Tables.LAPS.CAR_ID))
-                .join(Tables.SESSIONS).on(Tables.SESSIONS.ID.eq(Tables.CAR_ENTRIES.SESSION_ID))
-                .where(whereCondition)
+        Record result = dsl.with(rankedLaps)
+                .select(selectFields)
+                .from(rankedLaps)
                 .offset(finalOffset)
                 .limit(finalLimit)
                 .fetchOne();
 
         if (result == null) {
             // Return empty analysis if no results
-            return new LapTimeAnalysisDTO("0:00.000", "0:00.000", "0:00.000", 0, eventId);
+            return emptyLapTimeAnalysis(eventId, percentages);
         }
 
         // Format the lap times as "m:ss.SSS"
-        String averageLapTime = formatLapTime(result.get(avgField));
-        String fastestLapTime = formatLapTime(result.get(minField));
-        String medianLapTime = formatLapTime(result.get(medianField));
+        String averageLapTime = formatLapTime(result.get(avgField, LapTimeConverter.INSTANCE));
+        String fastestLapTime = formatLapTime(result.get(minField, LapTimeConverter.INSTANCE));
+        String medianLapTime = formatLapTime(result.get(medianField, LapTimeConverter.INSTANCE));
 
         // Create and return the DTO
-        return new LapTimeAnalysisDTO(
+        LapTimeAnalysisDTO analysis = new LapTimeAnalysisDTO(
                 averageLapTime,
                 fastestLapTime,
                 medianLapTime,
                 totalLapCount,
                 eventId
         );
+        analysis.setAverageLapTimes(formatAverages(result, percentageAvgFields));
+        return analysis;
     }
 
     @Override
     public List<DriverLapTimeAnalysisDTO> calculateLapTimeAnalysisPerDriverForEvent(
             Long eventId,
             int percentage,
+            List<Integer> percentages,
             Optional<Long> classId,
             Optional<Long> carId,
             Optional<Long> sessionId,
@@ -286,153 +314,169 @@ public class LapRepositoryImpl extends BaseRepositoryImpl<Lap, Long> implements
         Integer finalOffset = offset.orElse(0);
         Integer finalLimit = limit.orElse(Integer.MAX_VALUE);
 
-        // We need to join with additional tables to get driver, car, team, and class information
-        SelectJoinStep<?> baseQuery = dsl.select()
-                .from(table)
-                .join(Tables.CAR_ENTRIES).on(Tables.CAR_ENTRIES.ID.eq(Tables.LAPS.CAR_ID))
-                .join(Tables.SESSIONS).on(Tables.SESSIONS.ID.eq(Tables.CAR_ENTRIES.SESSION_ID))
-                .join(Tables.DRIVERS).on(Tables.DRIVERS.ID.eq(Tables.LAPS.DRIVER_ID))
-                .join(Tables.TEAMS).on(Tables.TEAMS.ID.eq(Tables.CAR_ENTRIES.TEAM_ID))
-                .join(Tables.CLASSES).on(Tables.CLASSES.ID.eq(Tables.CAR_ENTRIES.CLASS_ID))
-                .join(Tables.CAR_MODELS).on(Tables.CAR_MODELS.ID.eq(Tables.CAR_ENTRIES.CAR_MODEL_ID));
-
-        // First, get all distinct drivers that match the criteria
-        Result<?> driversResult = dsl.selectDistinct(
-                        Tables.DRIVERS.ID,
-                        Tables.DRIVERS.FIRST_NAME,
-                        Tables.DRIVERS.LAST_NAME,
-                        Tables.DRIVERS.NATIONALITY,
-                        Tables.CAR_ENTRIES.ID.as("car_id"),
-                        Tables.CAR_ENTRIES.NUMBER,
-                        Tables.CAR_MODELS.NAME.as("car_model"),
-                        Tables.TEAMS.ID.as("team_id"),
-                        Tables.TEAMS.NAME.as("team_name"),
-                        Tables.CLASSES.ID.as("class_id"),
-                        Tables.CLASSES.NAME.as("class_name")
-                )
-                .from(table)
-                .join(Tables.CAR_ENTRIES).on(Tables.CAR_ENTRIES.ID.eq(Tables.LAPS.CAR_ID))
-                .join(Tables.SESSIONS).on(Tables.SESSIONS.ID.eq(Tables.CAR_ENTRIES.SESSION_ID))
-                .join(Tables.DRIVERS).on(Tables.DRIVERS.ID.eq(Tables.LAPS.DRIVER_ID))
+        // Rank every matching lap within its driver's laps, fastest first, and remember how many
+        // laps the driver has so the top percentage can be cut off without a per-driver query
+        Field<Integer> lapRank = DSL.rowNumber()
+                .over(DSL.partitionBy(Tables.LAPS.DRIVER_ID).orderBy(Tables.LAPS.LAP_TIME_SECONDS.asc()))
+                .as("lap_rank");
+        Field<Integer> driverLapCount = DSL.count()
+                .over(DSL.partitionBy(Tables.LAPS.DRIVER_ID))
+                .as("driver_lap_count");
+
+        var rankedLaps = DSL.name("ranked_laps").as(
+                dsl.select(
+                                Tables.LAPS.DRIVER_ID,
+                                Tables.LAPS.CAR_ID,
+                                Tables.LAPS.LAP_TIME_SECONDS,
+                                lapRank,
+                                driverLapCount
+                        )
+                        .from(table)
+                        .join(Tables.CAR_ENTRIES).on(Tables.CAR_ENTRIES.ID.eq(Tables.LAPS.CAR_ID))
+                        .join(Tables.SESSIONS).on(Tables.SESSIONS.ID.eq(Tables.CAR_ENTRIES.SESSION_ID))
+                        .where(whereCondition));
+
+        Field<Long> rankedDriverId = rankedLaps.field(Tables.LAPS.DRIVER_ID);
+        Field<Long> rankedCarId = rankedLaps.field(Tables.LAPS.CAR_ID);
+        Field<BigDecimal> rankedLapTime = rankedLaps.field(Tables.LAPS.LAP_TIME_SECONDS);
+        Field<Integer> rankedLapRank = rankedLaps.field(lapRank);
+        Field<Integer> rankedLapCount = rankedLaps.field(driverLapCount);
+
+        // Aggregate the ranked laps into one row of statistics per driver; every extra percentage
+        // is one more filtered average over the same ranked rows
+        List<SelectField<?>> statsFields = new ArrayList<>(List.of(
+                rankedDriverId,
+                DSL.avg(rankedLapTime).filterWhere(rankedLapRank.le(topCount(rankedLapCount, percentage))).as("avg_lap_time"),
+                DSL.min(rankedLapTime).as("fastest_lap_time"),
+                DSL.field(
+                        "percentile_cont(0.5) within group (order by {0})",
+                        BigDecimal.class,
+                        rankedLapTime
+                ).as("median_lap_time"),
+                DSL.count().as("total_lap_count")));
+        for (Integer extraPercentage : percentages) {
+            statsFields.add(DSL.avg(rankedLapTime)
+                    .filterWhere(rankedLapRank.le(topCount(rankedLapCount, extraPercentage)))
+                    .as("avg_lap_time_" + extraPercentage));
+        }
+        var driverStats = DSL.name("driver_stats").as(
+                dsl.select(statsFields)
+                        .from(rankedLaps)
+                        .groupBy(rankedDriverId));
+
+        // A driver is reported once for every car they set a lap in
+        var driverCars = DSL.name("driver_cars").as(
+                dsl.selectDistinct(rankedDriverId, rankedCarId)
+                        .from(rankedLaps));
+
+        Field<Long> statsDriverId = driverStats.field(Tables.LAPS.DRIVER_ID);
+        Field<BigDecimal> avgField = driverStats.field("avg_lap_time", BigDecimal.class);
+        Field<BigDecimal> minField = driverStats.field("fastest_lap_time", BigDecimal.class);
+        Field<BigDecimal> medianField = driverStats.field("median_lap_time", BigDecimal.class);
+        Field<Integer> lapCountField = driverStats.field("total_lap_count", Integer.class);
+        Map<Integer, Field<BigDecimal>> percentageAvgFields = new LinkedHashMap<>();
+        for (Integer extraPercentage : percentages) {
+            percentageAvgFields.put(extraPercentage, driverStats.field("avg_lap_time_" + extraPercentage, BigDecimal.class));
+        }
+        Field<Long> driverCarsDriverId = driverCars.field(Tables.LAPS.DRIVER_ID);
+        Field<Long> driverCarsCarId = driverCars.field(Tables.LAPS.CAR_ID);
+
+        // Fetch every driver with their statistics in one statement, sorted and paged in SQL
+        List<SelectField<?>> selectFields = new ArrayList<>(List.of(
+                Tables.DRIVERS.ID,
+                Tables.DRIVERS.FIRST_NAME,
+                Tables.DRIVERS.LAST_NAME,
+                Tables.DRIVERS.NATIONALITY,
+                Tables.CAR_ENTRIES.ID.as("car_id"),
+                Tables.CAR_ENTRIES.NUMBER,
+                Tables.CAR_MODELS.NAME.as("car_model"),
+                Tables.TEAMS.ID.as("team_id"),
+                Tables.TEAMS.NAME.as("team_name"),
+                Tables.CLASSES.ID.as("class_id"),
+                Tables.CLASSES.NAME.as("class_name"),
+                avgField,
+                minField,
+                medianField,
+                lapCountField));
+        selectFields.addAll(percentageAvgFields.values());
+        Result<?> driversResult = dsl.with(rankedLaps, driverStats, driverCars)
+                .select(selectFields)
+                .from(driverCars)
+                .join(driverStats).on(statsDriverId.eq(driverCarsDriverId))
+                .join(Tables.DRIVERS).on(Tables.DRIVERS.ID.eq(driverCarsDriverId))
+                .join(Tables.CAR_ENTRIES).on(Tables.CAR_ENTRIES.ID.eq(driverCarsCarId))
                 .join(Tables.TEAMS).on(Tables.TEAMS.ID.eq(Tables.CAR_ENTRIES.TEAM_ID))
                 .join(Tables.CLASSES).on(Tables.CLASSES.ID.eq(Tables.CAR_ENTRIES.CLASS_ID))
                 .join(Tables.CAR_MODELS).on(Tables.CAR_MODELS.ID.eq(Tables.CAR_ENTRIES.CAR_MODEL_ID))
-                .where(whereCondition)
-                .orderBy(Tables.DRIVERS.LAST_NAME, Tables.DRIVERS.FIRST_NAME)
+                .orderBy(avgField.asc(), Tables.DRIVERS.ID.asc(), Tables.CAR_ENTRIES.ID.asc())
                 .offset(finalOffset)
                 .limit(finalLimit)
                 .fetch();
 
-        List<DriverLapTimeAnalysisDTO> driverAnalyses = new ArrayList<>();
-
-        // For each driver, calculate lap time statistics
+        List<DriverLapTimeAnalysisDTO> driverAnalyses = new ArrayList<>(driversResult.size());
         for (Record driverRecord : driversResult) {
-            Long driverId = driverRecord.get(Tables.DRIVERS.ID);
-            String firstName = driverRecord.get(Tables.DRIVERS.FIRST_NAME);
-            String lastName = driverRecord.get(Tables.DRIVERS.LAST_NAME);
-            String driverName = firstName + " " + lastName;
-            String nationality = driverRecord.get(Tables.DRIVERS.NATIONALITY);
-
-            Long driverCarId = driverRecord.get("car_id", Long.class);
-            String carNumber = driverRecord.get(Tables.CAR_ENTRIES.NUMBER);
-            String carModel = driverRecord.get("car_model", String.class);
-
-            Long teamId = driverRecord.get("team_id", Long.class);
-            String teamName = driverRecord.get("team_name", String.class);
-
-            Long driverClassId = driverRecord.get("class_id", Long.class);
-            String className = driverRecord.get("class_name", String.class);
-
-            // Add driver-specific condition to the where clause
-            var driverWhereCondition = whereCondition.and(Tables.LAPS.DRIVER_ID.eq(driverId));
-
-            // Get total lap count for this driver
-            Integer driverTotalLapCount = dsl.selectCount()
-                    .from(table)
-                    .join(Tables.CAR_ENTRIES).on(Tables.CAR_ENTRIES.ID.eq(Tables.LAPS.CAR_ID))
-                    .join(Tables.SESSIONS).on(Tables.SESSIONS.ID.eq(Tables.CAR_ENTRIES.SESSION_ID))
-                    .where(driverWhereCondition)
-                    .fetchOne(0, Integer.class);
-
-            if (driverTotalLapCount == null || driverTotalLapCount == 0) {
-                // Skip driver if no laps found
-                continue;
-            }
-
-            // Calculate how many laps to include in the average based on percentage
-            int driverTopCount = Math.max(1, (int) Math.ceil(driverTotalLapCount * percentage / 100.0));
-
-            // Calculate fastest lap time (minimum)
-            Field<BigDecimal> minField = DSL.min(Tables.LAPS.LAP_TIME_SECONDS).as("fastest_lap_time");
-
-            // Calculate median lap time
-            Field<BigDecimal> medianField = DSL.field(
-                    "percentile_cont(0.5) within group (order by {0})",
-                    BigDecimal.class,
-                    Tables.LAPS.LAP_TIME_SECONDS
-            ).as("median_lap_time");
-
-            // Calculate average of top percentage of lap times using a proper jOOQ subquery
-            var driverTopLapsSubquery = dsl.select(Tables.LAPS.LAP_TIME_SECONDS.as("lap_time"))
-                    .from(table)
-                    .join(Tables.CAR_ENTRIES).on(Tables.CAR_ENTRIES.ID.eq(Tables.LAPS.CAR_ID))
-                    .join(Tables.SESSIONS).on(Tables.SESSIONS.ID.eq(Tables.CAR_ENTRIES.SESSION_ID))
-                    .where(driverWhereCondition)
-                    .orderBy(Tables.LAPS.LAP_TIME_SECONDS.asc())
-                    .limit(driverTopCount);
-
-            Field<BigDecimal> avgField = dsl.select(DSL.avg(DSL.field("lap_time", BigDecimal.class)))
-                    .from(driverTopLapsSubquery)
-                    .asField("avg_lap_time");
-
-            // Execute the query to get the statistics for this driver
-            Record4<BigDecimal, BigDecimal, BigDecimal, Integer> driverResult = dsl.select(
-                            avgField,
-                            minField,
-                            medianField,
-                            DSL.val(driverTotalLapCount).as("total_lap_count")
-                    )
-                    .from(table)
-                    .join(Tables.CAR_ENTRIES).on(Tables.CAR_ENTRIES.ID.eq(Tables.LAPS.CAR_ID))
-                    .join(Tables.SESSIONS).on(Tables.SESSIONS.ID.eq(Tables.CAR_ENTRIES.SESSION_ID))
-                    .where(driverWhereCondition)
-                    .fetchOne();
-
-            if (driverResult == null) {
-                // Skip driver if no results
-                continue;
-            }
+            String driverName = driverRecord.get(Tables.DRIVERS.FIRST_NAME) + " " + driverRecord.get(Tables.DRIVERS.LAST_NAME);
 
             // Format the lap times as "m:ss.SSS"
-            String averageLapTime = formatLapTime(driverResult.get(avgField));
-            String fastestLapTime = formatLapTime(driverResult.get(minField));
-            String medianLapTime = formatLapTime(driverResult.get(medianField));
-
-            // Create and add the driver-specific analysis DTO
             DriverLapTimeAnalysisDTO driverAnalysis = new DriverLapTimeAnalysisDTO(
-                    driverId, driverName, nationality,
-                    driverCarId, carNumber, carModel,
-                    teamId, teamName,
-                    driverClassId, className,
-                    averageLapTime, fastestLapTime, medianLapTime,
-                    driverTotalLapCount
+                    driverRecord.get(Tables.DRIVERS.ID), driverName, driverRecord.get(Tables.DRIVERS.NATIONALITY),
+                    driverRecord.get("car_id", Long.class), driverRecord.get(Tables.CAR_ENTRIES.NUMBER),
+                    driverRecord.get("car_model", String.class),
+                    driverRecord.get("team_id", Long.class), driverRecord.get("team_name", String.class),
+                    driverRecord.get("class_id", Long.class), driverRecord.get("class_name", String.class),
+                    formatLapTime(driverRecord.get(avgField, LapTimeConverter.INSTANCE)),
+                    formatLapTime(driverRecord.get(minField, LapTimeConverter.INSTANCE)),
+                    formatLapTime(driverRecord.get(medianField, LapTimeConverter.INSTANCE)),
+                    driverRecord.get(lapCountField)
             );
-
+            driverAnalysis.setAverageLapTimes(formatAverages(driverRecord, percentageAvgFields));
             driverAnalyses.add(driverAnalysis);
         }
 
-        // Sort the driver analyses by average lap time (for paging purposes)
-        driverAnalyses.sort((a, b) -> {
-            // Parse the lap times back to comparable values
-            // This is a simple string comparison that works because the format is consistent
-            return a.getAverageLapTime().compareTo(b.getAverageLapTime());
-        });
-
         return driverAnalyses;
     }
 
+    /**
+     * Number of laps that make up the top percentage of a driver's laps (at least one).
+     *
+     * @param lapCount   the driver's lap count
+     * @param percentage the percentage of laps to include
+     * @return the lap count as a SQL expression
+     */
+    private static Field<Integer> topCount(Field<Integer> lapCount, int percentage) {
+        return DSL.field("greatest(1, ceil({0} * {1} / 100.0))", Integer.class, lapCount, DSL.val(percentage));
+    }
+
+    /**
+     * Formats the average lap time of each extra percentage, or returns null if none were requested.
+     *
+     * @param record the record holding the averages
+     * @param fields the average field of each percentage
+     * @return the formatted averages keyed by percentage, or null
+     */
+    private Map<Integer, String> formatAverages(Record record, Map<Integer, Field<BigDecimal>> fields) {
+        if (fields.isEmpty()) {
+            return null;
+        }
+        Map<Integer, String> averages = new LinkedHashMap<>();
+        fields.forEach((percentage, field) -> averages.put(percentage, formatLapTime(record.get(field, LapTimeConverter.INSTANCE))));
+        return averages;
+    }
+
+    private LapTimeAnalysisDTO emptyLapTimeAnalysis(Long eventId, List<Integer> percentages) {
+        LapTimeAnalysisDTO analysis = new LapTimeAnalysisDTO("0:00.000", "0:00.000", "0:00.000", 0, eventId);
+        if (!percentages.isEmpty()) {
+            Map<Integer, String> averages = new LinkedHashMap<>();
+            percentages.forEach(percentage -> averages.put(percentage, "0:00.000"));
+            analysis.setAverageLapTimes(averages);
+        }
+        return analysis;
+    }
+
     @Override
-    public List<DriverLapTimesDTO> findLapTimesForDriversInSession(Long sessionId, List<Long> driverIds) {
+    @ReadFromReplica
+    public List<DriverLapTimesDTO> findLapTimesForDriversInSession(@ReplicaLagKey(ReplicaLagKey.Scope.SESSION) Long sessionId,
+                                                                   List<Long> driverIds) {
         if (driverIds == null || driverIds.isEmpty()) {
             return new ArrayList<>();
         }
@@ -472,12 +516,13 @@ public class LapRepositoryImpl extends BaseRepositoryImpl<Lap, Long> implements
             Long driverId = record.get("driver_id", Long.class);
 
             // Create lap time detail DTO
+            LapTime lapTime = record.get(Tables.LAPS.LAP_TIME_SECONDS, LapTimeConverter.INSTANCE);
             LapTimeDetailDTO lapTimeDetail = new LapTimeDetailDTO(
                     record.get(Tables.LAPS.ID),
                     record.get(Tables.LAPS.LAP_NUMBER),
-                    formatLapTime(record.get(Tables.LAPS.LAP_TIME_SECONDS)),
-                    record.get(Tables.LAPS.LAP_TIME_SECONDS),
-                    record.get(Tables.LAPS.SESSION_ELAPSED_SECONDS),
+                    formatLapTime(lapTime),
+                    lapTime,
+                    record.get(Tables.LAPS.SESSION_ELAPSED_SECONDS, LapTimeConverter.INSTANCE),
                     record.get(Tables.LAPS.TIMESTAMP),
                     record.get(Tables.LAPS.AVERAGE_SPEED_KPH)
             );
@@ -539,8 +584,8 @@ public class LapRepositoryImpl extends BaseRepositoryImpl<Lap, Long> implements
                     lap.getCarEntryId(),
                 lap.getDriverId(),
                 lap.getLapNumber(),
-                lap.getLapTimeSeconds(),
-                lap.getSessionElapsedSeconds(),
+                LapTimeConverter.INSTANCE.to(lap.getLapTime()),
+                LapTimeConverter.INSTANCE.to(lap.getSessionElapsed()),
                 lap.getTimestamp(),
                     lap.getAverageSpeedKph()
             );
@@ -553,6 +598,145 @@ public class LapRepositoryImpl extends BaseRepositoryImpl<Lap, Long> implements
         return savedLaps;
     }
 
+    @Override
+    public List<Long> reserveIds(int count) {
+        if (count <= 0) return new ArrayList<>();
+        return dsl.select(DSL.field("nextval(pg_get_serial_sequence('laps', 'id'))", Long.class))
+                .from(DSL.generateSeries(1, count))
+                .fetch(0, Long.class);
+    }
+
+    @Override
+    public long copyAll(List<Lap> laps) {
+        return PgCopyWriter.copy(dsl, table,
+                PgCopyWriter.columns(
+                        Tables.LAPS.ID,
+                        Tables.LAPS.CAR_ID,
+                        Tables.LAPS.DRIVER_ID,
+                        Tables.LAPS.LAP_NUMBER,
+                        Tables.LAPS.LAP_TIME_SECONDS,
+                        Tables.LAPS.SESSION_ELAPSED_SECONDS,
+                        Tables.LAPS.TIMESTAMP,
+                        Tables.LAPS.AVERAGE_SPEED_KPH
+                ),
+                laps,
+                (lap, row) -> row
+                        .value(Objects.requireNonNull(lap.getId(), "Lap ID must be reserved before copying"))
+                        .value(lap.getCarEntryId())
+                        .value(lap.getDriverId())
+                        .value(lap.getLapNumber())
+                        .value(lap.getLapTime())
+                        .value(lap.getSessionElapsed())
+                        .value(lap.getTimestamp())
+                        .value(lap.getAverageSpeedKph()));
+    }
+
+    @Override
+    public int deleteBySessionId(Long sessionId) {
+        // Sectors go with their laps through the cascade on sectors.lap_id
+        return dsl.deleteFrom(Tables.LAPS)
+                .where(Tables.LAPS.CAR_ID.in(DSL.select(Tables.CAR_ENTRIES.ID)
+                        .from(Tables.CAR_ENTRIES)
+                        .where(Tables.CAR_ENTRIES.SESSION_ID.eq(sessionId))))
+                .execute();
+    }
+
+    @Override
+    public int deleteByCarDriverAndLapNumber(List<Lap> laps) {
+        if (laps == null || laps.isEmpty()) return 0;
+        List<Row3<Long, Long, Integer>> keys = new ArrayList<>(laps.size());
+        for (Lap lap : laps) {
+            keys.add(DSL.row(lap.getCarEntryId(), lap.getDriverId(), lap.getLapNumber()));
+        }
+        return dsl.deleteFrom(Tables.LAPS)
+                .where(DSL.row(Tables.LAPS.CAR_ID, Tables.LAPS.DRIVER_ID, Tables.LAPS.LAP_NUMBER).in(keys))
+                .execute();
+    }
+
+    @Override
+    public Optional<SessionLaps> findSessionLaps(Long sessionId) {
+        Long eventId = dsl.select(Tables.SESSIONS.EVENT_ID)
+                .from(Tables.SESSIONS)
+                .where(Tables.SESSIONS.ID.eq(sessionId))
+                .fetchOptional(Tables.SESSIONS.EVENT_ID)
+                .orElse(null);
+        if (eventId == null) {
+            return Optional.empty();
+        }
+        SessionLaps.Builder builder = SessionLaps.builder(sessionId, eventId);
+
+        // Car entries with the names the analyses report; missing references stay null
+        dsl.select(
+                        Tables.CAR_ENTRIES.ID,
+                        Tables.CAR_ENTRIES.NUMBER,
+                        Tables.CLASSES.ID,
+                        Tables.CLASSES.NAME,
+                        Tables.CAR_MODELS.ID,
+                        Tables.CAR_MODELS.NAME,
+                        Tables.TEAMS.ID,
+                        Tables.TEAMS.NAME
+                )
+                .from(Tables.CAR_ENTRIES)
+                .leftJoin(Tables.CLASSES).on(Tables.CLASSES.ID.eq(Tables.CAR_ENTRIES.CLASS_ID))
+                .leftJoin(Tables.CAR_MODELS).on(Tables.CAR_MODELS.ID.eq(Tables.CAR_ENTRIES.CAR_MODEL_ID))
+                .leftJoin(Tables.TEAMS).on(Tables.TEAMS.ID.eq(Tables.CAR_ENTRIES.TEAM_ID))
+                .where(Tables.CAR_ENTRIES.SESSION_ID.eq(sessionId))
+                .fetch()
+                .forEach(r -> builder.addCar(new SessionLaps.Car(
+                        r.value1(), r.value2(), r.value3(), r.value4(), r.value5(), r.value6(), r.value7(), r.value8())));
+
+        // Drivers who set a lap in the session
+        dsl.select(Tables.DRIVERS.ID, Tables.DRIVERS.FIRST_NAME, Tables.DRIVERS.LAST_NAME, Tables.DRIVERS.NATIONALITY)
+                .from(Tables.DRIVERS)
+                .where(Tables.DRIVERS.ID.in(
+                        DSL.selectDistinct(Tables.LAPS.DRIVER_ID)
+                                .from(table)
+                                .join(Tables.CAR_ENTRIES).on(Tables.CAR_ENTRIES.ID.eq(Tables.LAPS.CAR_ID))
+                                .where(Tables.CAR_ENTRIES.SESSION_ID.eq(sessionId))))
+                .fetch()
+                .forEach(r -> builder.addDriver(new SessionLaps.Driver(r.value1(), r.value2(), r.value3(), r.value4())));
+
+        // Laps in ID order, so sectors can be matched to them by binary search
+        dsl.select(
+                        Tables.LAPS.ID,
+                        Tables.LAPS.CAR_ID,
+                        Tables.LAPS.DRIVER_ID,
+                        Tables.LAPS.LAP_NUMBER,
+                        Tables.LAPS.LAP_TIME_SECONDS,
+                        Tables.LAPS.SESSION_ELAPSED_SECONDS
+                )
+                .from(table)
+                .join(Tables.CAR_ENTRIES).on(Tables.CAR_ENTRIES.ID.eq(Tables.LAPS.CAR_ID))
+                .where(Tables.CAR_ENTRIES.SESSION_ID.eq(sessionId))
+                .and(Tables.LAPS.LAP_TIME_SECONDS.isNotNull())
+                .orderBy(Tables.LAPS.ID)
+                .fetch()
+                .forEach(r -> {
+                    LapTime elapsed = r.get(Tables.LAPS.SESSION_ELAPSED_SECONDS, LapTimeConverter.INSTANCE);
+                    builder.addLap(
+                            r.value1(),
+                            r.value2(),
+                            r.value3(),
+                            r.value4() == null ? 0 : r.value4(),
+                            Math.toIntExact(r.get(Tables.LAPS.LAP_TIME_SECONDS, LapTimeConverter.INSTANCE).millis()),
+                            elapsed == null ? SessionLaps.NO_TIME : elapsed.millis());
+                });
+
+        dsl.select(Tables.SECTORS.LAP_ID, Tables.SECTORS.SECTOR_NUMBER, Tables.SECTORS.SECTOR_TIME_SECONDS)
+                .from(Tables.SECTORS)
+                .join(table).on(Tables.LAPS.ID.eq(Tables.SECTORS.LAP_ID))
+                .join(Tables.CAR_ENTRIES).on(Tables.CAR_ENTRIES.ID.eq(Tables.LAPS.CAR_ID))
+                .where(Tables.CAR_ENTRIES.SESSION_ID.eq(sessionId))
+                .and(Tables.SECTORS.SECTOR_TIME_SECONDS.isNotNull())
+                .fetch()
+                .forEach(r -> builder.addSector(
+                        r.value1(),
+                        r.value2(),
+                        Math.toIntExact(r.get(Tables.SECTORS.SECTOR_TIME_SECONDS, LapTimeConverter.INSTANCE).millis())));
+
+        return Optional.of(builder.build());
+    }
+
     /**
      * Helper class to store driver information.
      */
@@ -573,26 +757,12 @@ public class LapRepositoryImpl extends BaseRepositoryImpl<Lap, Long> implements
     }
 
     /**
-     * Formats a lap time in seconds as "m:ss.SSS".
+     * Formats a lap time as "m:ss.SSS", or "0:00.000" if there is none.
      *
-     * @param lapTimeSeconds the lap time in seconds
+     * @param lapTime the lap time, or null
      * @return the formatted lap time
      */
-    private String formatLapTime(BigDecimal lapTimeSeconds) {
-        if (lapTimeSeconds == null) {
-            return "0:00.000";
-        }
-
-        // Extract minutes, seconds, and milliseconds
-        int totalSeconds = lapTimeSeconds.intValue();
-        int minutes = totalSeconds / 60;
-        int seconds = totalSeconds % 60;
-
-        // Extract milliseconds (the decimal part)
-        BigDecimal decimalPart = lapTimeSeconds.remainder(BigDecimal.ONE);
-        int milliseconds = decimalPart.movePointRight(3).intValue();
-
-        // Format as "m:ss.SSS"
-        return String.format("%d:%02d.%03d", minutes, seconds, milliseconds);
+    private String formatLapTime(LapTime lapTime) {
+        return (lapTime == null ? LapTime.ZERO : lapTime).format();
     }
 }
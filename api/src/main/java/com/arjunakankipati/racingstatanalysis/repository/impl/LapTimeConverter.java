@@ -0,0 +1,33 @@
+package com.arjunakankipati.racingstatanalysis.repository.impl;
+
+import com.arjunakankipati.racingstatanalysis.model.LapTime;
+import org.jooq.impl.AbstractConverter;
+
+import java.math.BigDecimal;
+
+/**
+ * jOOQ converter between NUMERIC seconds columns ({@code laps.lap_time_seconds},
+ * {@code laps.session_elapsed_seconds}, {@code sectors.sector_time_seconds}) and {@link LapTime}.
+ * Also converts aggregates of those columns, such as averages, rounding them to the millisecond.
+ */
+public final class LapTimeConverter extends AbstractConverter<BigDecimal, LapTime> {
+
+    /**
+     * Shared instance; the converter is stateless.
+     */
+    public static final LapTimeConverter INSTANCE = new LapTimeConverter();
+
+    public LapTimeConverter() {
+        super(BigDecimal.class, LapTime.class);
+    }
+
+    @Override
+    public LapTime from(BigDecimal seconds) {
+        return LapTime.ofSeconds(seconds);
+    }
+
+    @Override
+    public BigDecimal to(LapTime lapTime) {
+        return lapTime == null ? null : lapTime.toSeconds();
+    }
+}
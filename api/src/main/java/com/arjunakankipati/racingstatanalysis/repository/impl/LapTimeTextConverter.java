@@ -0,0 +1,43 @@
+package com.arjunakankipati.racingstatanalysis.repository.impl;
+
+import com.arjunakankipati.racingstatanalysis.model.LapTime;
+import org.jooq.impl.AbstractConverter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * jOOQ converter between text time columns written as {@code m:ss.SSS} ({@code results.fl_time})
+ * and {@link LapTime}. Blank values are read as null. The column held free text before it was read as a time,
+ * so a legacy value that is not a valid time is logged and read as null rather than failing the whole read.
+ */
+public final class LapTimeTextConverter extends AbstractConverter<String, LapTime> {
+
+    /**
+     * Shared instance; the converter is stateless.
+     */
+    public static final LapTimeTextConverter INSTANCE = new LapTimeTextConverter();
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LapTimeTextConverter.class);
+
+    public LapTimeTextConverter() {
+        super(String.class, LapTime.class);
+    }
+
+    @Override
+    public LapTime from(String text) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+        try {
+            return LapTime.parse(text);
+        } catch (IllegalArgumentException e) {
+            LOGGER.warn("Ignoring stored time that is not a valid lap time: '{}'", text);
+            return null;
+        }
+    }
+
+    @Override
+    public String to(LapTime lapTime) {
+        return lapTime == null ? null : lapTime.format();
+    }
+}
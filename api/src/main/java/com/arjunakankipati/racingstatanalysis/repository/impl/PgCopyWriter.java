@@ -0,0 +1,185 @@
+package com.arjunakankipati.racingstatanalysis.repository.impl;
+
+import com.arjunakankipati.racingstatanalysis.metrics.QueryMetricsListener;
+import com.arjunakankipati.racingstatanalysis.model.LapTime;
+import org.jooq.DSLContext;
+import org.jooq.ExecuteListenerProvider;
+import org.jooq.ExecuteType;
+import org.jooq.Field;
+import org.jooq.Table;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Streams rows into a table with PostgreSQL's text-format {@code COPY ... FROM STDIN}.
+ * Rows are encoded into a reusable buffer and pushed to the server in chunks,
+ * so memory use stays flat no matter how many rows are loaded.
+ * COPY runs on the raw connection rather than through jOOQ, so each load is reported to the
+ * {@link QueryMetricsListener} registered with the DSL context directly.
+ */
+final class PgCopyWriter {
+
+    private static final int FLUSH_THRESHOLD = 64 * 1024;
+    private static final String NULL_VALUE = "\\N";
+
+    /**
+     * Appends the columns of a single row to a writer.
+     *
+     * @param <T> the row type
+     */
+    @FunctionalInterface
+    interface RowWriter<T> {
+        void write(T row, PgCopyWriter writer);
+    }
+
+    private final StringBuilder buffer = new StringBuilder(FLUSH_THRESHOLD + 1024);
+    private boolean firstColumn = true;
+
+    private PgCopyWriter() {
+    }
+
+    /**
+     * Copies the given rows into a table on the connection currently bound to the DSL context,
+     * so the load joins any transaction already in progress.
+     *
+     * @param dsl       the JOOQ DSL context
+     * @param table     the target table
+     * @param columns   the target columns, in the order the row writer emits them
+     * @param rows      the rows to copy
+     * @param rowWriter writes the columns of one row
+     * @param <T>       the row type
+     * @return the number of rows copied
+     */
+    static <T> long copy(DSLContext dsl, Table<?> table, List<Field<?>> columns, List<T> rows, RowWriter<T> rowWriter) {
+        if (rows == null || rows.isEmpty()) {
+            return 0;
+        }
+        String sql = "COPY " + quote(table.getName()) + " ("
+                + columns.stream().map(column -> quote(column.getName())).collect(Collectors.joining(", "))
+                + ") FROM STDIN";
+
+        long startNanos = System.nanoTime();
+        long copied = 0;
+        boolean failed = true;
+        try {
+            copied = dsl.connectionResult(connection -> {
+                CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql);
+                try {
+                    PgCopyWriter writer = new PgCopyWriter();
+                    for (T row : rows) {
+                        rowWriter.write(row, writer);
+                        writer.endRow();
+                        if (writer.buffer.length() >= FLUSH_THRESHOLD) {
+                            writer.flushTo(copyIn);
+                        }
+                    }
+                    writer.flushTo(copyIn);
+                    return copyIn.endCopy();
+                } finally {
+                    if (copyIn.isActive()) {
+                        copyIn.cancelCopy();
+                    }
+                }
+            });
+            failed = false;
+            return copied;
+        } finally {
+            recordMetrics(dsl, sql, System.nanoTime() - startNanos, copied, failed);
+        }
+    }
+
+    private static void recordMetrics(DSLContext dsl, String sql, long elapsedNanos, long rows, boolean failed) {
+        for (ExecuteListenerProvider provider : dsl.configuration().executeListenerProviders()) {
+            if (provider.provide() instanceof QueryMetricsListener listener) {
+                listener.recordStatement(ExecuteType.WRITE, sql, elapsedNanos, rows, failed);
+            }
+        }
+    }
+
+    /**
+     * Appends the next column of the current row.
+     *
+     * @param value the column value, or null
+     * @return this writer
+     */
+    PgCopyWriter value(Object value) {
+        if (!firstColumn) {
+            buffer.append('\t');
+        }
+        firstColumn = false;
+
+        if (value == null) {
+            buffer.append(NULL_VALUE);
+        } else if (value instanceof LapTime lapTime) {
+            appendSeconds(lapTime.millis());
+        } else if (value instanceof BigDecimal decimal) {
+            buffer.append(decimal.toPlainString());
+        } else if (value instanceof Number || value instanceof Boolean) {
+            buffer.append(value);
+        } else {
+            appendEscaped(value.toString());
+        }
+        return this;
+    }
+
+    private void endRow() {
+        buffer.append('\n');
+        firstColumn = true;
+    }
+
+    private void flushTo(CopyIn copyIn) throws SQLException {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+
+    // Writes milliseconds as seconds with millisecond scale, without going through BigDecimal
+    private void appendSeconds(long millis) {
+        int fraction = (int) (millis % 1000);
+        buffer.append(millis / 1000).append('.');
+        if (fraction < 100) {
+            buffer.append('0');
+        }
+        if (fraction < 10) {
+            buffer.append('0');
+        }
+        buffer.append(fraction);
+    }
+
+    private void appendEscaped(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '\\' -> buffer.append("\\\\");
+                case '\t' -> buffer.append("\\t");
+                case '\n' -> buffer.append("\\n");
+                case '\r' -> buffer.append("\\r");
+                default -> buffer.append(c);
+            }
+        }
+    }
+
+    private static String quote(String identifier) {
+        return '"' + identifier.replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * Convenience for building the column list.
+     *
+     * @param columns the target columns
+     * @return the columns as a list
+     */
+    static List<Field<?>> columns(Field<?>... columns) {
+        return Arrays.asList(columns);
+    }
+}
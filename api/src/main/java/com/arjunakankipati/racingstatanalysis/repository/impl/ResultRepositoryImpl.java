@@ -1,22 +1,36 @@
 package com.arjunakankipati.racingstatanalysis.repository.impl;
 
+import com.arjunakankipati.racingstatanalysis.dto.CarEntryDTO;
+import com.arjunakankipati.racingstatanalysis.dto.CarModelDTO;
+import com.arjunakankipati.racingstatanalysis.dto.DriverDTO;
+import com.arjunakankipati.racingstatanalysis.dto.ResultDTO;
+import com.arjunakankipati.racingstatanalysis.dto.ResultsResponseDTO;
 import com.arjunakankipati.racingstatanalysis.jooq.Tables;
 import com.arjunakankipati.racingstatanalysis.jooq.tables.Results;
 import com.arjunakankipati.racingstatanalysis.jooq.tables.records.ResultsRecord;
 import com.arjunakankipati.racingstatanalysis.model.Result;
 import com.arjunakankipati.racingstatanalysis.repository.ResultRepository;
 import org.jooq.DSLContext;
+import org.jooq.Field;
 import org.jooq.Record;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Repository
 public class ResultRepositoryImpl extends BaseRepositoryImpl<Result, Long> implements ResultRepository {
     private static final Results RESULTS = Tables.RESULTS;
 
+    /**
+     * Columns selected by {@link #findResultsWithCarsAndDriversBySessionId}, in select order.
+     */
+    static final List<Field<?>> RESULT_DETAIL_FIELDS = buildResultDetailFields();
+
     @Autowired
     public ResultRepositoryImpl(DSLContext dsl) {
         super(dsl, RESULTS, RESULTS.ID);
@@ -38,7 +52,7 @@ public class ResultRepositoryImpl extends BaseRepositoryImpl<Result, Long> imple
         result.setGapFirst(rec.getGapFirst());
         result.setGapPrevious(rec.getGapPrevious());
         result.setFlLapnum(rec.getFlLapnum());
-        result.setFlTime(rec.getFlTime());
+        result.setFlTime(LapTimeTextConverter.INSTANCE.from(rec.getFlTime()));
         result.setFlKph(rec.getFlKph());
         result.setPosition(rec.getPosition());
         return result;
@@ -73,7 +87,7 @@ public class ResultRepositoryImpl extends BaseRepositoryImpl<Result, Long> imple
                         entity.getGapFirst(),
                         entity.getGapPrevious(),
                         entity.getFlLapnum(),
-                        entity.getFlTime(),
+                        LapTimeTextConverter.INSTANCE.to(entity.getFlTime()),
                         entity.getFlKph(),
                         entity.getPosition()
                 )
@@ -95,13 +109,32 @@ public class ResultRepositoryImpl extends BaseRepositoryImpl<Result, Long> imple
                 .set(RESULTS.GAP_FIRST, entity.getGapFirst())
                 .set(RESULTS.GAP_PREVIOUS, entity.getGapPrevious())
                 .set(RESULTS.FL_LAPNUM, entity.getFlLapnum())
-                .set(RESULTS.FL_TIME, entity.getFlTime())
+                .set(RESULTS.FL_TIME, LapTimeTextConverter.INSTANCE.to(entity.getFlTime()))
                 .set(RESULTS.FL_KPH, entity.getFlKph())
                 .set(RESULTS.POSITION, entity.getPosition())
                 .where(idField.eq(entity.getId()))
                 .execute();
     }
 
+    @Override
+    protected Map<Field<?>, Object> columnValues(Result entity) {
+        Map<Field<?>, Object> values = new LinkedHashMap<>();
+        values.put(RESULTS.SESSION_ID, entity.getSessionId());
+        values.put(RESULTS.CAR_ENTRY_ID, entity.getCarEntryId());
+        values.put(RESULTS.CAR_NUMBER, entity.getCarNumber());
+        values.put(RESULTS.TIRES, entity.getTires());
+        values.put(RESULTS.STATUS, entity.getStatus());
+        values.put(RESULTS.LAPS, entity.getLaps());
+        values.put(RESULTS.TOTAL_TIME, entity.getTotalTime());
+        values.put(RESULTS.GAP_FIRST, entity.getGapFirst());
+        values.put(RESULTS.GAP_PREVIOUS, entity.getGapPrevious());
+        values.put(RESULTS.FL_LAPNUM, entity.getFlLapnum());
+        values.put(RESULTS.FL_TIME, LapTimeTextConverter.INSTANCE.to(entity.getFlTime()));
+        values.put(RESULTS.FL_KPH, entity.getFlKph());
+        values.put(RESULTS.POSITION, entity.getPosition());
+        return values;
+    }
+
     @Override
     public Optional<Result> findBySessionIdAndCarEntryId(Long sessionId, Long carEntryId) {
         Record record = dsl.select()
@@ -121,42 +154,111 @@ public class ResultRepositoryImpl extends BaseRepositoryImpl<Result, Long> imple
     }
 
     @Override
-    public List<Result> batchSave(List<Result> results) {
-        if (results == null || results.isEmpty()) return List.of();
-        var insertStep = dsl.insertInto(table)
-                .columns(
-                        RESULTS.SESSION_ID,
-                        RESULTS.CAR_ENTRY_ID,
-                        RESULTS.CAR_NUMBER,
-                        RESULTS.TIRES,
-                        RESULTS.STATUS,
-                        RESULTS.LAPS,
-                        RESULTS.TOTAL_TIME,
-                        RESULTS.GAP_FIRST,
-                        RESULTS.GAP_PREVIOUS,
-                        RESULTS.FL_LAPNUM,
-                        RESULTS.FL_TIME,
-                        RESULTS.FL_KPH,
-                        RESULTS.POSITION
-                );
-        for (Result entity : results) {
-            insertStep = insertStep.values(
-                    entity.getSessionId(),
-                    entity.getCarEntryId(),
-                    entity.getCarNumber(),
-                    entity.getTires(),
-                    entity.getStatus(),
-                    entity.getLaps(),
-                    entity.getTotalTime(),
-                    entity.getGapFirst(),
-                    entity.getGapPrevious(),
-                    entity.getFlLapnum(),
-                    entity.getFlTime(),
-                    entity.getFlKph(),
-                    entity.getPosition()
+    public ResultsResponseDTO findResultsWithCarsAndDriversBySessionId(Long sessionId) {
+        // Keyed by result ID; a result appears once per driver of its car
+        Map<Long, ResultDTO> resultMap = new LinkedHashMap<>();
+
+        // Fetch all results, cars, models, teams and drivers for the session in a single query
+        var records = dsl.select(RESULT_DETAIL_FIELDS)
+                .from(RESULTS)
+                .leftJoin(Tables.CAR_ENTRIES).on(Tables.CAR_ENTRIES.ID.eq(RESULTS.CAR_ENTRY_ID))
+                .leftJoin(Tables.CAR_MODELS).on(Tables.CAR_MODELS.ID.eq(Tables.CAR_ENTRIES.CAR_MODEL_ID))
+                .leftJoin(Tables.TEAMS).on(Tables.TEAMS.ID.eq(Tables.CAR_ENTRIES.TEAM_ID))
+                .leftJoin(Tables.CAR_DRIVERS).on(Tables.CAR_DRIVERS.CAR_ID.eq(Tables.CAR_ENTRIES.ID))
+                .leftJoin(Tables.DRIVERS).on(Tables.DRIVERS.ID.eq(Tables.CAR_DRIVERS.DRIVER_ID))
+                .where(RESULTS.SESSION_ID.eq(sessionId))
+                .orderBy(RESULTS.ID, Tables.CAR_DRIVERS.DRIVER_NUMBER)
+                .fetch();
+
+        for (Record record : records) {
+            ResultDTO resultDTO = resultMap.computeIfAbsent(record.get(RESULTS.ID),
+                    id -> toResultDTO(mapToEntity(record), toCarEntryDTO(record)));
+
+            // Cars without drivers, and results without a car, still produce one row with no driver
+            if (resultDTO.getCarEntry() != null && record.get(Tables.DRIVERS.ID) != null) {
+                resultDTO.getCarEntry().addDriver(new DriverDTO(
+                        record.get(Tables.DRIVERS.ID),
+                        record.get(Tables.DRIVERS.FIRST_NAME),
+                        record.get(Tables.DRIVERS.LAST_NAME),
+                        record.get(Tables.DRIVERS.NATIONALITY),
+                        record.get(Tables.DRIVERS.HOMETOWN),
+                        record.get(Tables.DRIVERS.LICENSE_TYPE),
+                        record.get(Tables.CAR_DRIVERS.DRIVER_NUMBER)
+                ));
+            }
+        }
+
+        return new ResultsResponseDTO(sessionId, new ArrayList<>(resultMap.values()));
+    }
+
+    private static CarEntryDTO toCarEntryDTO(Record record) {
+        Long carId = record.get(Tables.CAR_ENTRIES.ID);
+        if (carId == null) {
+            return null;
+        }
+        CarModelDTO carModelDTO = null;
+        if (record.get(Tables.CAR_MODELS.ID) != null) {
+            carModelDTO = new CarModelDTO(
+                    record.get(Tables.CAR_MODELS.ID),
+                    record.get(Tables.CAR_MODELS.NAME),
+                    record.get(Tables.CAR_MODELS.FULL_NAME),
+                    record.get(Tables.CAR_MODELS.YEAR_MODEL),
+                    record.get(Tables.CAR_MODELS.DESCRIPTION)
             );
         }
-        var inserted = insertStep.returning().fetch();
-        return inserted.map(this::mapToEntity);
+        return new CarEntryDTO(
+                carId,
+                record.get(Tables.CAR_ENTRIES.NUMBER),
+                carModelDTO,
+                record.get(Tables.CAR_ENTRIES.TIRE_SUPPLIER),
+                record.get(Tables.CAR_ENTRIES.CLASS_ID),
+                record.get(Tables.CAR_ENTRIES.TEAM_ID),
+                record.get(Tables.TEAMS.NAME)
+        );
+    }
+
+    private static ResultDTO toResultDTO(Result result, CarEntryDTO carEntryDTO) {
+        return new ResultDTO(
+                result.getId(),
+                result.getSessionId(),
+                result.getCarEntryId(),
+                result.getCarNumber(),
+                result.getTires(),
+                result.getStatus(),
+                result.getLaps(),
+                result.getTotalTime(),
+                result.getGapFirst(),
+                result.getGapPrevious(),
+                result.getFlLapnum(),
+                result.getFlTime() != null ? result.getFlTime().format() : null,
+                result.getFlKph(),
+                result.getPosition(),
+                carEntryDTO
+        );
+    }
+
+    private static List<Field<?>> buildResultDetailFields() {
+        List<Field<?>> fields = new ArrayList<>(List.of(RESULTS.fields()));
+        fields.addAll(List.of(
+                Tables.CAR_ENTRIES.ID,
+                Tables.CAR_ENTRIES.NUMBER,
+                Tables.CAR_ENTRIES.TIRE_SUPPLIER,
+                Tables.CAR_ENTRIES.CLASS_ID,
+                Tables.CAR_ENTRIES.TEAM_ID,
+                Tables.CAR_MODELS.ID,
+                Tables.CAR_MODELS.NAME,
+                Tables.CAR_MODELS.FULL_NAME,
+                Tables.CAR_MODELS.YEAR_MODEL,
+                Tables.CAR_MODELS.DESCRIPTION,
+                Tables.TEAMS.NAME,
+                Tables.CAR_DRIVERS.DRIVER_NUMBER,
+                Tables.DRIVERS.ID,
+                Tables.DRIVERS.FIRST_NAME,
+                Tables.DRIVERS.LAST_NAME,
+                Tables.DRIVERS.NATIONALITY,
+                Tables.DRIVERS.HOMETOWN,
+                Tables.DRIVERS.LICENSE_TYPE
+        ));
+        return List.copyOf(fields);
     }
 } 
\ No newline at end of file
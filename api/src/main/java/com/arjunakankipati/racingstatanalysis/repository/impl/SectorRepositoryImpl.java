@@ -4,12 +4,15 @@ import com.arjunakankipati.racingstatanalysis.jooq.Tables;
 import com.arjunakankipati.racingstatanalysis.model.Sector;
 import com.arjunakankipati.racingstatanalysis.repository.SectorRepository;
 import org.jooq.DSLContext;
+import org.jooq.Field;
 import org.jooq.Record;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 
@@ -41,7 +44,7 @@ public class SectorRepositoryImpl extends BaseRepositoryImpl<Sector, Long> imple
                 secRec.getId(),
                 secRec.getLapId(),
                 secRec.getSectorNumber(),
-                secRec.getSectorTimeSeconds(),
+                LapTimeConverter.INSTANCE.from(secRec.getSectorTimeSeconds()),
                 secRec.getIsPersonalBest(),
                 secRec.getIsSessionBest()
         );
@@ -60,7 +63,7 @@ public class SectorRepositoryImpl extends BaseRepositoryImpl<Sector, Long> imple
                 .values(
                         sector.getLapId(),
                         sector.getSectorNumber(),
-                        sector.getSectorTimeSeconds(),
+                        LapTimeConverter.INSTANCE.to(sector.getSectorTime()),
                         sector.getIsPersonalBest(),
                         sector.getIsSessionBest()
                 )
@@ -75,13 +78,24 @@ public class SectorRepositoryImpl extends BaseRepositoryImpl<Sector, Long> imple
         dsl.update(table)
                 .set(Tables.SECTORS.LAP_ID, sector.getLapId())
                 .set(Tables.SECTORS.SECTOR_NUMBER, sector.getSectorNumber())
-                .set(Tables.SECTORS.SECTOR_TIME_SECONDS, sector.getSectorTimeSeconds())
+                .set(Tables.SECTORS.SECTOR_TIME_SECONDS, LapTimeConverter.INSTANCE.to(sector.getSectorTime()))
                 .set(Tables.SECTORS.IS_PERSONAL_BEST, sector.getIsPersonalBest())
                 .set(Tables.SECTORS.IS_SESSION_BEST, sector.getIsSessionBest())
                 .where(idField.eq(sector.getId()))
                 .execute();
     }
 
+    @Override
+    protected Map<Field<?>, Object> columnValues(Sector sector) {
+        Map<Field<?>, Object> values = new LinkedHashMap<>();
+        values.put(Tables.SECTORS.LAP_ID, sector.getLapId());
+        values.put(Tables.SECTORS.SECTOR_NUMBER, sector.getSectorNumber());
+        values.put(Tables.SECTORS.SECTOR_TIME_SECONDS, LapTimeConverter.INSTANCE.to(sector.getSectorTime()));
+        values.put(Tables.SECTORS.IS_PERSONAL_BEST, sector.getIsPersonalBest());
+        values.put(Tables.SECTORS.IS_SESSION_BEST, sector.getIsSessionBest());
+        return values;
+    }
+
     @Override
     public List<Sector> findByLapId(Long lapId) {
         return dsl.select()
@@ -149,7 +163,7 @@ public class SectorRepositoryImpl extends BaseRepositoryImpl<Sector, Long> imple
             insertStep = insertStep.values(
                 sector.getLapId(),
                 sector.getSectorNumber(),
-                sector.getSectorTimeSeconds(),
+                LapTimeConverter.INSTANCE.to(sector.getSectorTime()),
                 sector.getIsPersonalBest(),
                     sector.getIsSessionBest()
             );
@@ -161,4 +175,23 @@ public class SectorRepositoryImpl extends BaseRepositoryImpl<Sector, Long> imple
         }
         return savedSectors;
     }
+
+    @Override
+    public long copyAll(List<Sector> sectors) {
+        return PgCopyWriter.copy(dsl, table,
+                PgCopyWriter.columns(
+                        Tables.SECTORS.LAP_ID,
+                        Tables.SECTORS.SECTOR_NUMBER,
+                        Tables.SECTORS.SECTOR_TIME_SECONDS,
+                        Tables.SECTORS.IS_PERSONAL_BEST,
+                        Tables.SECTORS.IS_SESSION_BEST
+                ),
+                sectors,
+                (sector, row) -> row
+                        .value(sector.getLapId())
+                        .value(sector.getSectorNumber())
+                        .value(sector.getSectorTime())
+                        .value(sector.getIsPersonalBest())
+                        .value(sector.getIsSessionBest()));
+    }
 }
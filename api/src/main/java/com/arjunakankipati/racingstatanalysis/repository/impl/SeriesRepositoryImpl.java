@@ -1,13 +1,20 @@
 package com.arjunakankipati.racingstatanalysis.repository.impl;
 
+import com.arjunakankipati.racingstatanalysis.dto.SeriesResponseDTO;
 import com.arjunakankipati.racingstatanalysis.jooq.Tables;
 import com.arjunakankipati.racingstatanalysis.model.Series;
 import com.arjunakankipati.racingstatanalysis.repository.SeriesRepository;
 import org.jooq.DSLContext;
+import org.jooq.Field;
 import org.jooq.Record;
+import org.jooq.impl.DSL;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.jooq.impl.DSL.field;
@@ -73,4 +80,35 @@ public class SeriesRepositoryImpl extends BaseRepositoryImpl<Series, Long> imple
                 .where(idField.eq(series.getId()))
                 .execute();
     }
+
+    @Override
+    protected Map<Field<?>, Object> columnValues(Series series) {
+        Map<Field<?>, Object> values = new LinkedHashMap<>();
+        values.put(Tables.SERIES.NAME, series.getName());
+        values.put(Tables.SERIES.DESCRIPTION, series.getDescription());
+        return values;
+    }
+
+    @Override
+    public List<SeriesResponseDTO> findAllWithEventCountsAndYears() {
+        Field<Integer> eventCount = DSL.count(Tables.EVENTS.ID).as("event_count");
+        // Null when the series has no events
+        Field<Integer[]> years = DSL.arrayAggDistinct(Tables.EVENTS.YEAR)
+                .orderBy(Tables.EVENTS.YEAR.desc())
+                .filterWhere(Tables.EVENTS.YEAR.isNotNull())
+                .as("years");
+
+        return dsl.select(Tables.SERIES.ID, Tables.SERIES.NAME, eventCount, years)
+                .from(Tables.SERIES)
+                .leftJoin(Tables.EVENTS).on(Tables.EVENTS.SERIES_ID.eq(Tables.SERIES.ID))
+                .groupBy(Tables.SERIES.ID, Tables.SERIES.NAME)
+                .orderBy(Tables.SERIES.ID)
+                .fetch()
+                .map(record -> new SeriesResponseDTO(
+                        record.get(Tables.SERIES.ID),
+                        record.get(Tables.SERIES.NAME),
+                        record.get(eventCount),
+                        record.get(years) == null ? List.of() : Arrays.asList(record.get(years))
+                ));
+    }
 }
@@ -1,14 +1,20 @@
 package com.arjunakankipati.racingstatanalysis.repository.impl;
 
 import com.arjunakankipati.racingstatanalysis.jooq.Tables;
+import com.arjunakankipati.racingstatanalysis.model.DataVersion;
 import com.arjunakankipati.racingstatanalysis.model.Session;
 import com.arjunakankipati.racingstatanalysis.repository.SessionRepository;
 import org.jooq.DSLContext;
+import org.jooq.Field;
 import org.jooq.Record;
+import org.jooq.impl.DSL;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 /**
  * Implementation of the SessionRepository interface using JOOQ.
@@ -79,6 +85,17 @@ public class SessionRepositoryImpl extends BaseRepositoryImpl<Session, Long> imp
                 .execute();
     }
 
+    @Override
+    protected Map<Field<?>, Object> columnValues(Session session) {
+        Map<Field<?>, Object> values = new LinkedHashMap<>();
+        values.put(Tables.SESSIONS.EVENT_ID, session.getEventId());
+        values.put(Tables.SESSIONS.NAME, session.getName());
+        values.put(Tables.SESSIONS.TYPE, session.getType());
+        values.put(Tables.SESSIONS.START_DATETIME, session.getStartDatetime());
+        values.put(Tables.SESSIONS.DURATION_SECONDS, session.getDurationSeconds());
+        return values;
+    }
+
     @Override
     public List<Session> findByEventId(Long eventId) {
         return dsl.select()
@@ -87,4 +104,39 @@ public class SessionRepositoryImpl extends BaseRepositoryImpl<Session, Long> imp
                 .fetch()
                 .map(this::mapToEntity);
     }
+
+    @Override
+    public Optional<DataVersion> findDataVersion(Long sessionId) {
+        return dsl.select(Tables.SESSIONS.DATA_VERSION, Tables.SESSIONS.DATA_UPDATED_AT)
+                .from(table)
+                .where(idField.eq(sessionId))
+                .fetchOptional(r -> new DataVersion(r.value1(), r.value2()));
+    }
+
+    @Override
+    public Map<Long, Long> findDataVersionsByEventId(Long eventId) {
+        return dsl.select(idField, Tables.SESSIONS.DATA_VERSION)
+                .from(table)
+                .where(Tables.SESSIONS.EVENT_ID.eq(eventId))
+                .fetchMap(idField, Tables.SESSIONS.DATA_VERSION);
+    }
+
+    @Override
+    public DataVersion findEventDataVersion(Long eventId) {
+        // Bumped by a trigger on sessions whenever a session is added, removed or has its data version bumped
+        return dsl.select(Tables.EVENTS.DATA_VERSION, Tables.EVENTS.DATA_UPDATED_AT)
+                .from(Tables.EVENTS)
+                .where(Tables.EVENTS.ID.eq(eventId))
+                .fetchOptional(r -> new DataVersion(r.value1(), r.value2()))
+                .orElse(new DataVersion(0, null));
+    }
+
+    @Override
+    public void incrementDataVersion(Long sessionId) {
+        dsl.update(table)
+                .set(Tables.SESSIONS.DATA_VERSION, Tables.SESSIONS.DATA_VERSION.plus(1L))
+                .set(Tables.SESSIONS.DATA_UPDATED_AT, DSL.currentLocalDateTime())
+                .where(idField.eq(sessionId))
+                .execute();
+    }
 }
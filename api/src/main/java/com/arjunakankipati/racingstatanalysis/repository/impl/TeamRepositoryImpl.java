@@ -8,12 +8,16 @@ import com.arjunakankipati.racingstatanalysis.jooq.Tables;
 import com.arjunakankipati.racingstatanalysis.model.Team;
 import com.arjunakankipati.racingstatanalysis.repository.TeamRepository;
 import org.jooq.DSLContext;
+import org.jooq.Field;
 import org.jooq.Record;
 import org.jooq.Result;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
 
@@ -22,7 +26,7 @@ import java.util.Optional;
  * Extends BaseRepositoryImpl to inherit common CRUD operations.
  */
 @Repository
-public class TeamRepositoryImpl extends BaseRepositoryImpl<Team, Long> implements TeamRepository {
+public class TeamRepositoryImpl extends CachingRepositoryImpl<Team, Long> implements TeamRepository {
 
     /**
      * Constructor with DSLContext dependency injection.
@@ -73,6 +77,14 @@ public class TeamRepositoryImpl extends BaseRepositoryImpl<Team, Long> implement
                 .execute();
     }
 
+    @Override
+    protected Map<Field<?>, Object> columnValues(Team team) {
+        Map<Field<?>, Object> values = new LinkedHashMap<>();
+        values.put(Tables.TEAMS.NAME, team.getName());
+        values.put(Tables.TEAMS.DESCRIPTION, team.getDescription());
+        return values;
+    }
+
     @Override
     public Optional<Team> findByName(String name) {
         Record record = dsl.select()
@@ -171,4 +183,30 @@ public class TeamRepositoryImpl extends BaseRepositoryImpl<Team, Long> implement
 
         return teamMap;
     }
+
+    @Override
+    public Map<String, Team> findOrCreateByNames(Collection<String> names) {
+        Map<String, Team> teams = new HashMap<>();
+        if (names == null || names.isEmpty()) return teams;
+
+        // Insert the names that are missing; existing teams are left untouched
+        var insertStep = dsl.insertInto(table)
+                .columns(Tables.TEAMS.NAME);
+        for (String name : inLockOrder(names, Comparator.naturalOrder())) {
+            insertStep = insertStep.values(name);
+        }
+        insertStep.onConflict(Tables.TEAMS.NAME).doNothing().execute();
+
+        // Fetch every requested team, whether it was just created or already existed
+        dsl.select()
+                .from(table)
+                .where(Tables.TEAMS.NAME.in(names))
+                .fetch()
+                .forEach(record -> {
+                    cache(record);
+                    Team team = mapToEntity(record);
+                    teams.put(team.getName(), team);
+                });
+        return teams;
+    }
 }
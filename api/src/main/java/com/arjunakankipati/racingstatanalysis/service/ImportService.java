@@ -1,20 +1,26 @@
 package com.arjunakankipati.racingstatanalysis.service;
 
+import com.arjunakankipati.racingstatanalysis.config.ImportExecutorConfig;
 import com.arjunakankipati.racingstatanalysis.dto.ProcessRequestDTO;
 import com.arjunakankipati.racingstatanalysis.dto.ProcessResponseDTO;
 import org.springframework.scheduling.annotation.Async;
 
+import java.io.IOException;
+import java.io.InputStream;
+
 /**
  * Service interface for importing timing data.
  */
 public interface ImportService {
 
     /**
-     * Processes the import for a given job ID (called asynchronously).
+     * Processes the import for a given job ID (called asynchronously on the import executor).
+     * If the request owns a spooled upload ({@link ProcessRequestDTO#isSpooledUpload()}), it is deleted once the import finishes.
      * @param jobId the import job ID
      * @param request the import request
+     * @throws org.springframework.core.task.TaskRejectedException if the import queue is full
      */
-    @Async
+    @Async(ImportExecutorConfig.IMPORT_EXECUTOR)
     void processImport(Integer jobId, ProcessRequestDTO request);
 
     /**
@@ -26,4 +32,20 @@ public interface ImportService {
     ProcessResponseDTO processResultsCsv(ProcessRequestDTO request);
 
     ProcessResponseDTO processTimecardCsv(ProcessRequestDTO request);
+
+    /**
+     * Streams an uploaded CSV to a spool file, so it can be imported as a local file.
+     *
+     * @param content the uploaded CSV
+     * @return the path of the spool file
+     * @throws IOException if the spool file cannot be written
+     */
+    String spoolUpload(InputStream content) throws IOException;
+
+    /**
+     * Deletes a spool file created by {@link #spoolUpload}. Paths outside the spool directory are ignored.
+     *
+     * @param filePath the path of the spool file, or null
+     */
+    void discardUpload(String filePath);
 }
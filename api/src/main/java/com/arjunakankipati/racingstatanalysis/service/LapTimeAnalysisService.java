@@ -0,0 +1,28 @@
+package com.arjunakankipati.racingstatanalysis.service;
+
+import com.arjunakankipati.racingstatanalysis.dto.LapTimeAnalysisResponseDTO;
+
+import java.util.List;
+
+public interface LapTimeAnalysisService {
+    /**
+     * Gets the overall and per-driver lap time analysis for an event.
+     * Responses are cached until an import into one of the event's sessions finishes.
+     *
+     * Each further percentage adds its own average to every analysis in the response, so a client can
+     * switch between them without another request.
+     *
+     * @param eventId     the ID of the event
+     * @param percentage  the percentage of top lap times to include in the averages
+     * @param percentages further top percentages to report averages for, possibly empty
+     * @param classId     optional filter by class ID, or null
+     * @param carId       optional filter by car model ID, or null
+     * @param sessionId   optional filter by session ID, or null
+     * @param offset      optional pagination offset, or null
+     * @param limit       optional pagination limit, or null
+     * @return the lap time analysis for the event
+     */
+    LapTimeAnalysisResponseDTO getLapTimeAnalysisForEvent(Long eventId, int percentage, List<Integer> percentages,
+                                                          Long classId, Long carId, Long sessionId,
+                                                          Integer offset, Integer limit);
+}
@@ -0,0 +1,17 @@
+package com.arjunakankipati.racingstatanalysis.service;
+
+import com.arjunakankipati.racingstatanalysis.dto.ResultsResponseDTO;
+
+/**
+ * Service interface for session result operations.
+ */
+public interface ResultService {
+
+    /**
+     * Finds all results for a session, each with its car entry, car model, team and drivers.
+     *
+     * @param sessionId the ID of the session
+     * @return a response containing the results for the session
+     */
+    ResultsResponseDTO findResultsBySessionId(Long sessionId);
+}
@@ -0,0 +1,10 @@
+package com.arjunakankipati.racingstatanalysis.service;
+
+/**
+ * Published when an event is added to a series, so anything derived from the series' events,
+ * such as the years it ran in, can be refreshed.
+ *
+ * @param seriesId the ID of the series whose events changed
+ */
+public record SeriesEventsChangedEvent(Long seriesId) {
+}
@@ -18,6 +18,15 @@ public interface SeriesService {
      */
     List<SeriesResponseDTO> findAll();
 
+    /**
+     * Finds the years a series has events in.
+     *
+     * @param seriesId the ID of the series
+     * @return the distinct years, most recent first
+     * @throws com.arjunakankipati.racingstatanalysis.exceptions.ResourceNotFoundException if the series is not found
+     */
+    List<Integer> findYearsBySeriesId(Long seriesId);
+
     /**
      * Creates a new series.
      *
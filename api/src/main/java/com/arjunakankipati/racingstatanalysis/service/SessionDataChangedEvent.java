@@ -0,0 +1,10 @@
+package com.arjunakankipati.racingstatanalysis.service;
+
+/**
+ * Published when an import into a session finishes, so anything derived from the session's laps,
+ * sectors or results can be refreshed.
+ *
+ * @param sessionId the ID of the session whose data changed
+ */
+public record SessionDataChangedEvent(Long sessionId) {
+}
@@ -0,0 +1,291 @@
+package com.arjunakankipati.racingstatanalysis.service.impl;
+
+import com.arjunakankipati.racingstatanalysis.analysis.LapStatistics;
+import com.arjunakankipati.racingstatanalysis.analysis.SessionLaps;
+import com.arjunakankipati.racingstatanalysis.dto.DriverLapTimeAnalysisDTO;
+import com.arjunakankipati.racingstatanalysis.dto.LapTimeAnalysisDTO;
+import com.arjunakankipati.racingstatanalysis.dto.LapTimeAnalysisResponseDTO;
+import com.arjunakankipati.racingstatanalysis.model.LapTime;
+import com.arjunakankipati.racingstatanalysis.repository.LapRepository;
+import com.arjunakankipati.racingstatanalysis.repository.SessionRepository;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Lap time analysis answered from in-memory columnar copies of each session's laps instead of SQL.
+ * Sessions are loaded on first use and kept in an LRU cache bounded by their estimated size in bytes,
+ * so the database is only read on a miss. Misses are loaded through a {@link SingleFlightLoader}, so a virtual
+ * thread is not pinned while a session's laps are read. Results match the SQL analysis in {@code LapRepositoryImpl},
+ * except that averages and medians are rounded to the millisecond from exact integer arithmetic.
+ * Enabled with {@code analysis.columnar.enabled=true}.
+ */
+@Component
+@ConditionalOnProperty(name = "analysis.columnar.enabled", havingValue = "true")
+public class ColumnarLapAnalysis implements MeterBinder {
+
+    private static final String CACHE_NAME = "sessionLaps";
+    private static final String NO_TIME = LapTime.ZERO.format();
+    // An entry is only the IDs and versions of an event's sessions, so the bound can be generous
+    private static final int MAX_CACHED_EVENTS = 10_000;
+
+    private final LapRepository lapRepository;
+    private final SessionRepository sessionRepository;
+    private final Cache<SessionKey, SessionLaps> sessions;
+    private final SingleFlightLoader<SessionKey, SessionLaps> sessionLoader;
+    // Keyed by data versions read on the pool the laps are read from, so a replica that has not replayed the
+    // latest import never stores its older laps under the new version
+    private final Cache<EventKey, Map<Long, Long>> eventSessionVersions = CacheBuilder.newBuilder()
+            .maximumSize(MAX_CACHED_EVENTS)
+            .build();
+    private final SingleFlightLoader<EventKey, Map<Long, Long>> eventSessionVersionsLoader =
+            SingleFlightLoader.of(eventSessionVersions);
+
+    /**
+     * Constructor with repository dependency injection.
+     */
+    @Autowired
+    public ColumnarLapAnalysis(LapRepository lapRepository,
+                               SessionRepository sessionRepository,
+                               @Value("${analysis.columnar.max-bytes:268435456}") long maxBytes) {
+        this.lapRepository = lapRepository;
+        this.sessionRepository = sessionRepository;
+        this.sessions = CacheBuilder.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((SessionKey key, SessionLaps laps) -> (int) Math.min(Integer.MAX_VALUE, laps.estimatedBytes()))
+                .recordStats()
+                .build();
+        this.sessionLoader = SingleFlightLoader.of(sessions);
+    }
+
+    /**
+     * Calculates the overall and per-driver lap time analysis for an event.
+     *
+     * @param eventId      the ID of the event
+     * @param eventVersion the data version of the event, as read for the caller's own cache key
+     * @param percentage  the percentage of top lap times to include in the averages
+     * @param percentages further top percentages to report averages for, possibly empty
+     * @param classId     optional filter by class ID, or null
+     * @param carModelId  optional filter by car model ID, or null
+     * @param sessionId   optional filter by session ID, or null
+     * @param offset      optional pagination offset, or null
+     * @param limit       optional pagination limit, or null
+     * @return the lap time analysis for the event
+     */
+    public LapTimeAnalysisResponseDTO analyze(Long eventId, long eventVersion, int percentage, List<Integer> percentages,
+                                              Long classId, Long carModelId, Long sessionId, Integer offset,
+                                              Integer limit) {
+        int[] eventTimes = new int[256];
+        int eventLapCount = 0;
+        Map<Long, DriverLaps> driverLaps = new LinkedHashMap<>();
+
+        for (SessionLaps laps : sessionsOf(eventId, eventVersion, sessionId)) {
+            for (int lap = 0; lap < laps.getLapCount(); lap++) {
+                SessionLaps.Car car = laps.car(lap);
+                if ((classId != null && !classId.equals(car.classId()))
+                        || (carModelId != null && !carModelId.equals(car.carModelId()))) {
+                    continue;
+                }
+                int lapTime = laps.lapTimeMillis(lap);
+                if (eventLapCount == eventTimes.length) {
+                    eventTimes = Arrays.copyOf(eventTimes, eventLapCount * 2);
+                }
+                eventTimes[eventLapCount++] = lapTime;
+
+                SessionLaps.Driver driver = laps.driver(lap);
+                if (driver != null) {
+                    driverLaps.computeIfAbsent(driver.id(), id -> new DriverLaps(driver)).add(lapTime, car);
+                }
+            }
+        }
+
+        LapTimeAnalysisDTO overallAnalysis = analyzeEvent(eventId, percentage, percentages, eventTimes, eventLapCount,
+                offset, limit);
+        List<DriverLapTimeAnalysisDTO> driverAnalyses = analyzeDrivers(driverLaps.values(), percentage, percentages,
+                offset, limit);
+        return new LapTimeAnalysisResponseDTO(eventId, driverAnalyses, overallAnalysis);
+    }
+
+    /**
+     * Drops the cached laps of a session, and the cached session versions of its event. Entries are keyed by
+     * data version, so this only frees them early; an import elsewhere is picked up by its new version.
+     *
+     * @param sessionId the ID of the session whose data changed
+     * @param eventId   the ID of the event the session belongs to
+     */
+    public void evictSession(Long sessionId, Long eventId) {
+        sessions.asMap().keySet().removeIf(key -> key.sessionId() == sessionId);
+        eventSessionVersions.asMap().keySet().removeIf(key -> key.eventId() == eventId);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        GuavaCacheMetrics.monitor(registry, sessions, CACHE_NAME);
+    }
+
+    private LapTimeAnalysisDTO analyzeEvent(Long eventId, int percentage, List<Integer> percentages, int[] times,
+                                            int count, Integer offset, Integer limit) {
+        // The SQL version pages its single aggregate row, so any offset or a zero limit leaves nothing
+        boolean pagedOut = (offset != null && offset > 0) || (limit != null && limit <= 0);
+        if (count == 0 || pagedOut) {
+            LapTimeAnalysisDTO empty = new LapTimeAnalysisDTO(NO_TIME, NO_TIME, NO_TIME, 0, eventId);
+            if (!percentages.isEmpty()) {
+                Map<Integer, String> averages = new LinkedHashMap<>();
+                percentages.forEach(p -> averages.put(p, NO_TIME));
+                empty.setAverageLapTimes(averages);
+            }
+            return empty;
+        }
+        LapStats stats = LapStats.of(times, count, percentage, percentages);
+        LapTimeAnalysisDTO analysis = new LapTimeAnalysisDTO(format(LapStatistics.average(stats.topSum(), stats.topCount())),
+                format(stats.fastest()), format(stats.median()), count, eventId);
+        analysis.setAverageLapTimes(stats.averages());
+        return analysis;
+    }
+
+    private List<DriverLapTimeAnalysisDTO> analyzeDrivers(Iterable<DriverLaps> drivers, int percentage,
+                                                          List<Integer> percentages, Integer offset, Integer limit) {
+        List<DriverRow> rows = new ArrayList<>();
+        for (DriverLaps laps : drivers) {
+            LapStats stats = LapStats.of(laps.times, laps.count, percentage, percentages);
+            for (SessionLaps.Car car : laps.cars.values()) {
+                // The SQL version inner-joins the car's team, class and model, dropping cars without one
+                if (car.teamId() != null && car.classId() != null && car.carModelId() != null) {
+                    rows.add(new DriverRow(laps.driver, car, stats, laps.count));
+                }
+            }
+        }
+        rows.sort(Comparator.comparingDouble((DriverRow row) -> (double) row.stats().topSum() / row.stats().topCount())
+                .thenComparingLong(row -> row.driver().id())
+                .thenComparingLong(row -> row.car().id()));
+
+        int from = Math.min(rows.size(), offset == null ? 0 : Math.max(0, offset));
+        int to = limit == null ? rows.size() : (int) Math.min(rows.size(), (long) from + Math.max(0, limit));
+        List<DriverLapTimeAnalysisDTO> analyses = new ArrayList<>(to - from);
+        for (DriverRow row : rows.subList(from, to)) {
+            SessionLaps.Driver driver = row.driver();
+            SessionLaps.Car car = row.car();
+            LapStats stats = row.stats();
+            DriverLapTimeAnalysisDTO analysis = new DriverLapTimeAnalysisDTO(
+                    driver.id(), driver.firstName() + " " + driver.lastName(), driver.nationality(),
+                    car.id(), car.number(), car.carModelName(),
+                    car.teamId(), car.teamName(),
+                    car.classId(), car.className(),
+                    format(LapStatistics.average(stats.topSum(), stats.topCount())),
+                    format(stats.fastest()),
+                    format(stats.median()),
+                    row.lapCount()
+            );
+            analysis.setAverageLapTimes(stats.averages());
+            analyses.add(analysis);
+        }
+        return analyses;
+    }
+
+    private List<SessionLaps> sessionsOf(Long eventId, long eventVersion, Long sessionId) {
+        EventKey eventKey = new EventKey(eventId, eventVersion);
+        Map<Long, Long> sessionVersions = eventSessionVersionsLoader.get(eventKey,
+                () -> sessionRepository.findDataVersionsByEventId(eventId));
+        List<SessionLaps> result = new ArrayList<>();
+        sessionVersions.forEach((id, version) -> {
+            if (sessionId == null || sessionId.equals(id)) {
+                sessionLaps(new SessionKey(id, version)).ifPresent(result::add);
+            }
+        });
+        return result;
+    }
+
+    private Optional<SessionLaps> sessionLaps(SessionKey key) {
+        try {
+            return Optional.of(sessionLoader.get(key, () -> lapRepository.findSessionLaps(key.sessionId())
+                    .orElseThrow(() -> new SessionNotFound(key.sessionId()))));
+        } catch (SessionNotFound e) {
+            // Deleted since the event's session list was loaded
+            return Optional.empty();
+        }
+    }
+
+    private static String format(long millis) {
+        return LapTime.ofMillis(millis).format();
+    }
+
+    private record EventKey(long eventId, long version) {
+    }
+
+    private record SessionKey(long sessionId, long version) {
+    }
+
+    private record DriverRow(SessionLaps.Driver driver, SessionLaps.Car car, LapStats stats, int lapCount) {
+    }
+
+    /**
+     * Statistics of one set of lap times.
+     *
+     * @param topSum   the sum of the fastest laps making up the main percentage
+     * @param topCount the number of those laps
+     * @param fastest  the fastest lap
+     * @param median   the median lap
+     * @param averages the formatted average of each further percentage, or null if none were requested
+     */
+    private record LapStats(long topSum, int topCount, long fastest, long median, Map<Integer, String> averages) {
+
+        static LapStats of(int[] times, int count, int percentage, List<Integer> percentages) {
+            int topCount = LapStatistics.topCount(count, percentage);
+            if (percentages.isEmpty()) {
+                return new LapStats(LapStatistics.sumOfSmallest(times, count, topCount), topCount,
+                        LapStatistics.min(times, count), LapStatistics.median(times, count), null);
+            }
+            // Sort once, then every top percentage is a prefix sum
+            Arrays.sort(times, 0, count);
+            long[] sums = LapStatistics.prefixSums(times, count);
+            Map<Integer, String> averages = new LinkedHashMap<>();
+            for (int p : percentages) {
+                int k = LapStatistics.topCount(count, p);
+                averages.put(p, format(LapStatistics.average(sums[k], k)));
+            }
+            return new LapStats(sums[topCount], topCount, times[0], LapStatistics.medianOfSorted(times, count), averages);
+        }
+    }
+
+    /**
+     * Lap times of one driver across every matching session, and the cars they drove.
+     */
+    private static final class DriverLaps {
+        private final SessionLaps.Driver driver;
+        private final Map<Long, SessionLaps.Car> cars = new LinkedHashMap<>();
+        private int[] times = new int[64];
+        private int count;
+
+        DriverLaps(SessionLaps.Driver driver) {
+            this.driver = driver;
+        }
+
+        void add(int lapTime, SessionLaps.Car car) {
+            if (count == times.length) {
+                times = Arrays.copyOf(times, count * 2);
+            }
+            times[count++] = lapTime;
+            cars.putIfAbsent(car.id(), car);
+        }
+    }
+
+    private static final class SessionNotFound extends RuntimeException {
+        SessionNotFound(Long sessionId) {
+            super("Session not found: " + sessionId, null, false, false);
+        }
+    }
+}
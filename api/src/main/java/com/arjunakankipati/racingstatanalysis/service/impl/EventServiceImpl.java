@@ -1,16 +1,21 @@
 package com.arjunakankipati.racingstatanalysis.service.impl;
 
+import com.arjunakankipati.racingstatanalysis.config.ReadFromReplica;
+import com.arjunakankipati.racingstatanalysis.config.ReplicaLagKey;
 import com.arjunakankipati.racingstatanalysis.dto.*;
 import com.arjunakankipati.racingstatanalysis.exceptions.ResourceNotFoundException;
 import com.arjunakankipati.racingstatanalysis.model.*;
 import com.arjunakankipati.racingstatanalysis.model.Class;
 import com.arjunakankipati.racingstatanalysis.repository.*;
 import com.arjunakankipati.racingstatanalysis.service.EventService;
+import com.arjunakankipati.racingstatanalysis.service.SeriesEventsChangedEvent;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 @Service
 public class EventServiceImpl implements EventService {
@@ -21,19 +26,17 @@ public class EventServiceImpl implements EventService {
     @Autowired
     private EventRepository eventRepository;
     @Autowired
-    private SessionRepository sessionRepository;
-    @Autowired
     private CarEntryRepository carEntryRepository;
     @Autowired
     private CarModelRepository carModelRepository;
     @Autowired
     private TeamRepository teamRepository;
     @Autowired
-    private CarDriverRepository carDriverRepository;
-    @Autowired
     private DriverRepository driverRepository;
     @Autowired
     private ClassRepository classRepository;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
 
     @Override
     public EventDTO createEvent(EventDTO eventDTO) {
@@ -46,6 +49,7 @@ public class EventServiceImpl implements EventService {
         event.setEndDate(eventDTO.getEndDate());
         event.setDescription(eventDTO.getDescription());
         Event saved = eventRepository.save(event);
+        eventPublisher.publishEvent(new SeriesEventsChangedEvent(saved.getSeriesId()));
         return new EventDTO(
                 saved.getId(),
                 saved.getSeriesId(),
@@ -85,7 +89,8 @@ public class EventServiceImpl implements EventService {
      * {@inheritDoc}
      */
     @Override
-    public TeamsResponseDTO findTeamsByEventId(Long eventId) {
+    @ReadFromReplica
+    public TeamsResponseDTO findTeamsByEventId(@ReplicaLagKey(ReplicaLagKey.Scope.EVENT) Long eventId) {
         // Find the event by ID
         Event event = eventRepository.findById(eventId)
                 .orElseThrow(ResourceNotFoundException::new);
@@ -106,7 +111,8 @@ public class EventServiceImpl implements EventService {
      * {@inheritDoc}
      */
     @Override
-    public ClassesResponseDTO findClassesByEventId(Long eventId) {
+    @ReadFromReplica
+    public ClassesResponseDTO findClassesByEventId(@ReplicaLagKey(ReplicaLagKey.Scope.EVENT) Long eventId) {
         // Find the event by ID
         Event event = eventRepository.findById(eventId)
                 .orElseThrow(ResourceNotFoundException::new);
@@ -132,7 +138,8 @@ public class EventServiceImpl implements EventService {
      * {@inheritDoc}
      */
     @Override
-    public CarsResponseDTO findCarsByEventIdAndClassId(Long eventId, Long classId) {
+    @ReadFromReplica
+    public CarsResponseDTO findCarsByEventIdAndClassId(@ReplicaLagKey(ReplicaLagKey.Scope.EVENT) Long eventId, Long classId) {
         // Find the event by ID
         Event event = eventRepository.findById(eventId)
                 .orElseThrow(ResourceNotFoundException::new);
@@ -141,38 +148,8 @@ public class EventServiceImpl implements EventService {
         Class clazz = classRepository.findById(classId)
                 .orElseThrow(ResourceNotFoundException::new);
 
-        // Find all car entries in this class for this event
-        List<CarEntry> carEntries = carEntryRepository.findByEventIdAndClassId(eventId, classId);
-
-        // Convert to DTOs with car model information
-        List<CarEntryDTO> carEntryDTOS = carEntries.stream()
-                .map(carEntry -> {
-                    // Get the car model information
-                    CarModel carModel = carModelRepository.findById(carEntry.getCarModelId())
-                            .orElse(null);
-
-                    CarModelDTO carModelDTO = null;
-                    if (carModel != null) {
-                        carModelDTO = new CarModelDTO(
-                                carModel.getId(),
-                                carModel.getName(),
-                                carModel.getFullName(),
-                                carModel.getYearModel(),
-                                carModel.getDescription()
-                        );
-                    }
-
-                    return new CarEntryDTO(
-                            carEntry.getId(),
-                            carEntry.getNumber(),
-                            carModelDTO,
-                            carEntry.getTireSupplier(),
-                            carEntry.getClassId(),
-                            carEntry.getTeamId(),
-                            null
-                    );
-                })
-                .toList();
+        // Fetch all car entries in this class for this event with their car models in a single query
+        List<CarEntryDTO> carEntryDTOS = carEntryRepository.findCarsWithModelsByEventIdAndClassId(eventId, classId);
 
         // Create response DTO
         return new CarsResponseDTO(event.getId(), event.getName(), clazz.getId(), clazz.getName(), carEntryDTOS);
@@ -182,7 +159,8 @@ public class EventServiceImpl implements EventService {
      * {@inheritDoc}
      */
     @Override
-    public CarModelsResponseDTO findCarModelsByEventIdAndClassId(Long eventId, Long classId) {
+    @ReadFromReplica
+    public CarModelsResponseDTO findCarModelsByEventIdAndClassId(@ReplicaLagKey(ReplicaLagKey.Scope.EVENT) Long eventId, Long classId) {
         // Find the event by ID
         Event event = eventRepository.findById(eventId)
                 .orElseThrow(ResourceNotFoundException::new);
@@ -191,30 +169,15 @@ public class EventServiceImpl implements EventService {
         Class clazz = classRepository.findById(classId)
                 .orElseThrow(ResourceNotFoundException::new);
 
-        // Find all car entries in this class for this event to get unique car models
-        List<CarEntry> carEntries = carEntryRepository.findByEventIdAndClassId(eventId, classId);
-
-        // Extract unique car models from car entries
-        List<CarModelDTO> carModelDTOs = carEntries.stream()
-                .map(carEntry -> {
-                    // Get the car model information
-                    CarModel carModel = carModelRepository.findById(carEntry.getCarModelId())
-                            .orElse(null);
-
-                    if (carModel != null) {
-                        CarModelDTO carModelDTO = new CarModelDTO(
-                                carModel.getId(),
-                                carModel.getName(),
-                                carModel.getFullName(),
-                                carModel.getYearModel(),
-                                carModel.getDescription()
-                        );
-                        return carModelDTO;
-                    }
-                    return null;
-                })
-                .filter(carModelDTO -> carModelDTO != null)
-                .distinct() // Remove duplicates based on car model ID
+        // Find the distinct car models entered in this class for this event
+        List<CarModelDTO> carModelDTOs = carModelRepository.findByEventIdAndClassId(eventId, classId).stream()
+                .map(carModel -> new CarModelDTO(
+                        carModel.getId(),
+                        carModel.getName(),
+                        carModel.getFullName(),
+                        carModel.getYearModel(),
+                        carModel.getDescription()
+                ))
                 .toList();
 
         // Create response DTO
@@ -225,82 +188,17 @@ public class EventServiceImpl implements EventService {
      * {@inheritDoc}
      */
     @Override
-    public DriversResponseDTO findDriversByEventId(Long eventId, Long carModelId, Long classId) {
+    @ReadFromReplica
+    public DriversResponseDTO findDriversByEventId(@ReplicaLagKey(ReplicaLagKey.Scope.EVENT) Long eventId, Long carModelId, Long classId) {
         // Find the event by ID
         Event event = eventRepository.findById(eventId)
                 .orElseThrow(ResourceNotFoundException::new);
 
-        // Get all car entries for the event
-        List<CarEntry> carEntries;
-        if (classId != null) {
-            // Filter by class if provided
-            carEntries = carEntryRepository.findByEventIdAndClassId(eventId, classId);
-        } else {
-            // Get all car entries for the event by getting all sessions and their car entries
-            List<Session> sessions = sessionRepository.findByEventId(eventId);
-            carEntries = sessions.stream()
-                    .flatMap(session -> carEntryRepository.findBySessionId(session.getId()).stream())
-                    .distinct()
-                    .toList();
-        }
-
-        // Filter by car model if provided
-        if (carModelId != null) {
-            carEntries = carEntries.stream()
-                    .filter(carEntry -> carModelId.equals(carEntry.getCarModelId()))
-                    .toList();
-        }
-
-        // Get all drivers for these car entries with team and car information
-        List<DriverWithTeamDTO> driverWithTeamDTOs = carEntries.stream()
-                .flatMap(carEntry -> {
-                    // Get car drivers for this car entry
-                    List<CarDriver> carDrivers = carDriverRepository.findByCarId(carEntry.getId());
-
-                    return carDrivers.stream()
-                            .map(carDriver -> {
-                                // Get driver information
-                                Driver driver = driverRepository.findById(carDriver.getDriverId()).orElse(null);
-                                if (driver != null) {
-                                    // Get team information
-                                    Team team = teamRepository.findById(carEntry.getTeamId()).orElse(null);
-                                    String teamName = team != null ? team.getName() : null;
-
-                                    // Get car model information
-                                    CarModel carModel = carModelRepository.findById(carEntry.getCarModelId()).orElse(null);
-                                    CarModelDTO carModelDTO = null;
-                                    if (carModel != null) {
-                                        carModelDTO = new CarModelDTO(
-                                                carModel.getId(),
-                                                carModel.getName(),
-                                                carModel.getFullName(),
-                                                carModel.getYearModel(),
-                                                carModel.getDescription()
-                                        );
-                                    }
-
-                                    return new DriverWithTeamDTO(
-                                            driver.getId(),
-                                            driver.getFirstName(),
-                                            driver.getLastName(),
-                                            driver.getNationality(),
-                                            driver.getHometown(),
-                                            driver.getLicenseType(),
-                                            carDriver.getDriverNumber(),
-                                            carEntry.getTeamId(),
-                                            teamName,
-                                            carEntry.getNumber(),
-                                            carModelDTO
-                                    );
-                                }
-                                return null;
-                            })
-                            .filter(driverWithTeamDTO -> driverWithTeamDTO != null);
-                })
-                .distinct() // Remove duplicate drivers
-                .toList();
+        // Fetch all drivers with their team and car information in a single query, filtered in SQL
+        List<DriverWithTeamDTO> driverWithTeamDTOs = driverRepository.findDriversWithTeamsByEventId(
+                eventId, Optional.ofNullable(carModelId), Optional.ofNullable(classId));
 
         // Create response DTO
         return new DriversResponseDTO(event.getId(), event.getName(), driverWithTeamDTOs);
     }
-} 
\ No newline at end of file
+}
@@ -3,8 +3,11 @@ package com.arjunakankipati.racingstatanalysis.service.impl;
 import com.arjunakankipati.racingstatanalysis.dto.ProcessRequestDTO;
 import com.arjunakankipati.racingstatanalysis.model.ImportJob;
 import com.arjunakankipati.racingstatanalysis.repository.ImportJobRepository;
+import com.arjunakankipati.racingstatanalysis.repository.SessionRepository;
 import com.arjunakankipati.racingstatanalysis.service.ImportJobService;
+import com.arjunakankipati.racingstatanalysis.service.SessionDataChangedEvent;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -14,10 +17,15 @@ import java.util.Optional;
 @Service
 public class ImportJobServiceImpl implements ImportJobService {
     private final ImportJobRepository importJobRepository;
+    private final SessionRepository sessionRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public ImportJobServiceImpl(ImportJobRepository importJobRepository) {
+    public ImportJobServiceImpl(ImportJobRepository importJobRepository, SessionRepository sessionRepository,
+                                ApplicationEventPublisher eventPublisher) {
         this.importJobRepository = importJobRepository;
+        this.sessionRepository = sessionRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -26,7 +34,7 @@ public class ImportJobServiceImpl implements ImportJobService {
         job.setStatus("PENDING");
         job.setCreatedAt(LocalDateTime.now());
         job.setUpdatedAt(LocalDateTime.now());
-        job.setUrl(request.getUrl());
+        job.setUrl(request.describeSource());
         job.setSessionId(request.getSessionId());
         job.setImportType(request.getImportType().name());
         job.setProcessType(request.getProcessType().name());
@@ -42,10 +50,12 @@ public class ImportJobServiceImpl implements ImportJobService {
     @Override
     public void markCompleted(Integer jobId) {
         importJobRepository.updateEndedAtAndStatusAndError(jobId, "COMPLETED", null);
+        publishSessionDataChanged(jobId);
     }
 
     @Override
     public void markFailed(Integer jobId, String error) {
+        // A failed import rolls back everything it wrote, so the session's data is unchanged
         importJobRepository.updateEndedAtAndStatusAndError(jobId, "FAILED", error);
     }
 
@@ -58,4 +68,14 @@ public class ImportJobServiceImpl implements ImportJobService {
     public List<ImportJob> getAllJobs() {
         return importJobRepository.findAll();
     }
+
+    private void publishSessionDataChanged(Integer jobId) {
+        importJobRepository.findById(jobId)
+                .map(ImportJob::getSessionId)
+                .ifPresent(sessionId -> {
+                    eventPublisher.publishEvent(new SessionDataChangedEvent(sessionId));
+                    // Bumped after listeners have evicted cached responses, so a new ETag never pairs with stale data
+                    sessionRepository.incrementDataVersion(sessionId);
+                });
+    }
 } 
\ No newline at end of file
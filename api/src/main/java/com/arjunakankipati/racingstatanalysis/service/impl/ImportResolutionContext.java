@@ -0,0 +1,119 @@
+package com.arjunakankipati.racingstatanalysis.service.impl;
+
+import com.arjunakankipati.racingstatanalysis.model.CarDriver;
+import com.arjunakankipati.racingstatanalysis.model.CarEntry;
+import com.arjunakankipati.racingstatanalysis.model.Driver;
+import com.arjunakankipati.racingstatanalysis.repository.CarDriverRepository;
+import com.arjunakankipati.racingstatanalysis.repository.CarEntryRepository;
+import com.arjunakankipati.racingstatanalysis.repository.DriverRepository;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Entities of a session needed to resolve timecard rows, loaded once per import.
+ * Car entries, car-driver associations and drivers are fetched in a fixed number of queries
+ * and indexed in hash maps, so resolving a row is an in-memory lookup.
+ */
+class ImportResolutionContext {
+
+    private final Long sessionId;
+    private final Map<String, CarEntry> carEntriesByNumber;
+    private final Map<CarDriverNumberKey, CarDriver> carDriversByNumber;
+    private final Map<CarDriverKey, CarDriver> carDriversByDriver;
+    private final Map<String, Driver> driversByName;
+
+    private ImportResolutionContext(Long sessionId,
+                                    List<CarEntry> carEntries,
+                                    List<CarDriver> carDrivers,
+                                    List<Driver> drivers) {
+        this.sessionId = sessionId;
+
+        this.carEntriesByNumber = new HashMap<>(carEntries.size() * 2);
+        for (CarEntry carEntry : carEntries) {
+            carEntriesByNumber.putIfAbsent(carEntry.getNumber(), carEntry);
+        }
+
+        this.carDriversByNumber = new HashMap<>(carDrivers.size() * 2);
+        this.carDriversByDriver = new HashMap<>(carDrivers.size() * 2);
+        for (CarDriver carDriver : carDrivers) {
+            carDriversByNumber.putIfAbsent(new CarDriverNumberKey(carDriver.getCarId(), carDriver.getDriverNumber()), carDriver);
+            carDriversByDriver.putIfAbsent(new CarDriverKey(carDriver.getCarId(), carDriver.getDriverId()), carDriver);
+        }
+
+        this.driversByName = new HashMap<>(drivers.size() * 2);
+        for (Driver driver : drivers) {
+            // Same "First Last" form that DriverRepository.findByName matches on
+            driversByName.putIfAbsent(driver.getFirstName() + " " + driver.getLastName(), driver);
+        }
+    }
+
+    /**
+     * Loads the car entries, car-driver associations and drivers of a session.
+     *
+     * @param sessionId            the ID of the session
+     * @param carEntryRepository   the car entry repository
+     * @param carDriverRepository  the car-driver repository
+     * @param driverRepository     the driver repository
+     * @return the resolution context
+     */
+    static ImportResolutionContext load(Long sessionId,
+                                        CarEntryRepository carEntryRepository,
+                                        CarDriverRepository carDriverRepository,
+                                        DriverRepository driverRepository) {
+        return new ImportResolutionContext(sessionId,
+                carEntryRepository.findBySessionId(sessionId),
+                carDriverRepository.findBySessionId(sessionId),
+                driverRepository.findBySessionId(sessionId));
+    }
+
+    /**
+     * Resolves a car entry by its number.
+     *
+     * @param carNumber the car number
+     * @return the car entry
+     * @throws IllegalArgumentException if the session has no car with that number
+     */
+    CarEntry carEntry(String carNumber) {
+        CarEntry carEntry = carEntriesByNumber.get(carNumber);
+        if (carEntry == null) {
+            throw new IllegalArgumentException("Car entry not found for session " + sessionId + " and car number " + carNumber);
+        }
+        return carEntry;
+    }
+
+    /**
+     * Resolves the car-driver association for a row, by driver number if present, otherwise by driver name.
+     *
+     * @param carEntry     the car entry of the row
+     * @param driverNumber the driver number, or null
+     * @param driverName   the driver's full name, or null
+     * @return the car-driver association
+     * @throws IllegalArgumentException if no association matches
+     */
+    CarDriver carDriver(CarEntry carEntry, Integer driverNumber, String driverName) {
+        if (driverNumber != null) {
+            CarDriver carDriver = carDriversByNumber.get(new CarDriverNumberKey(carEntry.getId(), driverNumber));
+            if (carDriver == null) {
+                throw new IllegalArgumentException("Car-driver association not found for car entry " + carEntry.getId() + " and driver number " + driverNumber);
+            }
+            return carDriver;
+        }
+        if (driverName != null && !driverName.isBlank()) {
+            Driver driver = driversByName.get(driverName);
+            CarDriver carDriver = driver == null ? null : carDriversByDriver.get(new CarDriverKey(carEntry.getId(), driver.getId()));
+            if (carDriver == null) {
+                throw new IllegalArgumentException("Car-driver association not found for car entry " + carEntry.getId() + " and driver name " + driverName);
+            }
+            return carDriver;
+        }
+        throw new IllegalArgumentException("Driver number or name must be present in timecard row");
+    }
+
+    private record CarDriverNumberKey(Long carId, Integer driverNumber) {
+    }
+
+    private record CarDriverKey(Long carId, Long driverId) {
+    }
+}
@@ -1,5 +1,11 @@
 package com.arjunakankipati.racingstatanalysis.service.impl;
 
+import com.arjunakankipati.racingstatanalysis.config.ConnectionPool;
+import com.arjunakankipati.racingstatanalysis.config.ImportExecutorConfig;
+import com.arjunakankipati.racingstatanalysis.csv.CsvHeader;
+import com.arjunakankipati.racingstatanalysis.csv.CsvReader;
+import com.arjunakankipati.racingstatanalysis.csv.FileChunk;
+import com.arjunakankipati.racingstatanalysis.csv.MappedFileReader;
 import com.arjunakankipati.racingstatanalysis.dto.ProcessRequestDTO;
 import com.arjunakankipati.racingstatanalysis.dto.ProcessResponseDTO;
 import com.arjunakankipati.racingstatanalysis.model.*;
@@ -7,33 +13,44 @@ import com.arjunakankipati.racingstatanalysis.model.Class;
 import com.arjunakankipati.racingstatanalysis.repository.*;
 import com.arjunakankipati.racingstatanalysis.service.ImportJobService;
 import com.arjunakankipati.racingstatanalysis.service.ImportService;
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.Response;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.math.BigDecimal;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.concurrent.TimeUnit;
 
 /**
  * Implementation of the ImportService interface.
+ * Imports run on the import connection pool, so they never hold connections API requests are waiting for.
  */
 @Service
 public class ImportServiceImpl implements ImportService {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ImportServiceImpl.class);
+    // Size of the byte ranges handed to parse workers; with at most parseParallelism ranges parsed ahead of
+    // the writer, this bounds the rows held in memory regardless of the size of the file
+    private static final long PARSE_CHUNK_BYTES = 1024 * 1024;
     private final EventRepository eventRepository;
     private final SessionRepository sessionRepository;
     private final TeamRepository teamRepository;
@@ -46,13 +63,15 @@ public class ImportServiceImpl implements ImportService {
     private final SectorRepository sectorRepository;
     private final ImportJobService importJobService;
     private final ResultRepository resultRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int timecardBatchSize;
+    private final long parallelParseMinBytes;
+    private final int parseParallelism;
+    private final Path localRootDir;
+    private final Path spoolDir;
 
     private final OkHttpClient httpClient;
 
-    private final Cache<String, Team> teamCache = CacheBuilder.newBuilder().expireAfterWrite(20, TimeUnit.MINUTES).build();
-    private final Cache<String, Class> classCache = CacheBuilder.newBuilder().expireAfterWrite(20, TimeUnit.MINUTES).build();
-    private final Cache<String, CarModel> carModelCache = CacheBuilder.newBuilder().expireAfterWrite(20, TimeUnit.MINUTES).build();
-
     /**
      * Constructor with repository dependency injection.
      */
@@ -68,7 +87,13 @@ public class ImportServiceImpl implements ImportService {
                              LapRepository lapRepository,
                              SectorRepository sectorRepository,
                              ImportJobService importJobService,
-                             ResultRepository resultRepository) {
+                             ResultRepository resultRepository,
+                             TransactionTemplate transactionTemplate,
+                             @Value("${import.timecard.batch-size:2000}") int timecardBatchSize,
+                             @Value("${import.timecard.parallel-parse-min-bytes:4194304}") long parallelParseMinBytes,
+                             @Value("${import.timecard.parse-parallelism:0}") int parseParallelism,
+                             @Value("${import.local.root-dir:}") String localRootDir,
+                             @Value("${import.upload.spool-dir:${java.io.tmpdir}/racing-imports}") String spoolDir) {
         this.eventRepository = eventRepository;
         this.sessionRepository = sessionRepository;
         this.teamRepository = teamRepository;
@@ -81,6 +106,14 @@ public class ImportServiceImpl implements ImportService {
         this.sectorRepository = sectorRepository;
         this.importJobService = importJobService;
         this.resultRepository = resultRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.timecardBatchSize = timecardBatchSize;
+        this.parallelParseMinBytes = parallelParseMinBytes;
+        // 0 uses one parse worker per core
+        this.parseParallelism = parseParallelism > 0 ? parseParallelism : Runtime.getRuntime().availableProcessors();
+        // Local file imports are only allowed from the configured root and from spooled uploads
+        this.localRootDir = localRootDir.isBlank() ? null : Path.of(localRootDir).toAbsolutePath().normalize();
+        this.spoolDir = Path.of(spoolDir).toAbsolutePath().normalize();
 
         // Initialize OkHttpClient with reasonable timeouts
         this.httpClient = new OkHttpClient.Builder()
@@ -89,7 +122,7 @@ public class ImportServiceImpl implements ImportService {
                 .build();
     }
 
-    @Async
+    @Async(ImportExecutorConfig.IMPORT_EXECUTOR)
     @Override
     public void processImport(Integer jobId, ProcessRequestDTO request) {
         importJobService.markStarted(jobId);
@@ -101,508 +134,445 @@ public class ImportServiceImpl implements ImportService {
                 response = processTimecardCsv(request);
             }
             if (!response.getStatus().equals("SUCCESS")) {
-                throw new RuntimeException("Failed to process import for URL: " + request.getUrl() + ". Error: " + response.getError());
+                throw new RuntimeException("Failed to process import for " + request.describeSource() + ". Error: " + response.getError());
             }
             importJobService.markCompleted(jobId);
         } catch (Exception e) {
-            LOGGER.error("Failed to process import for URL: " + request.getUrl(), e);
+            LOGGER.error("Failed to process import for " + request.describeSource(), e);
             importJobService.markFailed(jobId, e.getMessage());
+        } finally {
+            // Only the job that spooled an upload deletes it; a plain request naming a spool file leaves it alone
+            if (request.isSpooledUpload()) {
+                discardUpload(request.getFilePath());
+            }
+        }
+    }
+
+    @Override
+    public String spoolUpload(InputStream content) throws IOException {
+        Files.createDirectories(spoolDir);
+        Path file = Files.createTempFile(spoolDir, "upload-", ".csv");
+        try {
+            Files.copy(content, file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        return file.toString();
+    }
+
+    @Override
+    public void discardUpload(String filePath) {
+        if (filePath == null) {
+            return;
+        }
+        Path path = Path.of(filePath).toAbsolutePath().normalize();
+        if (!path.startsWith(spoolDir)) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            LOGGER.warn("Failed to delete spooled upload {}", path, e);
         }
     }
 
     @Override
     public ProcessResponseDTO processResultsCsv(ProcessRequestDTO request) {
+        return ConnectionPool.IMPORT.call(() -> importResultsCsv(request));
+    }
+
+    private ProcessResponseDTO importResultsCsv(ProcessRequestDTO request) {
         var importType = request.getImportType();
-        try {
-            // 1. Download the CSV file using OkHttp
-            Request httpRequest = new Request.Builder()
-                    .url(request.getUrl())
-                    .build();
-            try (Response response = httpClient.newCall(httpRequest).execute()) {
-                if (!response.isSuccessful() || response.body() == null) {
-                    return new ProcessResponseDTO(null, "FAILED", "Failed to fetch CSV: HTTP " + (response != null ? response.code() : "null response"));
-                }
-                BufferedReader reader = new BufferedReader(new InputStreamReader(response.body().byteStream(), StandardCharsets.UTF_8));
+        // 1. Open the CSV from its URL or local file
+        try (CsvReader csv = openCsv(request)) {
 
-                // 2. Parse the CSV header
-                String headerLine = reader.readLine();
-                if (headerLine == null) {
-                    return new ProcessResponseDTO(null, "FAILED", "CSV is empty");
-                }
-                String[] headers = headerLine.split(";");
+            // 2. Parse the CSV header and resolve the columns once
+            CsvHeader header = csv.readHeader();
+            if (header == null) {
+                return new ProcessResponseDTO(null, "FAILED", "CSV is empty");
+            }
+            ResultColumns columns = new ResultColumns(header, importType);
 
-                // 3. Ensure session exist (using provided metadata)
-                Session session;
-                if (request.getSessionId() != null) {
-                    session = sessionRepository.findById(request.getSessionId())
-                            .orElseThrow(() -> new IllegalArgumentException("Session not found: " + request.getSessionId()));
-                } else {
-                    throw new IllegalArgumentException("sessionId is required in the request");
-                }
+            // 3. Ensure session exist (using provided metadata)
+            Session session;
+            if (request.getSessionId() != null) {
+                session = sessionRepository.findById(request.getSessionId())
+                        .orElseThrow(() -> new IllegalArgumentException("Session not found: " + request.getSessionId()));
+            } else {
+                throw new IllegalArgumentException("sessionId is required in the request");
+            }
 
-                var event = eventRepository.findById(session.getEventId()).get();
-
-                // 4. For each row, ensure car model, car entry, team, drivers exist
-                String row;
-                List<Result> resultsToSave = new ArrayList<>();
-                while ((row = reader.readLine()) != null) {
-                    if (row.trim().isEmpty()) continue;
-                    String[] values = row.split(";");
-
-                    // --- Parse team, class, car model, car number, tire supplier ---
-                    String teamName = getValueByHeader(headers, values, "TEAM");
-                    String className = getValueByHeader(headers, values, "CLASS");
-                    String carModelName = getValueByHeader(headers, values, "VEHICLE");
-                    String carNumber = getValueByHeader(headers, values, "NUMBER");
-                    String tireSupplier = getValueByHeader(headers, values,
-                            importType.equals(ProcessRequestDTO.ImportType.WEC) ? "TYRES" : "TIRES");
-
-                    // --- Find or create team, class, car model ---
-                    Team team = findOrCreateTeam(teamName);
-                    Class carClass = findOrCreateClass(event.getSeriesId(), className);
-                    CarModel carModel = findOrCreateCarModel(carModelName);
-
-                    // --- Create car entry ---
-                    CarEntry carEntry = findOrCreateCarEntry(session.getId(), team.getId(), carClass.getId(), carModel.getId(), carNumber, tireSupplier);
-
-                    // --- Parse and create drivers ---
-                    for (int i = 1; i <= 6; i++) { // Support up to 6 drivers (IMSA)
-                        String[] names;
-                        if (importType == ProcessRequestDTO.ImportType.WEC) {
-                            String driverCol = "DRIVER_" + i;
-                            String driverName = getValueByHeader(headers, values, driverCol);
-                            if (driverName == null || driverName.isBlank()) continue;
-                            names = parseWECName(driverName);
-                        } else if (importType == ProcessRequestDTO.ImportType.IMSA) { // IMSA splits up names into two columns
-                            String driverFirstNameCol = String.format("DRIVER%d_FIRSTNAME", i);
-                            String driverSecondNameCol = String.format("DRIVER%d_SECONDNAME", i);
-                            String driverFirstName = getValueByHeader(headers, values, driverFirstNameCol);
-                            String driverSecondName = getValueByHeader(headers, values, driverSecondNameCol);
-
-                            if (driverFirstName == null || driverFirstName.isBlank()
-                                    || driverSecondName == null || driverSecondName.isBlank()) continue;
-                            names = new String[]{driverFirstName, driverSecondName};
-                        } else {
-                            throw new IllegalArgumentException("Unsupported importer type: " + importType);
-                        }
-                        Driver driver = findOrCreateDriverFromCsvName(names[0], names[1]);
-                        // Create car-driver association
-                        createCarDriver(carEntry.getId(), driver.getId(), i);
-                    }
+            var event = eventRepository.findById(session.getEventId()).get();
 
-                    // --- Parse and save result row ---
-                    Result result = new Result();
-                    result.setSessionId(session.getId());
-                    result.setCarEntryId(carEntry.getId());
-                    result.setCarNumber(carNumber);
-                    result.setTires(tireSupplier);
-                    result.setStatus(getValueByHeader(headers, values, "STATUS"));
-                    result.setLaps(parseInteger(getValueByHeader(headers, values, "LAPS")));
-                    result.setTotalTime(getValueByHeader(headers, values, "TOTAL_TIME"));
-                    result.setGapFirst(getValueByHeader(headers, values, "GAP_FIRST"));
-                    result.setGapPrevious(getValueByHeader(headers, values, "GAP_PREVIOUS"));
-                    result.setFlLapnum(parseInteger(getValueByHeader(headers, values, "FL_LAPNUM")));
-                    result.setFlTime(getValueByHeader(headers, values, "FL_TIME"));
-                    result.setFlKph(parseBigDecimal(getValueByHeader(headers, values, "FL_KPH")));
-                    // csv files are prone to having BOM and java decided NOPE LETS NOT FIX
-                    // https://bugs.java.com/bugdatabase/view_bug.do?bug_id=4508058
-                    // Position is guaranteed to be position 0 in csvs, so we hardcode.
-                    result.setPosition(parseInteger(values[0]));
-                    resultsToSave.add(result);
-                }
-                // Save all results (batch)
-                resultRepository.batchSave(resultsToSave);
-                reader.close();
-                return new ProcessResponseDTO(session.getId(), "SUCCESS", null);
+            // 4. Parse every row first; results files have one row per car
+            List<ResultRow> rows = new ArrayList<>();
+            while (csv.next()) {
+                rows.add(parseResultRow(csv, columns, importType, session.getId()));
             }
+
+            // 5. Find or create everything the rows reference with a handful of set-based statements
+            transactionTemplate.executeWithoutResult(status -> saveResultRows(event.getSeriesId(), session.getId(), rows));
+            return new ProcessResponseDTO(session.getId(), "SUCCESS", null);
         } catch (Exception e) {
             LOGGER.error("Failed to process results CSV", e);
             return new ProcessResponseDTO(null, "FAILED", e.getMessage());
         }
     }
 
-    @Override
-    public ProcessResponseDTO processTimecardCsv(ProcessRequestDTO request) {
-        try {
-            // 1. Download the CSV file using OkHttp
-            Request httpRequest = new Request.Builder()
-                    .url(request.getUrl())
-                    .build();
-            try (Response response = httpClient.newCall(httpRequest).execute()) {
-                if (!response.isSuccessful() || response.body() == null) {
-                    return new ProcessResponseDTO(null, "FAILED", "Failed to fetch CSV: HTTP " + (response != null ? response.code() : "null response"));
-                }
-                BufferedReader reader = new BufferedReader(new InputStreamReader(response.body().byteStream(), StandardCharsets.UTF_8));
-
-                // 2. Parse the CSV header
-                String headerLine = reader.readLine();
-                if (headerLine == null) {
-                    return new ProcessResponseDTO(null, "FAILED", "CSV is empty");
-                }
-                String[] headers = headerLine.split(";");
-
-                // 3. Ensure session exists
-                Session session;
-                if (request.getSessionId() != null) {
-                    session = sessionRepository.findById(request.getSessionId())
-                            .orElseThrow(() -> new IllegalArgumentException("Session not found: " + request.getSessionId()));
-                } else {
-                    throw new IllegalArgumentException("sessionId is required in the request");
-                }
-
-                // 4. Process each row, collect laps and sector data using a map
-                String row;
-                var carEntries = carEntryRepository.findBySessionId(session.getId());
-
-                // Use a map for laps and their sectors
-                var lapMap = new HashMap<LapKey, Lap>();
-                var sectorMap = new HashMap<LapKey, List<Sector>>();
-
-                while ((row = reader.readLine()) != null) {
-                    if (row.trim().isEmpty()) continue;
-                    String[] values = row.split(";");
-
-                    // --- Parse car number and driver name/number ---
-                    String carNumber = values[0];
-                    Integer driverNumber = parseInteger(getValueByHeader(headers, values, "DRIVER_NUMBER"));
-                    String driverName = getValueByHeader(headers, values, "DRIVER_NAME");
-
-                    // --- Look up car entry ---
-                    CarEntry carEntry = carEntries.stream().filter(e -> e.getNumber().equals(carNumber)).findFirst()
-                            .orElseThrow(() -> new IllegalArgumentException("Car entry not found for session " + session.getId() + " and car number " + carNumber));
-
-                    // --- Look up car-driver association ---
-                    CarDriver carDriver = null;
-                    if (driverNumber != null) {
-                        carDriver = carDriverRepository.findByCarIdAndDriverNumber(carEntry.getId(), driverNumber)
-                                .orElseThrow(() -> new IllegalArgumentException("Car-driver association not found for car entry " + carEntry.getId() + " and driver number " + driverNumber));
-                    } else if (driverName != null && !driverName.isBlank()) {
-                        var driver = driverRepository.findByName(driverName);
-                        if (driver.isPresent()) {
-                            var optCD = carDriverRepository.findByCarIdAndDriverId(carEntry.getId(), driver.get().getId());
-                            if (optCD.isPresent()) {
-                                carDriver = optCD.get();
-                            }
-                        }
-                        if (carDriver == null) {
-                            throw new IllegalArgumentException("Car-driver association not found for car entry " + carEntry.getId() + " and driver name " + driverName);
-                        }
-                    } else {
-                        throw new IllegalArgumentException("Driver number or name must be present in timecard row");
-                    }
-
-                    Integer lapNumber = parseInteger(getValueByHeader(headers, values, "LAP_NUMBER"));
-                    LapKey lapKey = new LapKey(carEntry.getId(), carDriver.getDriverId(), lapNumber);
-
-                    // --- Parse lap data ---
-                    Lap lap = new Lap();
-                    lap.setCarEntryId(carEntry.getId());
-                    lap.setDriverId(carDriver.getDriverId());
-                    lap.setLapNumber(lapNumber);
-                    lap.setLapTimeSeconds(parseLapTime(getValueByHeader(headers, values, "LAP_TIME")));
-
-                    var seconds = parseTimestampIntoSeconds(getValueByHeader(headers, values, "ELAPSED"));
-                    lap.setSessionElapsedSeconds(seconds);
-                    lap.setTimestamp(parseTimestamp(getValueByHeader(headers, values, "HOUR"), seconds, session.getStartDatetime()));
-                    lap.setAverageSpeedKph(parseBigDecimal(getValueByHeader(headers, values, "KPH")));
-                    // TODO: Parse PIT_TIME (not currently in Lap model)
-                    // TODO: Parse FLAG_AT_FL (not currently in Lap model)
-                    lapMap.put(lapKey, lap);
-
-                    // --- Parse sector data ---
-                    List<Sector> sectorsForLap = new java.util.ArrayList<>();
-                    for (int i = 1; i <= 3; i++) {
-                        String sectorTime = getValueByHeader(headers, values, String.format("S%d_LARGE", i));
-                        if (sectorTime != null && !sectorTime.isBlank()) {
-                            Sector sector = new Sector();
-                            // lapId will be set after batch save
-                            sector.setSectorNumber(i);
-                            sector.setSectorTimeSeconds(parseLargeSectorTime(sectorTime));
-                            if (sector.getSectorTimeSeconds() == null) {
-                                throw new IllegalArgumentException("Invalid sector time: " + sectorTime);
-                            }
-                            // TODO: Parse S{i}_IMPROVEMENT, S{i}_LARGE (not currently in Sector model)
-                            sectorsForLap.add(sector);
-                        }
-                    }
-                    sectorMap.put(lapKey, sectorsForLap);
-                }
-                // Batch save all laps
-                List<Lap> savedLaps = lapRepository.saveAll(new ArrayList<>(lapMap.values()));
-                // Build a map from LapKey to saved Lap (with ID)
-                var savedLapMap = new java.util.HashMap<LapKey, Lap>();
-                int idx = 0;
-                for (LapKey key : lapMap.keySet()) {
-                    savedLapMap.put(key, savedLaps.get(idx++));
-                }
-                // Now assign lapIds to sectors and collect all sectors
-                var allSectors = new java.util.ArrayList<Sector>();
-                for (var entry : sectorMap.entrySet()) {
-                    LapKey key = entry.getKey();
-                    Lap savedLap = savedLapMap.get(key);
-                    for (Sector sector : entry.getValue()) {
-                        sector.setLapId(savedLap.getId());
-                        allSectors.add(sector);
-                    }
-                }
-                // Batch save all sectors
-                sectorRepository.saveAll(allSectors);
-                reader.close();
-                return new ProcessResponseDTO(session.getId(), "SUCCESS", null);
+    /**
+     * Parses one results row into the names it references and its result.
+     */
+    private ResultRow parseResultRow(CsvReader csv, ResultColumns columns, ProcessRequestDTO.ImportType importType, Long sessionId) {
+        // --- Parse team, class, car model, car number, tire supplier ---
+        String teamName = requireValue(csv, columns.team, "TEAM");
+        String className = requireValue(csv, columns.carClass, "CLASS");
+        String carModelName = requireValue(csv, columns.vehicle, "VEHICLE");
+        String carNumber = requireValue(csv, columns.number, "NUMBER");
+        String tireSupplier = csv.getString(columns.tires);
+
+        // --- Parse drivers, keyed by their driver number on the car ---
+        Map<Integer, DriverName> drivers = new LinkedHashMap<>();
+        for (int i = 1; i <= ResultColumns.MAX_DRIVERS; i++) {
+            if (importType == ProcessRequestDTO.ImportType.WEC) {
+                int driverColumn = columns.driverNames[i - 1];
+                if (csv.isBlank(driverColumn)) continue;
+                String[] names = parseWECName(csv.getString(driverColumn));
+                drivers.put(i, new DriverName(names[0], names[1]));
+            } else { // IMSA splits up names into two columns
+                int firstNameColumn = columns.driverFirstNames[i - 1];
+                int secondNameColumn = columns.driverSecondNames[i - 1];
+                if (csv.isBlank(firstNameColumn) || csv.isBlank(secondNameColumn)) continue;
+                drivers.put(i, new DriverName(csv.getString(firstNameColumn), csv.getString(secondNameColumn)));
             }
-        } catch (Exception e) {
-            LOGGER.error("Failed to process timecard CSV", e);
-            return new ProcessResponseDTO(null, "FAILED", e.getMessage());
         }
+
+        // --- Parse result ---
+        Result result = new Result();
+        result.setSessionId(sessionId);
+        result.setCarNumber(carNumber);
+        result.setTires(tireSupplier);
+        result.setStatus(csv.getString(columns.status));
+        result.setLaps(csv.getInteger(columns.laps));
+        result.setTotalTime(csv.getString(columns.totalTime));
+        result.setGapFirst(csv.getString(columns.gapFirst));
+        result.setGapPrevious(csv.getString(columns.gapPrevious));
+        result.setFlLapnum(csv.getInteger(columns.flLapnum));
+        result.setFlTime(fastestLapTime(csv, columns.flTime));
+        result.setFlKph(csv.getDecimal(columns.flKph));
+        // Position is guaranteed to be the first column in the results csvs, so we hardcode it
+        result.setPosition(csv.getInteger(0));
+
+        return new ResultRow(teamName, className, carModelName, carNumber, tireSupplier, drivers, result);
     }
 
     /**
-     * Creates a car-driver association.
-     *
-     * @param carEntryId        the ID of the car
-     * @param driverId     the ID of the driver
-     * @param driverNumber the driver number
-     * @return the car-driver entity
+     * Finds or creates the teams, classes, car models, car entries, drivers and car-driver associations
+     * referenced by the results rows, then saves the results. Each entity type is resolved for the whole
+     * file at once with an insert that skips existing rows followed by a select.
      */
-    private CarDriver createCarDriver(Long carEntryId, Long driverId, Integer driverNumber) {
-        // Check if association already exists
-        Optional<CarDriver> existingCarDriver = carDriverRepository.findByCarIdAndDriverId(carEntryId, driverId);
-        if (existingCarDriver.isPresent()) {
-            return existingCarDriver.get();
+    private void saveResultRows(Long seriesId, Long sessionId, List<ResultRow> rows) {
+        Set<String> teamNames = new LinkedHashSet<>();
+        Set<String> classNames = new LinkedHashSet<>();
+        Set<String> carModelNames = new LinkedHashSet<>();
+        Set<DriverName> driverNames = new LinkedHashSet<>();
+        for (ResultRow row : rows) {
+            teamNames.add(row.teamName());
+            classNames.add(row.className());
+            carModelNames.add(row.carModelName());
+            driverNames.addAll(row.drivers().values());
         }
 
-        CarDriver newCarDriver = new CarDriver();
-        newCarDriver.setCarId(carEntryId);
-        newCarDriver.setDriverId(driverId);
-        newCarDriver.setDriverNumber(driverNumber);
+        // --- Find or create teams, classes, car models ---
+        Map<String, Team> teams = teamRepository.findOrCreateByNames(teamNames);
+        Map<String, Class> classes = classRepository.findOrCreateByNames(seriesId, classNames);
+        Map<String, CarModel> carModels = carModelRepository.findOrCreateByNames(carModelNames);
+
+        // --- Find or create car entries, keeping the first row for a repeated car number ---
+        Map<String, CarEntry> newCarEntries = new LinkedHashMap<>();
+        for (ResultRow row : rows) {
+            newCarEntries.computeIfAbsent(row.carNumber(), number -> {
+                CarEntry entry = new CarEntry();
+                entry.setSessionId(sessionId);
+                entry.setTeamId(teams.get(row.teamName()).getId());
+                entry.setClassId(classes.get(row.className()).getId());
+                entry.setCarModelId(carModels.get(row.carModelName()).getId());
+                entry.setNumber(number);
+                entry.setTireSupplier(row.tireSupplier());
+                return entry;
+            });
+        }
+        Map<String, CarEntry> carEntries = new HashMap<>();
+        for (CarEntry carEntry : carEntryRepository.findOrCreateAll(sessionId, newCarEntries.values())) {
+            carEntries.put(carEntry.getNumber(), carEntry);
+        }
 
-        return carDriverRepository.save(newCarDriver);
-    }
+        // --- Find or create drivers and their car associations ---
+        List<Driver> newDrivers = new ArrayList<>(driverNames.size());
+        for (DriverName name : driverNames) {
+            Driver driver = new Driver();
+            driver.setFirstName(name.firstName());
+            driver.setLastName(name.lastName());
+            newDrivers.add(driver);
+        }
+        Map<DriverName, Driver> drivers = new HashMap<>();
+        for (Driver driver : driverRepository.findOrCreateAll(newDrivers)) {
+            drivers.put(new DriverName(driver.getFirstName(), driver.getLastName()), driver);
+        }
 
-    // Helper to find or create a car entry (by session, team, class, car model, number, tire supplier)
-    private CarEntry findOrCreateCarEntry(Long sessionId, Long teamId, Long classId, Long carModelId, String carNumber, String tireSupplier) {
-        Optional<CarEntry> existing = carEntryRepository.findBySessionIdAndNumber(sessionId, carNumber);
-        if (existing.isPresent()) return existing.get();
-        CarEntry entry = new CarEntry();
-        entry.setSessionId(sessionId);
-        entry.setTeamId(teamId);
-        entry.setClassId(classId);
-        entry.setCarModelId(carModelId);
-        entry.setNumber(carNumber);
-        entry.setTireSupplier(tireSupplier);
-        return carEntryRepository.save(entry);
-    }
+        List<CarDriver> carDrivers = new ArrayList<>();
+        List<Result> results = new ArrayList<>(rows.size());
+        for (ResultRow row : rows) {
+            Long carEntryId = carEntries.get(row.carNumber()).getId();
+            for (var driverEntry : row.drivers().entrySet()) {
+                carDrivers.add(new CarDriver(null, carEntryId, drivers.get(driverEntry.getValue()).getId(), driverEntry.getKey()));
+            }
+            row.result().setCarEntryId(carEntryId);
+            results.add(row.result());
+        }
+        carDriverRepository.createAllIfAbsent(carDrivers);
 
-    // Helper to find or create a driver from a CSV name ("Firstname Lastname")
-    private Driver findOrCreateDriverFromCsvName(String firstName, String lastName) {
-        Optional<Driver> existing = driverRepository.findByFirstNameAndLastName(firstName, lastName);
-        if (existing.isPresent()) return existing.get();
-        Driver driver = new Driver();
-        driver.setFirstName(firstName);
-        driver.setLastName(lastName);
-        // Leave other fields blank as per requirements
-        return driverRepository.save(driver);
+        // Save all results (batch)
+        resultRepository.saveAll(results);
     }
 
     /**
-     * Finds or creates a car model with the given data.
-     *
-     * @param vehicleModel the vehicle model name
-     * @return the car model entity
+     * Opens the CSV named by the request: downloaded from its URL, or memory-mapped from a local file.
      */
-    private CarModel findOrCreateCarModel(String vehicleModel) {
-        String key = vehicleModel;
-        CarModel cached = carModelCache.getIfPresent(key);
-        if (cached != null) return cached;
-        Optional<CarModel> existingCarModel = carModelRepository.findByName(vehicleModel);
-        if (existingCarModel.isPresent()) {
-            carModelCache.put(key, existingCarModel.get());
-            return existingCarModel.get();
+    private CsvReader openCsv(ProcessRequestDTO request) throws IOException {
+        if (request.getUrl() != null) {
+            Request httpRequest = new Request.Builder()
+                    .url(request.getUrl())
+                    .build();
+            Response response = httpClient.newCall(httpRequest).execute();
+            if (!response.isSuccessful() || response.body() == null) {
+                response.close();
+                throw new IOException("Failed to fetch CSV: HTTP " + response.code());
+            }
+            // Closing the reader closes the response body
+            return new CsvReader(new InputStreamReader(response.body().byteStream(), StandardCharsets.UTF_8), CsvReader.SEMICOLON);
         }
-        CarModel newCarModel = new CarModel();
-        newCarModel.setName(vehicleModel);
-        newCarModel.setFullName(vehicleModel);
-        newCarModel.setYearModel(null);
-        newCarModel.setDescription(null);
-        CarModel saved = carModelRepository.save(newCarModel);
-        carModelCache.put(key, saved);
-        return saved;
+        if (request.getFilePath() != null) {
+            return new CsvReader(MappedFileReader.open(resolveLocalFile(request.getFilePath())), CsvReader.SEMICOLON);
+        }
+        throw new IllegalArgumentException("url or filePath is required in the request");
     }
 
     /**
-     * Finds or creates a team with the given name.
-     *
-     * @param teamName the name of the team
-     * @return the team entity
+     * Resolves a local file path, rejecting files outside the local import root and the upload spool directory.
      */
-    private Team findOrCreateTeam(String teamName) {
-        Team cached = teamCache.getIfPresent(teamName);
-        if (cached != null) return cached;
-        Optional<Team> existingTeam = teamRepository.findByName(teamName);
-        if (existingTeam.isPresent()) {
-            teamCache.put(teamName, existingTeam.get());
-            return existingTeam.get();
+    private Path resolveLocalFile(String filePath) throws IOException {
+        Path path = Path.of(filePath).toRealPath();
+        if (isWithin(path, spoolDir) || (localRootDir != null && isWithin(path, localRootDir))) {
+            return path;
         }
-        Team newTeam = new Team();
-        newTeam.setName(teamName);
-        Team saved = teamRepository.save(newTeam);
-        teamCache.put(teamName, saved);
-        return saved;
+        throw new IllegalArgumentException("File is outside the local import directories: " + filePath);
+    }
+
+    private static boolean isWithin(Path path, Path directory) throws IOException {
+        return Files.isDirectory(directory) && path.startsWith(directory.toRealPath());
     }
 
     /**
-     * Finds or creates a class with the given name.
-     *
-     * @param className the name of the class
-     * @return the class entity
+     * Reads the fastest lap time of a results row. It is informational, so a value that is not a valid time
+     * is logged and left empty instead of failing the whole file.
      */
-    private Class findOrCreateClass(Long seriesId, String className) {
-        String key = seriesId + ":" + className;
-        Class cached = classCache.getIfPresent(key);
-        if (cached != null) return cached;
-        Optional<Class> existingClass = classRepository.findBySeriesIdAndName(seriesId, className);
-        if (existingClass.isPresent()) {
-            classCache.put(key, existingClass.get());
-            return existingClass.get();
+    private static LapTime fastestLapTime(CsvReader csv, int column) {
+        try {
+            return csv.getLapTime(column);
+        } catch (IllegalArgumentException e) {
+            LOGGER.warn("Ignoring invalid FL_TIME '{}' on line {}", csv.getString(column), csv.lineNumber());
+            return null;
         }
-        Class newClass = new Class();
-        newClass.setSeriesId(seriesId);
-        newClass.setName(className);
-        Class saved = classRepository.save(newClass);
-        classCache.put(key, saved);
-        return saved;
     }
 
-
-    /**
-     * Parses a lap time string (e.g., "1:48.656") to seconds.
-     *
-     * @param lapTimeStr the lap time string
-     * @return the lap time in seconds as a BigDecimal
-     */
-    private BigDecimal parseLapTime(String lapTimeStr) {
-        String[] parts = lapTimeStr.split(":");
-        if (parts.length == 3) {
-            int hours = Integer.parseInt(parts[0]);
-            int minutes = Integer.parseInt(parts[1]);
-            double seconds = Double.parseDouble(parts[2]);
-
-            return BigDecimal.valueOf(hours * 60 * 60 + minutes * 60 + seconds);
-        } else if (parts.length == 2) {
-            int minutes = Integer.parseInt(parts[0]);
-            double seconds = Double.parseDouble(parts[1]);
-
-            return BigDecimal.valueOf(minutes * 60 + seconds);
+    private static String requireValue(CsvReader csv, int column, String name) {
+        if (csv.isBlank(column)) {
+            throw new IllegalArgumentException("Missing " + name + " on line " + csv.lineNumber());
         }
-        throw new IllegalArgumentException("Invalid lap time format: " + lapTimeStr);
+        return csv.getString(column);
     }
 
-    private BigDecimal parseLargeSectorTime(String sectorTime) {
-        // Format: MM:SS.SSS
-        String[] parts = sectorTime.split(":");
-        int minutes = Integer.parseInt(parts[0]);
-        double seconds = Double.parseDouble(parts[1]);
-        double totalSeconds = minutes * 60 + seconds;
-        return BigDecimal.valueOf(totalSeconds);
+    @Override
+    public ProcessResponseDTO processTimecardCsv(ProcessRequestDTO request) {
+        return ConnectionPool.IMPORT.call(() -> importTimecardCsv(request));
     }
 
-    private BigDecimal parseTimestampIntoSeconds(String timestampStr) {
-        if (timestampStr == null || timestampStr.isBlank()) {
-            throw new IllegalArgumentException("Timestamp cannot be null or empty");
-        }
+    private ProcessResponseDTO importTimecardCsv(ProcessRequestDTO request) {
+        // 1. Open the CSV from its URL or local file
+        try (CsvReader csv = openCsv(request)) {
 
-        try {
-            // Split the timestamp by colons to determine format
-            String[] parts = timestampStr.split(":");
-
-            if (parts.length == 2) {
-                // Format: m:ss.SSS or mm:ss.SSS (e.g., 6:57.136 or 15:24.428)
-                int minutes = Integer.parseInt(parts[0]);
-
-                // Parse seconds and milliseconds
-                String[] secondParts = parts[1].split("\\.");
-                int seconds = Integer.parseInt(secondParts[0]);
-                int milliseconds = secondParts.length > 1 ? Integer.parseInt(secondParts[1]) : 0;
-
-                // Calculate total seconds as BigDecimal
-                BigDecimal totalSeconds = BigDecimal.valueOf(minutes * 60 + seconds);
-                BigDecimal fraction = BigDecimal.valueOf(milliseconds).divide(BigDecimal.valueOf(1000), 6, BigDecimal.ROUND_HALF_UP);
-
-                return totalSeconds.add(fraction);
-            } else if (parts.length == 3) {
-                // Format: h:mm:ss.SSS or hh:mm:ss.SSS (e.g., 4:30:00.623 or 11:14:52.128 or 13:42:36.003)
-                int hours = Integer.parseInt(parts[0]);
-                int minutes = Integer.parseInt(parts[1]);
-
-                // Parse seconds and milliseconds
-                String[] secondParts = parts[2].split("\\.");
-                int seconds = Integer.parseInt(secondParts[0]);
-                int milliseconds = secondParts.length > 1 ? Integer.parseInt(secondParts[1]) : 0;
-
-                // Calculate total seconds as BigDecimal
-                BigDecimal totalSeconds = BigDecimal.valueOf(hours * 3600 + minutes * 60 + seconds);
-                BigDecimal fraction = BigDecimal.valueOf(milliseconds).divide(BigDecimal.valueOf(1000), 6, BigDecimal.ROUND_HALF_UP);
-
-                return totalSeconds.add(fraction);
+            // 2. Parse the CSV header and resolve the columns once
+            CsvHeader header = csv.readHeader();
+            if (header == null) {
+                return new ProcessResponseDTO(null, "FAILED", "CSV is empty");
+            }
+            TimecardColumns columns = new TimecardColumns(header);
+
+            // 3. Ensure session exists
+            Session session;
+            if (request.getSessionId() != null) {
+                session = sessionRepository.findById(request.getSessionId())
+                        .orElseThrow(() -> new IllegalArgumentException("Session not found: " + request.getSessionId()));
             } else {
-                LOGGER.error("Unrecognized timestamp format: {}", timestampStr);
-                throw new IllegalArgumentException("Invalid timestamp format: " + timestampStr);
+                throw new IllegalArgumentException("sessionId is required in the request");
             }
-        } catch (Exception ex) {
-            LOGGER.error("Failed to parse timestamp: {} - {}", timestampStr, ex.getMessage());
-            throw new IllegalArgumentException("Invalid timestamp format: " + timestampStr);
+
+            // 4. Load everything needed to resolve rows once, so each row is an in-memory lookup
+            var resolution = ImportResolutionContext.load(session.getId(),
+                    carEntryRepository, carDriverRepository, driverRepository);
+
+            // 5. Process each row, handing laps and their sectors to the writer in fixed-size batches
+            try (var pipeline = new TimecardImportPipeline(lapRepository, sectorRepository,
+                    transactionTemplate, timecardBatchSize, session.getId())) {
+                Path parallelFile = fileForParallelParse(request);
+                if (parallelFile != null) {
+                    parseTimecardChunks(parallelFile, columns, resolution, session, pipeline);
+                } else {
+                    while (csv.next()) {
+                        TimecardRow row = parseTimecardRow(csv, columns, resolution, session);
+                        pipeline.submit(row.lap(), row.sectors());
+                    }
+                }
+                long lapCount = pipeline.finish();
+                LOGGER.info("Imported {} laps for session {}", lapCount, session.getId());
+            }
+            return new ProcessResponseDTO(session.getId(), "SUCCESS", null);
+        } catch (Exception e) {
+            LOGGER.error("Failed to process timecard CSV", e);
+            return new ProcessResponseDTO(null, "FAILED", e.getMessage());
         }
     }
 
-    private LocalDateTime parseTimestamp(String timestampStr, BigDecimal elapsedTime, LocalDateTime sessionStartDateTime) {
-        if (timestampStr == null || timestampStr.trim().isEmpty()) {
-            throw new IllegalArgumentException("Timestamp cannot be null or empty");
+    /**
+     * Resolves and parses the current timecard row into a lap and its sectors.
+     * Only reads the resolution context and session, so rows can be parsed on several threads at once.
+     */
+    private static TimecardRow parseTimecardRow(CsvReader csv, TimecardColumns columns,
+                                                ImportResolutionContext resolution, Session session) {
+        // --- Resolve car entry and car-driver association ---
+        // The car number is always the first column; it carries the BOM in the header
+        CarEntry carEntry = resolution.carEntry(csv.getString(0));
+        CarDriver carDriver = resolution.carDriver(carEntry,
+                csv.getInteger(columns.driverNumber), csv.getString(columns.driverName));
+
+        // --- Parse lap data ---
+        Lap lap = new Lap();
+        lap.setCarEntryId(carEntry.getId());
+        lap.setDriverId(carDriver.getDriverId());
+        lap.setLapNumber(csv.getInteger(columns.lapNumber));
+        lap.setLapTime(LapTime.ofMillis(csv.getMillis(columns.lapTime)));
+
+        var elapsed = LapTime.ofMillis(csv.getMillis(columns.elapsed));
+        lap.setSessionElapsed(elapsed);
+        lap.setTimestamp(lapTimestamp(csv.getMillis(columns.hour), elapsed, session.getStartDatetime()));
+        lap.setAverageSpeedKph(csv.getDecimal(columns.kph));
+        // TODO: Parse PIT_TIME (not currently in Lap model)
+        // TODO: Parse FLAG_AT_FL (not currently in Lap model)
+
+        // --- Parse sector data ---
+        List<Sector> sectorsForLap = new ArrayList<>(TimecardColumns.SECTOR_COUNT);
+        for (int i = 1; i <= TimecardColumns.SECTOR_COUNT; i++) {
+            int sectorColumn = columns.sectors[i - 1];
+            if (!csv.isBlank(sectorColumn)) {
+                Sector sector = new Sector();
+                // lapId will be set after batch save
+                sector.setSectorNumber(i);
+                sector.setSectorTime(LapTime.ofMillis(csv.getMillis(sectorColumn)));
+                // TODO: Parse S{i}_IMPROVEMENT (not currently in Sector model)
+                sectorsForLap.add(sector);
+            }
         }
+        return new TimecardRow(lap, sectorsForLap);
+    }
 
-        // Clean the timestamp string
-        String cleanTimestampStr = timestampStr.trim();
-
-        try {
-            // Split the timestamp by colons and period
-            String[] parts = cleanTimestampStr.split("[:.]");
+    /**
+     * Returns the local file of a timecard import if it is large enough to be parsed in parallel, otherwise null.
+     */
+    private Path fileForParallelParse(ProcessRequestDTO request) throws IOException {
+        if (request.getUrl() != null || request.getFilePath() == null) {
+            return null;
+        }
+        Path file = resolveLocalFile(request.getFilePath());
+        return Files.size(file) >= parallelParseMinBytes ? file : null;
+    }
 
-            if (parts.length != 3 && parts.length != 4) {
-                throw new IllegalArgumentException("Invalid timestamp format: " + cleanTimestampStr);
+    /**
+     * Parses a local timecard file in parallel. The rows after the header are split into byte ranges of about
+     * {@link #PARSE_CHUNK_BYTES} at line boundaries. Each range is parsed on a fork-join worker into its own list
+     * of laps, and the lists are handed to the writer in file order, so the result is the same as a sequential
+     * parse. At most {@code parseParallelism} ranges are parsed ahead of the writer; the next range is started
+     * only once the oldest has been handed over, so memory stays bounded however large the file is.
+     */
+    private void parseTimecardChunks(Path file, TimecardColumns columns, ImportResolutionContext resolution,
+                                     Session session, TimecardImportPipeline pipeline) throws Exception {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long headerEnd = FileChunk.lineEnd(channel, 0);
+            long chunkCount = Math.max(1, Math.ceilDiv(channel.size() - headerEnd, PARSE_CHUNK_BYTES));
+            List<FileChunk> chunks = FileChunk.split(channel, headerEnd, (int) Math.min(Integer.MAX_VALUE, chunkCount));
+
+            Iterator<FileChunk> pending = chunks.iterator();
+            Deque<ForkJoinTask<List<TimecardRow>>> parsing = new ArrayDeque<>(parseParallelism);
+            try {
+                while (parsing.size() < parseParallelism && pending.hasNext()) {
+                    parsing.add(submitChunk(channel, pending.next(), columns, resolution, session));
+                }
+                while (!parsing.isEmpty()) {
+                    List<TimecardRow> rows = parsing.poll().join();
+                    if (pending.hasNext()) {
+                        parsing.add(submitChunk(channel, pending.next(), columns, resolution, session));
+                    }
+                    for (TimecardRow row : rows) {
+                        pipeline.submit(row.lap(), row.sectors());
+                    }
+                }
+            } finally {
+                // Stop ranges that have not started yet if a range or the writer failed
+                for (ForkJoinTask<List<TimecardRow>> task : parsing) {
+                    task.cancel(false);
+                }
             }
+            LOGGER.debug("Parsed {} in {} ranges", file, chunks.size());
+        }
+    }
 
-            int hours = 0;
-            int minutes = 0;
-            int seconds = 0;
-            int millis = 0;
-
-            if (parts.length == 3) {
-                // Format: mm:ss.SSS
-                minutes = Integer.parseInt(parts[0]);
-                seconds = Integer.parseInt(parts[1]);
-                millis = Integer.parseInt(parts[2]);
-            } else if (parts.length == 4) {
-                // Format: HH:mm:ss.SSS
-                hours = Integer.parseInt(parts[0]);
-                minutes = Integer.parseInt(parts[1]);
-                seconds = Integer.parseInt(parts[2]);
-                millis = Integer.parseInt(parts[3]);
+    private static ForkJoinTask<List<TimecardRow>> submitChunk(FileChannel channel, FileChunk chunk, TimecardColumns columns,
+                                                               ImportResolutionContext resolution, Session session) {
+        return ForkJoinPool.commonPool().submit(() -> parseTimecardChunk(channel, chunk, columns, resolution, session));
+    }
+
+    private static List<TimecardRow> parseTimecardChunk(FileChannel channel, FileChunk chunk, TimecardColumns columns,
+                                                        ImportResolutionContext resolution, Session session) throws IOException {
+        List<TimecardRow> rows = new ArrayList<>();
+        try (CsvReader csv = new CsvReader(MappedFileReader.range(channel, chunk.start(), chunk.end()), CsvReader.SEMICOLON)) {
+            while (csv.next()) {
+                rows.add(parseTimecardRow(csv, columns, resolution, session));
             }
+        } catch (IllegalArgumentException e) {
+            // Line numbers are relative to the range, so say where the range starts
+            throw new IllegalArgumentException(e.getMessage() + " (in range starting at byte " + chunk.start() + ")", e);
+        }
+        return rows;
+    }
 
-            // Create LocalTime
-            LocalTime time = LocalTime.of(hours, minutes, seconds, millis * 1_000_000);
+    /**
+     * Builds the wall-clock timestamp of a lap from the time of day it was set.
+     * The date is taken from the session start plus the elapsed session time, so laps after midnight
+     * land on the following day.
+     *
+     * @param timeOfDayMillis      the time of day the lap was set, in milliseconds since midnight
+     * @param elapsedTime          the elapsed session time
+     * @param sessionStartDateTime the session start
+     * @return the lap timestamp
+     */
+    private static LocalDateTime lapTimestamp(long timeOfDayMillis, LapTime elapsedTime, LocalDateTime sessionStartDateTime) {
+        LocalTime time = LocalTime.ofNanoOfDay(timeOfDayMillis * 1_000_000L);
 
-            // Calculate the date by adding elapsed time to session start
-            LocalDateTime lapSetAt = sessionStartDateTime.plusSeconds(elapsedTime.longValue());
+        // Calculate the date by adding elapsed time to session start
+        LocalDateTime lapSetAt = sessionStartDateTime.plusSeconds(elapsedTime.wholeSeconds());
 
-            // Combine the date from lapSetAt with the parsed time
-            return LocalDateTime.of(lapSetAt.toLocalDate(), time);
-        } catch (NumberFormatException e) {
-            LOGGER.warn("Failed to parse timestamp '{}': Invalid number format", cleanTimestampStr);
-            throw new IllegalArgumentException("Invalid number in timestamp: " + cleanTimestampStr, e);
-        } catch (Exception e) {
-            LOGGER.warn("Failed to parse timestamp '{}': {}", cleanTimestampStr, e.getMessage());
-            throw new IllegalArgumentException("Error parsing timestamp: " + cleanTimestampStr, e);
-        }
+        // Combine the date from lapSetAt with the parsed time
+        return LocalDateTime.of(lapSetAt.toLocalDate(), time);
     }
 
     public static String[] parseWECName(String fullName) {
@@ -630,59 +600,99 @@ public class ImportServiceImpl implements ImportService {
         return new String[]{firstName.toString(), lastName.toString()};
     }
 
-    // Helper to robustly get a value by header name
-    private String getValueByHeader(String[] headers, String[] values, String key) {
-        for (int i = 0; i < headers.length; i++) {
-            if (headers[i].trim().equalsIgnoreCase(key) && i < values.length) {
-                return values[i].trim();
-            }
-        }
-        return null;
+    /**
+     * A driver's first and last name as written in a results file.
+     */
+    private record DriverName(String firstName, String lastName) {
     }
 
-    private Integer parseInteger(String value) {
-        try {
-            if (value == null || value.isBlank()) return null;
-            return Integer.parseInt(value.trim());
-        } catch (Exception e) {
-            return null;
-        }
+    /**
+     * A parsed timecard row: a lap and its sectors, before the lap has an ID.
+     */
+    private record TimecardRow(Lap lap, List<Sector> sectors) {
     }
 
-    private BigDecimal parseBigDecimal(String value) {
-        try {
-            if (value == null || value.isBlank()) return null;
-            return new BigDecimal(value.trim());
-        } catch (Exception e) {
-            return null;
-        }
+    /**
+     * A parsed results row: the names it references and its result, before any IDs are resolved.
+     */
+    private record ResultRow(String teamName, String className, String carModelName, String carNumber,
+                             String tireSupplier, Map<Integer, DriverName> drivers, Result result) {
     }
 
-    // Helper class for robust lap mapping
-    private static class LapKey {
-        private final Long carId;
-        private final Long driverId;
-        private final Integer lapNumber;
-
-        public LapKey(Long carId, Long driverId, Integer lapNumber) {
-            this.carId = carId;
-            this.driverId = driverId;
-            this.lapNumber = lapNumber;
-        }
-
-        @Override
-        public boolean equals(Object o) {
-            if (this == o) return true;
-            if (o == null || getClass() != o.getClass()) return false;
-            LapKey lapKey = (LapKey) o;
-            return Objects.equals(carId, lapKey.carId) &&
-                    Objects.equals(driverId, lapKey.driverId) &&
-                    Objects.equals(lapNumber, lapKey.lapNumber);
+    /**
+     * Column indexes of a results CSV, resolved once per file for the IMSA or WEC layout.
+     */
+    private static final class ResultColumns {
+        static final int MAX_DRIVERS = 6; // Support up to 6 drivers (IMSA)
+
+        final int team;
+        final int carClass;
+        final int vehicle;
+        final int number;
+        final int tires;
+        final int status;
+        final int laps;
+        final int totalTime;
+        final int gapFirst;
+        final int gapPrevious;
+        final int flLapnum;
+        final int flTime;
+        final int flKph;
+        final int[] driverNames = new int[MAX_DRIVERS];
+        final int[] driverFirstNames = new int[MAX_DRIVERS];
+        final int[] driverSecondNames = new int[MAX_DRIVERS];
+
+        ResultColumns(CsvHeader header, ProcessRequestDTO.ImportType importType) {
+            if (importType != ProcessRequestDTO.ImportType.WEC && importType != ProcessRequestDTO.ImportType.IMSA) {
+                throw new IllegalArgumentException("Unsupported importer type: " + importType);
+            }
+            team = header.indexOf("TEAM");
+            carClass = header.indexOf("CLASS");
+            vehicle = header.indexOf("VEHICLE");
+            number = header.indexOf("NUMBER");
+            tires = header.indexOf(importType == ProcessRequestDTO.ImportType.WEC ? "TYRES" : "TIRES");
+            status = header.indexOf("STATUS");
+            laps = header.indexOf("LAPS");
+            totalTime = header.indexOf("TOTAL_TIME");
+            gapFirst = header.indexOf("GAP_FIRST");
+            gapPrevious = header.indexOf("GAP_PREVIOUS");
+            flLapnum = header.indexOf("FL_LAPNUM");
+            flTime = header.indexOf("FL_TIME");
+            flKph = header.indexOf("FL_KPH");
+            for (int i = 1; i <= MAX_DRIVERS; i++) {
+                driverNames[i - 1] = header.indexOf("DRIVER_" + i);
+                driverFirstNames[i - 1] = header.indexOf("DRIVER" + i + "_FIRSTNAME");
+                driverSecondNames[i - 1] = header.indexOf("DRIVER" + i + "_SECONDNAME");
+            }
         }
+    }
 
-        @Override
-        public int hashCode() {
-            return Objects.hash(carId, driverId, lapNumber);
+    /**
+     * Column indexes of a timecard CSV, resolved once per file.
+     */
+    private static final class TimecardColumns {
+        static final int SECTOR_COUNT = 3;
+
+        final int driverNumber;
+        final int driverName;
+        final int lapNumber;
+        final int lapTime;
+        final int elapsed;
+        final int hour;
+        final int kph;
+        final int[] sectors = new int[SECTOR_COUNT];
+
+        TimecardColumns(CsvHeader header) {
+            driverNumber = header.indexOf("DRIVER_NUMBER");
+            driverName = header.indexOf("DRIVER_NAME");
+            lapNumber = header.require("LAP_NUMBER");
+            lapTime = header.require("LAP_TIME");
+            elapsed = header.require("ELAPSED");
+            hour = header.require("HOUR");
+            kph = header.indexOf("KPH");
+            for (int i = 1; i <= SECTOR_COUNT; i++) {
+                sectors[i - 1] = header.indexOf("S" + i + "_LARGE");
+            }
         }
     }
 }
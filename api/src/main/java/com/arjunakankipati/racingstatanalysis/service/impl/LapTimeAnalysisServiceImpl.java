@@ -0,0 +1,156 @@
+package com.arjunakankipati.racingstatanalysis.service.impl;
+
+import com.arjunakankipati.racingstatanalysis.config.ReadFromReplica;
+import com.arjunakankipati.racingstatanalysis.config.ReplicaLagKey;
+import com.arjunakankipati.racingstatanalysis.dto.DriverLapTimeAnalysisDTO;
+import com.arjunakankipati.racingstatanalysis.dto.LapTimeAnalysisDTO;
+import com.arjunakankipati.racingstatanalysis.dto.LapTimeAnalysisResponseDTO;
+import com.arjunakankipati.racingstatanalysis.model.Session;
+import com.arjunakankipati.racingstatanalysis.repository.LapRepository;
+import com.arjunakankipati.racingstatanalysis.repository.SessionRepository;
+import com.arjunakankipati.racingstatanalysis.service.LapTimeAnalysisService;
+import com.arjunakankipati.racingstatanalysis.service.SessionDataChangedEvent;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Implementation of the LapTimeAnalysisService interface.
+ * An event's laps only change when an import into one of its sessions finishes, so responses are cached
+ * with no expiry under the event's data version, which the import bumps. Entries of older versions are
+ * evicted when a {@link SessionDataChangedEvent} arrives for one of the event's sessions.
+ * The cache is bounded by weight, one unit per driver row plus one for the overall analysis. Misses are
+ * loaded through a {@link SingleFlightLoader}, so a virtual thread is not pinned while the analysis is queried.
+ */
+@Service
+public class LapTimeAnalysisServiceImpl implements LapTimeAnalysisService, MeterBinder {
+
+    private static final String CACHE_NAME = "lapTimeAnalysis";
+
+    private final LapRepository lapRepository;
+    private final SessionRepository sessionRepository;
+    private final Optional<ColumnarLapAnalysis> columnarAnalysis;
+    private final Cache<AnalysisKey, LapTimeAnalysisResponseDTO> cache;
+    private final SingleFlightLoader<AnalysisKey, LapTimeAnalysisResponseDTO> loader;
+
+    /**
+     * Constructor with repository dependency injection.
+     */
+    @Autowired
+    public LapTimeAnalysisServiceImpl(LapRepository lapRepository,
+                                      SessionRepository sessionRepository,
+                                      Optional<ColumnarLapAnalysis> columnarAnalysis,
+                                      @Value("${analysis.cache.max-weight:100000}") long maxWeight) {
+        this.lapRepository = lapRepository;
+        this.sessionRepository = sessionRepository;
+        this.columnarAnalysis = columnarAnalysis;
+        this.cache = CacheBuilder.newBuilder()
+                .maximumWeight(maxWeight)
+                .weigher((AnalysisKey key, LapTimeAnalysisResponseDTO response) -> 1 + response.getDriverAnalyses().size())
+                .recordStats()
+                .build();
+        this.loader = SingleFlightLoader.of(cache);
+    }
+
+    @Override
+    @ReadFromReplica
+    public LapTimeAnalysisResponseDTO getLapTimeAnalysisForEvent(@ReplicaLagKey(ReplicaLagKey.Scope.EVENT) Long eventId,
+                                                                 int percentage, List<Integer> percentages,
+                                                                 Long classId, Long carId, Long sessionId,
+                                                                 Integer offset, Integer limit) {
+        // Normalised so 20,10 and 10,20,10 share one cache entry
+        List<Integer> extraPercentages = percentages.stream().distinct().sorted().toList();
+        // Keyed by the version on the pool the analysis is read from, so a replica that has not replayed the
+        // latest import never stores its older laps under the new version, and other instances' imports invalidate
+        long version = sessionRepository.findEventDataVersion(eventId).version();
+        AnalysisKey key = new AnalysisKey(eventId, version,
+                percentage, extraPercentages, classId, carId, sessionId, offset, limit);
+        return loader.get(key, () -> load(key));
+    }
+
+    /**
+     * Evicts cached analyses for the event a session belongs to.
+     * The session's columnar laps are evicted first, so a response rebuilt straight after is built from fresh laps.
+     *
+     * @param event the event naming the session whose data changed
+     */
+    @EventListener
+    public void onSessionDataChanged(SessionDataChangedEvent event) {
+        sessionRepository.findById(event.sessionId())
+                .map(Session::getEventId)
+                .ifPresent(eventId -> {
+                    columnarAnalysis.ifPresent(analysis -> analysis.evictSession(event.sessionId(), eventId));
+                    evictEvent(eventId);
+                });
+    }
+
+    /**
+     * Evicts all cached analyses for an event.
+     *
+     * @param eventId the ID of the event
+     */
+    public void evictEvent(Long eventId) {
+        cache.asMap().keySet().removeIf(key -> key.eventId().equals(eventId));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        GuavaCacheMetrics.monitor(registry, cache, CACHE_NAME);
+        Gauge.builder("analysis.cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .description("Share of lap time analysis requests served from the cache")
+                .register(registry);
+        FunctionTimer.builder("analysis.cache.load", loader,
+                        SingleFlightLoader::loadCount,
+                        SingleFlightLoader::totalLoadNanos,
+                        TimeUnit.NANOSECONDS)
+                .description("Time spent calculating lap time analyses on cache misses")
+                .register(registry);
+    }
+
+    private LapTimeAnalysisResponseDTO load(AnalysisKey key) {
+        if (columnarAnalysis.isPresent()) {
+            return columnarAnalysis.get().analyze(key.eventId(), key.version(), key.percentage(), key.percentages(),
+                    key.classId(), key.carId(), key.sessionId(), key.offset(), key.limit());
+        }
+
+        // Calculate overall lap time analysis
+        LapTimeAnalysisDTO overallAnalysis = lapRepository.calculateLapTimeAnalysisForEvent(
+                key.eventId(),
+                key.percentage(),
+                key.percentages(),
+                Optional.ofNullable(key.classId()),
+                Optional.ofNullable(key.carId()),
+                Optional.ofNullable(key.sessionId()),
+                Optional.ofNullable(key.offset()),
+                Optional.ofNullable(key.limit()));
+
+        // Calculate driver-specific lap time analyses
+        List<DriverLapTimeAnalysisDTO> driverAnalyses = lapRepository.calculateLapTimeAnalysisPerDriverForEvent(
+                key.eventId(),
+                key.percentage(),
+                key.percentages(),
+                Optional.ofNullable(key.classId()),
+                Optional.ofNullable(key.carId()),
+                Optional.ofNullable(key.sessionId()),
+                Optional.ofNullable(key.offset()),
+                Optional.ofNullable(key.limit()));
+
+        return new LapTimeAnalysisResponseDTO(key.eventId(), List.copyOf(driverAnalyses), overallAnalysis);
+    }
+
+    private record AnalysisKey(Long eventId, long version, int percentage, List<Integer> percentages, Long classId,
+                               Long carId, Long sessionId, Integer offset, Integer limit) {
+    }
+}
@@ -0,0 +1,35 @@
+package com.arjunakankipati.racingstatanalysis.service.impl;
+
+import com.arjunakankipati.racingstatanalysis.config.ReadFromReplica;
+import com.arjunakankipati.racingstatanalysis.config.ReplicaLagKey;
+import com.arjunakankipati.racingstatanalysis.dto.ResultsResponseDTO;
+import com.arjunakankipati.racingstatanalysis.repository.ResultRepository;
+import com.arjunakankipati.racingstatanalysis.service.ResultService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * Implementation of the ResultService interface.
+ */
+@Service
+public class ResultServiceImpl implements ResultService {
+
+    private final ResultRepository resultRepository;
+
+    /**
+     * Constructor with repository dependency injection.
+     */
+    @Autowired
+    public ResultServiceImpl(ResultRepository resultRepository) {
+        this.resultRepository = resultRepository;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @ReadFromReplica
+    public ResultsResponseDTO findResultsBySessionId(@ReplicaLagKey(ReplicaLagKey.Scope.SESSION) Long sessionId) {
+        return resultRepository.findResultsWithCarsAndDriversBySessionId(sessionId);
+    }
+}
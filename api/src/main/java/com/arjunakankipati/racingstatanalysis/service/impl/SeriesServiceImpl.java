@@ -3,51 +3,92 @@ package com.arjunakankipati.racingstatanalysis.service.impl;
 import com.arjunakankipati.racingstatanalysis.dto.SeriesDTO;
 import com.arjunakankipati.racingstatanalysis.dto.SeriesResponseDTO;
 import com.arjunakankipati.racingstatanalysis.exceptions.ResourceExistsException;
-import com.arjunakankipati.racingstatanalysis.model.Event;
+import com.arjunakankipati.racingstatanalysis.exceptions.ResourceNotFoundException;
 import com.arjunakankipati.racingstatanalysis.model.Series;
 import com.arjunakankipati.racingstatanalysis.repository.EventRepository;
 import com.arjunakankipati.racingstatanalysis.repository.SeriesRepository;
+import com.arjunakankipati.racingstatanalysis.service.SeriesEventsChangedEvent;
 import com.arjunakankipati.racingstatanalysis.service.SeriesService;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Implementation of the SeriesService interface.
+ * A series' years only change when an event is added to it, so they are cached until a
+ * {@link SeriesEventsChangedEvent} arrives for the series. That event is only published on the instance
+ * that created the event, so entries also expire after a while to bound how long other instances serve stale years.
  */
 @Service
-public class SeriesServiceImpl implements SeriesService {
+public class SeriesServiceImpl implements SeriesService, MeterBinder {
+
+    private static final String YEARS_CACHE_NAME = "seriesYears";
+    // There are only a handful of series; the bound just keeps a flood of unknown IDs from growing the cache
+    private static final int MAX_CACHED_SERIES = 1_000;
+    // Bounds how long years changed through another instance stay stale here
+    private static final long EXPIRE_AFTER_WRITE_MINUTES = 15;
 
     @Autowired
     private SeriesRepository seriesRepository;
     @Autowired
     private EventRepository eventRepository;
 
+    private final Cache<YearsKey, List<Integer>> yearsCache = CacheBuilder.newBuilder()
+            .maximumSize(MAX_CACHED_SERIES)
+            .expireAfterWrite(EXPIRE_AFTER_WRITE_MINUTES, TimeUnit.MINUTES)
+            .recordStats()
+            .build();
+    private final SingleFlightLoader<YearsKey, List<Integer>> yearsLoader = SingleFlightLoader.of(yearsCache);
+    // Bumped on every invalidation, so a load that started before an event was added is stored under a stale key
+    private final Map<Long, Long> seriesVersions = new ConcurrentHashMap<>();
+
     /**
      * {@inheritDoc}
      */
     @Override
     public List<SeriesResponseDTO> findAll() {
-        List<Series> seriesList = seriesRepository.findAll();
+        // Event counts and years for every series come from one grouped query
+        return seriesRepository.findAllWithEventCountsAndYears();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Integer> findYearsBySeriesId(Long seriesId) {
+        YearsKey key = new YearsKey(seriesId, seriesVersions.getOrDefault(seriesId, 0L));
+        return yearsLoader.get(key, () -> {
+            // Unknown series throw, so they are never cached
+            seriesRepository.findById(seriesId)
+                    .orElseThrow(ResourceNotFoundException::new);
+            return List.copyOf(eventRepository.findYearsBySeriesId(seriesId));
+        });
+    }
+
+    /**
+     * Evicts the cached years of a series whose events changed.
+     *
+     * @param event the event naming the series
+     */
+    @EventListener
+    public void onSeriesEventsChanged(SeriesEventsChangedEvent event) {
+        seriesVersions.merge(event.seriesId(), 1L, Long::sum);
+        yearsCache.asMap().keySet().removeIf(key -> key.seriesId().equals(event.seriesId()));
+    }
 
-        return seriesList.stream()
-                .map(series -> {
-                    // Count events for this series
-                    // TODO - make one query and return event count and years
-                    var events = eventRepository.findBySeriesId(series.getId());
-                    // Create DTO with series data, event count, and years
-                    return new SeriesResponseDTO(
-                            series.getId(),
-                            series.getName(),
-                            events.size(),
-                            events.stream()
-                                    .map(Event::getYear)
-                                    .distinct()
-                                    .toList()
-                    );
-                })
-                .toList();
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        GuavaCacheMetrics.monitor(registry, yearsCache, YEARS_CACHE_NAME);
     }
 
     /**
@@ -64,4 +105,7 @@ public class SeriesServiceImpl implements SeriesService {
         Series saved = seriesRepository.save(series);
         return new SeriesResponseDTO(saved.getId(), saved.getName(), 0, null);
     }
+
+    private record YearsKey(Long seriesId, long version) {
+    }
 }
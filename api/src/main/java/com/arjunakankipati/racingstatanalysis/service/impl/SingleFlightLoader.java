@@ -0,0 +1,119 @@
+package com.arjunakankipati.racingstatanalysis.service.impl;
+
+import com.google.common.cache.Cache;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Fills a cache on a miss without holding a monitor while the value loads.
+ * Guava's {@code Cache.get(key, loader)} and {@code ConcurrentHashMap.computeIfAbsent} both run the loader
+ * inside a {@code synchronized} block, which pins a virtual thread to its carrier for the whole query.
+ * Here the first caller to miss loads the value on its own thread, and concurrent callers missing the same
+ * key wait for that load instead of repeating it. A failed load is not cached; its waiters get the same exception.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+final class SingleFlightLoader<K, V> {
+
+    private final Function<K, V> lookup;
+    private final BiConsumer<K, V> store;
+    private final ConcurrentMap<K, CompletableFuture<V>> loading = new ConcurrentHashMap<>();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder loadNanos = new LongAdder();
+
+    private SingleFlightLoader(Function<K, V> lookup, BiConsumer<K, V> store) {
+        this.lookup = lookup;
+        this.store = store;
+    }
+
+    /**
+     * Creates a loader filling a Guava cache, which still records hits and misses.
+     *
+     * @param cache the cache
+     * @return the loader
+     */
+    static <K, V> SingleFlightLoader<K, V> of(Cache<K, V> cache) {
+        return new SingleFlightLoader<>(cache::getIfPresent, cache::put);
+    }
+
+    /**
+     * Creates a loader filling a concurrent map.
+     *
+     * @param map the map
+     * @return the loader
+     */
+    static <K, V> SingleFlightLoader<K, V> of(Map<K, V> map) {
+        return new SingleFlightLoader<>(map::get, map::put);
+    }
+
+    /**
+     * Gets the cached value for a key, loading and caching it first on a miss.
+     *
+     * @param key    the key
+     * @param loader loads the value, never returning null
+     * @return the value
+     */
+    V get(K key, Supplier<? extends V> loader) {
+        V cached = lookup.apply(key);
+        if (cached != null) {
+            return cached;
+        }
+        CompletableFuture<V> load = new CompletableFuture<>();
+        CompletableFuture<V> running = loading.putIfAbsent(key, load);
+        if (running != null) {
+            return await(running);
+        }
+        long start = System.nanoTime();
+        try {
+            V value = loader.get();
+            store.accept(key, value);
+            load.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            loads.increment();
+            loadNanos.add(System.nanoTime() - start);
+            loading.remove(key, load);
+        }
+    }
+
+    /**
+     * Gets the number of loads run since startup, successful or not.
+     */
+    long loadCount() {
+        return loads.sum();
+    }
+
+    /**
+     * Gets the total time spent loading in nanoseconds.
+     */
+    long totalLoadNanos() {
+        return loadNanos.sum();
+    }
+
+    private static <V> V await(CompletableFuture<V> running) {
+        try {
+            // Parks rather than blocking on a monitor, so a waiting virtual thread releases its carrier
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,270 @@
+package com.arjunakankipati.racingstatanalysis.service.impl;
+
+import com.arjunakankipati.racingstatanalysis.config.ConnectionPool;
+import com.arjunakankipati.racingstatanalysis.model.Lap;
+import com.arjunakankipati.racingstatanalysis.model.Sector;
+import com.arjunakankipati.racingstatanalysis.repository.LapRepository;
+import com.arjunakankipati.racingstatanalysis.repository.SectorRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Producer/consumer pipeline for timecard imports.
+ * The parsing thread submits laps with their sectors; once a batch is full it is handed to a writer thread,
+ * which loads it with COPY. The hand-off queue is bounded, so at most a few batches are held in memory
+ * regardless of the size of the timecard. The writer holds one connection and one transaction for the whole
+ * import: it first deletes the session's existing laps, so a re-import replaces them, and it commits only
+ * after {@link #finish()}. A failure in parsing or writing rolls back every batch, leaving the session as it was.
+ */
+class TimecardImportPipeline implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TimecardImportPipeline.class);
+
+    // Batches waiting for the writer; one queued batch lets parsing and writing overlap
+    private static final int QUEUED_BATCHES = 1;
+    // Sentinels closing the queue; compared by identity
+    private static final Map<LapKey, PendingLap> END_OF_INPUT = new LinkedHashMap<>();
+    private static final Map<LapKey, PendingLap> ABORT = new LinkedHashMap<>();
+
+    private final LapRepository lapRepository;
+    private final SectorRepository sectorRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Long sessionId;
+    private final BlockingQueue<Map<LapKey, PendingLap>> queue = new ArrayBlockingQueue<>(QUEUED_BATCHES);
+    private final Thread writer;
+
+    private Map<LapKey, PendingLap> batch;
+    private volatile Exception failure;
+    private long lapsWritten;
+    private boolean stopped;
+    private boolean closed;
+
+    /**
+     * Creates the pipeline and starts its writer thread.
+     *
+     * @param lapRepository       the lap repository
+     * @param sectorRepository    the sector repository
+     * @param transactionTemplate the template the whole import is written in
+     * @param batchSize           the number of laps written per COPY
+     * @param sessionId           the ID of the session whose laps are replaced
+     */
+    TimecardImportPipeline(LapRepository lapRepository,
+                           SectorRepository sectorRepository,
+                           TransactionTemplate transactionTemplate,
+                           int batchSize,
+                           Long sessionId) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive");
+        }
+        this.lapRepository = lapRepository;
+        this.sectorRepository = sectorRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.sessionId = sessionId;
+        this.batch = new LinkedHashMap<>(batchSize * 2);
+        // The writer runs on the connection pool of the thread creating the pipeline
+        this.writer = new Thread(ConnectionPool.propagate(this::drain), "timecard-writer-" + sessionId);
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * Adds a lap and its sectors to the current batch, blocking while the writer is behind.
+     * A later row for the same car, driver and lap number replaces the earlier one, also across batches.
+     *
+     * @param lap     the lap, without an ID
+     * @param sectors the sectors of the lap, without lap IDs
+     * @throws Exception the first failure raised while writing an earlier batch,
+     *                   or an InterruptedException if interrupted while waiting for the writer
+     */
+    void submit(Lap lap, List<Sector> sectors) throws Exception {
+        rethrowFailure();
+        batch.put(new LapKey(lap.getCarEntryId(), lap.getDriverId(), lap.getLapNumber()), new PendingLap(lap, sectors));
+        if (batch.size() >= batchSize) {
+            queue.put(batch);
+            batch = new LinkedHashMap<>(batchSize * 2);
+        }
+    }
+
+    /**
+     * Flushes the last partial batch, waits for the writer and commits the import.
+     *
+     * @return the number of laps written
+     * @throws Exception the first failure raised while writing a batch or committing
+     */
+    long finish() throws Exception {
+        rethrowFailure();
+        if (!batch.isEmpty()) {
+            queue.put(batch);
+            batch = new LinkedHashMap<>();
+        }
+        stop(END_OF_INPUT);
+        rethrowFailure();
+        return lapsWritten;
+    }
+
+    /**
+     * Stops the writer and, unless {@link #finish()} already committed, rolls back everything written.
+     * Safe to call more than once.
+     */
+    @Override
+    public void close() throws InterruptedException {
+        stop(ABORT);
+    }
+
+    private void stop(Map<LapKey, PendingLap> sentinel) throws InterruptedException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        queue.put(sentinel);
+        writer.join();
+    }
+
+    private void drain() {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!consume()) {
+                    status.setRollbackOnly();
+                }
+            });
+        } catch (RuntimeException e) {
+            // Opening or committing the transaction failed
+            LOGGER.error("Failed to write timecard import for session {}", sessionId, e);
+            if (failure == null) {
+                failure = e;
+            }
+            if (!stopped) {
+                discardUntilStopped();
+            }
+        }
+    }
+
+    /**
+     * Takes batches without writing them until the producer stops, so it never blocks on a full queue.
+     */
+    private void discardUntilStopped() {
+        try {
+            Map<LapKey, PendingLap> next;
+            do {
+                next = queue.take();
+            } while (next != END_OF_INPUT && next != ABORT);
+            stopped = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Writes queued batches until the producer stops.
+     *
+     * @return whether the import should be committed
+     */
+    private boolean consume() {
+        try {
+            lapRepository.deleteBySessionId(sessionId);
+        } catch (RuntimeException e) {
+            LOGGER.error("Failed to clear existing laps of session {}", sessionId, e);
+            failure = e;
+        }
+        long written = 0;
+        try {
+            while (true) {
+                Map<LapKey, PendingLap> next = queue.take();
+                if (next == END_OF_INPUT || next == ABORT) {
+                    stopped = true;
+                    lapsWritten = written;
+                    return next == END_OF_INPUT && failure == null;
+                }
+                // Keep consuming after a failure so the producer never blocks on a full queue
+                if (failure == null) {
+                    try {
+                        written += write(next.values());
+                    } catch (RuntimeException e) {
+                        LOGGER.error("Failed to write timecard batch", e);
+                        failure = e;
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            failure = e;
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private int write(Collection<PendingLap> pending) {
+        var laps = new ArrayList<Lap>(pending.size());
+        var sectors = new ArrayList<Sector>(pending.size() * 3);
+        for (PendingLap pendingLap : pending) {
+            laps.add(pendingLap.lap());
+        }
+
+        // Replaces laps written by an earlier batch of this import; the session's older laps are already gone
+        int replaced = lapRepository.deleteByCarDriverAndLapNumber(laps);
+
+        // Reserve lap IDs up front so sectors are linked before anything is written
+        List<Long> lapIds = lapRepository.reserveIds(laps.size());
+        int idx = 0;
+        for (PendingLap pendingLap : pending) {
+            Long lapId = lapIds.get(idx++);
+            pendingLap.lap().setId(lapId);
+            for (Sector sector : pendingLap.sectors()) {
+                sector.setLapId(lapId);
+                sectors.add(sector);
+            }
+        }
+
+        lapRepository.copyAll(laps);
+        sectorRepository.copyAll(sectors);
+        return laps.size() - replaced;
+    }
+
+    private void rethrowFailure() throws Exception {
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private record PendingLap(Lap lap, List<Sector> sectors) {
+    }
+
+    // Helper class for robust lap mapping
+    private static class LapKey {
+        private final Long carId;
+        private final Long driverId;
+        private final Integer lapNumber;
+
+        public LapKey(Long carId, Long driverId, Integer lapNumber) {
+            this.carId = carId;
+            this.driverId = driverId;
+            this.lapNumber = lapNumber;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            LapKey lapKey = (LapKey) o;
+            return Objects.equals(carId, lapKey.carId) &&
+                    Objects.equals(driverId, lapKey.driverId) &&
+                    Objects.equals(lapNumber, lapKey.lapNumber);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(carId, driverId, lapNumber);
+        }
+    }
+}
@@ -18,6 +18,7 @@ import org.jooq.impl.SQLDataType;
 import org.jooq.impl.TableImpl;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
@@ -84,6 +85,16 @@ public class Events extends TableImpl<EventsRecord> {
      */
     public final TableField<EventsRecord, Long> CIRCUIT_ID = createField(DSL.name("circuit_id"), SQLDataType.BIGINT, this, "");
 
+    /**
+     * The column <code>public.events.data_version</code>.
+     */
+    public final TableField<EventsRecord, Long> DATA_VERSION = createField(DSL.name("data_version"), SQLDataType.BIGINT.nullable(false).defaultValue(DSL.field(DSL.raw("0"), SQLDataType.BIGINT)), this, "");
+
+    /**
+     * The column <code>public.events.data_updated_at</code>.
+     */
+    public final TableField<EventsRecord, LocalDateTime> DATA_UPDATED_AT = createField(DSL.name("data_updated_at"), SQLDataType.LOCALDATETIME(6).nullable(false).defaultValue(DSL.field(DSL.raw("now()"), SQLDataType.LOCALDATETIME)), this, "");
+
     private Events(Name alias, Table<EventsRecord> aliased) {
         this(alias, aliased, (Field<?>[]) null, null);
     }
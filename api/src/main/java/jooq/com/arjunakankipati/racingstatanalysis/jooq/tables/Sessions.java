@@ -75,6 +75,16 @@ public class Sessions extends TableImpl<SessionsRecord> {
      */
     public final TableField<SessionsRecord, Integer> DURATION_SECONDS = createField(DSL.name("duration_seconds"), SQLDataType.INTEGER.nullable(false), this, "");
 
+    /**
+     * The column <code>public.sessions.data_version</code>.
+     */
+    public final TableField<SessionsRecord, Long> DATA_VERSION = createField(DSL.name("data_version"), SQLDataType.BIGINT.nullable(false).defaultValue(DSL.field(DSL.raw("0"), SQLDataType.BIGINT)), this, "");
+
+    /**
+     * The column <code>public.sessions.data_updated_at</code>.
+     */
+    public final TableField<SessionsRecord, LocalDateTime> DATA_UPDATED_AT = createField(DSL.name("data_updated_at"), SQLDataType.LOCALDATETIME(6).nullable(false).defaultValue(DSL.field(DSL.raw("now()"), SQLDataType.LOCALDATETIME)), this, "");
+
     private Sessions(Name alias, Table<SessionsRecord> aliased) {
         this(alias, aliased, (Field<?>[]) null, null);
     }
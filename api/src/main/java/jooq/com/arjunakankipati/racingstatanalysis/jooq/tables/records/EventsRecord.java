@@ -9,6 +9,7 @@ import org.jooq.Record1;
 import org.jooq.impl.UpdatableRecordImpl;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 
 /**
@@ -131,6 +132,34 @@ public class EventsRecord extends UpdatableRecordImpl<EventsRecord> {
         return (Long) get(7);
     }
 
+    /**
+     * Setter for <code>public.events.data_version</code>.
+     */
+    public void setDataVersion(Long value) {
+        set(8, value);
+    }
+
+    /**
+     * Getter for <code>public.events.data_version</code>.
+     */
+    public Long getDataVersion() {
+        return (Long) get(8);
+    }
+
+    /**
+     * Setter for <code>public.events.data_updated_at</code>.
+     */
+    public void setDataUpdatedAt(LocalDateTime value) {
+        set(9, value);
+    }
+
+    /**
+     * Getter for <code>public.events.data_updated_at</code>.
+     */
+    public LocalDateTime getDataUpdatedAt() {
+        return (LocalDateTime) get(9);
+    }
+
     // -------------------------------------------------------------------------
     // Primary key information
     // -------------------------------------------------------------------------
@@ -154,7 +183,7 @@ public class EventsRecord extends UpdatableRecordImpl<EventsRecord> {
     /**
      * Create a detached, initialised EventsRecord
      */
-    public EventsRecord(Long id, Long seriesId, String name, Integer year, LocalDate startDate, LocalDate endDate, String description, Long circuitId) {
+    public EventsRecord(Long id, Long seriesId, String name, Integer year, LocalDate startDate, LocalDate endDate, String description, Long circuitId, Long dataVersion, LocalDateTime dataUpdatedAt) {
         super(Events.EVENTS);
 
         setId(id);
@@ -165,6 +194,8 @@ public class EventsRecord extends UpdatableRecordImpl<EventsRecord> {
         setEndDate(endDate);
         setDescription(description);
         setCircuitId(circuitId);
+        setDataVersion(dataVersion);
+        setDataUpdatedAt(dataUpdatedAt);
         resetChangedOnNotNull();
     }
 }
@@ -103,6 +103,34 @@ public class SessionsRecord extends UpdatableRecordImpl<SessionsRecord> {
         return (Integer) get(5);
     }
 
+    /**
+     * Setter for <code>public.sessions.data_version</code>.
+     */
+    public void setDataVersion(Long value) {
+        set(6, value);
+    }
+
+    /**
+     * Getter for <code>public.sessions.data_version</code>.
+     */
+    public Long getDataVersion() {
+        return (Long) get(6);
+    }
+
+    /**
+     * Setter for <code>public.sessions.data_updated_at</code>.
+     */
+    public void setDataUpdatedAt(LocalDateTime value) {
+        set(7, value);
+    }
+
+    /**
+     * Getter for <code>public.sessions.data_updated_at</code>.
+     */
+    public LocalDateTime getDataUpdatedAt() {
+        return (LocalDateTime) get(7);
+    }
+
     // -------------------------------------------------------------------------
     // Primary key information
     // -------------------------------------------------------------------------
@@ -126,7 +154,7 @@ public class SessionsRecord extends UpdatableRecordImpl<SessionsRecord> {
     /**
      * Create a detached, initialised SessionsRecord
      */
-    public SessionsRecord(Long id, Long eventId, String name, String type, LocalDateTime startDatetime, Integer durationSeconds) {
+    public SessionsRecord(Long id, Long eventId, String name, String type, LocalDateTime startDatetime, Integer durationSeconds, Long dataVersion, LocalDateTime dataUpdatedAt) {
         super(Sessions.SESSIONS);
 
         setId(id);
@@ -135,6 +163,8 @@ public class SessionsRecord extends UpdatableRecordImpl<SessionsRecord> {
         setType(type);
         setStartDatetime(startDatetime);
         setDurationSeconds(durationSeconds);
+        setDataVersion(dataVersion);
+        setDataUpdatedAt(dataUpdatedAt);
         resetChangedOnNotNull();
     }
 }
@@ -0,0 +1,4 @@
+-- Allow lap IDs to be reserved from the identity sequence and supplied explicitly,
+-- which bulk loads with COPY need to link sectors to their laps.
+ALTER TABLE laps
+    ALTER COLUMN id SET GENERATED BY DEFAULT;
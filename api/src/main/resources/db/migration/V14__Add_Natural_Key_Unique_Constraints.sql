@@ -0,0 +1,83 @@
+-- V14 Migration: Add unique constraints on natural keys so imports can find-or-create
+-- with INSERT ... ON CONFLICT DO NOTHING. Existing duplicates are merged into the row
+-- with the lowest id before each constraint is added.
+
+-- 1. Teams are unique by name
+UPDATE car_entries ce
+SET team_id = d.keep_id
+FROM (SELECT id, MIN(id) OVER (PARTITION BY name) AS keep_id FROM teams) d
+WHERE ce.team_id = d.id
+  AND d.id <> d.keep_id;
+
+DELETE
+FROM teams t
+    USING (SELECT id, MIN(id) OVER (PARTITION BY name) AS keep_id FROM teams) d
+WHERE t.id = d.id
+  AND d.id <> d.keep_id;
+
+ALTER TABLE teams
+    ADD CONSTRAINT uq_teams_name UNIQUE (name);
+
+-- 2. Car models are unique by name (the old key included the dropped manufacturer_id)
+UPDATE car_entries ce
+SET car_model_id = d.keep_id
+FROM (SELECT id, MIN(id) OVER (PARTITION BY name) AS keep_id FROM car_models) d
+WHERE ce.car_model_id = d.id
+  AND d.id <> d.keep_id;
+
+DELETE
+FROM car_models cm
+    USING (SELECT id, MIN(id) OVER (PARTITION BY name) AS keep_id FROM car_models) d
+WHERE cm.id = d.id
+  AND d.id <> d.keep_id;
+
+ALTER TABLE car_models
+    ADD CONSTRAINT uq_car_models_name UNIQUE (name);
+
+-- 3. Classes are unique by name within a series
+UPDATE car_entries ce
+SET class_id = d.keep_id
+FROM (SELECT id, MIN(id) OVER (PARTITION BY series_id, name) AS keep_id FROM classes) d
+WHERE ce.class_id = d.id
+  AND d.id <> d.keep_id;
+
+DELETE
+FROM classes c
+    USING (SELECT id, MIN(id) OVER (PARTITION BY series_id, name) AS keep_id FROM classes) d
+WHERE c.id = d.id
+  AND d.id <> d.keep_id;
+
+ALTER TABLE classes
+    ADD CONSTRAINT uq_classes_series_name UNIQUE (series_id, name);
+
+-- 4. Drivers are unique by first and last name
+UPDATE car_drivers cd
+SET driver_id = d.keep_id
+FROM (SELECT id, MIN(id) OVER (PARTITION BY first_name, last_name) AS keep_id FROM drivers) d
+WHERE cd.driver_id = d.id
+  AND d.id <> d.keep_id;
+
+UPDATE laps l
+SET driver_id = d.keep_id
+FROM (SELECT id, MIN(id) OVER (PARTITION BY first_name, last_name) AS keep_id FROM drivers) d
+WHERE l.driver_id = d.id
+  AND d.id <> d.keep_id;
+
+DELETE
+FROM drivers dr
+    USING (SELECT id, MIN(id) OVER (PARTITION BY first_name, last_name) AS keep_id FROM drivers) d
+WHERE dr.id = d.id
+  AND d.id <> d.keep_id;
+
+ALTER TABLE drivers
+    ADD CONSTRAINT uq_drivers_first_last_name UNIQUE (first_name, last_name);
+
+-- 5. A driver is associated with a car entry once (merging drivers above can create duplicates)
+DELETE
+FROM car_drivers cd
+    USING (SELECT id, MIN(id) OVER (PARTITION BY car_id, driver_id) AS keep_id FROM car_drivers) d
+WHERE cd.id = d.id
+  AND d.id <> d.keep_id;
+
+ALTER TABLE car_drivers
+    ADD CONSTRAINT uq_car_drivers_car_driver UNIQUE (car_id, driver_id);
@@ -0,0 +1,7 @@
+-- V15 Migration: Track a data version per session so read endpoints can answer conditional
+-- requests. Every finished import bumps data_version and data_updated_at for its session;
+-- event-level versions are derived from the event's sessions.
+
+ALTER TABLE sessions
+    ADD COLUMN data_version    BIGINT    NOT NULL DEFAULT 0,
+    ADD COLUMN data_updated_at TIMESTAMP NOT NULL DEFAULT now();
@@ -0,0 +1,13 @@
+-- V16 Migration: A lap is unique by car entry, driver and lap number. Re-running a failed
+-- timecard import used to insert its laps a second time; existing duplicates are merged into
+-- the row with the highest id, the most recently imported one, before the constraint is added.
+-- Sectors of the removed rows are deleted by the cascade on sectors.lap_id.
+
+DELETE
+FROM laps l
+    USING (SELECT id, MAX(id) OVER (PARTITION BY car_id, driver_id, lap_number) AS keep_id FROM laps) d
+WHERE l.id = d.id
+  AND d.id <> d.keep_id;
+
+ALTER TABLE laps
+    ADD CONSTRAINT uq_laps_car_driver_lap_number UNIQUE (car_id, driver_id, lap_number);
@@ -0,0 +1,36 @@
+-- V17 Migration: Track a data version per event. Deriving it from the event's sessions
+-- (session count plus the sum of their versions) was not monotonic: removing a session lowered
+-- it, so a later change could reproduce an earlier ETag. A trigger now bumps the event's version
+-- whenever one of its sessions is added, removed, moved or has its data version bumped.
+-- Versions start above the old derived value so an ETag issued before this migration does not match.
+
+ALTER TABLE events
+    ADD COLUMN data_version    BIGINT    NOT NULL DEFAULT 0,
+    ADD COLUMN data_updated_at TIMESTAMP NOT NULL DEFAULT now();
+
+UPDATE events e
+SET data_version    = s.derived_version + 1,
+    data_updated_at = s.updated_at
+FROM (SELECT event_id, COUNT(*) + SUM(data_version) AS derived_version, MAX(data_updated_at) AS updated_at
+      FROM sessions
+      GROUP BY event_id) s
+WHERE e.id = s.event_id;
+
+CREATE FUNCTION bump_event_data_version() RETURNS TRIGGER AS
+$$
+BEGIN
+    IF TG_OP <> 'INSERT' THEN
+        UPDATE events SET data_version = data_version + 1, data_updated_at = now() WHERE id = OLD.event_id;
+    END IF;
+    IF TG_OP <> 'DELETE' AND (TG_OP = 'INSERT' OR NEW.event_id IS DISTINCT FROM OLD.event_id) THEN
+        UPDATE events SET data_version = data_version + 1, data_updated_at = now() WHERE id = NEW.event_id;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER sessions_bump_event_data_version
+    AFTER INSERT OR DELETE OR UPDATE OF event_id, data_version
+    ON sessions
+    FOR EACH ROW
+EXECUTE FUNCTION bump_event_data_version();
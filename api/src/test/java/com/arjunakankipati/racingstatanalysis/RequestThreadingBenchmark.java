@@ -0,0 +1,205 @@
+package com.arjunakankipati.racingstatanalysis;
+
+import com.arjunakankipati.racingstatanalysis.jooq.Tables;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.jooq.DSLContext;
+import org.jooq.Record2;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares serving the heavy read endpoints on Tomcat's platform threads with serving them on virtual threads.
+ * Starts the application once per mode against {@code BENCHMARK_DATASOURCE_URL}, which must point at a migrated
+ * database with at least one imported session, and drives it with a fixed number of concurrent clients:
+ * <pre>
+ * BENCHMARK_DATASOURCE_URL=jdbc:postgresql://localhost:5432/statsdb ./gradlew test --tests '*RequestThreadingBenchmark'
+ * </pre>
+ * The lap time analysis cache is disabled so every request reaches the database. Clients default to 400, twice
+ * Tomcat's default thread pool, so platform threads queue requests that virtual threads would accept; set
+ * {@code BENCHMARK_CONCURRENCY} and {@code BENCHMARK_DURATION_SECONDS} to change the load. Each mode is warmed up
+ * for a third of the duration before it is measured. Run with {@code -Djdk.tracePinnedThreads=short} in
+ * {@code JAVA_TOOL_OPTIONS} to print where virtual threads were pinned.
+ */
+@EnabledIfEnvironmentVariable(named = "BENCHMARK_DATASOURCE_URL", matches = ".+")
+class RequestThreadingBenchmark {
+
+    private static final int DRIVERS_PER_LAP_TIMES_REQUEST = 5;
+
+    @Test
+    void comparePlatformWithVirtualThreads() throws Exception {
+        int concurrency = Integer.parseInt(System.getenv().getOrDefault("BENCHMARK_CONCURRENCY", "400"));
+        int durationSeconds = Integer.parseInt(System.getenv().getOrDefault("BENCHMARK_DURATION_SECONDS", "30"));
+        List<String> paths = heavyEndpointPaths();
+
+        List<String> report = new ArrayList<>();
+        for (boolean virtualThreads : new boolean[]{false, true}) {
+            try (ConfigurableApplicationContext app = start(virtualThreads)) {
+                int port = ((WebServerApplicationContext) app).getWebServer().getPort();
+                List<URI> uris = paths.stream().map(path -> URI.create("http://localhost:" + port + path)).toList();
+                drive(uris, concurrency, Math.max(1, durationSeconds / 3));
+                LoadResult result = drive(uris, concurrency, durationSeconds);
+                Timer pinned = app.getBean(MeterRegistry.class).find("jvm.threads.virtual.pinned").timer();
+
+                report.add(String.format("%-8s %d clients: %.0f req/s, p50 %d ms, p95 %d ms, p99 %d ms, %d errors, %s pinned",
+                        virtualThreads ? "virtual" : "platform", concurrency, result.throughput(),
+                        result.percentileMillis(0.50), result.percentileMillis(0.95), result.percentileMillis(0.99),
+                        result.errors(), pinned == null ? "n/a" : String.valueOf(pinned.count())));
+                assertThat(result.latenciesNanos()).isNotEmpty();
+            }
+        }
+        report.forEach(System.out::println);
+    }
+
+    /**
+     * Finds the session with the most laps and builds requests for the lap time analysis, lap times, results and
+     * teams endpoints against it and its event.
+     */
+    private static List<String> heavyEndpointPaths() throws Exception {
+        try (Connection connection = DriverManager.getConnection(
+                System.getenv("BENCHMARK_DATASOURCE_URL"),
+                System.getenv().getOrDefault("SPRING_DATASOURCE_USERNAME", "postgres"),
+                System.getenv().getOrDefault("SPRING_DATASOURCE_PASSWORD", "stats"))) {
+            DSLContext dsl = DSL.using(connection, SQLDialect.POSTGRES);
+
+            Record2<Long, Long> session = dsl.select(Tables.SESSIONS.ID, Tables.SESSIONS.EVENT_ID)
+                    .from(Tables.LAPS)
+                    .join(Tables.CAR_ENTRIES).on(Tables.CAR_ENTRIES.ID.eq(Tables.LAPS.CAR_ID))
+                    .join(Tables.SESSIONS).on(Tables.SESSIONS.ID.eq(Tables.CAR_ENTRIES.SESSION_ID))
+                    .groupBy(Tables.SESSIONS.ID, Tables.SESSIONS.EVENT_ID)
+                    .orderBy(DSL.count().desc())
+                    .limit(1)
+                    .fetchOne();
+            Assumptions.assumeTrue(session != null, "benchmark needs at least one session with laps");
+            Long sessionId = session.value1();
+            Long eventId = session.value2();
+
+            String driverIds = dsl.selectDistinct(Tables.LAPS.DRIVER_ID)
+                    .from(Tables.LAPS)
+                    .join(Tables.CAR_ENTRIES).on(Tables.CAR_ENTRIES.ID.eq(Tables.LAPS.CAR_ID))
+                    .where(Tables.CAR_ENTRIES.SESSION_ID.eq(sessionId))
+                    .limit(DRIVERS_PER_LAP_TIMES_REQUEST)
+                    .fetch(Tables.LAPS.DRIVER_ID)
+                    .stream()
+                    .map(String::valueOf)
+                    .collect(Collectors.joining(","));
+
+            return List.of(
+                    "/api/v1/events/" + eventId + "/laptimeanalysis",
+                    "/api/v1/events/" + eventId + "/session/" + sessionId + "/laptimes?driverIds=" + driverIds,
+                    "/api/v1/sessions/" + sessionId + "/results",
+                    "/api/v1/events/" + eventId + "/teams");
+        }
+    }
+
+    private static ConfigurableApplicationContext start(boolean virtualThreads) {
+        return new SpringApplicationBuilder(RacingStatAnalysisApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "spring.datasource.url=" + System.getenv("BENCHMARK_DATASOURCE_URL"),
+                        "replica.datasource.url=",
+                        "analysis.cache.max-weight=0")
+                .run();
+    }
+
+    /**
+     * Sends requests from {@code concurrency} clients, each cycling through the URIs, until the duration is up.
+     */
+    private static LoadResult drive(List<URI> uris, int concurrency, int durationSeconds) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(durationSeconds);
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient http = HttpClient.newBuilder()
+                     .version(HttpClient.Version.HTTP_1_1)
+                     .executor(clients)
+                     .build()) {
+            List<Future<ClientResult>> futures = new ArrayList<>(concurrency);
+            for (int i = 0; i < concurrency; i++) {
+                int first = i;
+                futures.add(clients.submit(() -> {
+                    ClientResult result = new ClientResult();
+                    for (int n = first; System.nanoTime() < deadline; n++) {
+                        HttpRequest request = HttpRequest.newBuilder(uris.get(n % uris.size())).GET().build();
+                        long start = System.nanoTime();
+                        try {
+                            int status = http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                            if (status >= 400) {
+                                result.errors++;
+                            }
+                        } catch (Exception e) {
+                            result.errors++;
+                        }
+                        result.add(System.nanoTime() - start);
+                    }
+                    return result;
+                }));
+            }
+
+            long errors = 0;
+            long[] latencies = new long[0];
+            for (Future<ClientResult> future : futures) {
+                ClientResult result = future.get();
+                errors += result.errors;
+                int offset = latencies.length;
+                latencies = Arrays.copyOf(latencies, offset + result.count);
+                System.arraycopy(result.latenciesNanos, 0, latencies, offset, result.count);
+            }
+            Arrays.sort(latencies);
+            return new LoadResult(latencies, errors, durationSeconds);
+        }
+    }
+
+    private static final class ClientResult {
+        private long[] latenciesNanos = new long[256];
+        private int count;
+        private long errors;
+
+        void add(long nanos) {
+            if (count == latenciesNanos.length) {
+                latenciesNanos = Arrays.copyOf(latenciesNanos, count * 2);
+            }
+            latenciesNanos[count++] = nanos;
+        }
+    }
+
+    /**
+     * Latencies of every request sent in one run, sorted ascending.
+     */
+    private record LoadResult(long[] latenciesNanos, long errors, int durationSeconds) {
+
+        double throughput() {
+            return latenciesNanos.length / (double) durationSeconds;
+        }
+
+        long percentileMillis(double percentile) {
+            if (latenciesNanos.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile * latenciesNanos.length) - 1;
+            return TimeUnit.NANOSECONDS.toMillis(latenciesNanos[Math.max(0, index)]);
+        }
+    }
+}
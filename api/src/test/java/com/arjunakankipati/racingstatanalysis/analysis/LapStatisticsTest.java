@@ -0,0 +1,54 @@
+package com.arjunakankipati.racingstatanalysis.analysis;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LapStatisticsTest {
+
+    @Test
+    void matchesSortingOnRandomLapTimes() {
+        Random random = new Random(42);
+        for (int round = 0; round < 500; round++) {
+            int n = 1 + random.nextInt(300);
+            int[] values = new int[n];
+            for (int i = 0; i < n; i++) {
+                // Narrow range so duplicates are common
+                values[i] = 100_000 + random.nextInt(round % 2 == 0 ? 50 : 20_000);
+            }
+            int[] sorted = values.clone();
+            Arrays.sort(sorted);
+            int k = 1 + random.nextInt(n);
+            long expectedSum = 0;
+            for (int i = 0; i < k; i++) {
+                expectedSum += sorted[i];
+            }
+            long expectedMedian = n % 2 == 1 ? sorted[n / 2] : (sorted[n / 2 - 1] + sorted[n / 2] + 1L) / 2;
+
+            assertThat(LapStatistics.min(values.clone(), n)).isEqualTo(sorted[0]);
+            assertThat(LapStatistics.sumOfSmallest(values.clone(), n, k)).isEqualTo(expectedSum);
+            assertThat(LapStatistics.median(values.clone(), n)).isEqualTo(expectedMedian);
+            int index = random.nextInt(n);
+            assertThat(LapStatistics.select(values.clone(), n, index)).isEqualTo(sorted[index]);
+            assertThat(LapStatistics.prefixSums(sorted, n)[k]).isEqualTo(expectedSum);
+            assertThat(LapStatistics.medianOfSorted(sorted, n)).isEqualTo(expectedMedian);
+        }
+    }
+
+    @Test
+    void roundsAveragesAndMediansHalfUp() {
+        assertThat(LapStatistics.averageOfSmallest(new int[]{1001, 1002, 9000}, 3, 2)).isEqualTo(1002);
+        assertThat(LapStatistics.averageOfSmallest(new int[]{1001, 1003, 1004}, 3, 3)).isEqualTo(1003);
+        assertThat(LapStatistics.median(new int[]{2000, 1000, 1001, 3000}, 4)).isEqualTo(1501);
+    }
+
+    @Test
+    void takesAtLeastOneLapForTheTopPercentage() {
+        assertThat(LapStatistics.topCount(3, 20)).isEqualTo(1);
+        assertThat(LapStatistics.topCount(11, 20)).isEqualTo(3);
+        assertThat(LapStatistics.topCount(10, 100)).isEqualTo(10);
+    }
+}
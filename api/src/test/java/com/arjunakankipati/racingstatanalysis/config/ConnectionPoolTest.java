@@ -0,0 +1,35 @@
+package com.arjunakankipati.racingstatanalysis.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConnectionPoolTest {
+
+    @Test
+    void selectsAPoolForTheDurationOfTheWork() {
+        assertThat(ConnectionPool.current()).isEqualTo(ConnectionPool.READ);
+
+        ConnectionPool inside = ConnectionPool.IMPORT.call(() -> {
+            assertThat(ConnectionPool.READ.call(ConnectionPool::current)).isEqualTo(ConnectionPool.READ);
+            return ConnectionPool.current();
+        });
+
+        assertThat(inside).isEqualTo(ConnectionPool.IMPORT);
+        assertThat(ConnectionPool.current()).isEqualTo(ConnectionPool.READ);
+    }
+
+    @Test
+    void propagatesThePoolToAnotherThread() throws InterruptedException {
+        AtomicReference<ConnectionPool> seen = new AtomicReference<>();
+        Thread thread = ConnectionPool.IMPORT.call(() ->
+                new Thread(ConnectionPool.propagate(() -> seen.set(ConnectionPool.current()))));
+
+        thread.start();
+        thread.join();
+
+        assertThat(seen.get()).isEqualTo(ConnectionPool.IMPORT);
+    }
+}
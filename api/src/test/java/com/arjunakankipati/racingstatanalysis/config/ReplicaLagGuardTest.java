@@ -0,0 +1,106 @@
+package com.arjunakankipati.racingstatanalysis.config;
+
+import com.arjunakankipati.racingstatanalysis.model.DataVersion;
+import com.arjunakankipati.racingstatanalysis.repository.SessionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.lang.reflect.Method;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests keeping reads of sessions and events on the primary until the replica has replayed their data version.
+ */
+class ReplicaLagGuardTest {
+
+    private final Map<ConnectionPool, Long> sessionVersions = new EnumMap<>(ConnectionPool.class);
+    private final Map<ConnectionPool, Long> eventVersions = new EnumMap<>(ConnectionPool.class);
+    private SessionRepository sessionRepository;
+    private ReplicaLagGuard guard;
+
+    @BeforeEach
+    void setUp() {
+        // Each pool answers with the version it has replayed
+        sessionRepository = mock(SessionRepository.class);
+        when(sessionRepository.findDataVersion(7L)).thenAnswer(invocation ->
+                Optional.ofNullable(sessionVersions.get(ConnectionPool.current())).map(v -> new DataVersion(v, null)));
+        when(sessionRepository.findEventDataVersion(3L)).thenAnswer(invocation ->
+                new DataVersion(eventVersions.getOrDefault(ConnectionPool.current(), 0L), null));
+        guard = new ReplicaLagGuard(sessionRepository, "jdbc:postgresql://replica/statsdb");
+    }
+
+    @Test
+    void keepsASessionOnThePrimaryUntilTheReplicaReplaysItsVersion() {
+        sessionVersions.put(ConnectionPool.READ, 4L);
+        sessionVersions.put(ConnectionPool.REPLICA, 3L);
+        assertThat(guard.isBehind(ReplicaLagKey.Scope.SESSION, 7L)).isTrue();
+
+        sessionVersions.put(ConnectionPool.REPLICA, 4L);
+        assertThat(guard.isBehind(ReplicaLagKey.Scope.SESSION, 7L)).isFalse();
+    }
+
+    @Test
+    void keepsASessionTheReplicaHasNotSeenOnThePrimary() {
+        sessionVersions.put(ConnectionPool.READ, 0L);
+
+        assertThat(guard.isBehind(ReplicaLagKey.Scope.SESSION, 7L)).isTrue();
+    }
+
+    @Test
+    void keepsAnEventOnThePrimaryUntilTheReplicaReplaysItsVersion() {
+        eventVersions.put(ConnectionPool.READ, 12L);
+        eventVersions.put(ConnectionPool.REPLICA, 11L);
+        assertThat(guard.isBehind(ReplicaLagKey.Scope.EVENT, 3L)).isTrue();
+
+        eventVersions.put(ConnectionPool.REPLICA, 12L);
+        assertThat(guard.isBehind(ReplicaLagKey.Scope.EVENT, 3L)).isFalse();
+    }
+
+    @Test
+    void fallsBackToThePrimaryWhenTheReplicaCannotBeRead() {
+        eventVersions.put(ConnectionPool.READ, 12L);
+        when(sessionRepository.findEventDataVersion(3L)).thenAnswer(invocation -> {
+            if (ConnectionPool.current() == ConnectionPool.REPLICA) {
+                throw new DataAccessResourceFailureException("replica is down");
+            }
+            return new DataVersion(eventVersions.get(ConnectionPool.current()), null);
+        });
+
+        assertThat(guard.isBehind(ReplicaLagKey.Scope.EVENT, 3L)).isTrue();
+    }
+
+    @Test
+    void skipsTheCheckWithoutAReplica() {
+        eventVersions.put(ConnectionPool.READ, 12L);
+
+        assertThat(new ReplicaLagGuard(sessionRepository, "").isBehind(ReplicaLagKey.Scope.EVENT, 3L)).isFalse();
+        verify(sessionRepository, never()).findEventDataVersion(any());
+    }
+
+    @Test
+    void readsTheAnnotatedArgumentOfAMethod() throws NoSuchMethodException {
+        Method method = Reads.class.getMethod("teams", Long.class, Long.class);
+        eventVersions.put(ConnectionPool.READ, 12L);
+        eventVersions.put(ConnectionPool.REPLICA, 11L);
+        when(sessionRepository.findEventDataVersion(99L)).thenReturn(new DataVersion(0, null));
+
+        assertThat(ReplicaRoutingConfig.isReplicaBehind(guard, method, new Object[]{3L, 99L})).isTrue();
+        assertThat(ReplicaRoutingConfig.isReplicaBehind(guard, method, new Object[]{99L, 3L})).isFalse();
+    }
+
+    static class Reads {
+        @ReadFromReplica
+        public void teams(@ReplicaLagKey(ReplicaLagKey.Scope.EVENT) Long eventId, Long classId) {
+        }
+    }
+}
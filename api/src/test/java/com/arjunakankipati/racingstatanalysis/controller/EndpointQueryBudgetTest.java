@@ -0,0 +1,128 @@
+package com.arjunakankipati.racingstatanalysis.controller;
+
+import com.arjunakankipati.racingstatanalysis.metrics.QueryBudget;
+import com.arjunakankipati.racingstatanalysis.repository.impl.FixtureRows;
+import com.arjunakankipati.racingstatanalysis.repository.impl.LapRepositoryImpl;
+import com.arjunakankipati.racingstatanalysis.repository.impl.MockDatabase;
+import com.arjunakankipati.racingstatanalysis.repository.impl.ResultRepositoryImpl;
+import com.arjunakankipati.racingstatanalysis.repository.impl.SessionRepositoryImpl;
+import com.arjunakankipati.racingstatanalysis.service.impl.LapTimeAnalysisServiceImpl;
+import com.arjunakankipati.racingstatanalysis.service.impl.ResultServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.junit.platform.testkit.engine.EngineTestKit;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.Optional;
+
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.testkit.engine.EventConditions.finishedWithFailure;
+import static org.junit.platform.testkit.engine.TestExecutionResultConditions.message;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Holds the results and per-driver lap time analysis endpoints, which used to loop over their rows with a
+ * query each, to a query budget that does not grow with the number of rows returned, and checks that the
+ * budgets fail a request running one query more. Requests go through the real controllers, services and
+ * repositories to a {@link MockDatabase}.
+ */
+class EndpointQueryBudgetTest {
+
+    private static volatile boolean overBudgetRunRequested;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 60})
+    @QueryBudget(max = 2)
+    void resultsRunTwoQueriesHoweverManyCarsFinished(int carCount) throws Exception {
+        requestResults(carCount);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 180})
+    @QueryBudget(max = 4)
+    void lapTimeAnalysisRunsFourQueriesHoweverManyDriversLapped(int driverCount) throws Exception {
+        requestLapTimeAnalysis(driverCount);
+    }
+
+    @Test
+    void failsEndpointsThatRunOneQueryOverTheirBudget() {
+        overBudgetRunRequested = true;
+        try {
+            EngineTestKit.engine("junit-jupiter")
+                    .selectors(selectClass(OverBudget.class))
+                    .execute()
+                    .testEvents()
+                    .assertStatistics(stats -> stats.started(2).failed(2))
+                    .failed()
+                    .assertThatEvents()
+                    .haveExactly(2, finishedWithFailure(message(m -> m.contains("over its budget"))));
+        } finally {
+            overBudgetRunRequested = false;
+        }
+    }
+
+    /**
+     * The same requests with budgets one below what they need. Skipped unless run by
+     * {@link #failsEndpointsThatRunOneQueryOverTheirBudget}.
+     */
+    @EnabledIf("com.arjunakankipati.racingstatanalysis.controller.EndpointQueryBudgetTest#isOverBudgetRunRequested")
+    static class OverBudget {
+
+        @Test
+        @QueryBudget(max = 1)
+        void results() throws Exception {
+            requestResults(60);
+        }
+
+        @Test
+        @QueryBudget(max = 3)
+        void lapTimeAnalysis() throws Exception {
+            requestLapTimeAnalysis(180);
+        }
+    }
+
+    static boolean isOverBudgetRunRequested() {
+        return overBudgetRunRequested;
+    }
+
+    private static void requestResults(int carCount) throws Exception {
+        MockDatabase database = new MockDatabase(FixtureRows.sessionDataVersion(3), FixtureRows.results(9L, carCount));
+        ResultsController controller = new ResultsController(
+                new ResultServiceImpl(new ResultRepositoryImpl(database.dsl())), new SessionRepositoryImpl(database.dsl()));
+
+        MockMvcBuilders.standaloneSetup(controller).build()
+                .perform(get("/api/v1/sessions/9/results"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results.length()").value(carCount));
+    }
+
+    private static void requestLapTimeAnalysis(int driverCount) throws Exception {
+        // The version for the ETag and for the cache key, the overall lap count (none, so the overall analysis
+        // stops there) and the per-driver analyses
+        MockDatabase database = new MockDatabase(FixtureRows.eventDataVersion(4), FixtureRows.eventDataVersion(4),
+                FixtureRows.count(0), FixtureRows.driverAnalyses(driverCount));
+
+        eventsEndpoints(database)
+                .perform(get("/api/v1/events/1/laptimeanalysis"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.driverAnalyses.length()").value(driverCount));
+    }
+
+    private static MockMvc eventsEndpoints(MockDatabase database) {
+        SessionRepositoryImpl sessionRepository = new SessionRepositoryImpl(database.dsl());
+        LapRepositoryImpl lapRepository = new LapRepositoryImpl(database.dsl());
+
+        EventsController controller = new EventsController();
+        ReflectionTestUtils.setField(controller, "lapRepository", lapRepository);
+        ReflectionTestUtils.setField(controller, "sessionRepository", sessionRepository);
+        ReflectionTestUtils.setField(controller, "lapTimeAnalysisService",
+                new LapTimeAnalysisServiceImpl(lapRepository, sessionRepository, Optional.empty(), 100_000));
+        return MockMvcBuilders.standaloneSetup(controller).build();
+    }
+}
@@ -0,0 +1,105 @@
+package com.arjunakankipati.racingstatanalysis.controller;
+
+import com.arjunakankipati.racingstatanalysis.dto.TeamsResponseDTO;
+import com.arjunakankipati.racingstatanalysis.model.DataVersion;
+import com.arjunakankipati.racingstatanalysis.repository.SessionRepository;
+import com.arjunakankipati.racingstatanalysis.service.EventService;
+import com.arjunakankipati.racingstatanalysis.service.LapTimeAnalysisService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests the conditional GET handling of the event teams and lap time analysis endpoints.
+ */
+class EventsControllerTest {
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2025, 6, 1, 12, 0);
+
+    private EventService eventService;
+    private LapTimeAnalysisService lapTimeAnalysisService;
+    private SessionRepository sessionRepository;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        eventService = mock(EventService.class);
+        lapTimeAnalysisService = mock(LapTimeAnalysisService.class);
+        sessionRepository = mock(SessionRepository.class);
+        when(eventService.findTeamsByEventId(5L)).thenReturn(new TeamsResponseDTO(5L, "Daytona"));
+
+        EventsController controller = new EventsController();
+        ReflectionTestUtils.setField(controller, "eventService", eventService);
+        ReflectionTestUtils.setField(controller, "lapTimeAnalysisService", lapTimeAnalysisService);
+        ReflectionTestUtils.setField(controller, "sessionRepository", sessionRepository);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    void returnsTheTeamsWithAnETag() throws Exception {
+        when(sessionRepository.findEventDataVersion(5L)).thenReturn(new DataVersion(12, UPDATED_AT));
+
+        mockMvc.perform(get("/api/v1/events/5/teams"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"event-5-teams-v12\""))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED));
+    }
+
+    @Test
+    void returnsNotModifiedForAMatchingTeamsETag() throws Exception {
+        when(sessionRepository.findEventDataVersion(5L)).thenReturn(new DataVersion(12, UPDATED_AT));
+
+        mockMvc.perform(get("/api/v1/events/5/teams").header(HttpHeaders.IF_NONE_MATCH, "\"event-5-teams-v12\""))
+                .andExpect(status().isNotModified());
+
+        verify(eventService, never()).findTeamsByEventId(5L);
+    }
+
+    @Test
+    void returnsTheTeamsAgainOnceASessionIsRemoved() throws Exception {
+        // Removing a session bumps the event's version rather than lowering it
+        when(sessionRepository.findEventDataVersion(5L)).thenReturn(new DataVersion(13, UPDATED_AT.plusMinutes(5)));
+
+        mockMvc.perform(get("/api/v1/events/5/teams").header(HttpHeaders.IF_NONE_MATCH, "\"event-5-teams-v12\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"event-5-teams-v13\""));
+    }
+
+    @Test
+    void returnsNotModifiedForAMatchingLapTimeAnalysisETag() throws Exception {
+        when(sessionRepository.findEventDataVersion(5L)).thenReturn(new DataVersion(12, UPDATED_AT));
+
+        mockMvc.perform(get("/api/v1/events/5/laptimeanalysis")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"event-5-laptimeanalysis-v12\""))
+                .andExpect(status().isNotModified());
+
+        verify(lapTimeAnalysisService, never()).getLapTimeAnalysisForEvent(
+                anyLong(), anyInt(), anyList(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void doesNotMatchTheTeamsETagForTheLapTimeAnalysis() throws Exception {
+        when(sessionRepository.findEventDataVersion(5L)).thenReturn(new DataVersion(12, UPDATED_AT));
+
+        mockMvc.perform(get("/api/v1/events/5/laptimeanalysis").header(HttpHeaders.IF_NONE_MATCH, "\"event-5-teams-v12\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"event-5-laptimeanalysis-v12\""));
+    }
+}
@@ -0,0 +1,95 @@
+package com.arjunakankipati.racingstatanalysis.controller;
+
+import com.arjunakankipati.racingstatanalysis.config.ImportExecutorConfig;
+import com.arjunakankipati.racingstatanalysis.model.ImportJob;
+import com.arjunakankipati.racingstatanalysis.service.ImportJobService;
+import com.arjunakankipati.racingstatanalysis.service.ImportService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.concurrent.CountDownLatch;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests that imports submitted while the import executor is full are turned away with a 429.
+ */
+class ImportControllerTest {
+
+    private static final String REQUEST = """
+            {"url": "https://example.com/results.csv", "sessionId": 7, "importType": "IMSA", "processType": "RESULTS"}
+            """;
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private ThreadPoolTaskExecutor executor;
+    private ImportJobService importJobService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        // One import running and one queued fill an executor with a concurrency and queue capacity of one
+        executor = new ImportExecutorConfig().importExecutor(1, 1);
+        executor.initialize();
+        executor.execute(this::awaitRelease);
+        executor.execute(this::awaitRelease);
+
+        // Submits to the executor like the @Async proxy of the real service
+        ImportService importService = mock(ImportService.class);
+        doAnswer(invocation -> {
+            executor.execute(() -> {
+            });
+            return null;
+        }).when(importService).processImport(any(), any());
+        importJobService = mock(ImportJobService.class);
+        ImportJob job = new ImportJob();
+        job.setId(5);
+        when(importJobService.createJob(any())).thenReturn(job);
+
+        ImportController controller = new ImportController(importService, importJobService);
+        ReflectionTestUtils.setField(controller, "expectedApiKey", "key");
+        ReflectionTestUtils.setField(controller, "retryAfterSeconds", 30L);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdown();
+    }
+
+    @Test
+    void rejectsAnImportWithRetryAfterWhileTheExecutorIsFull() throws Exception {
+        mockMvc.perform(post("/api/v1/imports")
+                        .header("X-API-Key", "key")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(REQUEST))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "30"))
+                .andExpect(jsonPath("$.status").value("REJECTED"));
+
+        verify(importJobService).markFailed(5, "Import queue is full");
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
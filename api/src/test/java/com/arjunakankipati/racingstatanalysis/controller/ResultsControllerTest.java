@@ -0,0 +1,91 @@
+package com.arjunakankipati.racingstatanalysis.controller;
+
+import com.arjunakankipati.racingstatanalysis.dto.ResultsResponseDTO;
+import com.arjunakankipati.racingstatanalysis.model.DataVersion;
+import com.arjunakankipati.racingstatanalysis.repository.SessionRepository;
+import com.arjunakankipati.racingstatanalysis.service.ResultService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests the conditional GET handling of the session results endpoint.
+ */
+class ResultsControllerTest {
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2025, 6, 1, 12, 0);
+
+    private ResultService resultService;
+    private SessionRepository sessionRepository;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        resultService = mock(ResultService.class);
+        sessionRepository = mock(SessionRepository.class);
+        when(resultService.findResultsBySessionId(7L)).thenReturn(new ResultsResponseDTO(7L, List.of()));
+        mockMvc = MockMvcBuilders.standaloneSetup(new ResultsController(resultService, sessionRepository)).build();
+    }
+
+    @Test
+    void returnsTheResultsWithAnETag() throws Exception {
+        when(sessionRepository.findDataVersion(7L)).thenReturn(Optional.of(new DataVersion(3, UPDATED_AT)));
+
+        mockMvc.perform(get("/api/v1/sessions/7/results"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"session-7-results-v3\""));
+    }
+
+    @Test
+    void returnsNotModifiedForAMatchingETag() throws Exception {
+        when(sessionRepository.findDataVersion(7L)).thenReturn(Optional.of(new DataVersion(3, UPDATED_AT)));
+
+        mockMvc.perform(get("/api/v1/sessions/7/results").header(HttpHeaders.IF_NONE_MATCH, "\"session-7-results-v3\""))
+                .andExpect(status().isNotModified());
+
+        verify(resultService, never()).findResultsBySessionId(7L);
+    }
+
+    @Test
+    void returnsTheResultsAgainOnceTheVersionChanges() throws Exception {
+        when(sessionRepository.findDataVersion(7L)).thenReturn(Optional.of(new DataVersion(4, UPDATED_AT.plusMinutes(5))));
+
+        mockMvc.perform(get("/api/v1/sessions/7/results").header(HttpHeaders.IF_NONE_MATCH, "\"session-7-results-v3\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"session-7-results-v4\""));
+    }
+
+    @Test
+    void returnsNotModifiedWhenUnchangedSinceTheLastModifiedDate() throws Exception {
+        DataVersion version = new DataVersion(3, UPDATED_AT);
+        when(sessionRepository.findDataVersion(7L)).thenReturn(Optional.of(version));
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfModifiedSince(version.lastModifiedMillis());
+
+        mockMvc.perform(get("/api/v1/sessions/7/results").headers(headers))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void servesAnUnknownSessionWithoutAValidator() throws Exception {
+        when(sessionRepository.findDataVersion(7L)).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/v1/sessions/7/results").header(HttpHeaders.IF_NONE_MATCH, "\"session-7-results-v3\""))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+    }
+}
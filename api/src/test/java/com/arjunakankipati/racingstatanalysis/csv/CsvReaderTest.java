@@ -0,0 +1,88 @@
+package com.arjunakankipati.racingstatanalysis.csv;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvReaderTest {
+
+    private static final String TIMECARD = "\uFEFFNUMBER; Driver_Number ;LAP_NUMBER;LAP_TIME;ELAPSED;HOUR;KPH;S1_LARGE\r\n"
+            + "7;1;12;1:48.656;21:36.100;16:21:36.1;176.4;\n"
+            + "\n"
+            + "   \n"
+            + "31;;13;3:01:48.65;1:05:02.3;23:59:59.999;abc;35.5";
+
+    @Test
+    void resolvesHeaderOnceIgnoringCaseWhitespaceAndByteOrderMark() throws IOException {
+        try (CsvReader csv = new CsvReader(new StringReader(TIMECARD), CsvReader.SEMICOLON)) {
+            CsvHeader header = csv.readHeader();
+
+            assertThat(header.size()).isEqualTo(8);
+            assertThat(header.indexOf("number")).isEqualTo(0);
+            assertThat(header.indexOf("DRIVER_NUMBER")).isEqualTo(1);
+            assertThat(header.indexOf("PIT_TIME")).isEqualTo(CsvHeader.MISSING);
+            assertThatThrownBy(() -> header.require("PIT_TIME")).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Test
+    void readsTypedValuesAndSkipsBlankLines() throws IOException {
+        try (CsvReader csv = new CsvReader(new StringReader(TIMECARD), CsvReader.SEMICOLON)) {
+            CsvHeader header = csv.readHeader();
+            int driverNumber = header.indexOf("DRIVER_NUMBER");
+            int lapTime = header.indexOf("LAP_TIME");
+            int elapsed = header.indexOf("ELAPSED");
+            int hour = header.indexOf("HOUR");
+            int kph = header.indexOf("KPH");
+            int sector = header.indexOf("S1_LARGE");
+
+            assertThat(csv.next()).isTrue();
+            assertThat(csv.getString(0)).isEqualTo("7");
+            assertThat(csv.getInteger(driverNumber)).isEqualTo(1);
+            assertThat(csv.getMillis(lapTime)).isEqualTo(108_656L);
+            assertThat(csv.getMillis(elapsed)).isEqualTo(1_296_100L);
+            assertThat(csv.getMillis(hour)).isEqualTo(58_896_100L);
+            assertThat(csv.getDecimal(kph)).isEqualByComparingTo(new BigDecimal("176.4"));
+            assertThat(csv.isBlank(sector)).isTrue();
+
+            assertThat(csv.next()).isTrue();
+            assertThat(csv.lineNumber()).isEqualTo(5);
+            assertThat(csv.getString(0)).isEqualTo("31");
+            assertThat(csv.getInteger(driverNumber)).isNull();
+            assertThat(csv.getMillis(lapTime)).isEqualTo(10_908_650L);
+            assertThat(csv.getMillis(hour)).isEqualTo(86_399_999L);
+            assertThat(csv.getDecimal(kph)).isNull();
+            assertThat(csv.getMillis(sector)).isEqualTo(35_500L);
+            assertThat(csv.getString(CsvHeader.MISSING)).isNull();
+
+            assertThat(csv.next()).isFalse();
+        }
+    }
+
+    @Test
+    void rejectsMalformedTimes() throws IOException {
+        try (CsvReader csv = new CsvReader(new StringReader("1:2:3:4;1:x;;:30"), CsvReader.SEMICOLON)) {
+            assertThat(csv.next()).isTrue();
+            for (int column = 0; column < csv.fieldCount(); column++) {
+                int index = column;
+                assertThatThrownBy(() -> csv.getMillis(index)).isInstanceOf(IllegalArgumentException.class);
+            }
+        }
+    }
+
+    @Test
+    void handlesLinesLongerThanTheBuffer() throws IOException {
+        String longValue = "x".repeat(200_000);
+        try (CsvReader csv = new CsvReader(new StringReader("A;B\n" + longValue + ";42\n"), CsvReader.SEMICOLON)) {
+            csv.readHeader();
+            assertThat(csv.next()).isTrue();
+            assertThat(csv.getString(0)).hasSize(200_000);
+            assertThat(csv.getInteger(1)).isEqualTo(42);
+        }
+    }
+}
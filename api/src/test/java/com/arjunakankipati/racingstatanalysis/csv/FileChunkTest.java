@@ -0,0 +1,64 @@
+package com.arjunakankipati.racingstatanalysis.csv;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileChunkTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void splitsAtLineBoundariesAndCoversEveryRow() throws IOException {
+        StringBuilder content = new StringBuilder("NUMBER;LAP_NUMBER\n");
+        for (int lap = 1; lap <= 1000; lap++) {
+            content.append(lap % 40).append(';').append(lap).append('\n');
+        }
+        Path file = Files.writeString(directory.resolve("timecard.csv"), content);
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long headerEnd = FileChunk.lineEnd(channel, 0);
+            assertThat(headerEnd).isEqualTo("NUMBER;LAP_NUMBER\n".length());
+
+            List<FileChunk> chunks = FileChunk.split(channel, headerEnd, 7);
+            assertThat(chunks).hasSize(7);
+            assertThat(chunks.get(0).start()).isEqualTo(headerEnd);
+            assertThat(chunks.get(chunks.size() - 1).end()).isEqualTo(channel.size());
+
+            List<Integer> laps = new ArrayList<>();
+            for (int i = 0; i < chunks.size(); i++) {
+                FileChunk chunk = chunks.get(i);
+                if (i > 0) {
+                    assertThat(chunk.start()).isEqualTo(chunks.get(i - 1).end());
+                }
+                try (CsvReader csv = new CsvReader(MappedFileReader.range(channel, chunk.start(), chunk.end()), CsvReader.SEMICOLON)) {
+                    while (csv.next()) {
+                        assertThat(csv.fieldCount()).isEqualTo(2);
+                        laps.add(csv.getInteger(1));
+                    }
+                }
+            }
+            assertThat(laps).hasSize(1000).isSorted().startsWith(1).endsWith(1000);
+        }
+    }
+
+    @Test
+    void returnsFewerChunksThanRequestedForShortFiles() throws IOException {
+        Path file = Files.writeString(directory.resolve("short.csv"), "NUMBER\n7\n");
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            List<FileChunk> chunks = FileChunk.split(channel, FileChunk.lineEnd(channel, 0), 8);
+            assertThat(chunks).containsExactly(new FileChunk(7, 9));
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.arjunakankipati.racingstatanalysis.csv;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MappedFileReaderTest {
+
+    private static final String TIMECARD = "NUMBER;DRIVER_NAME\n"
+            + "7;S\u00e9bastien Bourdais\n"
+            + "31;Ren\u00e9 Rast\n";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void decodesAWholeFileInSmallReads() throws IOException {
+        Path file = write(TIMECARD);
+        try (Reader reader = MappedFileReader.open(file)) {
+            assertThat(readAll(reader, 3)).isEqualTo(TIMECARD);
+            assertThat(reader.read(new char[3], 0, 3)).isEqualTo(-1);
+        }
+    }
+
+    @Test
+    void parsesAByteRangeWithCsvReader() throws IOException {
+        Path file = write(TIMECARD);
+        long firstRowEnd = "NUMBER;DRIVER_NAME\n7;S\u00e9bastien Bourdais\n".getBytes(StandardCharsets.UTF_8).length;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+             CsvReader csv = new CsvReader(MappedFileReader.range(channel, firstRowEnd, channel.size()), CsvReader.SEMICOLON)) {
+            assertThat(csv.next()).isTrue();
+            assertThat(csv.getString(1)).isEqualTo("Ren\u00e9 Rast");
+            assertThat(csv.next()).isFalse();
+        }
+    }
+
+    @Test
+    void readsAnEmptyFile() throws IOException {
+        try (Reader reader = MappedFileReader.open(write(""))) {
+            assertThat(reader.read(new char[8], 0, 8)).isEqualTo(-1);
+        }
+    }
+
+    private Path write(String content) throws IOException {
+        return Files.writeString(Files.createTempFile(directory, "timecard", ".csv"), content, StandardCharsets.UTF_8);
+    }
+
+    private static String readAll(Reader reader, int chunkSize) throws IOException {
+        StringBuilder text = new StringBuilder();
+        char[] chunk = new char[chunkSize];
+        int read;
+        while ((read = reader.read(chunk, 0, chunkSize)) != -1) {
+            text.append(chunk, 0, read);
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,32 @@
+package com.arjunakankipati.racingstatanalysis.metrics;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Fails a test that runs more SQL statements than its budget, so an endpoint or repository method whose
+ * query count starts growing with the data (an N+1 loop) is caught. Statements are counted on the test
+ * thread through {@link QueryCountListener}, which the application's {@code DSLContext} registers; tests
+ * building their own {@code DSLContext} must add it. On a class, the budget applies to each test method.
+ * <p>
+ * Only statements run on the test thread are counted. Work the code under test hands to another thread is
+ * missed: a cache load that another caller of a {@code SingleFlightLoader} started, the fork-join workers of
+ * a parallel timecard parse, the timecard writer thread and {@code @Async} import jobs. Budget the code that
+ * runs on those threads with a test that calls it directly.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+@ExtendWith(QueryBudgetExtension.class)
+public @interface QueryBudget {
+
+    /**
+     * The maximum number of statements the test may run.
+     */
+    int max();
+}
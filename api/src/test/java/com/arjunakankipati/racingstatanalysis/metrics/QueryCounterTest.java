@@ -0,0 +1,57 @@
+package com.arjunakankipati.racingstatanalysis.metrics;
+
+import com.arjunakankipati.racingstatanalysis.jooq.Tables;
+import com.arjunakankipati.racingstatanalysis.repository.impl.SeriesRepositoryImpl;
+import org.jooq.DSLContext;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.jooq.impl.DefaultConfiguration;
+import org.jooq.impl.DefaultExecuteListenerProvider;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests counting statements per scope and the {@link QueryBudget} extension.
+ */
+class QueryCounterTest {
+
+    private final SeriesRepositoryImpl repository = new SeriesRepositoryImpl(DSL.using(new DefaultConfiguration()
+            .set(SQLDialect.POSTGRES)
+            .set(new MockConnection(ctx -> new MockResult[]{
+                    new MockResult(0, DSL.using(SQLDialect.POSTGRES).newResult(Tables.SERIES.fields()))
+            }))
+            .set(new DefaultExecuteListenerProvider(new QueryCountListener()))));
+
+    @Test
+    void countsStatementsTowardsEveryOpenScope() {
+        try (QueryCounter.Scope outer = QueryCounter.start()) {
+            repository.findById(1L);
+            try (QueryCounter.Scope inner = QueryCounter.start()) {
+                repository.findAllById(List.of(2L, 3L));
+                repository.findById(4L);
+                assertThat(inner.count()).isEqualTo(2);
+            }
+            assertThat(outer.count()).isEqualTo(3);
+        }
+    }
+
+    @Test
+    void ignoresStatementsOutsideAScope() {
+        repository.findById(1L);
+
+        try (QueryCounter.Scope scope = QueryCounter.start()) {
+            assertThat(scope.count()).isZero();
+        }
+    }
+
+    @Test
+    @QueryBudget(max = 1)
+    void loadingManyIdsStaysWithinABudgetOfOneQuery() {
+        repository.findAllById(List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L));
+    }
+}
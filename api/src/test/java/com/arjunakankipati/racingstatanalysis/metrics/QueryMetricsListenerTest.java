@@ -0,0 +1,76 @@
+package com.arjunakankipati.racingstatanalysis.metrics;
+
+import com.arjunakankipati.racingstatanalysis.jooq.Tables;
+import com.arjunakankipati.racingstatanalysis.repository.impl.SeriesRepositoryImpl;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.jooq.DSLContext;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.jooq.impl.DefaultConfiguration;
+import org.jooq.impl.DefaultExecuteListenerProvider;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that statements are timed against the repository method that ran them.
+ */
+class QueryMetricsListenerTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final QueryStatistics statistics = new QueryStatistics(500);
+    private SeriesRepositoryImpl repository;
+
+    @BeforeEach
+    void setUp() {
+        QueryMetricsListener listener = new QueryMetricsListener(registry, statistics, 500);
+        DSLContext mock = DSL.using(new DefaultConfiguration()
+                .set(SQLDialect.POSTGRES)
+                .set(new MockConnection(ctx -> {
+                    // Answer selects with one series per bound ID
+                    DSLContext create = DSL.using(SQLDialect.POSTGRES);
+                    Result<Record> result = create.newResult(Tables.SERIES.fields());
+                    for (Object id : ctx.bindings()) {
+                        Record record = create.newRecord(Tables.SERIES.fields());
+                        record.set(Tables.SERIES.ID, (Long) id);
+                        record.set(Tables.SERIES.NAME, "Series " + id);
+                        result.add(record);
+                    }
+                    return new MockResult[]{new MockResult(result.size(), result)};
+                }))
+                .set(new DefaultExecuteListenerProvider(listener)));
+        repository = new SeriesRepositoryImpl(mock);
+    }
+
+    @Test
+    void timesStatementsByCallingRepositoryMethod() {
+        repository.findAllById(List.of(1L, 2L, 3L));
+        repository.findAllById(List.of(4L, 5L));
+
+        Timer timer = registry.find("db.query").tag("method", "BaseRepositoryImpl.findAllById").timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(2);
+        assertThat(registry.find("db.query.rows").tag("method", "BaseRepositoryImpl.findAllById")
+                .summary().totalAmount()).isEqualTo(5);
+    }
+
+    @Test
+    void countsDifferentlySizedInListsAsOneStatement() {
+        repository.findAllById(List.of(1L, 2L, 3L));
+        repository.findAllById(List.of(4L, 5L));
+
+        List<QueryStatistics.StatementStatistics> frequent = statistics.mostFrequent(10);
+        assertThat(frequent).hasSize(1);
+        assertThat(frequent.get(0).count()).isEqualTo(2);
+        assertThat(frequent.get(0).rows()).isEqualTo(5);
+        assertThat(frequent.get(0).sql()).contains("in (?, ...)").doesNotContain("Series");
+    }
+}
@@ -0,0 +1,29 @@
+package com.arjunakankipati.racingstatanalysis.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueryStatisticsTest {
+
+    @Test
+    void collapsesPlaceholderListsAndRepeatedRows() {
+        assertThat(QueryStatistics.normalize("select * from laps where id in (?, ?, ?)"))
+                .isEqualTo("select * from laps where id in (?, ...)");
+        assertThat(QueryStatistics.normalize("insert into series (name, description) values (?, ?), (?, ?), (?, ?)"))
+                .isEqualTo("insert into series (name, description) values (?, ...), ...");
+    }
+
+    @Test
+    void countsStatementsBeyondTheLimitTogether() {
+        QueryStatistics statistics = new QueryStatistics(1);
+        statistics.record("select 1", 1_000_000, 1);
+        statistics.record("select 2", 5_000_000, 1);
+        statistics.record("select 3", 2_000_000, 1);
+
+        assertThat(statistics.mostFrequent(10))
+                .extracting(QueryStatistics.StatementStatistics::sql)
+                .containsExactly(QueryStatistics.OTHER_STATEMENTS, "select 1");
+        assertThat(statistics.slowest(1).get(0).maxMillis()).isEqualTo(5.0);
+    }
+}
@@ -0,0 +1,65 @@
+package com.arjunakankipati.racingstatanalysis.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Tests counting requests against latency objectives over rolling windows.
+ */
+class SloTrackerTest {
+
+    private static final long ONE_MINUTE = TimeUnit.MINUTES.toMillis(1);
+
+    private final AtomicLong now = new AtomicLong(1_000 * ONE_MINUTE);
+    private final SloTracker tracker = new SloTracker(0.99, Map.of(SloTracker.RESULTS, 500L), now::get);
+
+    @Test
+    void countsSlowAndFailedRequestsAsBreaches() {
+        for (int i = 0; i < 97; i++) {
+            tracker.record(SloTracker.RESULTS, TimeUnit.MILLISECONDS.toNanos(100), false);
+        }
+        tracker.record(SloTracker.RESULTS, TimeUnit.MILLISECONDS.toNanos(501), false);
+        tracker.record(SloTracker.RESULTS, TimeUnit.MILLISECONDS.toNanos(100), true);
+        tracker.record(SloTracker.RESULTS, TimeUnit.MILLISECONDS.toNanos(500), false);
+        tracker.record("unknown", TimeUnit.SECONDS.toNanos(10), true);
+
+        SloTracker.ObjectiveStatus status = tracker.status().get(0);
+        assertThat(status.name()).isEqualTo(SloTracker.RESULTS);
+        assertThat(status.last5m().requests()).isEqualTo(100);
+        assertThat(status.last5m().breaches()).isEqualTo(2);
+        // 2% of requests breached against a budget of 1%
+        assertThat(status.last5m().burnRate()).isCloseTo(2.0, within(1e-9));
+    }
+
+    @Test
+    void dropsRequestsAsTheyLeaveEachWindow() {
+        tracker.record(SloTracker.RESULTS, TimeUnit.SECONDS.toNanos(1), false);
+        now.addAndGet(10 * ONE_MINUTE);
+        tracker.record(SloTracker.RESULTS, TimeUnit.MILLISECONDS.toNanos(100), false);
+
+        SloTracker.ObjectiveStatus status = tracker.status().get(0);
+        assertThat(status.last5m().requests()).isEqualTo(1);
+        assertThat(status.last5m().burnRate()).isZero();
+        assertThat(status.last1h().requests()).isEqualTo(2);
+        assertThat(status.last1h().breaches()).isEqualTo(1);
+
+        now.addAndGet(60 * ONE_MINUTE);
+        assertThat(tracker.status().get(0).last1h().requests()).isZero();
+    }
+
+    @Test
+    void bucketsResponseSizesByOrderOfMagnitude() {
+        assertThat(EndpointMetricsInterceptor.sizeBucket(null)).isEqualTo("none");
+        assertThat(EndpointMetricsInterceptor.sizeBucket(0)).isEqualTo("0");
+        assertThat(EndpointMetricsInterceptor.sizeBucket(7)).isEqualTo("1-10");
+        assertThat(EndpointMetricsInterceptor.sizeBucket(11)).isEqualTo("11-100");
+        assertThat(EndpointMetricsInterceptor.sizeBucket(4_000)).isEqualTo("1001-10000");
+        assertThat(EndpointMetricsInterceptor.sizeBucket(250_000)).isEqualTo(">100000");
+    }
+}
@@ -0,0 +1,40 @@
+package com.arjunakankipati.racingstatanalysis.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LapTimeTest {
+
+    @Test
+    void parsesAllSupportedFormats() {
+        assertThat(LapTime.parse("59.5")).isEqualTo(LapTime.ofMillis(59_500));
+        assertThat(LapTime.parse("1:43.127")).isEqualTo(LapTime.ofMillis(103_127));
+        assertThat(LapTime.parse(" 1:02:03.004 ")).isEqualTo(LapTime.ofMillis(3_723_004));
+        assertThat(LapTime.parse("12.34567")).isEqualTo(LapTime.ofMillis(12_345));
+    }
+
+    @Test
+    void rejectsMalformedTimes() {
+        assertThatThrownBy(() -> LapTime.parse("1:xx.000")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LapTime.parse(":12.000")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LapTime.parse("")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void formatsAsMinutesSecondsAndMillis() {
+        assertThat(LapTime.ofMillis(103_127).format()).isEqualTo("1:43.127");
+        assertThat(LapTime.ofMillis(5_007).format()).isEqualTo("0:05.007");
+        assertThat(LapTime.ofMillis(3_723_004).format()).isEqualTo("62:03.004");
+    }
+
+    @Test
+    void convertsToAndFromSecondsRoundingToTheMillisecond() {
+        assertThat(LapTime.ofSeconds(new BigDecimal("103.1275"))).isEqualTo(LapTime.ofMillis(103_128));
+        assertThat(LapTime.ofSeconds(null)).isNull();
+        assertThat(LapTime.ofMillis(103_127).toSeconds()).isEqualByComparingTo("103.127");
+    }
+}
@@ -0,0 +1,103 @@
+package com.arjunakankipati.racingstatanalysis.repository.impl;
+
+import com.arjunakankipati.racingstatanalysis.jooq.Tables;
+import com.arjunakankipati.racingstatanalysis.model.Series;
+import org.jooq.DSLContext;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the bulk operations shared by all repositories, using series.
+ */
+class BaseRepositoryImplTest {
+
+    private final List<String> statements = new ArrayList<>();
+    private final List<Integer> batchSizes = new ArrayList<>();
+    private SeriesRepositoryImpl repository;
+    private long nextId = 1;
+
+    @BeforeEach
+    void setUp() {
+        DSLContext mock = DSL.using(new MockConnection(ctx -> {
+            statements.add(ctx.sql());
+            if (ctx.batch()) {
+                batchSizes.add(ctx.batchBindings().length);
+                MockResult[] results = new MockResult[ctx.batchBindings().length];
+                Arrays.fill(results, new MockResult(1));
+                return results;
+            }
+            if (ctx.sql().startsWith("delete")) {
+                return new MockResult[]{new MockResult(ctx.bindings().length)};
+            }
+            // Answer inserts with one row per inserted series, two binds (name, description) each
+            DSLContext create = DSL.using(SQLDialect.POSTGRES);
+            Result<Record> result = create.newResult(Tables.SERIES.fields());
+            for (int i = 0; i < ctx.bindings().length; i += 2) {
+                Record record = create.newRecord(Tables.SERIES.fields());
+                record.set(Tables.SERIES.ID, nextId++);
+                record.set(Tables.SERIES.NAME, (String) ctx.bindings()[i]);
+                result.add(record);
+            }
+            return new MockResult[]{new MockResult(result.size(), result)};
+        }), SQLDialect.POSTGRES);
+        repository = new SeriesRepositoryImpl(mock);
+    }
+
+    @Test
+    void insertsNewEntitiesInChunksAndReturnsThemInOrder() {
+        List<Series> series = IntStream.range(0, 2_500)
+                .mapToObj(i -> new Series(null, "Series " + i, null))
+                .toList();
+
+        List<Series> saved = repository.saveAll(series);
+
+        assertThat(statements).hasSize(3).allMatch(sql -> sql.startsWith("insert"));
+        assertThat(saved).hasSize(2_500);
+        assertThat(saved.get(0).getId()).isEqualTo(1L);
+        assertThat(saved.get(2_499).getName()).isEqualTo("Series 2499");
+        assertThat(saved.get(2_499).getId()).isEqualTo(2_500L);
+    }
+
+    @Test
+    void updatesExistingEntitiesInOneBatch() {
+        List<Series> series = List.of(
+                new Series(10L, "IMSA", null),
+                new Series(null, "WEC", null),
+                new Series(11L, "GTWC", null));
+
+        List<Series> saved = repository.saveAll(series);
+
+        assertThat(saved).extracting(Series::getName).containsExactly("IMSA", "WEC", "GTWC");
+        assertThat(saved).extracting(Series::getId).containsExactly(10L, 1L, 11L);
+        assertThat(statements).hasSize(2);
+        assertThat(batchSizes).containsExactly(2);
+    }
+
+    @Test
+    void deletesAllIdsInOneStatement() {
+        int deleted = repository.deleteAllById(List.of(1L, 2L, 3L));
+
+        assertThat(deleted).isEqualTo(3);
+        assertThat(statements).hasSize(1);
+    }
+
+    @Test
+    void skipsTheDatabaseForEmptyInput() {
+        assertThat(repository.saveAll(List.of())).isEmpty();
+        assertThat(repository.deleteAllById(List.of())).isZero();
+        assertThat(statements).isEmpty();
+    }
+}
@@ -0,0 +1,127 @@
+package com.arjunakankipati.racingstatanalysis.repository.impl;
+
+import com.arjunakankipati.racingstatanalysis.jooq.Tables;
+import com.arjunakankipati.racingstatanalysis.model.Circuit;
+import org.jooq.DSLContext;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the read-through cache shared by the reference data repositories, using circuits.
+ */
+class CachingRepositoryImplTest {
+
+    private final List<String> statements = new ArrayList<>();
+    private final List<Object> boundIds = new ArrayList<>();
+    private CircuitRepositoryImpl repository;
+
+    @BeforeEach
+    void setUp() {
+        DSLContext mock = DSL.using(new MockConnection(ctx -> {
+            statements.add(ctx.sql());
+            if (ctx.sql().startsWith("update")) {
+                return new MockResult[]{new MockResult(1)};
+            }
+            // Answer selects with one circuit per bound ID
+            DSLContext create = DSL.using(SQLDialect.POSTGRES);
+            Result<Record> result = create.newResult(Tables.CIRCUITS.fields());
+            for (Object id : ctx.bindings()) {
+                boundIds.add(id);
+                Record record = create.newRecord(Tables.CIRCUITS.fields());
+                record.set(Tables.CIRCUITS.ID, (Long) id);
+                record.set(Tables.CIRCUITS.NAME, "Circuit " + id);
+                result.add(record);
+            }
+            return new MockResult[]{new MockResult(result.size(), result)};
+        }), SQLDialect.POSTGRES);
+        repository = new CircuitRepositoryImpl(mock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void readsEachIdFromTheDatabaseOnce() {
+        assertThat(repository.findById(1L)).map(Circuit::getName).contains("Circuit 1");
+        assertThat(repository.findById(1L)).map(Circuit::getName).contains("Circuit 1");
+
+        assertThat(statements).hasSize(1);
+    }
+
+    @Test
+    void fetchesOnlyMissingIdsInOneQuery() {
+        repository.findById(1L);
+        boundIds.clear();
+
+        List<Circuit> circuits = repository.findAllById(List.of(1L, 2L, 3L));
+
+        assertThat(circuits).extracting(Circuit::getId).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(statements).hasSize(2);
+        assertThat(boundIds).containsExactlyInAnyOrder(2L, 3L);
+
+        repository.findAllById(List.of(1L, 2L, 3L));
+        assertThat(statements).hasSize(2);
+    }
+
+    @Test
+    void evictsOnSave() {
+        Circuit circuit = repository.findById(1L).orElseThrow();
+        circuit.setName("Renamed");
+        repository.save(circuit);
+
+        repository.findById(1L);
+
+        assertThat(statements).hasSize(3);
+        assertThat(statements.get(1)).startsWith("update");
+    }
+
+    @Test
+    void givesEachCallerItsOwnEntity() {
+        repository.findById(1L).orElseThrow().setName("Renamed");
+
+        assertThat(repository.findById(1L)).map(Circuit::getName).contains("Circuit 1");
+        assertThat(statements).hasSize(1);
+    }
+
+    @Test
+    void cachesRowsReadInATransactionOnlyOnceItCommits() {
+        TransactionSynchronizationManager.initSynchronization();
+        repository.findById(1L);
+        repository.findById(1L);
+        assertThat(statements).hasSize(2);
+
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        TransactionSynchronizationManager.clearSynchronization();
+        repository.findById(1L);
+        assertThat(statements).hasSize(2);
+    }
+
+    @Test
+    void doesNotCacheRowsReadInATransactionThatRolledBack() {
+        TransactionSynchronizationManager.initSynchronization();
+        repository.findAllById(List.of(1L, 2L));
+        TransactionSynchronizationManager.clearSynchronization();
+
+        repository.findAllById(List.of(1L, 2L));
+
+        assertThat(statements).hasSize(2);
+    }
+}
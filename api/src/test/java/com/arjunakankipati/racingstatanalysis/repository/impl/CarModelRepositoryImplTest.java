@@ -0,0 +1,33 @@
+package com.arjunakankipati.racingstatanalysis.repository.impl;
+
+import com.arjunakankipati.racingstatanalysis.jooq.Tables;
+import com.arjunakankipati.racingstatanalysis.model.CarModel;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests finding or creating the car models of an imported file.
+ */
+class CarModelRepositoryImplTest {
+
+    @Test
+    void returnsExistingAndCreatedCarModelsByNameAfterInsertingInSortedOrder() {
+        // "Porsche 963" existed already; the others are created by the insert
+        MockDatabase database = new MockDatabase(FixtureRows.none(),
+                FixtureRows.named(Tables.CAR_MODELS, Map.of("Porsche 963", 2L, "BMW M4 GT3", 5L, "Acura ARX-06", 6L)));
+
+        Map<String, CarModel> carModels = new CarModelRepositoryImpl(database.dsl())
+                .findOrCreateByNames(List.of("Porsche 963", "BMW M4 GT3", "Acura ARX-06"));
+
+        assertThat(carModels).hasSize(3);
+        assertThat(carModels.get("Porsche 963").getId()).isEqualTo(2L);
+        assertThat(carModels.get("BMW M4 GT3").getId()).isEqualTo(5L);
+        assertThat(carModels.get("Acura ARX-06").getId()).isEqualTo(6L);
+        assertThat(database.bindings().get(0)).containsExactly(
+                "Acura ARX-06", "Acura ARX-06", "BMW M4 GT3", "BMW M4 GT3", "Porsche 963", "Porsche 963");
+    }
+}
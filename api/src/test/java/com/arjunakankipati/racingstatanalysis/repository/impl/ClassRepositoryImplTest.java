@@ -0,0 +1,33 @@
+package com.arjunakankipati.racingstatanalysis.repository.impl;
+
+import com.arjunakankipati.racingstatanalysis.jooq.Tables;
+import com.arjunakankipati.racingstatanalysis.model.Class;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests finding or creating the classes of an imported file.
+ */
+class ClassRepositoryImplTest {
+
+    @Test
+    void returnsExistingAndCreatedClassesByNameAfterInsertingInSortedOrder() {
+        // "GTP" existed already in the series; the others are created by the insert
+        MockDatabase database = new MockDatabase(FixtureRows.none(),
+                FixtureRows.named(Tables.CLASSES, Map.of("GTP", 1L, "LMP2", 6L, "GTD", 7L)));
+
+        Map<String, Class> classes = new ClassRepositoryImpl(database.dsl())
+                .findOrCreateByNames(4L, List.of("LMP2", "GTP", "GTD"));
+
+        assertThat(classes).hasSize(3);
+        assertThat(classes.get("GTP").getId()).isEqualTo(1L);
+        assertThat(classes.get("LMP2").getId()).isEqualTo(6L);
+        assertThat(classes.get("GTD").getId()).isEqualTo(7L);
+        assertThat(database.bindings().get(0)).containsExactly(4L, "GTD", 4L, "GTP", 4L, "LMP2");
+        assertThat(database.bindings().get(1)).startsWith(4L);
+    }
+}
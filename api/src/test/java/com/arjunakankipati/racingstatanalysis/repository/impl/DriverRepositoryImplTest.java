@@ -0,0 +1,50 @@
+package com.arjunakankipati.racingstatanalysis.repository.impl;
+
+import com.arjunakankipati.racingstatanalysis.model.Driver;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Regression tests for the event driver listing query and for finding or creating the drivers of an imported file.
+ */
+class DriverRepositoryImplTest {
+
+    @Test
+    void appliesClassAndCarModelFiltersInSql() {
+        MockDatabase database = new MockDatabase(FixtureRows.driversWithTeams(0));
+
+        new DriverRepositoryImpl(database.dsl()).findDriversWithTeamsByEventId(1L, Optional.of(5L), Optional.of(7L));
+
+        assertThat(database.statements()).hasSize(1);
+        assertThat(database.statements().get(0)).contains("\"car_model_id\" = ?").contains("\"class_id\" = ?");
+    }
+
+    @Test
+    void returnsExistingAndCreatedDriversAfterInsertingEachNameOnceInSortedOrder() {
+        // "Driver Able" existed already; the others are created by the insert
+        MockDatabase database = new MockDatabase(FixtureRows.none(),
+                FixtureRows.drivers(Map.of("Zed", 9L, "Able", 3L, "Mid", 8L)));
+
+        List<Driver> drivers = new DriverRepositoryImpl(database.dsl()).findOrCreateAll(List.of(
+                driver("Zed"), driver("Able"), driver("Mid"), driver("Zed")));
+
+        assertThat(drivers).extracting(Driver::getLastName, Driver::getId).containsExactlyInAnyOrder(
+                tuple("Able", 3L),
+                tuple("Mid", 8L),
+                tuple("Zed", 9L));
+        assertThat(database.bindings().get(0)).containsExactly("Driver", "Able", "Driver", "Mid", "Driver", "Zed");
+    }
+
+    private static Driver driver(String lastName) {
+        Driver driver = new Driver();
+        driver.setFirstName("Driver");
+        driver.setLastName(lastName);
+        return driver;
+    }
+}
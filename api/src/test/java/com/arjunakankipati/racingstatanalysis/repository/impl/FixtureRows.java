@@ -0,0 +1,279 @@
+package com.arjunakankipati.racingstatanalysis.repository.impl;
+
+import com.arjunakankipati.racingstatanalysis.jooq.Tables;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rows in the shape the repository queries return them, for answering statements run on a {@link MockDatabase}.
+ * Row {@code i} of a listing describes driver, car or model {@code i}.
+ */
+public final class FixtureRows {
+
+    /**
+     * Drivers per car in {@link #results}.
+     */
+    public static final int DRIVERS_PER_CAR = 3;
+
+    /**
+     * Columns returned by the event driver listing statement, in select order.
+     */
+    private static final Field<?>[] DRIVER_WITH_TEAM_FIELDS = {
+            Tables.DRIVERS.ID,
+            Tables.DRIVERS.FIRST_NAME,
+            Tables.DRIVERS.LAST_NAME,
+            Tables.DRIVERS.NATIONALITY,
+            Tables.DRIVERS.HOMETOWN,
+            Tables.DRIVERS.LICENSE_TYPE,
+            Tables.CAR_DRIVERS.DRIVER_NUMBER,
+            Tables.CAR_ENTRIES.TEAM_ID,
+            Tables.TEAMS.NAME,
+            Tables.CAR_ENTRIES.NUMBER,
+            Tables.CAR_MODELS.ID,
+            Tables.CAR_MODELS.NAME,
+            Tables.CAR_MODELS.FULL_NAME,
+            Tables.CAR_MODELS.YEAR_MODEL,
+            Tables.CAR_MODELS.DESCRIPTION
+    };
+
+    /**
+     * Columns returned by the event car listing statement, in select order.
+     */
+    private static final Field<?>[] CAR_WITH_MODEL_FIELDS = {
+            Tables.CAR_ENTRIES.ID,
+            Tables.CAR_ENTRIES.NUMBER,
+            Tables.CAR_ENTRIES.TIRE_SUPPLIER,
+            Tables.CAR_ENTRIES.CLASS_ID,
+            Tables.CAR_ENTRIES.TEAM_ID,
+            Tables.CAR_MODELS.ID,
+            Tables.CAR_MODELS.NAME,
+            Tables.CAR_MODELS.FULL_NAME,
+            Tables.CAR_MODELS.YEAR_MODEL,
+            Tables.CAR_MODELS.DESCRIPTION
+    };
+
+    /**
+     * Columns returned by the per-driver analysis statement, in select order.
+     */
+    private static final Field<?>[] DRIVER_ANALYSIS_FIELDS = {
+            DSL.field(DSL.name("id"), Long.class),
+            DSL.field(DSL.name("first_name"), String.class),
+            DSL.field(DSL.name("last_name"), String.class),
+            DSL.field(DSL.name("nationality"), String.class),
+            DSL.field(DSL.name("car_id"), Long.class),
+            DSL.field(DSL.name("number"), String.class),
+            DSL.field(DSL.name("car_model"), String.class),
+            DSL.field(DSL.name("team_id"), Long.class),
+            DSL.field(DSL.name("team_name"), String.class),
+            DSL.field(DSL.name("class_id"), Long.class),
+            DSL.field(DSL.name("class_name"), String.class),
+            DSL.field(DSL.name("avg_lap_time"), BigDecimal.class),
+            DSL.field(DSL.name("fastest_lap_time"), BigDecimal.class),
+            DSL.field(DSL.name("median_lap_time"), BigDecimal.class),
+            DSL.field(DSL.name("total_lap_count"), Integer.class)
+    };
+
+    private FixtureRows() {
+    }
+
+    /**
+     * An event, as found by ID.
+     */
+    public static Result<Record> event(long id, String name) {
+        return MockDatabase.rows(Tables.EVENTS.fields(), 1, (record, i) -> {
+            record.set(Tables.EVENTS.ID, id);
+            record.set(Tables.EVENTS.NAME, name);
+            record.set(Tables.EVENTS.YEAR, 2025);
+        });
+    }
+
+    /**
+     * A class, as found by ID.
+     */
+    public static Result<Record> clazz(long id, String name) {
+        return MockDatabase.rows(Tables.CLASSES.fields(), 1, (record, i) -> {
+            record.set(Tables.CLASSES.ID, id);
+            record.set(Tables.CLASSES.NAME, name);
+        });
+    }
+
+    /**
+     * A session's data version, as read for a conditional request.
+     */
+    public static Result<Record> sessionDataVersion(long version) {
+        return MockDatabase.rows(new Field<?>[]{Tables.SESSIONS.DATA_VERSION, Tables.SESSIONS.DATA_UPDATED_AT}, 1,
+                (record, i) -> record.fromArray(version, LocalDateTime.of(2025, 6, 1, 12, 0)));
+    }
+
+    /**
+     * An event's data version, as read for a conditional request.
+     */
+    public static Result<Record> eventDataVersion(long version) {
+        return MockDatabase.rows(new Field<?>[]{Tables.EVENTS.DATA_VERSION, Tables.EVENTS.DATA_UPDATED_AT}, 1,
+                (record, i) -> record.fromArray(version, LocalDateTime.of(2025, 6, 1, 12, 0)));
+    }
+
+    /**
+     * No rows, as returned by an insert or update.
+     */
+    public static Result<Record> none() {
+        return MockDatabase.rows(new Field<?>[0], 0, (record, i) -> {
+        });
+    }
+
+    /**
+     * Rows of a reference data table with an ID and a name column, one per entry of {@code idsByName}.
+     */
+    public static Result<Record> named(Table<?> table, Map<String, Long> idsByName) {
+        Field<Long> id = table.field("id", Long.class);
+        Field<String> name = table.field("name", String.class);
+        List<Map.Entry<String, Long>> rows = List.copyOf(idsByName.entrySet());
+        return MockDatabase.rows(table.fields(), rows.size(), (record, i) -> {
+            record.set(id, rows.get(i - 1).getValue());
+            record.set(name, rows.get(i - 1).getKey());
+        });
+    }
+
+    /**
+     * Drivers named "Driver" and the key of each entry of {@code idsByLastName}.
+     */
+    public static Result<Record> drivers(Map<String, Long> idsByLastName) {
+        List<Map.Entry<String, Long>> rows = List.copyOf(idsByLastName.entrySet());
+        return MockDatabase.rows(Tables.DRIVERS.fields(), rows.size(), (record, i) -> {
+            record.set(Tables.DRIVERS.ID, rows.get(i - 1).getValue());
+            record.set(Tables.DRIVERS.FIRST_NAME, "Driver");
+            record.set(Tables.DRIVERS.LAST_NAME, rows.get(i - 1).getKey());
+        });
+    }
+
+    /**
+     * A single count, as returned by {@code select count(*)}.
+     */
+    public static Result<Record> count(int count) {
+        return MockDatabase.rows(new Field<?>[]{DSL.count()}, 1, (record, i) -> record.fromArray(count));
+    }
+
+    /**
+     * The distinct car models of an event's class, named "Model i".
+     */
+    public static Result<Record> carModels(int count) {
+        return MockDatabase.rows(Tables.CAR_MODELS.fields(), count,
+                (record, i) -> record.fromArray((long) i, "Model " + i, null, 2024, null));
+    }
+
+    /**
+     * The cars of an event's class numbered by index, all with car model "Full Model" except the last of several,
+     * whose model is unknown.
+     */
+    public static Result<Record> carsWithModels(int count) {
+        return MockDatabase.rows(CAR_WITH_MODEL_FIELDS, count, (record, i) -> {
+            boolean withModel = i == 1 || i < count;
+            record.fromArray(
+                    (long) i, String.valueOf(i), "Michelin", 2L, 10L,
+                    withModel ? 5L : null, withModel ? "Model" : null, withModel ? "Full Model" : null,
+                    withModel ? 2024 : null, null
+            );
+        });
+    }
+
+    /**
+     * The drivers of an event, named "Driver i", all of team "Team" in a car of model "Model".
+     */
+    public static Result<Record> driversWithTeams(int count) {
+        return MockDatabase.rows(DRIVER_WITH_TEAM_FIELDS, count, (record, i) -> record.fromArray(
+                (long) i, "Driver", String.valueOf(i), "US", null, null, 1,
+                10L, "Team", String.valueOf(i),
+                5L, "Model", "Full Model", 2024, null
+        ));
+    }
+
+    /**
+     * A session's results, one row per driver as the left joins return them. Car {@code c} finished in
+     * position {@code c} for team "Team c" with {@link #DRIVERS_PER_CAR} drivers.
+     */
+    public static Result<Record> results(long sessionId, int carCount) {
+        Field<?>[] fields = ResultRepositoryImpl.RESULT_DETAIL_FIELDS.toArray(Field[]::new);
+        return MockDatabase.rows(fields, carCount * DRIVERS_PER_CAR, (record, i) -> {
+            int car = (i - 1) / DRIVERS_PER_CAR + 1;
+            int driver = (i - 1) % DRIVERS_PER_CAR + 1;
+            record.set(Tables.RESULTS.ID, (long) car);
+            record.set(Tables.RESULTS.SESSION_ID, sessionId);
+            record.set(Tables.RESULTS.CAR_ENTRY_ID, 100L + car);
+            record.set(Tables.RESULTS.CAR_NUMBER, String.valueOf(car));
+            record.set(Tables.RESULTS.POSITION, car);
+            record.set(Tables.CAR_ENTRIES.ID, 100L + car);
+            record.set(Tables.CAR_ENTRIES.NUMBER, String.valueOf(car));
+            record.set(Tables.CAR_ENTRIES.TEAM_ID, 200L + car);
+            record.set(Tables.CAR_MODELS.ID, 5L);
+            record.set(Tables.CAR_MODELS.NAME, "Model");
+            record.set(Tables.TEAMS.NAME, "Team " + car);
+            record.set(Tables.CAR_DRIVERS.DRIVER_NUMBER, driver);
+            record.set(Tables.DRIVERS.ID, 1000L * car + driver);
+            record.set(Tables.DRIVERS.FIRST_NAME, "Driver");
+            record.set(Tables.DRIVERS.LAST_NAME, car + "-" + driver);
+        });
+    }
+
+    /**
+     * A session's car entries, as loaded for an import. Car {@code c} has ID {@code 100 + c} and number {@code c}.
+     */
+    public static Result<Record> carEntries(long sessionId, int carCount) {
+        return MockDatabase.rows(Tables.CAR_ENTRIES.fields(), carCount, (record, c) -> {
+            record.set(Tables.CAR_ENTRIES.ID, 100L + c);
+            record.set(Tables.CAR_ENTRIES.SESSION_ID, sessionId);
+            record.set(Tables.CAR_ENTRIES.NUMBER, String.valueOf(c));
+        });
+    }
+
+    /**
+     * The car-driver associations of {@link #carEntries}: driver {@code d} of car {@code c}, for each of
+     * {@link #DRIVERS_PER_CAR}, has ID {@code 1000 * c + d} and driver number {@code d}.
+     */
+    public static Result<Record> carDrivers(int carCount) {
+        return MockDatabase.rows(Tables.CAR_DRIVERS.fields(), carCount * DRIVERS_PER_CAR, (record, i) -> {
+            int car = (i - 1) / DRIVERS_PER_CAR + 1;
+            int driver = (i - 1) % DRIVERS_PER_CAR + 1;
+            record.set(Tables.CAR_DRIVERS.ID, (long) i);
+            record.set(Tables.CAR_DRIVERS.CAR_ID, 100L + car);
+            record.set(Tables.CAR_DRIVERS.DRIVER_ID, 1000L * car + driver);
+            record.set(Tables.CAR_DRIVERS.DRIVER_NUMBER, driver);
+        });
+    }
+
+    /**
+     * The drivers of {@link #carDrivers}, named "Driver c-d" as in {@link #results}.
+     */
+    public static Result<Record> sessionDrivers(int carCount) {
+        return MockDatabase.rows(Tables.DRIVERS.fields(), carCount * DRIVERS_PER_CAR, (record, i) -> {
+            int car = (i - 1) / DRIVERS_PER_CAR + 1;
+            int driver = (i - 1) % DRIVERS_PER_CAR + 1;
+            record.set(Tables.DRIVERS.ID, 1000L * car + driver);
+            record.set(Tables.DRIVERS.FIRST_NAME, "Driver");
+            record.set(Tables.DRIVERS.LAST_NAME, car + "-" + driver);
+        });
+    }
+
+    /**
+     * Per-driver lap time analyses for "Driver i", averaging 96 seconds plus {@code i} milliseconds over 40 laps.
+     */
+    public static Result<Record> driverAnalyses(int count) {
+        return MockDatabase.rows(DRIVER_ANALYSIS_FIELDS, count, (record, i) -> {
+            BigDecimal average = new BigDecimal("96.000").add(BigDecimal.valueOf(i, 3));
+            record.fromArray(
+                    (long) i, "Driver", String.valueOf(i), "US",
+                    100L + i, String.valueOf(i), "Model",
+                    10L, "Team", 5L, "GTD",
+                    average, average.subtract(BigDecimal.ONE), average.add(BigDecimal.ONE),
+                    40
+            );
+        });
+    }
+}
@@ -0,0 +1,113 @@
+package com.arjunakankipati.racingstatanalysis.repository.impl;
+
+import com.arjunakankipati.racingstatanalysis.jooq.Tables;
+import com.arjunakankipati.racingstatanalysis.model.Lap;
+import com.arjunakankipati.racingstatanalysis.model.LapTime;
+import com.arjunakankipati.racingstatanalysis.model.Sector;
+import org.jooq.DSLContext;
+import org.jooq.Record2;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the multi-row {@code INSERT ... RETURNING} lap/sector path against the COPY path.
+ * Runs only when {@code BENCHMARK_DATASOURCE_URL} points at a migrated database containing at least one car-driver row,
+ * for example:
+ * <pre>
+ * BENCHMARK_DATASOURCE_URL=jdbc:postgresql://localhost:5432/statsdb ./gradlew test --tests '*LapBulkLoadBenchmark'
+ * </pre>
+ * All writes are rolled back. The lap count defaults to 4000 because the multi-row insert for sectors hits the
+ * 65535 bind parameter limit of the PostgreSQL protocol above roughly 13k sectors; set {@code BENCHMARK_LAP_COUNT}
+ * higher to see the COPY path alone handle a full 24h race.
+ */
+@EnabledIfEnvironmentVariable(named = "BENCHMARK_DATASOURCE_URL", matches = ".+")
+class LapBulkLoadBenchmark {
+
+    private static final int ROUNDS = 5;
+
+    @Test
+    void compareInsertReturningWithCopy() throws Exception {
+        int lapCount = Integer.parseInt(System.getenv().getOrDefault("BENCHMARK_LAP_COUNT", "4000"));
+        try (Connection connection = DriverManager.getConnection(
+                System.getenv("BENCHMARK_DATASOURCE_URL"),
+                System.getenv().getOrDefault("SPRING_DATASOURCE_USERNAME", "postgres"),
+                System.getenv().getOrDefault("SPRING_DATASOURCE_PASSWORD", "stats"))) {
+            connection.setAutoCommit(false);
+            DSLContext dsl = DSL.using(connection, SQLDialect.POSTGRES);
+            LapRepositoryImpl lapRepository = new LapRepositoryImpl(dsl);
+            SectorRepositoryImpl sectorRepository = new SectorRepositoryImpl(dsl);
+
+            Record2<Long, Long> carDriver = dsl.select(Tables.CAR_DRIVERS.CAR_ID, Tables.CAR_DRIVERS.DRIVER_ID)
+                    .from(Tables.CAR_DRIVERS)
+                    .limit(1)
+                    .fetchOne();
+            Assumptions.assumeTrue(carDriver != null, "benchmark needs at least one car_drivers row");
+
+            try {
+                long bestInsert = Long.MAX_VALUE;
+                long bestCopy = Long.MAX_VALUE;
+                for (int round = 0; round < ROUNDS; round++) {
+                    List<Lap> laps = laps(carDriver.value1(), carDriver.value2(), lapCount);
+                    long start = System.nanoTime();
+                    List<Lap> saved = lapRepository.saveAll(laps);
+                    List<Sector> sectors = new ArrayList<>(saved.size() * 3);
+                    for (Lap lap : saved) {
+                        sectors.addAll(sectors(lap.getId()));
+                    }
+                    sectorRepository.saveAll(sectors);
+                    bestInsert = Math.min(bestInsert, System.nanoTime() - start);
+
+                    laps = laps(carDriver.value1(), carDriver.value2(), lapCount);
+                    start = System.nanoTime();
+                    List<Long> ids = lapRepository.reserveIds(laps.size());
+                    sectors = new ArrayList<>(laps.size() * 3);
+                    for (int i = 0; i < laps.size(); i++) {
+                        laps.get(i).setId(ids.get(i));
+                        sectors.addAll(sectors(ids.get(i)));
+                    }
+                    long copiedLaps = lapRepository.copyAll(laps);
+                    long copiedSectors = sectorRepository.copyAll(sectors);
+                    bestCopy = Math.min(bestCopy, System.nanoTime() - start);
+
+                    assertThat(copiedLaps).isEqualTo(lapCount);
+                    assertThat(copiedSectors).isEqualTo(lapCount * 3L);
+                }
+                System.out.printf("%d laps / %d sectors: INSERT ... RETURNING %d ms, COPY %d ms%n",
+                        lapCount, lapCount * 3, bestInsert / 1_000_000, bestCopy / 1_000_000);
+            } finally {
+                connection.rollback();
+            }
+        }
+    }
+
+    private static List<Lap> laps(Long carId, Long driverId, int count) {
+        List<Lap> laps = new ArrayList<>(count);
+        LocalDateTime start = LocalDateTime.of(2024, 6, 15, 16, 0);
+        for (int i = 1; i <= count; i++) {
+            LapTime lapTime = LapTime.ofMillis(210_000 + (i % 5_000));
+            laps.add(new Lap(null, carId, driverId, i, lapTime, LapTime.ofMillis(lapTime.millis() * i),
+                    start.plusSeconds(210L * i), new BigDecimal("231.456")));
+        }
+        return laps;
+    }
+
+    private static List<Sector> sectors(Long lapId) {
+        List<Sector> sectors = new ArrayList<>(3);
+        for (int s = 1; s <= 3; s++) {
+            sectors.add(new Sector(null, lapId, s, LapTime.ofMillis(70_123), null, null));
+        }
+        return sectors;
+    }
+}
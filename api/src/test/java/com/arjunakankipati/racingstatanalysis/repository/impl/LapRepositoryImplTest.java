@@ -0,0 +1,80 @@
+package com.arjunakankipati.racingstatanalysis.repository.impl;
+
+import com.arjunakankipati.racingstatanalysis.dto.DriverLapTimeAnalysisDTO;
+import com.arjunakankipati.racingstatanalysis.metrics.QueryMetricsListener;
+import com.arjunakankipati.racingstatanalysis.metrics.QueryStatistics;
+import com.arjunakankipati.racingstatanalysis.model.Lap;
+import com.arjunakankipati.racingstatanalysis.model.LapTime;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.jooq.impl.DefaultConfiguration;
+import org.jooq.impl.DefaultExecuteListenerProvider;
+import org.junit.jupiter.api.Test;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+
+import java.sql.Connection;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Regression tests for the per-driver lap time analysis query and the metrics of copying laps.
+ */
+class LapRepositoryImplTest {
+
+    @Test
+    void mapsEveryDriverFromOneQuery() {
+        MockDatabase database = new MockDatabase(FixtureRows.driverAnalyses(180));
+
+        List<DriverLapTimeAnalysisDTO> analyses = new LapRepositoryImpl(database.dsl()).calculateLapTimeAnalysisPerDriverForEvent(
+                1L, 20, List.of(), Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty());
+
+        assertThat(database.statements()).hasSize(1);
+        assertThat(analyses).hasSize(180);
+        assertThat(analyses.get(0).getDriverName()).isEqualTo("Driver 1");
+        assertThat(analyses.get(0).getAverageLapTime()).isEqualTo("1:36.001");
+        assertThat(analyses.get(0).getTotalLapCount()).isEqualTo(40);
+    }
+
+    @Test
+    void recordsCopiedLapsAgainstTheRepositoryMethod() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        QueryStatistics statistics = new QueryStatistics(500);
+        CopyIn copyIn = mock(CopyIn.class);
+        when(copyIn.endCopy()).thenReturn(2L);
+        CopyManager copyManager = mock(CopyManager.class);
+        when(copyManager.copyIn(anyString())).thenReturn(copyIn);
+        PGConnection pgConnection = mock(PGConnection.class);
+        when(pgConnection.getCopyAPI()).thenReturn(copyManager);
+        Connection connection = mock(Connection.class);
+        when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        LapRepositoryImpl repository = new LapRepositoryImpl(DSL.using(new DefaultConfiguration()
+                .set(SQLDialect.POSTGRES)
+                .set(connection)
+                .set(new DefaultExecuteListenerProvider(new QueryMetricsListener(registry, statistics, 500)))));
+
+        repository.copyAll(List.of(lap(1L), lap(2L)));
+
+        Timer timer = registry.find("db.query").tag("method", "LapRepositoryImpl.copyAll").tag("type", "write").timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(registry.find("db.query.rows").tag("method", "LapRepositoryImpl.copyAll")
+                .summary().totalAmount()).isEqualTo(2);
+        assertThat(statistics.mostFrequent(1).get(0).sql()).startsWith("COPY \"laps\"");
+    }
+
+    private static Lap lap(long id) {
+        Lap lap = new Lap(null, 10L, 20L, (int) id, LapTime.ofMillis(100_000), LapTime.ofMillis(100_000 * id),
+                null, null);
+        lap.setId(id);
+        return lap;
+    }
+}
@@ -0,0 +1,17 @@
+package com.arjunakankipati.racingstatanalysis.repository.impl;
+
+import com.arjunakankipati.racingstatanalysis.model.LapTime;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LapTimeTextConverterTest {
+
+    @Test
+    void readsValidTimesAndLegacyTextAsNull() {
+        assertThat(LapTimeTextConverter.INSTANCE.from("1:36.123")).isEqualTo(LapTime.ofMillis(96_123));
+        assertThat(LapTimeTextConverter.INSTANCE.from(" ")).isNull();
+        assertThat(LapTimeTextConverter.INSTANCE.from("1 LAP")).isNull();
+        assertThat(LapTimeTextConverter.INSTANCE.from("--")).isNull();
+    }
+}
@@ -0,0 +1,94 @@
+package com.arjunakankipati.racingstatanalysis.repository.impl;
+
+import com.arjunakankipati.racingstatanalysis.metrics.QueryCountListener;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.jooq.impl.DefaultConfiguration;
+import org.jooq.impl.DefaultExecuteListenerProvider;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockResult;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * A jOOQ {@code DSLContext} over a mock connection that answers each statement with the next of a fixed list
+ * of results and records the SQL and bind values it ran, for checking how many queries a repository, service or endpoint
+ * runs. {@link QueryCountListener} is registered, so {@code @QueryBudget} counts these statements too.
+ * A statement beyond the last result fails, so a test also catches a query it did not expect.
+ */
+public final class MockDatabase {
+
+    private final List<Result<?>> results;
+    private final List<String> statements = new ArrayList<>();
+    private final List<List<Object>> bindings = new ArrayList<>();
+    private final DSLContext dsl;
+
+    /**
+     * Creates a database answering the statements it runs, in order.
+     *
+     * @param results the result of each statement
+     */
+    public MockDatabase(Result<?>... results) {
+        this.results = List.of(results);
+        this.dsl = DSL.using(new DefaultConfiguration()
+                .set(SQLDialect.POSTGRES)
+                .set(new MockConnection(ctx -> {
+                    statements.add(ctx.sql());
+                    bindings.add(Arrays.asList(ctx.bindings()));
+                    if (statements.size() > this.results.size()) {
+                        throw new SQLException("Unexpected statement #" + statements.size() + ": " + ctx.sql());
+                    }
+                    Result<?> result = this.results.get(statements.size() - 1);
+                    return new MockResult[]{new MockResult(result.size(), result)};
+                }))
+                .set(new DefaultExecuteListenerProvider(new QueryCountListener())));
+    }
+
+    /**
+     * Builds a result with one row per index from 1 to {@code count}.
+     *
+     * @param fields the columns of the result
+     * @param count  the number of rows
+     * @param row    fills the row with the given index
+     * @return the result
+     */
+    public static Result<Record> rows(Field<?>[] fields, int count, ObjIntConsumer<Record> row) {
+        DSLContext create = DSL.using(SQLDialect.POSTGRES);
+        Result<Record> result = create.newResult(fields);
+        for (int i = 1; i <= count; i++) {
+            Record record = create.newRecord(fields);
+            row.accept(record, i);
+            result.add(record);
+        }
+        return result;
+    }
+
+    /**
+     * Gets the context to build repositories on.
+     */
+    public DSLContext dsl() {
+        return dsl;
+    }
+
+    /**
+     * Gets the SQL of every statement run so far, in order.
+     */
+    public List<String> statements() {
+        return statements;
+    }
+
+    /**
+     * Gets the bind values of every statement run so far, in order.
+     */
+    public List<List<Object>> bindings() {
+        return bindings;
+    }
+}
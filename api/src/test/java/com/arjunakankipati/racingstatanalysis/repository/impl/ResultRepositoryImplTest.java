@@ -0,0 +1,49 @@
+package com.arjunakankipati.racingstatanalysis.repository.impl;
+
+import com.arjunakankipati.racingstatanalysis.dto.DriverDTO;
+import com.arjunakankipati.racingstatanalysis.dto.ResultDTO;
+import com.arjunakankipati.racingstatanalysis.dto.ResultsResponseDTO;
+import com.arjunakankipati.racingstatanalysis.jooq.Tables;
+import org.jooq.Field;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Regression tests for the session results query.
+ */
+class ResultRepositoryImplTest {
+
+    @Test
+    void groupsTheDriverRowsOfEachResult() {
+        MockDatabase database = new MockDatabase(FixtureRows.results(9L, 60));
+
+        ResultsResponseDTO response = new ResultRepositoryImpl(database.dsl()).findResultsWithCarsAndDriversBySessionId(9L);
+
+        assertThat(database.statements()).hasSize(1);
+        assertThat(response.getSessionId()).isEqualTo(9L);
+        assertThat(response.getResults()).hasSize(60);
+        ResultDTO first = response.getResults().get(0);
+        assertThat(first.getPosition()).isEqualTo(1);
+        assertThat(first.getCarEntry().getTeamName()).isEqualTo("Team 1");
+        assertThat(first.getCarEntry().getCarModel().getName()).isEqualTo("Model");
+        assertThat(first.getCarEntry().getDrivers())
+                .extracting(DriverDTO::getDriverNumber)
+                .containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void keepsResultsWithoutACarEntry() {
+        MockDatabase database = new MockDatabase(MockDatabase.rows(
+                ResultRepositoryImpl.RESULT_DETAIL_FIELDS.toArray(Field[]::new), 1, (row, i) -> {
+                    row.set(Tables.RESULTS.ID, 1L);
+                    row.set(Tables.RESULTS.CAR_NUMBER, "99");
+                }));
+
+        ResultsResponseDTO response = new ResultRepositoryImpl(database.dsl()).findResultsWithCarsAndDriversBySessionId(9L);
+
+        assertThat(response.getResults()).hasSize(1);
+        assertThat(response.getResults().get(0).getCarNumber()).isEqualTo("99");
+        assertThat(response.getResults().get(0).getCarEntry()).isNull();
+    }
+}
@@ -0,0 +1,57 @@
+package com.arjunakankipati.racingstatanalysis.repository.impl;
+
+import com.arjunakankipati.racingstatanalysis.dto.SeriesResponseDTO;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Regression tests for the series catalog query.
+ */
+class SeriesRepositoryImplTest {
+
+    /**
+     * Columns returned by the catalog statement, in select order.
+     */
+    private static final Field<?>[] CATALOG_FIELDS = {
+            DSL.field(DSL.name("id"), Long.class),
+            DSL.field(DSL.name("name"), String.class),
+            DSL.field(DSL.name("event_count"), Integer.class),
+            DSL.field(DSL.name("years"), Integer[].class)
+    };
+
+    @Test
+    void catalogRunsASingleGroupedQuery() {
+        AtomicInteger queries = new AtomicInteger();
+        DSLContext mock = DSL.using(new MockConnection(ctx -> {
+            queries.incrementAndGet();
+            DSLContext create = DSL.using(SQLDialect.POSTGRES);
+            Result<Record> result = create.newResult(CATALOG_FIELDS);
+            Record imsa = create.newRecord(CATALOG_FIELDS);
+            imsa.fromArray(1L, "IMSA", 40, new Integer[]{2025, 2024, 2023});
+            result.add(imsa);
+            Record empty = create.newRecord(CATALOG_FIELDS);
+            empty.fromArray(2L, "WEC", 0, null);
+            result.add(empty);
+            return new MockResult[]{new MockResult(2, result)};
+        }), SQLDialect.POSTGRES);
+
+        List<SeriesResponseDTO> series = new SeriesRepositoryImpl(mock).findAllWithEventCountsAndYears();
+
+        assertThat(queries.get()).isEqualTo(1);
+        assertThat(series).extracting(SeriesResponseDTO::getEventCount).containsExactly(40, 0);
+        assertThat(series.get(0).getYears()).containsExactly(2025, 2024, 2023);
+        assertThat(series.get(1).getYears()).isEmpty();
+    }
+}
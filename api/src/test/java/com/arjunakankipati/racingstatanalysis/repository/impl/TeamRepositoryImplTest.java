@@ -0,0 +1,32 @@
+package com.arjunakankipati.racingstatanalysis.repository.impl;
+
+import com.arjunakankipati.racingstatanalysis.jooq.Tables;
+import com.arjunakankipati.racingstatanalysis.model.Team;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests finding or creating the teams of an imported file.
+ */
+class TeamRepositoryImplTest {
+
+    @Test
+    void returnsExistingAndCreatedTeamsByNameAfterInsertingInSortedOrder() {
+        // "Acura" existed already; the others are created by the insert
+        MockDatabase database = new MockDatabase(FixtureRows.none(),
+                FixtureRows.named(Tables.TEAMS, Map.of("Wayne Taylor", 9L, "Acura", 3L, "Porsche Penske", 8L)));
+
+        Map<String, Team> teams = new TeamRepositoryImpl(database.dsl())
+                .findOrCreateByNames(List.of("Wayne Taylor", "Acura", "Porsche Penske"));
+
+        assertThat(teams).hasSize(3);
+        assertThat(teams.get("Acura").getId()).isEqualTo(3L);
+        assertThat(teams.get("Porsche Penske").getId()).isEqualTo(8L);
+        assertThat(teams.get("Wayne Taylor").getId()).isEqualTo(9L);
+        assertThat(database.bindings().get(0)).containsExactly("Acura", "Porsche Penske", "Wayne Taylor");
+    }
+}
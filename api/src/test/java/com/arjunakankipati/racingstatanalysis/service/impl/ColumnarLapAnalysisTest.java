@@ -0,0 +1,114 @@
+package com.arjunakankipati.racingstatanalysis.service.impl;
+
+import com.arjunakankipati.racingstatanalysis.analysis.SessionLaps;
+import com.arjunakankipati.racingstatanalysis.dto.DriverLapTimeAnalysisDTO;
+import com.arjunakankipati.racingstatanalysis.dto.LapTimeAnalysisResponseDTO;
+import com.arjunakankipati.racingstatanalysis.repository.LapRepository;
+import com.arjunakankipati.racingstatanalysis.repository.SessionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ColumnarLapAnalysisTest {
+
+    private static final SessionLaps.Car GT3 = new SessionLaps.Car(100L, "7", 1L, "GT3", 2L, "911 GT3 R", 3L, "Manthey");
+    private static final SessionLaps.Car LMP2 = new SessionLaps.Car(101L, "22", 4L, "LMP2", 5L, "Oreca 07", 6L, "United");
+    private static final SessionLaps.Driver ALICE = new SessionLaps.Driver(50L, "Alice", "Able", "GB");
+    private static final SessionLaps.Driver BOB = new SessionLaps.Driver(51L, "Bob", "Baker", "US");
+
+    private LapRepository lapRepository;
+    private SessionRepository sessionRepository;
+    private ColumnarLapAnalysis analysis;
+
+    @BeforeEach
+    void setUp() {
+        lapRepository = mock(LapRepository.class);
+        sessionRepository = mock(SessionRepository.class);
+        when(sessionRepository.findDataVersionsByEventId(1L)).thenReturn(Map.of(10L, 3L));
+        when(lapRepository.findSessionLaps(10L)).thenReturn(Optional.of(SessionLaps.builder(10L, 1L)
+                .addCar(GT3).addCar(LMP2)
+                .addDriver(ALICE).addDriver(BOB)
+                .addLap(1, 100L, 50L, 1, 101_000, 101_000)
+                .addLap(2, 100L, 50L, 2, 100_000, 201_000)
+                .addLap(3, 100L, 50L, 3, 105_000, 306_000)
+                .addLap(4, 101L, 51L, 1, 95_000, 95_000)
+                .addLap(5, 101L, 51L, 2, 96_001, 191_001)
+                .addLap(6, 101L, null, 3, 99_000, 290_001)
+                .addSector(4, 1, 31_000)
+                .build()));
+        analysis = new ColumnarLapAnalysis(lapRepository, sessionRepository, 1024 * 1024);
+    }
+
+    @Test
+    void analysesTheWholeEventAndEachDriver() {
+        LapTimeAnalysisResponseDTO response = analysis.analyze(1L, 5, 50, List.of(), null, null, null, null, null);
+
+        assertThat(response.getOverallAnalysis().getTotalLapCount()).isEqualTo(6);
+        assertThat(response.getOverallAnalysis().getFastestLapTime()).isEqualTo("1:35.000");
+        assertThat(response.getOverallAnalysis().getAverageLapTime()).isEqualTo("1:36.667");
+        assertThat(response.getOverallAnalysis().getMedianLapTime()).isEqualTo("1:39.500");
+
+        List<DriverLapTimeAnalysisDTO> drivers = response.getDriverAnalyses();
+        assertThat(drivers).extracting(DriverLapTimeAnalysisDTO::getDriverId).containsExactly(51L, 50L);
+        assertThat(drivers.get(0).getAverageLapTime()).isEqualTo("1:35.000");
+        assertThat(drivers.get(0).getMedianLapTime()).isEqualTo("1:35.501");
+        assertThat(drivers.get(1).getAverageLapTime()).isEqualTo("1:40.500");
+        assertThat(drivers.get(1).getTeamName()).isEqualTo("Manthey");
+        assertThat(drivers.get(1).getTotalLapCount()).isEqualTo(3);
+    }
+
+    @Test
+    void reportsAnAverageForEachRequestedPercentage() {
+        LapTimeAnalysisResponseDTO response = analysis.analyze(1L, 5, 50, List.of(50, 100), null, null, null, null, null);
+
+        assertThat(response.getOverallAnalysis().getAverageLapTimes())
+                .containsEntry(50, "1:36.667")
+                .containsEntry(100, "1:39.334");
+        assertThat(response.getDriverAnalyses().get(1).getAverageLapTimes())
+                .containsEntry(50, "1:40.500")
+                .containsEntry(100, "1:42.000");
+    }
+
+    @Test
+    void filtersByClassAndPagesDrivers() {
+        LapTimeAnalysisResponseDTO gt3 = analysis.analyze(1L, 5, 100, List.of(), 1L, null, null, null, null);
+        assertThat(gt3.getOverallAnalysis().getTotalLapCount()).isEqualTo(3);
+        assertThat(gt3.getDriverAnalyses()).extracting(DriverLapTimeAnalysisDTO::getDriverId).containsExactly(50L);
+
+        LapTimeAnalysisResponseDTO secondPage = analysis.analyze(1L, 5, 100, List.of(), null, null, null, 1, 1);
+        assertThat(secondPage.getDriverAnalyses()).extracting(DriverLapTimeAnalysisDTO::getDriverId).containsExactly(50L);
+    }
+
+    @Test
+    void loadsEachSessionOnceUntilEvicted() {
+        analysis.analyze(1L, 5, 20, List.of(), null, null, null, null, null);
+        analysis.analyze(1L, 5, 80, List.of(), 4L, null, null, null, null);
+        verify(lapRepository, times(1)).findSessionLaps(10L);
+
+        analysis.evictSession(10L, 1L);
+        analysis.analyze(1L, 5, 20, List.of(), null, null, null, null, null);
+        verify(lapRepository, times(2)).findSessionLaps(10L);
+    }
+
+    @Test
+    void reloadsASessionOnceItsDataVersionChanges() {
+        analysis.analyze(1L, 5, 20, List.of(), null, null, null, null, null);
+
+        // Imported by another instance, so no eviction arrives here
+        when(sessionRepository.findDataVersionsByEventId(1L)).thenReturn(Map.of(10L, 4L));
+        analysis.analyze(1L, 6, 20, List.of(), null, null, null, null, null);
+        analysis.analyze(1L, 6, 20, List.of(), null, null, null, null, null);
+
+        verify(lapRepository, times(2)).findSessionLaps(10L);
+        verify(sessionRepository, times(2)).findDataVersionsByEventId(1L);
+    }
+}
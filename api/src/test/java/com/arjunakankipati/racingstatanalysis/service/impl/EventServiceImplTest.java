@@ -0,0 +1,82 @@
+package com.arjunakankipati.racingstatanalysis.service.impl;
+
+import com.arjunakankipati.racingstatanalysis.dto.CarModelsResponseDTO;
+import com.arjunakankipati.racingstatanalysis.dto.CarsResponseDTO;
+import com.arjunakankipati.racingstatanalysis.dto.DriversResponseDTO;
+import com.arjunakankipati.racingstatanalysis.metrics.QueryBudget;
+import com.arjunakankipati.racingstatanalysis.repository.impl.CarEntryRepositoryImpl;
+import com.arjunakankipati.racingstatanalysis.repository.impl.CarModelRepositoryImpl;
+import com.arjunakankipati.racingstatanalysis.repository.impl.ClassRepositoryImpl;
+import com.arjunakankipati.racingstatanalysis.repository.impl.DriverRepositoryImpl;
+import com.arjunakankipati.racingstatanalysis.repository.impl.EventRepositoryImpl;
+import com.arjunakankipati.racingstatanalysis.repository.impl.FixtureRows;
+import com.arjunakankipati.racingstatanalysis.repository.impl.MockDatabase;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that the event listings run a fixed number of queries however many rows they return:
+ * one to find the event, one to find the class where there is one, and one for the listing.
+ */
+class EventServiceImplTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 150})
+    @QueryBudget(max = 2)
+    void driverListingQueriesDoNotGrowWithTheDrivers(int driverCount) {
+        MockDatabase database = new MockDatabase(FixtureRows.event(1L, "Daytona"), FixtureRows.driversWithTeams(driverCount));
+
+        DriversResponseDTO response = service(database).findDriversByEventId(1L, null, null);
+
+        assertThat(response.getEventName()).isEqualTo("Daytona");
+        assertThat(response.getDrivers()).hasSize(driverCount);
+        assertThat(response.getDrivers().get(0).getFullName()).isEqualTo("Driver 1");
+        assertThat(response.getDrivers().get(0).getTeamName()).isEqualTo("Team");
+        assertThat(response.getDrivers().get(0).getCarModel().getName()).isEqualTo("Model");
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 60})
+    @QueryBudget(max = 3)
+    void carListingQueriesDoNotGrowWithTheCars(int carCount) {
+        MockDatabase database = new MockDatabase(FixtureRows.event(1L, "Daytona"), FixtureRows.clazz(2L, "GTD"),
+                FixtureRows.carsWithModels(carCount));
+
+        CarsResponseDTO response = service(database).findCarsByEventIdAndClassId(1L, 2L);
+
+        assertThat(response.getClassName()).isEqualTo("GTD");
+        assertThat(response.getCars()).hasSize(carCount);
+        assertThat(response.getCars().get(0).getNumber()).isEqualTo("1");
+        assertThat(response.getCars().get(0).getCarModel().getFullName()).isEqualTo("Full Model");
+        if (carCount > 1) {
+            // Cars with an unknown model are kept without one
+            assertThat(response.getCars().get(carCount - 1).getCarModel()).isNull();
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 12})
+    @QueryBudget(max = 3)
+    void carModelListingQueriesDoNotGrowWithTheModels(int modelCount) {
+        MockDatabase database = new MockDatabase(FixtureRows.event(1L, "Daytona"), FixtureRows.clazz(2L, "GTD"),
+                FixtureRows.carModels(modelCount));
+
+        CarModelsResponseDTO response = service(database).findCarModelsByEventIdAndClassId(1L, 2L);
+
+        assertThat(response.getCarModels()).hasSize(modelCount);
+        assertThat(response.getCarModels().get(0).getName()).isEqualTo("Model 1");
+    }
+
+    private static EventServiceImpl service(MockDatabase database) {
+        EventServiceImpl service = new EventServiceImpl();
+        ReflectionTestUtils.setField(service, "eventRepository", new EventRepositoryImpl(database.dsl()));
+        ReflectionTestUtils.setField(service, "classRepository", new ClassRepositoryImpl(database.dsl()));
+        ReflectionTestUtils.setField(service, "carEntryRepository", new CarEntryRepositoryImpl(database.dsl()));
+        ReflectionTestUtils.setField(service, "carModelRepository", new CarModelRepositoryImpl(database.dsl()));
+        ReflectionTestUtils.setField(service, "driverRepository", new DriverRepositoryImpl(database.dsl()));
+        return service;
+    }
+}
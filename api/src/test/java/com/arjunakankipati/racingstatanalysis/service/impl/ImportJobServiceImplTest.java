@@ -0,0 +1,59 @@
+package com.arjunakankipati.racingstatanalysis.service.impl;
+
+import com.arjunakankipati.racingstatanalysis.model.ImportJob;
+import com.arjunakankipati.racingstatanalysis.repository.ImportJobRepository;
+import com.arjunakankipati.racingstatanalysis.repository.SessionRepository;
+import com.arjunakankipati.racingstatanalysis.service.SessionDataChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests that only a completed import changes the data version of its session.
+ */
+class ImportJobServiceImplTest {
+
+    private ImportJobRepository importJobRepository;
+    private SessionRepository sessionRepository;
+    private ApplicationEventPublisher eventPublisher;
+    private ImportJobServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        importJobRepository = mock(ImportJobRepository.class);
+        sessionRepository = mock(SessionRepository.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        ImportJob job = new ImportJob();
+        job.setId(5);
+        job.setSessionId(7L);
+        when(importJobRepository.findById(5)).thenReturn(Optional.of(job));
+        service = new ImportJobServiceImpl(importJobRepository, sessionRepository, eventPublisher);
+    }
+
+    @Test
+    void bumpsTheSessionsDataVersionWhenTheImportCompletes() {
+        service.markCompleted(5);
+
+        verify(importJobRepository).updateEndedAtAndStatusAndError(5, "COMPLETED", null);
+        verify(eventPublisher).publishEvent(new SessionDataChangedEvent(7L));
+        verify(sessionRepository).incrementDataVersion(7L);
+    }
+
+    @Test
+    void leavesTheSessionsDataVersionUnchangedWhenTheImportFails() {
+        service.markFailed(5, "Import queue is full");
+
+        verify(importJobRepository).updateEndedAtAndStatusAndError(5, "FAILED", "Import queue is full");
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+        verify(sessionRepository, never()).incrementDataVersion(anyLong());
+    }
+}
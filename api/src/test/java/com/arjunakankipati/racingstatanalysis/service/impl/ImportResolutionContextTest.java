@@ -0,0 +1,65 @@
+package com.arjunakankipati.racingstatanalysis.service.impl;
+
+import com.arjunakankipati.racingstatanalysis.metrics.QueryBudget;
+import com.arjunakankipati.racingstatanalysis.model.CarEntry;
+import com.arjunakankipati.racingstatanalysis.repository.impl.CarDriverRepositoryImpl;
+import com.arjunakankipati.racingstatanalysis.repository.impl.CarEntryRepositoryImpl;
+import com.arjunakankipati.racingstatanalysis.repository.impl.DriverRepositoryImpl;
+import com.arjunakankipati.racingstatanalysis.repository.impl.FixtureRows;
+import com.arjunakankipati.racingstatanalysis.repository.impl.MockDatabase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.arjunakankipati.racingstatanalysis.repository.impl.FixtureRows.DRIVERS_PER_CAR;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests resolving the timecard rows of a session from the entities loaded once per import.
+ */
+class ImportResolutionContextTest {
+
+    private static final int CAR_COUNT = 40;
+
+    private MockDatabase database;
+    private ImportResolutionContext resolution;
+
+    @BeforeEach
+    void setUp() {
+        database = new MockDatabase(FixtureRows.carEntries(9L, CAR_COUNT), FixtureRows.carDrivers(CAR_COUNT),
+                FixtureRows.sessionDrivers(CAR_COUNT));
+        resolution = ImportResolutionContext.load(9L, new CarEntryRepositoryImpl(database.dsl()),
+                new CarDriverRepositoryImpl(database.dsl()), new DriverRepositoryImpl(database.dsl()));
+    }
+
+    @Test
+    @QueryBudget(max = 3)
+    void resolvesEveryRowByDriverNumberOrNameWithoutFurtherQueries() {
+        for (int car = 1; car <= CAR_COUNT; car++) {
+            CarEntry carEntry = resolution.carEntry(String.valueOf(car));
+            assertThat(carEntry.getId()).isEqualTo(100L + car);
+            for (int driver = 1; driver <= DRIVERS_PER_CAR; driver++) {
+                assertThat(resolution.carDriver(carEntry, driver, null).getDriverId()).isEqualTo(1000L * car + driver);
+                assertThat(resolution.carDriver(carEntry, null, "Driver " + car + "-" + driver).getDriverNumber())
+                        .isEqualTo(driver);
+            }
+        }
+    }
+
+    @Test
+    void rejectsCarsAndDriversTheSessionDoesNotHave() {
+        CarEntry carEntry = resolution.carEntry("1");
+
+        assertThatThrownBy(() -> resolution.carEntry("99"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("car number 99");
+        assertThatThrownBy(() -> resolution.carDriver(carEntry, DRIVERS_PER_CAR + 1, null))
+                .hasMessageContaining("driver number " + (DRIVERS_PER_CAR + 1));
+        // A driver of the session, but of another car
+        assertThatThrownBy(() -> resolution.carDriver(carEntry, null, "Driver 2-1"))
+                .hasMessageContaining("driver name Driver 2-1");
+        assertThatThrownBy(() -> resolution.carDriver(carEntry, null, " "))
+                .hasMessageContaining("must be present");
+        assertThat(database.statements()).hasSize(3);
+    }
+}
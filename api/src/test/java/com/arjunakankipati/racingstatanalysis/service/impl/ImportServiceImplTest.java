@@ -0,0 +1,74 @@
+package com.arjunakankipati.racingstatanalysis.service.impl;
+
+import com.arjunakankipati.racingstatanalysis.dto.ProcessRequestDTO;
+import com.arjunakankipati.racingstatanalysis.repository.*;
+import com.arjunakankipati.racingstatanalysis.service.ImportJobService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests that spooled uploads are only deleted by the job that spooled them.
+ */
+class ImportServiceImplTest {
+
+    @TempDir
+    Path spoolDir;
+
+    private ImportServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ImportServiceImpl(mock(EventRepository.class), mock(SessionRepository.class),
+                mock(TeamRepository.class), mock(ClassRepository.class), mock(DriverRepository.class),
+                mock(CarEntryRepository.class), mock(CarModelRepository.class), mock(CarDriverRepository.class),
+                mock(LapRepository.class), mock(SectorRepository.class), mock(ImportJobService.class),
+                mock(ResultRepository.class), mock(TransactionTemplate.class),
+                2000, Long.MAX_VALUE, 1, "", spoolDir.toString());
+    }
+
+    @Test
+    void deletesTheUploadSpooledForTheJob() throws Exception {
+        ProcessRequestDTO request = timecardRequest(service.spoolUpload(csv()));
+        request.setSpooledUpload(true);
+
+        service.processImport(1, request);
+
+        assertThat(Path.of(request.getFilePath())).doesNotExist();
+    }
+
+    @Test
+    void keepsASpoolFileNamedByAPlainRequest() throws Exception {
+        String spooled = service.spoolUpload(csv());
+        ProcessRequestDTO request = new ObjectMapper().readValue(
+                "{\"filePath\": \"" + spooled + "\", \"spooledUpload\": true, \"sessionId\": 1,"
+                        + " \"importType\": \"IMSA\", \"processType\": \"TIMECARD\"}",
+                ProcessRequestDTO.class);
+
+        service.processImport(1, request);
+
+        assertThat(request.isSpooledUpload()).isFalse();
+        assertThat(Files.exists(Path.of(spooled))).isTrue();
+    }
+
+    private static ProcessRequestDTO timecardRequest(String filePath) {
+        ProcessRequestDTO request = new ProcessRequestDTO(null, 1L,
+                ProcessRequestDTO.ImportType.IMSA, ProcessRequestDTO.ProcessType.TIMECARD);
+        request.setFilePath(filePath);
+        return request;
+    }
+
+    private static ByteArrayInputStream csv() {
+        return new ByteArrayInputStream("NUMBER;LAP_NUMBER\n".getBytes(StandardCharsets.UTF_8));
+    }
+}
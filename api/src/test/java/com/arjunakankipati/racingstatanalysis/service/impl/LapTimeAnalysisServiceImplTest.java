@@ -0,0 +1,108 @@
+package com.arjunakankipati.racingstatanalysis.service.impl;
+
+import com.arjunakankipati.racingstatanalysis.dto.LapTimeAnalysisDTO;
+import com.arjunakankipati.racingstatanalysis.dto.LapTimeAnalysisResponseDTO;
+import com.arjunakankipati.racingstatanalysis.model.DataVersion;
+import com.arjunakankipati.racingstatanalysis.model.Session;
+import com.arjunakankipati.racingstatanalysis.repository.LapRepository;
+import com.arjunakankipati.racingstatanalysis.repository.SessionRepository;
+import com.arjunakankipati.racingstatanalysis.service.SessionDataChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LapTimeAnalysisServiceImplTest {
+
+    private LapRepository lapRepository;
+    private SessionRepository sessionRepository;
+    private LapTimeAnalysisServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        lapRepository = mock(LapRepository.class);
+        sessionRepository = mock(SessionRepository.class);
+        when(sessionRepository.findEventDataVersion(any())).thenReturn(new DataVersion(1, null));
+        when(lapRepository.calculateLapTimeAnalysisForEvent(any(), anyInt(), any(), any(), any(), any(), any(), any()))
+                .thenReturn(new LapTimeAnalysisDTO());
+        when(lapRepository.calculateLapTimeAnalysisPerDriverForEvent(any(), anyInt(), any(), any(), any(), any(), any(), any()))
+                .thenReturn(List.of());
+        service = new LapTimeAnalysisServiceImpl(lapRepository, sessionRepository, Optional.empty(), 1000);
+    }
+
+    @Test
+    void servesRepeatedRequestsFromTheCache() {
+        LapTimeAnalysisResponseDTO first = service.getLapTimeAnalysisForEvent(1L, 20, List.of(), null, null, null, null, null);
+        LapTimeAnalysisResponseDTO second = service.getLapTimeAnalysisForEvent(1L, 20, List.of(), null, null, null, null, null);
+        service.getLapTimeAnalysisForEvent(1L, 10, List.of(), null, null, null, null, null);
+
+        assertThat(second).isSameAs(first);
+        verify(lapRepository, times(1)).calculateLapTimeAnalysisForEvent(eq(1L), eq(20), any(), any(), any(), any(), any(), any());
+        verify(lapRepository, times(1)).calculateLapTimeAnalysisForEvent(eq(1L), eq(10), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void evictsOnlyTheEventWhoseSessionChanged() {
+        Session session = new Session();
+        session.setId(7L);
+        session.setEventId(1L);
+        when(sessionRepository.findById(7L)).thenReturn(Optional.of(session));
+
+        service.getLapTimeAnalysisForEvent(1L, 20, List.of(), null, null, null, null, null);
+        service.getLapTimeAnalysisForEvent(2L, 20, List.of(), null, null, null, null, null);
+        service.onSessionDataChanged(new SessionDataChangedEvent(7L));
+        service.getLapTimeAnalysisForEvent(1L, 20, List.of(), null, null, null, null, null);
+        service.getLapTimeAnalysisForEvent(2L, 20, List.of(), null, null, null, null, null);
+
+        verify(lapRepository, times(2)).calculateLapTimeAnalysisForEvent(eq(1L), anyInt(), any(), any(), any(), any(), any(), any());
+        verify(lapRepository, times(1)).calculateLapTimeAnalysisForEvent(eq(2L), anyInt(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void reloadsOnceTheEventsDataVersionChanges() {
+        service.getLapTimeAnalysisForEvent(1L, 20, List.of(), null, null, null, null, null);
+
+        // An import finished elsewhere, or the replica caught up, without an eviction arriving here
+        when(sessionRepository.findEventDataVersion(1L)).thenReturn(new DataVersion(2, null));
+        service.getLapTimeAnalysisForEvent(1L, 20, List.of(), null, null, null, null, null);
+        service.getLapTimeAnalysisForEvent(1L, 20, List.of(), null, null, null, null, null);
+
+        verify(lapRepository, times(2)).calculateLapTimeAnalysisForEvent(eq(1L), anyInt(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void readsTheEventsDataVersionOnceForTheColumnarAnalysis() {
+        when(sessionRepository.findDataVersionsByEventId(1L)).thenReturn(Map.of());
+        LapTimeAnalysisServiceImpl columnar = new LapTimeAnalysisServiceImpl(lapRepository, sessionRepository,
+                Optional.of(new ColumnarLapAnalysis(lapRepository, sessionRepository, 1024 * 1024)), 1000);
+
+        columnar.getLapTimeAnalysisForEvent(1L, 20, List.of(), null, null, null, null, null);
+
+        verify(sessionRepository, times(1)).findEventDataVersion(1L);
+        verify(sessionRepository, times(1)).findDataVersionsByEventId(1L);
+    }
+
+    @Test
+    void exposesHitRatioAndLoadTime() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        service.bindTo(registry);
+
+        service.getLapTimeAnalysisForEvent(1L, 20, List.of(), null, null, null, null, null);
+        service.getLapTimeAnalysisForEvent(1L, 20, List.of(), null, null, null, null, null);
+
+        assertThat(registry.get("analysis.cache.hit.ratio").gauge().value()).isEqualTo(0.5);
+        assertThat(registry.get("analysis.cache.load").functionTimer().count()).isEqualTo(1);
+    }
+}
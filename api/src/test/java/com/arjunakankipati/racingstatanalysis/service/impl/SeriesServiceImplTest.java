@@ -0,0 +1,74 @@
+package com.arjunakankipati.racingstatanalysis.service.impl;
+
+import com.arjunakankipati.racingstatanalysis.exceptions.ResourceNotFoundException;
+import com.arjunakankipati.racingstatanalysis.model.Series;
+import com.arjunakankipati.racingstatanalysis.repository.EventRepository;
+import com.arjunakankipati.racingstatanalysis.repository.SeriesRepository;
+import com.arjunakankipati.racingstatanalysis.service.SeriesEventsChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SeriesServiceImplTest {
+
+    private SeriesRepository seriesRepository;
+    private EventRepository eventRepository;
+    private SeriesServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        seriesRepository = mock(SeriesRepository.class);
+        eventRepository = mock(EventRepository.class);
+        service = new SeriesServiceImpl();
+        ReflectionTestUtils.setField(service, "seriesRepository", seriesRepository);
+        ReflectionTestUtils.setField(service, "eventRepository", eventRepository);
+        when(seriesRepository.findById(1L)).thenReturn(Optional.of(new Series()));
+        when(eventRepository.findYearsBySeriesId(1L)).thenReturn(List.of(2025, 2024));
+    }
+
+    @Test
+    void cachesYearsUntilTheSeriesGainsAnEvent() {
+        assertThat(service.findYearsBySeriesId(1L)).containsExactly(2025, 2024);
+        assertThat(service.findYearsBySeriesId(1L)).containsExactly(2025, 2024);
+        verify(eventRepository, times(1)).findYearsBySeriesId(1L);
+
+        service.onSeriesEventsChanged(new SeriesEventsChangedEvent(1L));
+        service.findYearsBySeriesId(1L);
+        verify(eventRepository, times(2)).findYearsBySeriesId(1L);
+    }
+
+    @Test
+    void doesNotKeepYearsLoadedBeforeAnEventWasAdded() {
+        // The series gains an event while its old years are being read
+        when(eventRepository.findYearsBySeriesId(1L))
+                .thenAnswer(invocation -> {
+                    service.onSeriesEventsChanged(new SeriesEventsChangedEvent(1L));
+                    return List.of(2024);
+                })
+                .thenReturn(List.of(2025, 2024));
+
+        assertThat(service.findYearsBySeriesId(1L)).containsExactly(2024);
+        assertThat(service.findYearsBySeriesId(1L)).containsExactly(2025, 2024);
+        assertThat(service.findYearsBySeriesId(1L)).containsExactly(2025, 2024);
+        verify(eventRepository, times(2)).findYearsBySeriesId(1L);
+    }
+
+    @Test
+    void doesNotCacheUnknownSeries() {
+        when(seriesRepository.findById(9L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.findYearsBySeriesId(9L)).isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> service.findYearsBySeriesId(9L)).isInstanceOf(ResourceNotFoundException.class);
+        verify(seriesRepository, times(2)).findById(9L);
+    }
+}
@@ -0,0 +1,67 @@
+package com.arjunakankipati.racingstatanalysis.service.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightLoaderTest {
+
+    private final Map<Long, String> map = new ConcurrentHashMap<>();
+    private final SingleFlightLoader<Long, String> loader = SingleFlightLoader.of(map);
+
+    @Test
+    void concurrentMissesShareOneLoad() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<String>> results = IntStream.range(0, 50)
+                    .mapToObj(i -> executor.submit(() -> loader.get(1L, () -> {
+                        loads.incrementAndGet();
+                        await(release);
+                        return "laps";
+                    })))
+                    .toList();
+            Thread.sleep(100);
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("laps");
+            }
+        }
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(loader.loadCount()).isEqualTo(1);
+        assertThat(map).containsEntry(1L, "laps");
+    }
+
+    @Test
+    void doesNotCacheAFailedLoad() {
+        assertThatThrownBy(() -> loader.get(1L, () -> {
+            throw new IllegalStateException("database unavailable");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(map).isEmpty();
+        assertThat(loader.get(1L, () -> "laps")).isEqualTo("laps");
+        assertThat(loader.loadCount()).isEqualTo(2);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
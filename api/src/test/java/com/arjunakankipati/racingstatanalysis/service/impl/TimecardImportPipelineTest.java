@@ -0,0 +1,92 @@
+package com.arjunakankipati.racingstatanalysis.service.impl;
+
+import com.arjunakankipati.racingstatanalysis.model.Lap;
+import com.arjunakankipati.racingstatanalysis.model.LapTime;
+import com.arjunakankipati.racingstatanalysis.repository.LapRepository;
+import com.arjunakankipati.racingstatanalysis.repository.SectorRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests that a timecard import is written in one transaction, committed only when it finishes.
+ */
+class TimecardImportPipelineTest {
+
+    private final SimpleTransactionStatus transaction = new SimpleTransactionStatus();
+    private LapRepository lapRepository;
+    private SectorRepository sectorRepository;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        lapRepository = mock(LapRepository.class);
+        sectorRepository = mock(SectorRepository.class);
+        when(lapRepository.reserveIds(anyInt()))
+                .thenAnswer(invocation -> LongStream.rangeClosed(1, invocation.<Integer>getArgument(0)).boxed().toList());
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(transaction);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    void replacesTheSessionsLapsAndCommitsOnFinish() throws Exception {
+        // A repeat of lap 1 in the second batch replaces the copy written by the first
+        when(lapRepository.deleteByCarDriverAndLapNumber(any())).thenReturn(0, 1);
+
+        long written;
+        try (var pipeline = new TimecardImportPipeline(lapRepository, sectorRepository, transactionTemplate, 2, 5L)) {
+            pipeline.submit(lap(1), List.of());
+            pipeline.submit(lap(2), List.of());
+            pipeline.submit(lap(1), List.of());
+            written = pipeline.finish();
+        }
+
+        assertThat(written).isEqualTo(2);
+        assertThat(transaction.isRollbackOnly()).isFalse();
+        verify(lapRepository, times(1)).deleteBySessionId(5L);
+        verify(lapRepository, times(2)).copyAll(any());
+    }
+
+    @Test
+    void rollsBackWhenClosedWithoutFinishing() throws Exception {
+        try (var pipeline = new TimecardImportPipeline(lapRepository, sectorRepository, transactionTemplate, 1, 5L)) {
+            pipeline.submit(lap(1), List.of());
+            pipeline.submit(lap(2), List.of());
+        }
+
+        assertThat(transaction.isRollbackOnly()).isTrue();
+    }
+
+    @Test
+    void rollsBackEveryBatchWhenOneFails() throws Exception {
+        when(lapRepository.copyAll(any())).thenReturn(1L).thenThrow(new IllegalStateException("copy failed"));
+
+        try (var pipeline = new TimecardImportPipeline(lapRepository, sectorRepository, transactionTemplate, 1, 5L)) {
+            pipeline.submit(lap(1), List.of());
+            pipeline.submit(lap(2), List.of());
+            assertThatThrownBy(pipeline::finish).hasMessage("copy failed");
+        }
+
+        assertThat(transaction.isRollbackOnly()).isTrue();
+    }
+
+    private static Lap lap(int lapNumber) {
+        return new Lap(null, 10L, 20L, lapNumber, LapTime.ofMillis(100_000), LapTime.ofMillis(100_000L * lapNumber),
+                null, null);
+    }
+}
@@ -0,0 +1,44 @@
+#!/bin/bash
+
+# Exit immediately if a command exits with a non-zero status.
+set -e
+
+# Starts a streaming replica of the local 'statsdb' container (see reset_local_db.sh) on port 5433.
+# Run the API against both with:
+#   REPLICA_DATASOURCE_URL=jdbc:postgresql://localhost:5433/statsdb ./gradlew bootRun
+
+echo "Stopping and removing existing 'statsdb-replica' container..."
+docker stop statsdb-replica || true
+docker rm statsdb-replica || true
+
+# Put the primary on a network the replica can reach it by name on
+docker network create statsdb-net > /dev/null 2>&1 || true
+docker network connect statsdb-net statsdb > /dev/null 2>&1 || true
+
+# Allow replication connections to the primary
+echo "Allowing replication connections on the primary..."
+docker exec statsdb bash -c 'grep -q "^host replication all all" "$PGDATA/pg_hba.conf" || echo "host replication all all scram-sha-256" >> "$PGDATA/pg_hba.conf"'
+docker exec statsdb psql -U postgres -c "SELECT pg_reload_conf();" > /dev/null
+
+# Clone the primary and follow it as a hot standby
+echo "Starting the replica..."
+docker run --name statsdb-replica \
+  -d \
+  --network statsdb-net \
+  --user postgres \
+  -e PGPASSWORD=stats \
+  -p 5433:5432 \
+  postgres \
+  bash -c "pg_basebackup -h statsdb -U postgres -D /var/lib/postgresql/data/replica -R -X stream && exec postgres -D /var/lib/postgresql/data/replica"
+
+echo "Waiting for the replica to start..."
+until docker exec statsdb-replica pg_isready -U postgres > /dev/null 2>&1; do
+  echo -n "."
+  sleep 1
+done
+echo ""
+
+# Lag as seen by the primary; replay_lag is empty until the replica has replayed something
+docker exec statsdb psql -U postgres -c "SELECT client_addr, state, replay_lag FROM pg_stat_replication;"
+
+echo "✅ Replica is streaming from 'statsdb' on port 5433"